@@ -0,0 +1,27 @@
+package seungyong.helpmebackend.global.adapter.out.github;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.GithubRateLimitPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
+import seungyong.helpmebackend.global.infrastructure.github.GithubRateLimitTracker;
+
+import java.util.OptionalInt;
+
+@Component
+@RequiredArgsConstructor
+public class GithubRateLimitAdapter implements GithubRateLimitPortOut {
+    private final GithubRateLimitTracker githubRateLimitTracker;
+
+    @Override
+    public OptionalInt getAvailable(String accessToken) {
+        return githubRateLimitTracker.getBudget(accessToken)
+                .map(budget -> OptionalInt.of(budget.available()))
+                .orElseGet(OptionalInt::empty);
+    }
+
+    @Override
+    public GithubRateLimitReservation reserve(String accessToken, int calls) {
+        return githubRateLimitTracker.reserve(accessToken, calls);
+    }
+}
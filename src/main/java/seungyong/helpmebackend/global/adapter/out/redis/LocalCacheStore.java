@@ -0,0 +1,248 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.config.LocalCacheProperties;
+import seungyong.helpmebackend.global.domain.type.RedisKeyFactory;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Redis 앞단의 서버 내(L1) 캐시
+ * <br />
+ * - 커밋/blob SHA로 식별되어 내용이 바뀌지 않는 컨텍스트 항목만 보관합니다. (브랜치 최신 커밋 등 변경되는 값은 제외) <br />
+ * - Redis에 저장된 형식(압축 포함) 그대로 보관하고, 객체로 변환한 결과도 함께 보관하여 반복 조회 시 변환을 생략합니다. <br />
+ * - 항목 크기(가중치) 기준으로 메모리 사용량을 제한하며, 항목 종류 별 최대 크기를 넘는 값은 보관하지 않습니다. <br />
+ * - 암호화된 항목은 암호문 그대로만 보관합니다. <br />
+ * - 계층 별 Hit/Miss를 cache.local.requests{tier, artifact, result} 메트릭으로 기록합니다.
+ * <br />
+ * 보관된 객체는 여러 요청이 공유하므로 읽기 전용으로 사용해야 합니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(LocalCacheProperties.class)
+class LocalCacheStore {
+    static final String TIER_L1 = "l1";
+    static final String TIER_L2 = "l2";
+
+    private final LocalCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Entry> cache;
+
+    LocalCacheStore(LocalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxWeightBytes())
+                .weigher((String key, Entry entry) -> entry.weight())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "context-l1");
+    }
+
+    /**
+     * L1에 보관할 수 있는 key인지 확인합니다.
+     */
+    boolean supports(String key) {
+        return artifactOf(key).isPresent();
+    }
+
+    /**
+     * L1에 보관된 문자열 값을 조회합니다. (없으면 null)
+     */
+    String get(String key) {
+        Entry entry = lookup(key);
+        return entry != null ? entry.text() : null;
+    }
+
+    /**
+     * L1에 보관된 값을 저장된 형식(바이트) 그대로 조회합니다. (없으면 null)
+     */
+    byte[] getBytes(String key) {
+        Entry entry = lookup(key);
+        return entry != null ? entry.stored : null;
+    }
+
+    /**
+     * L1에 보관된 값을 객체로 조회합니다.
+     * <br />
+     * 같은 타입으로 변환한 결과가 있으면 재사용하고, 없으면 decoder로 변환하여 함께 보관합니다.
+     */
+    <T> T getObject(String key, TypeReference<T> typeRef, Decoder decoder) {
+        Entry entry = lookup(key);
+        if (entry == null) { return null; }
+
+        return entry.decode(typeRef, decoder);
+    }
+
+    /**
+     * 메트릭 기록 없이 L1에 보관된 값을 객체로 변환합니다. (이미 조회를 기록한 key에 사용)
+     */
+    <T> T decodeCached(String key, TypeReference<T> typeRef, Decoder decoder) {
+        Entry entry = supports(key) ? cache.getIfPresent(key) : null;
+        return entry != null ? entry.decode(typeRef, decoder) : null;
+    }
+
+    /**
+     * 메트릭 기록 없이 L1에 보관된 문자열 값을 조회합니다.
+     */
+    String textCached(String key) {
+        Entry entry = supports(key) ? cache.getIfPresent(key) : null;
+        return entry != null ? entry.text() : null;
+    }
+
+    /**
+     * Redis 조회 결과(L2)의 Hit/Miss를 기록합니다.
+     */
+    void recordL2(String key, boolean hit) {
+        artifactOf(key).ifPresent(artifact -> record(TIER_L2, artifact, hit));
+    }
+
+    /**
+     * Redis에 저장된(또는 저장한) 값을 L1에도 보관합니다.
+     *
+     * @param key       key
+     * @param stored    Redis에 저장된 값 (저장 형식 그대로)
+     */
+    void put(String key, byte[] stored) {
+        if (stored == null) { return; }
+
+        put(key, new Entry(stored, null));
+    }
+
+    /**
+     * Redis에 저장된(또는 저장한) 문자열 값을 L1에도 보관합니다.
+     */
+    void putText(String key, String value) {
+        if (value == null) { return; }
+
+        put(key, new Entry(value.getBytes(StandardCharsets.UTF_8), new Decoded(String.class, value)));
+    }
+
+    void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    private void put(String key, Entry entry) {
+        Optional<Artifact> artifact = artifactOf(key);
+        if (artifact.isEmpty()) { return; }
+
+        // 압축된 값은 압축 해제한 크기 기준으로 제한
+        long size = RedisValueCodec.decodedSize(entry.stored);
+        if (size > properties.getMaxEntryBytes(artifact.get().name)) {
+            log.debug("Skip local cache. key = {}, size = {}", key, size);
+            return;
+        }
+
+        cache.put(key, entry);
+    }
+
+    private Entry lookup(String key) {
+        Optional<Artifact> artifact = artifactOf(key);
+        if (artifact.isEmpty()) { return null; }
+
+        Entry entry = cache.getIfPresent(key);
+        record(TIER_L1, artifact.get(), entry != null);
+        return entry;
+    }
+
+    private void record(String tier, Artifact artifact, boolean hit) {
+        meterRegistry.counter(
+                "cache.local.requests",
+                "tier", tier,
+                "artifact", artifact.name,
+                "result", hit ? "hit" : "miss"
+        ).increment();
+    }
+
+    private Optional<Artifact> artifactOf(String key) {
+        if (!properties.isEnabled() || key == null) { return Optional.empty(); }
+
+        return Arrays.stream(Artifact.values())
+                .filter(artifact -> key.startsWith(artifact.prefix.getPrefix()))
+                .filter(artifact -> !artifact.encrypted || properties.isKeepEncrypted())
+                .findFirst();
+    }
+
+    @FunctionalInterface
+    interface Decoder {
+        <T> T decode(byte[] stored, TypeReference<T> typeRef);
+    }
+
+    /**
+     * L1에 보관하는 항목 종류 (커밋/blob SHA로 식별되는 값만)
+     */
+    private enum Artifact {
+        README(RedisKeyFactory.README_KEY, "readme", false),
+        COMMITS(RedisKeyFactory.COMMITS_KEY, "commits", false),
+        LANGUAGES(RedisKeyFactory.LANGUAGE_KEY, "languages", false),
+        TREES(RedisKeyFactory.TREE_KEY, "trees", false),
+        TECH_STACK(RedisKeyFactory.TECH_STACK_KEY, "tech-stack", false),
+        ENTRY_MANIFEST(RedisKeyFactory.FILE_V1_KEY, "manifest", true),
+        IMPORTANT_MANIFEST(RedisKeyFactory.FILE_V2_KEY, "manifest", true),
+        BLOB(RedisKeyFactory.BLOB_KEY, "blob", true);
+
+        private final RedisKeyFactory prefix;
+        private final String name;
+        private final boolean encrypted;
+
+        Artifact(RedisKeyFactory prefix, String name, boolean encrypted) {
+            this.prefix = prefix;
+            this.name = name;
+            this.encrypted = encrypted;
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] stored;
+        private volatile Decoded decoded;
+
+        private Entry(byte[] stored, Decoded decoded) {
+            this.stored = stored;
+            this.decoded = decoded;
+        }
+
+        private String text() {
+            Decoded current = decoded;
+
+            if (current != null && current.type().equals(String.class)) {
+                return (String) current.value();
+            }
+
+            String value = new String(stored, StandardCharsets.UTF_8);
+            decoded = new Decoded(String.class, value);
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T decode(TypeReference<T> typeRef, Decoder decoder) {
+            Decoded current = decoded;
+
+            if (current != null && current.type().equals(typeRef.getType())) {
+                return (T) current.value();
+            }
+
+            T value = decoder.decode(stored, typeRef);
+            decoded = new Decoded(typeRef.getType(), value);
+            return value;
+        }
+
+        // 저장된 값과 변환된 객체(압축 해제한 크기의 2배로 추정)를 함께 계산
+        private int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, stored.length + (long) RedisValueCodec.decodedSize(stored) * 2);
+        }
+    }
+
+    private record Decoded(Type type, Object value) {}
+}
@@ -4,22 +4,47 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.*;
+import java.util.function.BiConsumer;
 
+/**
+ * Redis 접근 어댑터
+ * <br />
+ * 커밋/blob SHA 기준 컨텍스트 항목은 서버 내 캐시(L1)를 먼저 조회하고, 없을 때만 Redis(L2)를 조회합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class RedisAdapter implements RedisPortOut {
     private final RedisStore redisStore;
+    private final LocalCacheStore localCacheStore;
+    private final RedisMessageStore redisMessageStore;
 
     @Override
     public void set(String key, String value, Instant expireAt) {
         redisStore.set(key, value, expireAt);
+        localCacheStore.putText(key, value);
     }
 
     @Override
     public void setObject(String key, Object value, Instant expireAt) {
-        redisStore.setObject(key, value, expireAt);
+        if (!localCacheStore.supports(key)) {
+            redisStore.setObject(key, value, expireAt);
+            return;
+        }
+
+        byte[] encoded = redisStore.encode(key, value);
+        redisStore.setBytes(key, encoded, expireAt);
+        localCacheStore.put(key, encoded);
+    }
+
+    @Override
+    public void setBytes(String key, byte[] value, Instant expireAt) {
+        redisStore.setBytes(key, value, expireAt);
+        localCacheStore.put(key, value);
     }
 
     @Override
@@ -27,6 +52,11 @@ public class RedisAdapter implements RedisPortOut {
         redisStore.setObjectIfAbsent(key, value, expireAt);
     }
 
+    @Override
+    public boolean setIfAbsent(String key, String value, Instant expireAt) {
+        return redisStore.setIfAbsent(key, value, expireAt);
+    }
+
     @Override
     public boolean exists(String key) {
         return redisStore.exists(key);
@@ -34,16 +64,178 @@ public class RedisAdapter implements RedisPortOut {
 
     @Override
     public String get(String key) {
-        return redisStore.get(key);
+        if (!localCacheStore.supports(key)) {
+            return redisStore.get(key);
+        }
+
+        String cached = localCacheStore.get(key);
+        if (cached != null) { return cached; }
+
+        String value = redisStore.get(key);
+        localCacheStore.recordL2(key, value != null);
+        localCacheStore.putText(key, value);
+        return value;
     }
 
     @Override
     public <T> T getObject(String key, TypeReference<T> typeRef) {
-        return redisStore.getObject(key, typeRef);
+        if (!localCacheStore.supports(key)) {
+            return redisStore.getObject(key, typeRef);
+        }
+
+        T cached = localCacheStore.getObject(key, typeRef, decoder(key));
+        if (cached != null) { return cached; }
+
+        byte[] value = redisStore.getBytes(key);
+        localCacheStore.recordL2(key, value != null);
+        localCacheStore.put(key, value);
+
+        // L1에 보관된 경우(항목 크기 한도 이내) 변환 결과도 함께 보관
+        T decoded = localCacheStore.decodeCached(key, typeRef, decoder(key));
+        return decoded != null ? decoded : redisStore.decode(key, value, typeRef);
+    }
+
+    @Override
+    public byte[] getBytes(String key) {
+        if (!localCacheStore.supports(key)) {
+            return redisStore.getBytes(key);
+        }
+
+        byte[] cached = localCacheStore.getBytes(key);
+        if (cached != null) { return cached; }
+
+        byte[] value = redisStore.getBytes(key);
+        localCacheStore.recordL2(key, value != null);
+        localCacheStore.put(key, value);
+        return value;
     }
 
     @Override
     public void delete(String key) {
+        localCacheStore.invalidate(key);
         redisStore.delete(key);
     }
+
+    @Override
+    public boolean deleteIfEquals(String key, String value) {
+        localCacheStore.invalidate(key);
+        return redisStore.deleteIfEquals(key, value);
+    }
+
+    @Override
+    public String getAndDelete(String key) {
+        localCacheStore.invalidate(key);
+        return redisStore.getAndDelete(key);
+    }
+
+    @Override
+    public <T> T getAndDeleteObject(String key, TypeReference<T> typeRef) {
+        localCacheStore.invalidate(key);
+        return redisStore.getAndDeleteObject(key, typeRef);
+    }
+
+    @Override
+    public RedisValues multiGet(Collection<String> keys) {
+        Map<String, byte[]> values = new HashMap<>();
+        Set<String> localKeys = new HashSet<>();
+        List<String> remoteKeys = new ArrayList<>();
+
+        for (String key : new LinkedHashSet<>(keys)) {
+            byte[] cached = localCacheStore.supports(key) ? localCacheStore.getBytes(key) : null;
+
+            if (cached != null) {
+                values.put(key, cached);
+                localKeys.add(key);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+
+        Map<String, byte[]> remote = redisStore.multiGetBytes(remoteKeys);
+
+        for (String key : remoteKeys) {
+            byte[] value = remote.get(key);
+            localCacheStore.recordL2(key, value != null);
+            localCacheStore.put(key, value);
+        }
+
+        values.putAll(remote);
+        return new TieredRedisValues(values, localKeys);
+    }
+
+    @Override
+    public void multiSetWithTtl(Map<String, String> values, Instant expireAt) {
+        redisStore.multiSet(values, expireAt);
+        values.forEach(localCacheStore::putText);
+    }
+
+    @Override
+    public void multiSetObjectWithTtl(Map<String, ?> values, Instant expireAt) {
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        values.forEach((key, value) -> encoded.put(key, redisStore.encode(key, value)));
+
+        multiSetBytesWithTtl(encoded, expireAt);
+    }
+
+    @Override
+    public void multiSetBytesWithTtl(Map<String, byte[]> values, Instant expireAt) {
+        redisStore.multiSetBytes(values, expireAt);
+        values.forEach(localCacheStore::put);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        redisMessageStore.publish(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channelPattern, BiConsumer<String, String> listener) {
+        redisMessageStore.subscribe(channelPattern, listener);
+    }
+
+    private LocalCacheStore.Decoder decoder(String key) {
+        return new LocalCacheStore.Decoder() {
+            @Override
+            public <T> T decode(byte[] stored, TypeReference<T> typeRef) {
+                return redisStore.decode(key, stored, typeRef);
+            }
+        };
+    }
+
+    /**
+     * L1에서 찾은 값과 Redis에서 조회한 값을 합친 결과
+     * <br />
+     * L1에 보관된 key는 변환된 객체를 재사용합니다.
+     */
+    private class TieredRedisValues implements RedisValues {
+        private final Map<String, byte[]> values;
+        private final Set<String> localKeys;
+
+        private TieredRedisValues(Map<String, byte[]> values, Set<String> localKeys) {
+            this.values = values;
+            this.localKeys = localKeys;
+        }
+
+        @Override
+        public String get(String key) {
+            String cached = localKeys.contains(key) ? localCacheStore.textCached(key) : null;
+            if (cached != null) { return cached; }
+
+            byte[] value = values.get(key);
+            return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+        }
+
+        @Override
+        public <T> T getObject(String key, TypeReference<T> typeRef) {
+            T cached = localCacheStore.decodeCached(key, typeRef, decoder(key));
+            if (cached != null) { return cached; }
+
+            return redisStore.decode(key, values.get(key), typeRef);
+        }
+
+        @Override
+        public byte[] getBytes(String key) {
+            return values.get(key);
+        }
+    }
 }
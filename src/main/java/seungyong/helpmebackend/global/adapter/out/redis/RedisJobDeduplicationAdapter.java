@@ -0,0 +1,131 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.JobDeduplicationPortOut;
+import seungyong.helpmebackend.global.config.JobQueueProperties;
+import seungyong.helpmebackend.global.domain.entity.AttachedJob;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Redis 기반 작업 중복 제거
+ * <br />
+ * - 같은 key의 작업 중 처음 실행한 작업이 실행 권한(lease)을 얻고, 이후 작업은 연결 목록에 등록됩니다. <br />
+ * - 실행 권한 확인/연결 등록과 실행 권한 반납/연결 목록 조회를 각각 Lua 스크립트로 처리하여,
+ *   반납 직전에 연결된 작업이 결과를 받지 못하는 경우가 없도록 합니다. <br />
+ * - 실행 권한을 가진 작업이 다시 실행되면(재시도, 다른 서버가 다시 가져감) 같은 작업으로 보고 실행 권한을 유지합니다.
+ */
+@Slf4j
+@Component
+public class RedisJobDeduplicationAdapter implements JobDeduplicationPortOut {
+    private static final String SEPARATOR = ":";
+
+    // KEYS[1] = lease, KEYS[2] = 연결 목록 / ARGV[1] = taskId, ARGV[2] = 연결 항목, ARGV[3] = TTL(ms)
+    private static final RedisScript<Long> ACQUIRE_OR_ATTACH = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner or owner == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+                return 1
+            end
+            redis.call('RPUSH', KEYS[2], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 0
+            """, Long.class);
+
+    // 실행 권한을 가진 작업만 반납할 수 있음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return {}
+            end
+            local attached = redis.call('LRANGE', KEYS[2], 0, -1)
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return attached
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobQueueProperties properties;
+
+    public RedisJobDeduplicationAdapter(RedisTemplate<String, String> redisTemplate, JobQueueProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 실행 권한을 얻거나, 이미 실행 중인 작업에 연결합니다.
+     *
+     * @return 실행 권한을 얻은 경우 true, 실행 중인 작업에 연결된 경우 false
+     */
+    @Override
+    public boolean acquireOrAttach(String key, AttachedJob job) {
+        if (!properties.isDedupEnabled()) { return true; }
+
+        try {
+            Long acquired = redisTemplate.execute(
+                    ACQUIRE_OR_ATTACH,
+                    List.of(leaseKey(key), attachedKey(key)),
+                    job.taskId(),
+                    job.userId() + SEPARATOR + job.taskId(),
+                    String.valueOf(properties.getDedupTtl().toMillis())
+            );
+
+            return acquired == null || acquired == 1L;
+        } catch (Exception e) {
+            log.error("Redis acquire or attach job error. key = {}", key, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    /**
+     * 실행 권한을 반납하고, 그동안 연결된 작업 목록을 반환합니다.
+     * <br />
+     * 실행 권한이 없는 경우(TTL 만료 등) 빈 목록을 반환합니다.
+     */
+    @Override
+    public List<AttachedJob> release(String key, String taskId) {
+        if (!properties.isDedupEnabled()) { return Collections.emptyList(); }
+
+        try {
+            List<?> attached = redisTemplate.execute(RELEASE, List.of(leaseKey(key), attachedKey(key)), taskId);
+            if (attached == null) { return Collections.emptyList(); }
+
+            return attached.stream()
+                    .map(Object::toString)
+                    .map(this::toAttachedJob)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (Exception e) {
+            log.error("Redis release job error. key = {}", key, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    // {userId}:{taskId}
+    private AttachedJob toAttachedJob(String value) {
+        int index = value.indexOf(SEPARATOR);
+
+        try {
+            return new AttachedJob(value.substring(index + 1), Long.parseLong(value.substring(0, index)));
+        } catch (RuntimeException e) {
+            log.warn("Invalid attached job. value = {}", value);
+            return null;
+        }
+    }
+
+    private String leaseKey(String key) {
+        return RedisKey.JOB_DEDUP_LEASE_KEY.getValue() + key;
+    }
+
+    private String attachedKey(String key) {
+        return RedisKey.JOB_DEDUP_ATTACHED_KEY.getValue() + key;
+    }
+}
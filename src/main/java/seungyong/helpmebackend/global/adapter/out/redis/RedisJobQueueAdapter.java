@@ -0,0 +1,243 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.JobQueuePortOut;
+import seungyong.helpmebackend.global.config.JobQueueProperties;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobPriority;
+import seungyong.helpmebackend.global.domain.type.JobType;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Stream 기반 작업 큐
+ * <br />
+ * - 작업은 Stream에 등록하고, 모든 서버가 같은 Consumer Group으로 나누어 가져갑니다. <br />
+ * - 가져간 작업은 완료(ACK)될 때까지 Pending 목록에 남으므로, 서버가 종료되어도 visibility-timeout 이후 다른 서버가 다시 가져갑니다. <br />
+ * - 완료, 재시도, Dead Letter 이동 시 원래 항목은 Stream에서 삭제하여 Stream 길이가 대기 중 + 실행 중 작업 수가 되도록 합니다. <br />
+ * - 우선순위 별로 Stream을 나누어, Worker가 NORMAL 작업을 먼저 가져갈 수 있도록 합니다.
+ */
+@Slf4j
+@Component
+public class RedisJobQueueAdapter implements JobQueuePortOut {
+    static final String GROUP = "helpme-workers";
+
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_TASK_ID = "taskId";
+    private static final String FIELD_PAYLOAD = "payload";
+    private static final String FIELD_ATTEMPT = "attempt";
+    private static final String FIELD_ENQUEUED_AT = "enqueuedAt";
+    private static final String FIELD_REASON = "reason";
+    private static final String FIELD_FAILED_AT = "failedAt";
+
+    // 시간이 지난 작업을 찾을 때 한 번에 확인하는 Pending 항목 수
+    private static final int PENDING_SCAN_SIZE = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobQueueProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String deadLetterKey = RedisKey.JOB_DEAD_LETTER_KEY.getValue();
+    private final Set<String> readyGroups = ConcurrentHashMap.newKeySet();
+
+    public RedisJobQueueAdapter(RedisTemplate<String, String> redisTemplate, JobQueueProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void enqueue(JobType type, String taskId, Object payload) {
+        try {
+            add(queueKey(type.getPriority()), fields(type.getValue(), taskId, objectMapper.writeValueAsString(payload), 1));
+        } catch (Exception e) {
+            log.error("Job enqueue error. type = {}, taskId = {}", type, taskId, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    @Override
+    public List<Job> claim(String consumer, JobPriority priority, int count, Duration block) {
+        String queueKey = queueKey(priority);
+        ensureGroup(queueKey);
+
+        // BLOCK 0은 무한히 기다리므로, 기다리지 않는 경우 BLOCK 옵션을 사용하지 않음
+        StreamReadOptions options = StreamReadOptions.empty().count(count);
+        if (block != null && !block.isZero()) {
+            options = options.block(block);
+        }
+
+        List<MapRecord<String, Object, Object>> records = readGroup(consumer, options, queueKey);
+
+        if (records == null) { return Collections.emptyList(); }
+
+        return records.stream()
+                .map(record -> toJob(record, 0))
+                .toList();
+    }
+
+    /**
+     * 다른 서버(또는 종료된 서버)가 가져간 뒤 visibility-timeout 동안 완료하지 못한 작업을 가져옵니다.
+     * <br />
+     * 이전에 가져간 횟수만큼 시도 횟수를 늘려 반환합니다. (우선순위 별 실행 수 제한은 Worker가 판단)
+     */
+    @Override
+    public List<Job> reclaimExpired(String consumer, JobPriority priority, Duration visibilityTimeout, int count) {
+        return reclaimExpired(queueKey(priority), consumer, visibilityTimeout, count);
+    }
+
+    @Override
+    public void acknowledge(Job job) {
+        String queueKey = queueKey(job);
+
+        stream().acknowledge(queueKey, GROUP, job.id());
+        stream().delete(queueKey, job.id());
+    }
+
+    @Override
+    public void retry(Job job) {
+        // 새 항목을 먼저 등록하여, 중간에 실패해도 작업이 사라지지 않도록 함
+        add(queueKey(job), fields(job.type(), job.taskId(), job.payload(), job.attempt() + 1));
+        acknowledge(job);
+    }
+
+    @Override
+    public void deadLetter(Job job, String reason) {
+        Map<String, String> fields = fields(job.type(), job.taskId(), job.payload(), job.attempt());
+        fields.put(FIELD_REASON, reason != null ? reason : "");
+        fields.put(FIELD_FAILED_AT, Instant.now().toString());
+
+        add(deadLetterKey, fields);
+        stream().trim(deadLetterKey, properties.getDeadLetterMaxLength(), true);
+        acknowledge(job);
+    }
+
+    @Override
+    public long depth(JobPriority priority) {
+        Long size = stream().size(queueKey(priority));
+        return size != null ? size : 0L;
+    }
+
+    private List<Job> reclaimExpired(String queueKey, String consumer, Duration visibilityTimeout, int count) {
+        ensureGroup(queueKey);
+
+        PendingMessages pending = stream().pending(queueKey, GROUP, Range.unbounded(), PENDING_SCAN_SIZE);
+        if (pending == null) { return Collections.emptyList(); }
+
+        Map<String, Long> deliveries = new LinkedHashMap<>();
+
+        for (PendingMessage message : pending) {
+            if (deliveries.size() >= count) { break; }
+
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(visibilityTimeout) >= 0) {
+                deliveries.put(message.getIdAsString(), message.getTotalDeliveryCount());
+            }
+        }
+
+        if (deliveries.isEmpty()) { return Collections.emptyList(); }
+
+        List<MapRecord<String, Object, Object>> records = stream().claim(
+                queueKey,
+                GROUP,
+                consumer,
+                visibilityTimeout,
+                deliveries.keySet().stream().map(RecordId::of).toArray(RecordId[]::new)
+        );
+
+        return records.stream()
+                .filter(Objects::nonNull)
+                .map(record -> toJob(record, deliveries.getOrDefault(record.getId().getValue(), 0L).intValue()))
+                .toList();
+    }
+
+    private String queueKey(JobPriority priority) {
+        return priority == JobPriority.LOW
+                ? RedisKey.JOB_LOW_PRIORITY_QUEUE_KEY.getValue()
+                : RedisKey.JOB_QUEUE_KEY.getValue();
+    }
+
+    private String queueKey(Job job) {
+        return queueKey(JobType.priorityOf(job.type()));
+    }
+
+    // Stream이 없어도 Consumer Group을 만들 수 있도록 MKSTREAM 사용
+    private void ensureGroup(String queueKey) {
+        if (readyGroups.contains(queueKey)) { return; }
+
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    queueKey.getBytes(StandardCharsets.UTF_8),
+                    GROUP,
+                    ReadOffset.from("0-0"),
+                    true
+            ));
+        } catch (Exception e) {
+            if (!isBusyGroup(e)) { throw e; }
+        }
+
+        readyGroups.add(queueKey);
+    }
+
+    private boolean isBusyGroup(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void add(String key, Map<String, String> fields) {
+        stream().add(StreamRecords.mapBacked(fields).withStreamKey(key));
+    }
+
+    private Map<String, String> fields(String type, String taskId, String payload, int attempt) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_TYPE, type);
+        fields.put(FIELD_TASK_ID, taskId);
+        fields.put(FIELD_PAYLOAD, payload);
+        fields.put(FIELD_ATTEMPT, String.valueOf(attempt));
+        fields.put(FIELD_ENQUEUED_AT, String.valueOf(Instant.now().toEpochMilli()));
+        return fields;
+    }
+
+    private Job toJob(MapRecord<String, Object, Object> record, int previousDeliveries) {
+        Map<Object, Object> value = record.getValue();
+
+        return new Job(
+                record.getId().getValue(),
+                (String) value.get(FIELD_TYPE),
+                (String) value.get(FIELD_TASK_ID),
+                (String) value.get(FIELD_PAYLOAD),
+                Integer.parseInt((String) value.getOrDefault(FIELD_ATTEMPT, "1")) + previousDeliveries,
+                Instant.ofEpochMilli(Long.parseLong((String) value.getOrDefault(FIELD_ENQUEUED_AT, "0")))
+        );
+    }
+
+    // StreamOperations.read는 가변 인자(제네릭 배열)만 제공하므로, stream 하나만 읽는 이 호출에서만 경고를 무시
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> readGroup(String consumer, StreamReadOptions options, String queueKey) {
+        return stream().read(
+                Consumer.from(GROUP, consumer),
+                options,
+                StreamOffset.create(queueKey, ReadOffset.lastConsumed())
+        );
+    }
+
+    private StreamOperations<String, Object, Object> stream() {
+        return redisTemplate.opsForStream();
+    }
+}
@@ -0,0 +1,59 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis Pub/Sub 메시지 발행, 구독
+ * <br />
+ * 메시지는 저장되지 않으므로, 구독 전에 발행된 메시지는 받을 수 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class RedisMessageStore {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * channel에 메시지를 발행합니다.
+     *
+     * @param channel   발행할 channel
+     * @param message   메시지
+     */
+    public void publish(String channel, String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            log.error("Redis publish error. channel = {}", channel, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    /**
+     * channel 패턴(예: prefix:*)을 구독합니다.
+     * <br />
+     * listener는 Redis 구독 스레드에서 실행되므로 오래 걸리는 작업을 직접 실행하면 안 됩니다.
+     *
+     * @param channelPattern    구독할 channel 패턴
+     * @param listener          (channel, message)를 받는 listener
+     */
+    public void subscribe(String channelPattern, BiConsumer<String, String> listener) {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(
+                        new String(message.getChannel(), StandardCharsets.UTF_8),
+                        new String(message.getBody(), StandardCharsets.UTF_8)
+                ),
+                new PatternTopic(channelPattern)
+        );
+    }
+}
@@ -4,21 +4,41 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
+import seungyong.helpmebackend.global.domain.type.RedisKeyFactory;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 class RedisStore {
+    // KEYS[1] = key / ARGV[1] = 기대하는 value
+    private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    // 객체 값은 key 항목 별 형식(JSON, Smile, Smile + LZ4)으로 저장하므로 바이트로 읽고 씀
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisValueCodec codec = new RedisValueCodec(objectMapper);
 
     /**
      * Redis에 key, value를 저장합니다. <br />
@@ -63,13 +83,37 @@ class RedisStore {
             Duration duration = Duration.between(Instant.now(), expireAt);
             long ttlInSeconds = duration.getSeconds();
 
-            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttlInSeconds, TimeUnit.SECONDS);
+            binaryRedisTemplate.opsForValue().set(key, encode(key, value), ttlInSeconds, TimeUnit.SECONDS);
         } catch (Exception e) {
             log.error("Redis setObject error. key = {}, value = {}, expireTime = {}", key, value, expireAt, e);
             throw new CustomException(GlobalErrorCode.REDIS_ERROR);
         }
     }
 
+    /**
+     * Redis에 바이트 값을 그대로 저장합니다. ({@link #encode}의 결과, 암호문 등) <br />
+     * 만료 시간을 지정하여 저장합니다.
+     *
+     * @param key   저장할 key
+     * @param value 저장할 값
+     * @param expireAt 만료 시간
+     */
+    public void setBytes(String key, byte[] value, Instant expireAt) {
+        if (expireAt.isBefore(Instant.now())) {
+            log.error("Don't set the past time to Redis. key = {}, expireTime = {}", key, expireAt);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+
+        try {
+            long ttlInSeconds = Duration.between(Instant.now(), expireAt).getSeconds();
+
+            binaryRedisTemplate.opsForValue().set(key, value, ttlInSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("Redis setBytes error. key = {}, expireTime = {}", key, expireAt, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
     /**
      * Redis에 key가 없을 경우에만 key, value 객체를 저장합니다. <br />
      * 비동기와 같이 중복 저장을 방지할 때 사용합니다. <br />
@@ -89,9 +133,9 @@ class RedisStore {
             Duration duration = Duration.between(Instant.now(), expireAt);
             long ttlInSeconds = duration.getSeconds();
 
-            Boolean success = redisTemplate.opsForValue().setIfAbsent(
+            Boolean success = binaryRedisTemplate.opsForValue().setIfAbsent(
                     key,
-                    objectMapper.writeValueAsString(value),
+                    encode(key, value),
                     ttlInSeconds,
                     TimeUnit.SECONDS
             );
@@ -105,6 +149,34 @@ class RedisStore {
         }
     }
 
+    /**
+     * Redis에 key가 없을 경우에만 key, value를 저장하고 저장 여부를 반환합니다. <br />
+     * 여러 서버 간 Lease(선점) 획득 용도로 사용합니다. <br />
+     * 만료 시간을 지정하여 저장합니다.
+     *
+     * @param key   저장할 key
+     * @param value 저장할 value
+     * @param expireAt 만료 시간
+     * @return 저장 성공 여부 (이미 key가 존재하면 false)
+     */
+    public boolean setIfAbsent(String key, String value, Instant expireAt) {
+        if (expireAt.isBefore(Instant.now())) {
+            log.error("Don't set the past time to Redis. key = {}, expireTime = {}", key, expireAt);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+
+        try {
+            Duration duration = Duration.between(Instant.now(), expireAt);
+            long ttlInSeconds = duration.getSeconds();
+
+            Boolean success = redisTemplate.opsForValue().setIfAbsent(key, value, ttlInSeconds, TimeUnit.SECONDS);
+            return Boolean.TRUE.equals(success);
+        } catch (Exception e) {
+            log.error("Redis setIfAbsent error. key = {}, expireTime = {}", key, expireAt, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
     /**
      * Redis에 key가 존재하는지 확인합니다.
      *
@@ -132,14 +204,50 @@ class RedisStore {
      * @return 변환된 객체
      */
     public <T> T getObject(String key, TypeReference<T> typeRef) {
-        String value = redisTemplate.opsForValue().get(key);
+        return decode(key, getBytes(key), typeRef);
+    }
+
+    /**
+     * Redis에서 key를 기준으로 저장된 값을 바이트 그대로 가져옵니다.
+     *
+     * @param key   가져올 key
+     */
+    public byte[] getBytes(String key) {
+        return binaryRedisTemplate.opsForValue().get(key);
+    }
+
+    /**
+     * 객체를 key 항목의 저장 형식으로 변환합니다. ({@link RedisKeyFactory#encodingOf})
+     *
+     * @param key   저장할 key
+     * @param value 변환할 객체
+     * @return 저장할 값
+     */
+    public byte[] encode(String key, Object value) {
+        try {
+            return codec.encode(value, RedisKeyFactory.encodingOf(key));
+        } catch (Exception e) {
+            log.error("Redis encode error. key = {}", key, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
 
+    /**
+     * Redis에 저장된 값을 객체로 변환합니다. <br />
+     * 저장 형식은 값의 헤더로 판단하므로, 형식을 바꾸기 전에 저장된 JSON 값도 읽을 수 있습니다.
+     *
+     * @param key       value의 key (로그용)
+     * @param value     변환할 값
+     * @param <T>       변환할 객체 타입
+     * @return 변환된 객체 (value가 null이면 null)
+     */
+    public <T> T decode(String key, byte[] value, TypeReference<T> typeRef) {
         if (value == null) {
             return null;
         }
 
         try {
-            return objectMapper.readValue(value, typeRef);
+            return codec.decode(value, typeRef);
         } catch (Exception e) {
             log.error("Redis getObject error. key = {}", key, e);
             throw new CustomException(GlobalErrorCode.REDIS_ERROR);
@@ -154,4 +262,171 @@ class RedisStore {
     public void delete(String key) {
         redisTemplate.delete(key);
     }
+
+    /**
+     * Redis에 저장된 key의 value가 기대한 값과 같을 때만 삭제합니다. (Lua 스크립트) <br />
+     * Lease의 TTL이 지나 다른 서버가 다시 획득한 경우, 그 Lease를 지우지 않도록 할 때 사용합니다.
+     *
+     * @param key   삭제할 key
+     * @param value 기대하는 value (Lease 소유자)
+     * @return 삭제 여부
+     */
+    public boolean deleteIfEquals(String key, String value) {
+        try {
+            Long deleted = redisTemplate.execute(DELETE_IF_EQUALS, List.of(key), value);
+            return deleted != null && deleted > 0;
+        } catch (Exception e) {
+            log.error("Redis deleteIfEquals error. key = {}", key, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    /**
+     * Redis에서 key의 value를 가져오고 삭제합니다. (GETDEL) <br />
+     * 조회와 삭제가 하나의 명령으로 처리되므로, 동시에 요청해도 한 번만 값을 가져갈 수 있습니다.
+     *
+     * @param key   가져올 key
+     * @return 삭제 전 value (없으면 null)
+     */
+    public String getAndDelete(String key) {
+        return redisTemplate.opsForValue().getAndDelete(key);
+    }
+
+    /**
+     * Redis에서 key의 value를 객체로 가져오고 삭제합니다. (GETDEL)
+     *
+     * @param key   가져올 key
+     * @param <T>   변환할 객체 타입
+     * @return 삭제 전 value 객체 (없으면 null)
+     */
+    public <T> T getAndDeleteObject(String key, TypeReference<T> typeRef) {
+        return decode(key, binaryRedisTemplate.opsForValue().getAndDelete(key), typeRef);
+    }
+
+    /**
+     * Redis에서 여러 key의 value를 한 번에 가져옵니다. (MGET) <br />
+     * 값의 타입 변환은 반환된 {@link RedisValues}에서 key 별로 수행합니다.
+     *
+     * @param keys  가져올 key 목록
+     * @return 조회 결과
+     */
+    public RedisValues multiGet(Collection<String> keys) {
+        return new BinaryRedisValues(multiGetBytes(keys));
+    }
+
+    /**
+     * Redis에서 여러 key의 값을 바이트 그대로 한 번에 가져옵니다. (MGET)
+     *
+     * @param keys  가져올 key 목록
+     * @return 존재하는 key와 값
+     */
+    public Map<String, byte[]> multiGetBytes(Collection<String> keys) {
+        Map<String, byte[]> found = new HashMap<>();
+
+        if (keys.isEmpty()) {
+            return found;
+        }
+
+        List<String> orderedKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(orderedKeys);
+
+        if (values != null) {
+            for (int i = 0; i < orderedKeys.size() && i < values.size(); i++) {
+                if (values.get(i) != null) {
+                    found.put(orderedKeys.get(i), values.get(i));
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Redis에 여러 key, value를 같은 만료 시간으로 저장합니다. <br />
+     * MSET은 만료 시간을 지정할 수 없으므로, SET EX 명령들을 파이프라인으로 한 번에 전송합니다.
+     *
+     * @param values    저장할 key, value
+     * @param expireAt  만료 시간
+     */
+    public void multiSet(Map<String, String> values, Instant expireAt) {
+        pipelineSet(redisTemplate, values, expireAt);
+    }
+
+    /**
+     * Redis에 여러 key, value 객체를 같은 만료 시간으로 저장합니다. (파이프라인) <br />
+     * 객체는 key 항목 별 저장 형식으로 변환합니다.
+     *
+     * @param values    저장할 key, value 객체
+     * @param expireAt  만료 시간
+     */
+    public void multiSetObject(Map<String, ?> values, Instant expireAt) {
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        values.forEach((key, value) -> encoded.put(key, encode(key, value)));
+
+        multiSetBytes(encoded, expireAt);
+    }
+
+    /**
+     * Redis에 여러 key, 변환된 값을 같은 만료 시간으로 저장합니다. (파이프라인)
+     *
+     * @param values    저장할 key, value
+     * @param expireAt  만료 시간
+     */
+    public void multiSetBytes(Map<String, byte[]> values, Instant expireAt) {
+        pipelineSet(binaryRedisTemplate, values, expireAt);
+    }
+
+    private <V> void pipelineSet(RedisTemplate<String, V> template, Map<String, V> values, Instant expireAt) {
+        if (expireAt.isBefore(Instant.now())) {
+            log.error("Don't set the past time to Redis. keys = {}, expireTime = {}", values.keySet(), expireAt);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+
+        if (values.isEmpty()) {
+            return;
+        }
+
+        try {
+            long ttlInSeconds = Duration.between(Instant.now(), expireAt).getSeconds();
+
+            template.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, OV> Object execute(RedisOperations<K, OV> operations) throws DataAccessException {
+                    RedisOperations<String, V> typedOperations = (RedisOperations<String, V>) operations;
+                    values.forEach((key, value) ->
+                            typedOperations.opsForValue().set(key, value, ttlInSeconds, TimeUnit.SECONDS)
+                    );
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("Redis multiSet error. keys = {}, expireTime = {}", values.keySet(), expireAt, e);
+            throw new CustomException(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    private class BinaryRedisValues implements RedisValues {
+        private final Map<String, byte[]> values;
+
+        private BinaryRedisValues(Map<String, byte[]> values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(String key) {
+            byte[] value = values.get(key);
+            return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+        }
+
+        @Override
+        public <T> T getObject(String key, TypeReference<T> typeRef) {
+            return decode(key, values.get(key), typeRef);
+        }
+
+        @Override
+        public byte[] getBytes(String key) {
+            return values.get(key);
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import seungyong.helpmebackend.global.domain.type.RedisValueEncoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Redis 객체 값의 직렬화 형식 변환기
+ * <br />
+ * - JSON은 기존 형식 그대로(헤더 없음) 저장하여, 이미 저장된 값과 다른 도구에서도 읽을 수 있도록 합니다. <br />
+ * - 바이너리 형식은 [MAGIC(1)][FORMAT(1)] 헤더를 붙이고, LZ4는 그 뒤에 원본 크기(4)를 기록합니다. <br />
+ * - 읽을 때는 헤더로 형식을 판단하므로, 항목의 저장 형식을 바꿔도 기존 값을 그대로 읽을 수 있습니다.
+ */
+class RedisValueCodec {
+    // JSON 값은 ASCII 문자({, [, " 등)로 시작하므로 0xC5로 시작할 수 없음
+    static final byte MAGIC = (byte) 0xC5;
+
+    private static final byte FORMAT_SMILE = 1;
+    private static final byte FORMAT_SMILE_LZ4 = 2;
+
+    private static final int HEADER_LENGTH = 2;
+    private static final int LZ4_HEADER_LENGTH = HEADER_LENGTH + Integer.BYTES;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    RedisValueCodec(ObjectMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = new ObjectMapper(new SmileFactory());
+        this.compressor = LZ4Factory.fastestInstance().fastCompressor();
+        this.decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+    }
+
+    /**
+     * 객체를 지정한 형식으로 변환합니다.
+     */
+    byte[] encode(Object value, RedisValueEncoding encoding) throws IOException {
+        return switch (encoding) {
+            case JSON -> jsonMapper.writeValueAsBytes(value);
+            case SMILE -> withHeader(FORMAT_SMILE, smileMapper.writeValueAsBytes(value));
+            case SMILE_LZ4 -> compress(smileMapper.writeValueAsBytes(value));
+        };
+    }
+
+    /**
+     * 헤더로 형식을 판단하여 객체로 변환합니다. (헤더가 없으면 JSON)
+     */
+    <T> T decode(byte[] value, TypeReference<T> typeRef) throws IOException {
+        if (!hasHeader(value)) {
+            return jsonMapper.readValue(value, typeRef);
+        }
+
+        return switch (value[1]) {
+            case FORMAT_SMILE -> smileMapper.readValue(value, HEADER_LENGTH, value.length - HEADER_LENGTH, typeRef);
+            case FORMAT_SMILE_LZ4 -> smileMapper.readValue(decompress(value), typeRef);
+            default -> throw new IOException("Unknown Redis value format: " + value[1]);
+        };
+    }
+
+    /**
+     * 압축 해제한 값의 크기를 반환합니다. (메모리 사용량 추정용)
+     */
+    static int decodedSize(byte[] value) {
+        if (hasHeader(value) && value[1] == FORMAT_SMILE_LZ4 && value.length >= LZ4_HEADER_LENGTH) {
+            return ByteBuffer.wrap(value, HEADER_LENGTH, Integer.BYTES).getInt();
+        }
+
+        return value.length;
+    }
+
+    private static boolean hasHeader(byte[] value) {
+        return value.length >= HEADER_LENGTH && value[0] == MAGIC;
+    }
+
+    private byte[] withHeader(byte format, byte[] payload) {
+        byte[] result = new byte[HEADER_LENGTH + payload.length];
+        result[0] = MAGIC;
+        result[1] = format;
+        System.arraycopy(payload, 0, result, HEADER_LENGTH, payload.length);
+        return result;
+    }
+
+    private byte[] compress(byte[] payload) {
+        byte[] buffer = new byte[LZ4_HEADER_LENGTH + compressor.maxCompressedLength(payload.length)];
+        buffer[0] = MAGIC;
+        buffer[1] = FORMAT_SMILE_LZ4;
+        ByteBuffer.wrap(buffer, HEADER_LENGTH, Integer.BYTES).putInt(payload.length);
+
+        int compressedLength = compressor.compress(payload, 0, payload.length, buffer, LZ4_HEADER_LENGTH);
+        return Arrays.copyOf(buffer, LZ4_HEADER_LENGTH + compressedLength);
+    }
+
+    private byte[] decompress(byte[] value) {
+        int originalLength = ByteBuffer.wrap(value, HEADER_LENGTH, Integer.BYTES).getInt();
+        return decompressor.decompress(value, LZ4_HEADER_LENGTH, originalLength);
+    }
+}
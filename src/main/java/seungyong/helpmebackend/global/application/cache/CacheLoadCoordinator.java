@@ -0,0 +1,261 @@
+package seungyong.helpmebackend.global.application.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 항목 적재 조율 (Cache Stampede 방지, Stale-While-Revalidate)
+ * <br />
+ * - 같은 key가 동시에 Cache Miss이면 Redis Lease를 획득한 서버의 요청 하나만 원본(GitHub, GPT)을 조회하고 캐시에 저장합니다. <br />
+ * - 같은 서버 내 요청은 진행 중인 조회 결과를 그대로 공유합니다. <br />
+ * - 다른 서버의 요청은 Polling 대신 적재 완료 메시지(Pub/Sub)를 기다린 뒤 캐시를 다시 조회합니다. <br />
+ * - 적재가 실패했거나 wait-timeout 동안 완료되지 않으면 직접 조회하고, Redis 오류 시에도 직접 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+public class CacheLoadCoordinator {
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisPortOut redisPortOut;
+    private final Executor ioExecutor;
+    private final Executor backgroundExecutor;
+    private final boolean enabled;
+    private final Duration leaseTtl;
+    private final Duration waitTimeout;
+
+    public CacheLoadCoordinator(
+            RedisPortOut redisPortOut,
+            @Qualifier("githubIoExecutor") Executor ioExecutor,
+            @Qualifier("taskExecutor") Executor backgroundExecutor,
+            @Value("${cache.load.lease.enabled:true}") boolean enabled,
+            @Value("${cache.load.lease.lease-ttl:60s}") Duration leaseTtl,
+            @Value("${cache.load.lease.wait-timeout:30s}") Duration waitTimeout
+    ) {
+        this.redisPortOut = redisPortOut;
+        this.ioExecutor = ioExecutor;
+        this.backgroundExecutor = backgroundExecutor;
+        this.enabled = enabled;
+        this.leaseTtl = leaseTtl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * 다른 서버의 적재 완료 메시지를 구독합니다.
+     * <br />
+     * 구독에 실패해도 기다리던 요청은 wait-timeout 이후 직접 조회하므로 예외를 던지지 않습니다.
+     */
+    @PostConstruct
+    void subscribe() {
+        if (!enabled) { return; }
+
+        try {
+            redisPortOut.subscribe(RedisKey.CACHE_LOADED_CHANNEL.getValue() + "*", this::onLoaded);
+        } catch (RuntimeException e) {
+            log.warn("Failed to subscribe cache load channel. Waiters fall back to timeout.", e);
+        }
+    }
+
+    /**
+     * Cache Miss인 key를 한 번만 적재합니다.
+     *
+     * @param key           캐시 key
+     * @param loader        원본 조회 후 캐시에 저장하는 작업
+     * @param cacheReader   캐시 조회 (다른 요청이 적재한 결과를 읽을 때 사용, 없으면 null)
+     * @return              적재 결과
+     */
+    public <T> T load(String key, Supplier<T> loader, Supplier<T> cacheReader) {
+        return await(loadAsync(key, () -> supply(loader), cacheReader));
+    }
+
+    /**
+     * {@link #load}의 비동기 버전
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> loadAsync(String key, Supplier<CompletableFuture<T>> loader, Supplier<T> cacheReader) {
+        if (!enabled) {
+            return start(loader);
+        }
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return (CompletableFuture<T>) existing;
+        }
+
+        loadAcrossNodes(key, loader, cacheReader).whenComplete((value, error) -> {
+            inFlight.remove(key, created);
+
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(value);
+            }
+        });
+
+        return (CompletableFuture<T>) created;
+    }
+
+    /**
+     * 이전 값을 사용하는 동안 새 값을 백그라운드에서 적재합니다. (Stale-While-Revalidate)
+     * <br />
+     * 이미 적재 중인 key는 다시 적재하지 않으며, 실패해도 다음 요청에서 다시 시도됩니다.
+     */
+    public <T> void revalidateAsync(String key, Supplier<T> loader, Supplier<T> cacheReader) {
+        if (inFlight.containsKey(key)) { return; }
+
+        try {
+            CompletableFuture.supplyAsync(() -> loadAsync(key, () -> supply(loader), cacheReader), backgroundExecutor)
+                    .thenCompose(future -> future)
+                    .exceptionally(e -> {
+                        log.warn("Background revalidation failed. key = {}, cause = {}", key, e.getMessage());
+                        return null;
+                    });
+        } catch (RuntimeException e) {
+            // 백그라운드 스레드 풀이 가득 찬 경우
+            log.warn("Background revalidation rejected. key = {}", key, e);
+        }
+    }
+
+    private <T> CompletableFuture<T> loadAcrossNodes(String key, Supplier<CompletableFuture<T>> loader, Supplier<T> cacheReader) {
+        String leaseKey = RedisKey.CACHE_LOAD_LEASE_KEY.getValue() + key;
+        boolean leader;
+
+        try {
+            leader = redisPortOut.setIfAbsent(leaseKey, nodeId, Instant.now().plus(leaseTtl));
+        } catch (RuntimeException e) {
+            log.warn("Cache load lease unavailable. Fallback to direct load. key = {}", key, e);
+            return start(loader);
+        }
+
+        if (leader) {
+            return start(loader).whenComplete((value, error) -> release(key, leaseKey));
+        }
+
+        return awaitLoaded(key, cacheReader).thenCompose(cached -> cached != null
+                ? CompletableFuture.completedFuture(cached)
+                : start(loader)
+        );
+    }
+
+    // 실패한 경우에도 완료 메시지를 보내 기다리던 서버가 바로 직접 조회하도록 함
+    private void release(String key, String leaseKey) {
+        try {
+            // TTL이 지나 다른 서버가 다시 획득한 Lease는 지우지 않음
+            redisPortOut.deleteIfEquals(leaseKey, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release cache load lease. key = {}", leaseKey, e);
+        }
+
+        try {
+            redisPortOut.publish(RedisKey.CACHE_LOADED_CHANNEL.getValue() + key, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache load completion. key = {}", key, e);
+        }
+    }
+
+    /**
+     * 다른 서버의 적재 완료 메시지를 기다린 뒤 캐시를 조회합니다.
+     * <br />
+     * 메시지는 Redis 구독 스레드에서 전달되므로, 이후 캐시 조회와 직접 조회는 I/O 스레드 풀에서 실행합니다.
+     */
+    private <T> CompletableFuture<T> awaitLoaded(String key, Supplier<T> cacheReader) {
+        CompletableFuture<Void> notified = new CompletableFuture<>();
+        waiters.compute(key, (k, pending) -> {
+            Set<CompletableFuture<Void>> registered = pending != null ? pending : ConcurrentHashMap.newKeySet();
+            registered.add(notified);
+            return registered;
+        });
+
+        // 대기 등록 전에 적재가 끝났을 수 있으므로 한 번 더 조회
+        T cached = read(key, cacheReader);
+
+        if (cached != null) {
+            removeWaiter(key, notified);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return notified.orTimeout(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handleAsync((ignored, error) -> {
+                    removeWaiter(key, notified);
+
+                    if (error != null) {
+                        log.info("Timed out waiting for cache load. Fallback to direct load. key = {}", key);
+                    }
+
+                    return read(key, cacheReader);
+                }, ioExecutor);
+    }
+
+    private void onLoaded(String channel, String message) {
+        String key = channel.substring(RedisKey.CACHE_LOADED_CHANNEL.getValue().length());
+        Set<CompletableFuture<Void>> pending = waiters.remove(key);
+
+        if (pending != null) {
+            pending.forEach(waiter -> waiter.complete(null));
+        }
+    }
+
+    private void removeWaiter(String key, CompletableFuture<Void> waiter) {
+        waiters.computeIfPresent(key, (k, pending) -> {
+            pending.remove(waiter);
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+
+    private <T> T read(String key, Supplier<T> cacheReader) {
+        try {
+            return cacheReader.get();
+        } catch (RuntimeException e) {
+            log.warn("Cache read failed for key {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> loader) {
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> loader) {
+        try {
+            return CompletableFuture.completedFuture(loader.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package seungyong.helpmebackend.global.application.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 의존 관계를 선언한 작업(Stage)들을 DAG 순서로 실행하는 그래프
+ * <br />
+ * - 각 Stage는 선언한 선행 Stage가 모두 끝나면 바로 시작하므로, 서로 독립적인 Stage는 동시에 실행됩니다. <br />
+ * - 전체 소요 시간은 모든 Stage의 합이 아닌 가장 긴 의존 경로(Critical Path)에 가까워집니다. <br />
+ * - Stage 별 실행 시간(대기 시간 제외)은 pipeline.stage 타이머로 기록합니다. <br />
+ * - 선행 Stage가 실패하면 이후 Stage는 실행되지 않고 같은 예외로 실패합니다.
+ */
+@Slf4j
+public class StageGraph {
+    private final String name;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final List<Stage<?>> stages = new ArrayList<>();
+
+    StageGraph(String name, Executor executor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 선행 Stage 없이 바로 시작하는 Stage를 추가합니다.
+     */
+    public <T> Stage<T> stage(String stageName, Supplier<T> task) {
+        return stage(stageName, List.of(), task);
+    }
+
+    /**
+     * 선행 Stage가 모두 끝난 뒤 executor에서 실행하는 Stage를 추가합니다.
+     *
+     * @param stageName     Stage 이름 (메트릭 태그)
+     * @param dependencies  선행 Stage 목록
+     * @param task          실행할 작업 (선행 Stage 결과는 {@link Stage#get()}으로 조회)
+     * @return              추가된 Stage
+     */
+    public <T> Stage<T> stage(String stageName, List<Stage<?>> dependencies, Supplier<T> task) {
+        return stageAsync(
+                stageName,
+                dependencies,
+                () -> CompletableFuture.supplyAsync(task, executor)
+        );
+    }
+
+    /**
+     * 선행 Stage 없이 바로 시작하는 비동기 Stage를 추가합니다.
+     */
+    public <T> Stage<T> stageAsync(String stageName, Supplier<CompletableFuture<T>> task) {
+        return stageAsync(stageName, List.of(), task);
+    }
+
+    /**
+     * 선행 Stage가 모두 끝난 뒤 시작하는 비동기 Stage를 추가합니다.
+     * <br />
+     * 작업이 이미 CompletableFuture를 반환하는 경우 별도 스레드를 점유하지 않고 그대로 연결합니다.
+     *
+     * @param stageName     Stage 이름 (메트릭 태그)
+     * @param dependencies  선행 Stage 목록
+     * @param task          비동기 작업
+     * @return              추가된 Stage
+     */
+    public <T> Stage<T> stageAsync(String stageName, List<Stage<?>> dependencies, Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<?>[] upstream = dependencies.stream()
+                .map(Stage::future)
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture<T> future = CompletableFuture.allOf(upstream)
+                .thenCompose(ignored -> timed(stageName, task));
+
+        Stage<T> stage = new Stage<>(stageName, future);
+        stages.add(stage);
+        return stage;
+    }
+
+    /**
+     * 모든 Stage가 끝날 때까지 기다립니다.
+     * <br />
+     * 실패한 Stage가 있으면 선언 순서상 처음 실패한 Stage의 원래 예외를 던집니다.
+     */
+    public void await() {
+        try {
+            CompletableFuture.allOf(stages.stream().map(Stage::future).toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            for (Stage<?> stage : stages) {
+                if (stage.future().isCompletedExceptionally()) {
+                    stage.get();
+                }
+            }
+
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> timed(String stageName, Supplier<CompletableFuture<T>> task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+
+        try {
+            future = task.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((result, ex) -> {
+            long nanos = sample.stop(Timer.builder("pipeline.stage")
+                    .tag("pipeline", name)
+                    .tag("stage", stageName)
+                    .tag("outcome", ex == null ? "success" : "error")
+                    .register(meterRegistry));
+
+            log.debug("[{}] Stage {} finished in {}ms", name, stageName, nanos / 1_000_000);
+        });
+    }
+
+    /**
+     * 그래프의 작업 단위
+     */
+    public static final class Stage<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+
+        private Stage(String name, CompletableFuture<T> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Stage 결과를 조회합니다.
+         * <br />
+         * 선행 Stage로 선언한 Stage 안에서 호출하면 이미 끝난 결과를 바로 반환합니다.
+         * CompletionException에 감싸진 RuntimeException은 원래 예외로 풀어서 던집니다.
+         */
+        public T get() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+
+                throw e;
+            }
+        }
+
+        CompletableFuture<T> future() {
+            return future;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seungyong.helpmebackend.global.application.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * StageGraph 생성기
+ * <br />
+ * Stage는 대부분 GitHub/Redis/OpenAI 호출을 기다리는 I/O 작업이므로 githubIoExecutor에서 실행합니다.
+ */
+@Component
+public class StageGraphFactory {
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+
+    public StageGraphFactory(
+            MeterRegistry meterRegistry,
+            @Qualifier("githubIoExecutor") Executor executor
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    public StageGraph create(String name) {
+        return new StageGraph(name, executor, meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package seungyong.helpmebackend.global.application.port.out;
+
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
+
+import java.util.OptionalInt;
+
+public interface GithubRateLimitPortOut {
+    OptionalInt getAvailable(String accessToken);
+    GithubRateLimitReservation reserve(String accessToken, int calls);
+}
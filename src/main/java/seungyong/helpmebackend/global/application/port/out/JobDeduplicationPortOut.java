@@ -0,0 +1,10 @@
+package seungyong.helpmebackend.global.application.port.out;
+
+import seungyong.helpmebackend.global.domain.entity.AttachedJob;
+
+import java.util.List;
+
+public interface JobDeduplicationPortOut {
+    boolean acquireOrAttach(String key, AttachedJob job);
+    List<AttachedJob> release(String key, String taskId);
+}
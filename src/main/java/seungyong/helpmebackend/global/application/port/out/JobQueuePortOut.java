@@ -0,0 +1,18 @@
+package seungyong.helpmebackend.global.application.port.out;
+
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobPriority;
+import seungyong.helpmebackend.global.domain.type.JobType;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface JobQueuePortOut {
+    void enqueue(JobType type, String taskId, Object payload);
+    List<Job> claim(String consumer, JobPriority priority, int count, Duration block);
+    List<Job> reclaimExpired(String consumer, JobPriority priority, Duration visibilityTimeout, int count);
+    void acknowledge(Job job);
+    void retry(Job job);
+    void deadLetter(Job job, String reason);
+    long depth(JobPriority priority);
+}
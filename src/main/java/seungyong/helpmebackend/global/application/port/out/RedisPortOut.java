@@ -1,15 +1,31 @@
 package seungyong.helpmebackend.global.application.port.out;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 public interface RedisPortOut {
     void set(String key, String value, Instant expireAt);
     void setObject(String key, Object value, Instant expireAt);
+    void setBytes(String key, byte[] value, Instant expireAt);
     void setObjectIfAbsent(String key, Object value, Instant expireAt);
+    boolean setIfAbsent(String key, String value, Instant expireAt);
     boolean exists(String key);
     String get(String key);
     <T> T getObject(String key, TypeReference<T> typeRef);
+    byte[] getBytes(String key);
     void delete(String key);
+    boolean deleteIfEquals(String key, String value);
+    String getAndDelete(String key);
+    <T> T getAndDeleteObject(String key, TypeReference<T> typeRef);
+    RedisValues multiGet(Collection<String> keys);
+    void multiSetWithTtl(Map<String, String> values, Instant expireAt);
+    void multiSetObjectWithTtl(Map<String, ?> values, Instant expireAt);
+    void multiSetBytesWithTtl(Map<String, byte[]> values, Instant expireAt);
+    void publish(String channel, String message);
+    void subscribe(String channelPattern, BiConsumer<String, String> listener);
 }
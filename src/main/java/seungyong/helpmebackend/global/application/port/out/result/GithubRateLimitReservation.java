@@ -0,0 +1,29 @@
+package seungyong.helpmebackend.global.application.port.out.result;
+
+/**
+ * 미리 확보한 GitHub Rate Limit 예산
+ * <br />
+ * 예약한 요청을 보내기 직전에 {@link #use()}로 1건씩 사용하고, 작업이 끝나면 {@link #close()}로 사용하지 않은 예산을 반납합니다.
+ */
+public interface GithubRateLimitReservation extends AutoCloseable {
+    /**
+     * 예약한 호출 1건을 사용합니다. (남은 예약이 없으면 무시)
+     */
+    void use();
+
+    /**
+     * 사용하지 않은 예약을 모두 반납합니다.
+     */
+    @Override
+    void close();
+
+    static GithubRateLimitReservation none() {
+        return new GithubRateLimitReservation() {
+            @Override
+            public void use() {}
+
+            @Override
+            public void close() {}
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package seungyong.helpmebackend.global.application.port.out.result;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * 여러 key를 한 번에 조회한 결과
+ * <br />
+ * 값마다 타입이 다를 수 있으므로, 조회 시점에 key 별로 원하는 타입으로 변환합니다.
+ */
+public interface RedisValues {
+    /**
+     * key의 값을 그대로 반환합니다. (없으면 null)
+     */
+    String get(String key);
+
+    /**
+     * key의 값을 객체로 변환하여 반환합니다. (없으면 null)
+     */
+    <T> T getObject(String key, TypeReference<T> typeRef);
+
+    /**
+     * key의 값을 바이트 그대로 반환합니다. (없으면 null)
+     */
+    byte[] getBytes(String key);
+
+    static RedisValues empty() {
+        return new RedisValues() {
+            @Override
+            public String get(String key) {
+                return null;
+            }
+
+            @Override
+            public <T> T getObject(String key, TypeReference<T> typeRef) {
+                return null;
+            }
+
+            @Override
+            public byte[] getBytes(String key) {
+                return null;
+            }
+        };
+    }
+}
@@ -5,8 +5,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import seungyong.helpmebackend.global.infrastructure.resilience.TrafficContext;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @EnableAsync
 @Configuration
@@ -18,6 +20,29 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("async-task-");
+        // @Async 작업의 GitHub 호출은 background Bulkhead를 사용
+        executor.setTaskDecorator(TrafficContext.background());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * GitHub API 블로킹 I/O 전용 스레드 풀
+     * <br />
+     * - CPU 코어 수로 제한된 공용 ForkJoinPool 대신 I/O 대기 작업을 실행합니다. <br />
+     * - 대기열 없이(SynchronousQueue) 스레드를 늘리므로 작업 안에서 다시 작업을 기다려도 교착되지 않습니다. <br />
+     * - 최대 스레드 수를 넘으면 호출한 스레드에서 직접 실행합니다.
+     */
+    @Bean(name = "githubIoExecutor")
+    public ThreadPoolTaskExecutor githubIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(10);
+        executor.setMaxPoolSize(200);
+        executor.setQueueCapacity(0);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("github-io-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(TrafficContext.propagating());
         executor.initialize();
         return executor;
     }
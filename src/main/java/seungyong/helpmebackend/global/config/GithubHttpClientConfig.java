@@ -0,0 +1,100 @@
+package seungyong.helpmebackend.global.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * GitHub API 호출용 HTTP 클라이언트 설정
+ * <br />
+ * - 호스트(route)별 커넥션 풀을 사용하여 TLS 핸드셰이크 비용을 줄입니다. <br />
+ * - Keep-Alive 커넥션을 재사용하고, 유휴/만료 커넥션은 주기적으로 정리합니다. <br />
+ * - 커넥트/읽기/풀 대기 타임아웃을 명시적으로 지정합니다. <br />
+ * - 커넥션 풀 상태는 Micrometer 메트릭(httpcomponents.httpclient.pool.*)으로 노출됩니다.
+ */
+@Configuration
+public class GithubHttpClientConfig {
+    private static final String POOL_NAME = "github";
+
+    @Value("${github.http.max-connections-total:100}")
+    private int maxConnectionsTotal;
+
+    @Value("${github.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${github.http.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${github.http.read-timeout:10s}")
+    private Duration readTimeout;
+
+    @Value("${github.http.connection-request-timeout:2s}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${github.http.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${github.http.idle-eviction:30s}")
+    private Duration idleEviction;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager githubConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnectionsTotal)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                // 최근에 사용한 커넥션부터 재사용하여 Keep-Alive 커넥션이 유휴 상태로 끊기는 것을 줄임
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(
+                        ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(connectTimeout))
+                                .setSocketTimeout(Timeout.of(readTimeout))
+                                .setTimeToLive(TimeValue.ofMinutes(5))
+                                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                                .build()
+                )
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient githubHttpClient(PoolingHttpClientConnectionManager githubConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(githubConnectionManager)
+                .setDefaultRequestConfig(
+                        RequestConfig.custom()
+                                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                                .setResponseTimeout(Timeout.of(readTimeout))
+                                .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                                .build()
+                )
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate githubRestTemplate(CloseableHttpClient githubHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(githubHttpClient));
+    }
+
+    @Bean
+    public MeterBinder githubConnectionPoolMetrics(PoolingHttpClientConnectionManager githubConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(githubConnectionManager, POOL_NAME);
+    }
+}
@@ -0,0 +1,77 @@
+package seungyong.helpmebackend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GitHub GET 요청의 재시도/헤징 정책 설정
+ * <br />
+ * - github.resilience.defaults.* : 모든 GET 요청의 기본 정책 <br />
+ * - github.resilience.operations.{operation}.* : 정규화된 operation 별 정책 (지정한 값만 기본 정책을 덮어씀) <br />
+ * operation 이름은 GithubOperations.normalize 결과를 사용합니다. (예: get-repository-tree, fetch-commits)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "github.resilience")
+public class GithubResilienceProperties {
+    private Policy defaults = Policy.defaults();
+    private Map<String, Policy> operations = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // 최초 요청을 포함한 최대 시도 횟수
+        private Integer maxAttempts;
+        private Duration baseBackoff;
+        private Duration maxBackoff;
+
+        // 헤징은 같은 요청을 한 번 더 보내므로 Rate Limit을 더 사용함 (기본 비활성화)
+        private Boolean hedgeEnabled;
+        // 지연 시간 표본이 부족할 때 사용하는 헤징 대기 시간
+        private Duration hedgeDelay;
+        private Duration minHedgeDelay;
+        private Duration maxHedgeDelay;
+
+        static Policy defaults() {
+            Policy policy = new Policy();
+            policy.maxAttempts = 3;
+            policy.baseBackoff = Duration.ofMillis(200);
+            policy.maxBackoff = Duration.ofSeconds(2);
+            policy.hedgeEnabled = false;
+            policy.hedgeDelay = Duration.ofSeconds(1);
+            policy.minHedgeDelay = Duration.ofMillis(100);
+            policy.maxHedgeDelay = Duration.ofSeconds(3);
+            return policy;
+        }
+
+        Policy mergeInto(Policy base) {
+            Policy merged = new Policy();
+            merged.maxAttempts = maxAttempts != null ? maxAttempts : base.maxAttempts;
+            merged.baseBackoff = baseBackoff != null ? baseBackoff : base.baseBackoff;
+            merged.maxBackoff = maxBackoff != null ? maxBackoff : base.maxBackoff;
+            merged.hedgeEnabled = hedgeEnabled != null ? hedgeEnabled : base.hedgeEnabled;
+            merged.hedgeDelay = hedgeDelay != null ? hedgeDelay : base.hedgeDelay;
+            merged.minHedgeDelay = minHedgeDelay != null ? minHedgeDelay : base.minHedgeDelay;
+            merged.maxHedgeDelay = maxHedgeDelay != null ? maxHedgeDelay : base.maxHedgeDelay;
+            return merged;
+        }
+    }
+
+    /**
+     * operation 별 정책을 기본 정책과 합쳐 반환합니다.
+     *
+     * @param operation 정규화된 operation 이름
+     * @return          적용할 정책
+     */
+    public Policy resolve(String operation) {
+        Policy base = defaults.mergeInto(Policy.defaults());
+        Policy override = operations.get(operation);
+
+        return override != null ? override.mergeInto(base) : base;
+    }
+}
@@ -0,0 +1,35 @@
+package seungyong.helpmebackend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Redis 작업 큐 설정
+ * <br />
+ * - job.queue.workers : 서버 하나에서 동시에 실행하는 작업 수 <br />
+ * - job.queue.low-priority-workers : 그 중 낮은 우선순위 작업(컨텍스트 미리 생성 등)을 실행할 수 있는 최대 수 <br />
+ * - job.queue.visibility-timeout : 작업을 가져간 서버가 이 시간 안에 완료하지 못하면 다른 서버가 다시 가져감 <br />
+ * - job.queue.max-attempts : 최대 시도 횟수 (넘으면 Dead Letter Stream으로 이동) <br />
+ * - job.queue.poll-timeout : 새 작업을 기다리는 시간 (XREADGROUP BLOCK) <br />
+ * - job.queue.reclaim-interval : 시간이 지난 작업 확인, 큐 길이 갱신 주기 <br />
+ * - job.queue.dedup-enabled : 같은 작업(저장소, 커밋, 요청 내용)을 하나로 합칠지 여부 <br />
+ * - job.queue.dedup-ttl : 같은 작업(저장소, 커밋, 요청 내용)을 하나로 합치는 실행 권한의 최대 유지 시간
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "job.queue")
+public class JobQueueProperties {
+    private boolean enabled = true;
+    private int workers = 4;
+    private int lowPriorityWorkers = 1;
+    private Duration visibilityTimeout = Duration.ofMinutes(10);
+    private int maxAttempts = 3;
+    private Duration pollTimeout = Duration.ofSeconds(2);
+    private Duration reclaimInterval = Duration.ofSeconds(30);
+    private long deadLetterMaxLength = 10_000;
+    private boolean dedupEnabled = true;
+    private Duration dedupTtl = Duration.ofMinutes(15);
+}
@@ -0,0 +1,47 @@
+package seungyong.helpmebackend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 커밋 SHA 기준 컨텍스트 캐시의 서버 내(L1) 캐시 설정
+ * <br />
+ * - cache.local.max-weight-bytes : L1 전체 메모리 한도 (항목 크기 기준) <br />
+ * - cache.local.max-entry-bytes.{artifact} : 항목 종류 별 최대 크기 (초과하면 L1에 두지 않고 Redis만 사용) <br />
+ * - cache.local.keep-encrypted : 암호화된 항목(Manifest, 파일 내용)을 암호문 그대로 L1에 보관할지 여부 <br />
+ * artifact 이름은 readme, commits, languages, trees, tech-stack, manifest, blob 입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.local")
+public class LocalCacheProperties {
+    private boolean enabled = true;
+    private long maxWeightBytes = 128L * 1024 * 1024;
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+    // false이면 암호화된 항목은 서버 메모리에 두지 않음 (평문은 어떤 경우에도 L1에 보관하지 않음)
+    private boolean keepEncrypted = true;
+
+    private Map<String, Long> maxEntryBytes = defaultMaxEntryBytes();
+
+    public long getMaxEntryBytes(String artifact) {
+        return maxEntryBytes.getOrDefault(artifact, 0L);
+    }
+
+    private static Map<String, Long> defaultMaxEntryBytes() {
+        Map<String, Long> defaults = new HashMap<>();
+        defaults.put("readme", 256L * 1024);
+        defaults.put("commits", 1024L * 1024);
+        defaults.put("languages", 16L * 1024);
+        defaults.put("trees", 4L * 1024 * 1024);
+        defaults.put("tech-stack", 64L * 1024);
+        defaults.put("manifest", 64L * 1024);
+        defaults.put("blob", 1024L * 1024);
+        return defaults;
+    }
+}
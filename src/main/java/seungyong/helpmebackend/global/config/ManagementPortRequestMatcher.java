@@ -0,0 +1,34 @@
+package seungyong.helpmebackend.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 별도 관리 포트(management.server.port)로 들어온 Actuator 요청 판별기
+ * <br />
+ * - 관리 포트는 내부망에서만 접근한다고 보고, 이 포트의 요청만 JWT 인증 없이 허용합니다. <br />
+ * - 관리 포트를 지정하지 않았거나 서비스 포트와 같으면 어떤 요청도 허용하지 않습니다.
+ */
+@Component
+public class ManagementPortRequestMatcher implements RequestMatcher {
+    private final int serverPort;
+    private final int managementPort;
+
+    public ManagementPortRequestMatcher(
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:-1}") int managementPort
+    ) {
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return managementPort > 0
+                && managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && request.getRequestURI().startsWith("/actuator/");
+    }
+}
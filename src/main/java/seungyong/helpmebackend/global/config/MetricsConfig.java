@@ -0,0 +1,17 @@
+package seungyong.helpmebackend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Actuator 메트릭 노출 기본 설정
+ * <br />
+ * - /actuator/prometheus 로 GitHub API(github.api.*), Rate Limit, Circuit Breaker/Bulkhead 메트릭을 노출합니다. <br />
+ * - @PropertySource는 application.properties보다 우선순위가 낮으므로 운영 설정에서 덮어쓸 수 있습니다. <br />
+ * - 인증 없이 접근 가능한 것은 /actuator/health 뿐이며, 수집기는 management.server.port로 지정한 내부 관리 포트로 접근합니다. <br />
+ *   (관리 포트를 지정하지 않으면 /actuator/prometheus도 다른 API와 같이 인증이 필요합니다.)
+ */
+@Configuration
+@PropertySource("classpath:actuator.properties")
+public class MetricsConfig {
+}
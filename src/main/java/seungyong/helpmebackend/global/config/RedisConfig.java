@@ -0,0 +1,38 @@
+package seungyong.helpmebackend.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration
+public class RedisConfig {
+    /**
+     * 바이너리(Smile, LZ4 등) 객체 값을 저장하기 위한 RedisTemplate
+     * <br />
+     * 기존 문자열 값도 UTF-8 바이트 그대로 읽을 수 있습니다.
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    /**
+     * Redis Pub/Sub 구독용 Listener Container
+     * <br />
+     * 구독은 연결 하나를 공유하며, 구독이 추가될 때 연결을 시작합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
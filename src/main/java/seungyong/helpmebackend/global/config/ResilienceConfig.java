@@ -0,0 +1,119 @@
+package seungyong.helpmebackend.global.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 외부 의존성(GitHub, OpenAI) Circuit Breaker / Bulkhead 설정
+ * <br />
+ * - GitHub는 5xx 응답과 I/O 오류만 실패로 기록합니다. (404 등 4xx는 정상 응답) <br />
+ * - OpenAI는 모든 예외를 실패로 기록합니다. <br />
+ * - Bulkhead는 github-interactive / github-background / openai 로 나누어 동시 호출 수를 제한합니다. <br />
+ * - 상태/호출 수는 Micrometer 메트릭(resilience4j.circuitbreaker.*, resilience4j.bulkhead.*)으로 노출됩니다.
+ */
+@Configuration
+public class ResilienceConfig {
+    @Value("${github.circuit-breaker.failure-rate-threshold:50}")
+    private float githubFailureRateThreshold;
+
+    @Value("${github.circuit-breaker.slow-call-duration:8s}")
+    private Duration githubSlowCallDuration;
+
+    @Value("${github.circuit-breaker.wait-in-open:30s}")
+    private Duration githubWaitInOpen;
+
+    @Value("${github.bulkhead.interactive.max-concurrent:40}")
+    private int githubInteractiveMaxConcurrent;
+
+    @Value("${github.bulkhead.interactive.max-wait:500ms}")
+    private Duration githubInteractiveMaxWait;
+
+    @Value("${github.bulkhead.background.max-concurrent:30}")
+    private int githubBackgroundMaxConcurrent;
+
+    @Value("${github.bulkhead.background.max-wait:10s}")
+    private Duration githubBackgroundMaxWait;
+
+    @Value("${openai.circuit-breaker.failure-rate-threshold:50}")
+    private float openaiFailureRateThreshold;
+
+    @Value("${openai.circuit-breaker.slow-call-duration:90s}")
+    private Duration openaiSlowCallDuration;
+
+    @Value("${openai.circuit-breaker.wait-in-open:60s}")
+    private Duration openaiWaitInOpen;
+
+    @Value("${openai.bulkhead.max-concurrent:8}")
+    private int openaiMaxConcurrent;
+
+    @Value("${openai.bulkhead.max-wait:30s}")
+    private Duration openaiMaxWait;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        CircuitBreakerConfig github = CircuitBreakerConfig.custom()
+                .failureRateThreshold(githubFailureRateThreshold)
+                .slowCallRateThreshold(80)
+                .slowCallDurationThreshold(githubSlowCallDuration)
+                .slidingWindowSize(50)
+                .minimumNumberOfCalls(10)
+                .waitDurationInOpenState(githubWaitInOpen)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordExceptions(HttpServerErrorException.class, ResourceAccessException.class)
+                .build();
+
+        CircuitBreakerConfig openai = CircuitBreakerConfig.custom()
+                .failureRateThreshold(openaiFailureRateThreshold)
+                .slowCallRateThreshold(80)
+                .slowCallDurationThreshold(openaiSlowCallDuration)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(5)
+                .waitDurationInOpenState(openaiWaitInOpen)
+                .permittedNumberOfCallsInHalfOpenState(2)
+                .build();
+
+        return CircuitBreakerRegistry.of(Map.of(
+                "github", github,
+                "openai", openai
+        ));
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry() {
+        return BulkheadRegistry.of(Map.of(
+                "github-interactive", bulkhead(githubInteractiveMaxConcurrent, githubInteractiveMaxWait),
+                "github-background", bulkhead(githubBackgroundMaxConcurrent, githubBackgroundMaxWait),
+                "openai", bulkhead(openaiMaxConcurrent, openaiMaxWait)
+        ));
+    }
+
+    @Bean
+    public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    public MeterBinder bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+
+    private BulkheadConfig bulkhead(int maxConcurrent, Duration maxWait) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrent)
+                .maxWaitDuration(maxWait)
+                .build();
+    }
+}
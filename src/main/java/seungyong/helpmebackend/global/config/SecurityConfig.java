@@ -27,10 +27,14 @@ public class SecurityConfig {
     private String frontendUrl;
 
     private final AuthenticationFilter authenticationFilter;
+    private final ManagementPortRequestMatcher managementPortRequestMatcher;
     private static final String[] SWAGGER_PATHS = {
             "swagger-ui/**",
             "v3/api-docs/**",
     };
+    private static final String[] ACTUATOR_PATHS = {
+            "/actuator/health",
+    };
 
     @Bean
     public SecurityFilterChain filterChain(
@@ -52,6 +56,8 @@ public class SecurityConfig {
                                 "/api/v1/sse/subscribe"
                         ).permitAll()
                         .requestMatchers(SWAGGER_PATHS).permitAll()
+                        .requestMatchers(ACTUATOR_PATHS).permitAll()
+                        .requestMatchers(managementPortRequestMatcher).permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,13 @@
+package seungyong.helpmebackend.global.domain.entity;
+
+/**
+ * 같은 내용으로 실행 중인 작업에 연결된 작업
+ *
+ * @param taskId    결과를 전달할 SSE 작업 ID
+ * @param userId    작업을 요청한 사용자 ID
+ */
+public record AttachedJob(
+        String taskId,
+        Long userId
+) {
+}
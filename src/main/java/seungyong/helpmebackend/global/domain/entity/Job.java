@@ -0,0 +1,23 @@
+package seungyong.helpmebackend.global.domain.entity;
+
+import java.time.Instant;
+
+/**
+ * 작업 큐에 등록된 작업
+ *
+ * @param id            큐에서의 작업 ID
+ * @param type          작업 종류 ({@link seungyong.helpmebackend.global.domain.type.JobType}의 value)
+ * @param taskId        결과를 전달할 SSE 작업 ID
+ * @param payload       작업 내용 (JSON)
+ * @param attempt       시도 횟수 (처음 실행 시 1)
+ * @param enqueuedAt    큐에 등록된 시각 (재시도는 다시 등록된 시각)
+ */
+public record Job(
+        String id,
+        String type,
+        String taskId,
+        String payload,
+        int attempt,
+        Instant enqueuedAt
+) {
+}
@@ -0,0 +1,11 @@
+package seungyong.helpmebackend.global.domain.type;
+
+/**
+ * 작업 큐 우선순위
+ * <br />
+ * LOW 작업은 NORMAL 작업이 대기 중이지 않을 때만, job.queue.low-priority-workers 수 이내로 실행됩니다.
+ */
+public enum JobPriority {
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,37 @@
+package seungyong.helpmebackend.global.domain.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@AllArgsConstructor
+public enum JobType {
+    // README 초안 평가
+    DRAFT_EVALUATION("draft-evaluation", JobPriority.NORMAL),
+
+    // README 초안 생성
+    DRAFT_GENERATION("draft-generation", JobPriority.NORMAL),
+
+    // 저장소 컨텍스트 미리 생성 (캐시 적재)
+    CONTEXT_PREWARM("context-prewarm", JobPriority.LOW)
+    ;
+
+    private final String value;
+    private final JobPriority priority;
+
+    public static Optional<JobType> of(String value) {
+        return Arrays.stream(values())
+                .filter(type -> type.value.equals(value))
+                .findFirst();
+    }
+
+    /**
+     * 작업 종류의 우선순위를 반환합니다. (알 수 없는 종류는 NORMAL)
+     */
+    public static JobPriority priorityOf(String value) {
+        return of(value).map(JobType::getPriority).orElse(JobPriority.NORMAL);
+    }
+}
@@ -17,7 +17,30 @@ public enum RedisKey {
     SSE_EMITTER_GENERATION_KEY("sse:emitter:generation:"),
 
     // github-auth:{userId}:{owner}/{name}
-    GITHUB_AUTH_KEY("github-auth:")
+    GITHUB_AUTH_KEY("github-auth:"),
+
+    // gh:inflight:lease:{requestHash}, gh:inflight:result:{requestHash}
+    GITHUB_INFLIGHT_LEASE_KEY("gh:inflight:lease:"),
+    GITHUB_INFLIGHT_RESULT_KEY("gh:inflight:result:"),
+
+    // cache:load:lease:{cacheKey}, cache:loaded:{cacheKey} (Pub/Sub channel)
+    CACHE_LOAD_LEASE_KEY("cache:load:lease:"),
+    CACHE_LOADED_CHANNEL("cache:loaded:"),
+
+    // sse:completion:{taskId} (Pub/Sub channel, 다른 서버에 연결된 SSE로 작업 결과 전달)
+    SSE_COMPLETION_CHANNEL("sse:completion:"),
+
+    // context:prewarm:{owner}/{name}:{branch} (컨텍스트 미리 생성 요청 간격 제한)
+    CONTEXT_PREWARM_KEY("context:prewarm:"),
+
+    // 작업 큐 Stream, 낮은 우선순위 작업 큐 Stream, 재시도 한도를 넘은 작업(Dead Letter) Stream
+    JOB_QUEUE_KEY("job:queue"),
+    JOB_LOW_PRIORITY_QUEUE_KEY("job:queue:low"),
+    JOB_DEAD_LETTER_KEY("job:dead-letter"),
+
+    // job:dedup:lease:{dedupKey}, job:dedup:attached:{dedupKey} (실행 중인 작업에 연결된 작업 목록)
+    JOB_DEDUP_LEASE_KEY("job:dedup:lease:"),
+    JOB_DEDUP_ATTACHED_KEY("job:dedup:attached:")
     ;
 
     private final String value;
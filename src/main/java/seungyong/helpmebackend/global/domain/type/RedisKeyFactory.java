@@ -1,26 +1,41 @@
 package seungyong.helpmebackend.global.domain.type;
 
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 import java.util.Arrays;
 
+@Getter
 @AllArgsConstructor
 public enum RedisKeyFactory {
     // commit cache
-    COMMITS_KEY("gh:commits:"),
+    COMMITS_KEY("gh:commits:", RedisValueEncoding.SMILE_LZ4),
 
     // repository cache
-    README_KEY("gh:readme:"),
-    LANGUAGE_KEY("gh:languages:"),
-    TREE_KEY("gh:trees:"),
-    TECH_STACK_KEY("gh:tech-stack:"),
+    BRANCH_HEAD_KEY("gh:branch-head:", RedisValueEncoding.JSON),
+    README_KEY("gh:readme:", RedisValueEncoding.JSON),
+    LANGUAGE_KEY("gh:languages:", RedisValueEncoding.SMILE),
+    TREE_KEY("gh:trees:", RedisValueEncoding.SMILE_LZ4),
+    TECH_STACK_KEY("gh:tech-stack:", RedisValueEncoding.SMILE),
 
-    // file content
-    FILE_V1_KEY("gh:file:entry:"),
-    FILE_V2_KEY("gh:file:importance:");
+    // file manifest (커밋 별 경로 -> blob SHA)
+    FILE_V1_KEY("gh:file:entry:", RedisValueEncoding.JSON),
+    FILE_V2_KEY("gh:file:importance:", RedisValueEncoding.JSON),
+
+    // file content (blob SHA 기준, 커밋/브랜치/포크 간 공유)
+    BLOB_KEY("gh:blob:", RedisValueEncoding.JSON),
+
+    // generated draft (커밋 SHA, 기존 README 해시, 프롬프트 버전 기준)
+    DRAFT_README_KEY("gpt:draft:", RedisValueEncoding.SMILE_LZ4),
+
+    // evaluation result (커밋 SHA, 정규화한 초안 내용 해시, 프롬프트 버전 기준)
+    EVALUATION_KEY("gpt:evaluation:", RedisValueEncoding.SMILE);
 
     private final String prefix;
 
+    // 객체 값(setObject)의 저장 형식 (문자열 값은 항상 그대로 저장)
+    private final RedisValueEncoding encoding;
+
     // 공통 조합 메서드
     private String buildKey(Object... parts) {
         return prefix + String.join(":",
@@ -30,6 +45,21 @@ public enum RedisKeyFactory {
         );
     }
 
+    /**
+     * key가 속한 항목의 저장 형식을 반환합니다. (해당 항목이 없으면 JSON)
+     */
+    public static RedisValueEncoding encodingOf(String key) {
+        return Arrays.stream(values())
+                .filter(type -> key.startsWith(type.prefix))
+                .map(RedisKeyFactory::getEncoding)
+                .findFirst()
+                .orElse(RedisValueEncoding.JSON);
+    }
+
+    public static String createBranchHeadKey(String owner, String name, String branch) {
+        return BRANCH_HEAD_KEY.buildKey(owner, name, branch);
+    }
+
     public static String createReadmeKey(String owner, String name, String sha) {
         return README_KEY.buildKey(owner, name, sha);
     }
@@ -57,4 +87,16 @@ public enum RedisKeyFactory {
     public static String createImportanceFileKey(String owner, String name, String sha) {
         return FILE_V2_KEY.buildKey(owner, name, sha);
     }
+
+    public static String createBlobKey(String blobSha) {
+        return BLOB_KEY.buildKey(blobSha);
+    }
+
+    public static String createDraftReadmeKey(String owner, String name, String sha, String readmeHash, String promptVersion) {
+        return DRAFT_README_KEY.buildKey(owner, name, sha, readmeHash, promptVersion);
+    }
+
+    public static String createEvaluationKey(String owner, String name, String sha, String contentHash, String promptVersion) {
+        return EVALUATION_KEY.buildKey(owner, name, sha, contentHash, promptVersion);
+    }
 }
@@ -0,0 +1,14 @@
+package seungyong.helpmebackend.global.domain.type;
+
+/**
+ * Redis에 객체를 저장하는 형식
+ * <br />
+ * - JSON : 기존 형식 (헤더 없음) <br />
+ * - SMILE : Jackson Smile (바이너리 JSON) <br />
+ * - SMILE_LZ4 : Smile + LZ4 압축 (트리, 커밋 목록 등 크기가 큰 값)
+ */
+public enum RedisValueEncoding {
+    JSON,
+    SMILE,
+    SMILE_LZ4
+}
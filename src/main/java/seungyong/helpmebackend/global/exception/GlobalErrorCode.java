@@ -17,7 +17,10 @@ public enum GlobalErrorCode implements ErrorCode {
     GITHUB_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GitHub 서버 에러입니다.", "GITHUB_50001"),
     REDIS_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Redis 서버 에러입니다.", "REDIS_50002"),
     INVALID_OAUTH2_STATE(HttpStatus.INTERNAL_SERVER_ERROR, "유효하지 않은 OAuth2 state 값입니다.", "OAUTH2_50003"),
-    GPT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GPT 서버 에러입니다.", "GPT_50004")
+    GPT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GPT 서버 에러입니다.", "GPT_50004"),
+
+    GITHUB_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "GitHub 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", "GITHUB_50301"),
+    GPT_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "GPT 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", "GPT_50302")
     ;
 
     private final String name = this.name();
@@ -11,6 +11,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import seungyong.helpmebackend.global.config.ManagementPortRequestMatcher;
 import seungyong.helpmebackend.global.domain.entity.CustomUserDetails;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.ErrorResponse;
@@ -25,6 +26,7 @@ import java.io.IOException;
 @Component
 public class AuthenticationFilter extends OncePerRequestFilter {
     private final JWTProvider jwtProvider;
+    private final ManagementPortRequestMatcher managementPortRequestMatcher;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -37,6 +39,8 @@ public class AuthenticationFilter extends OncePerRequestFilter {
                 || path.endsWith(".html")
                 || path.startsWith("/swagger-ui")
                 || path.startsWith("/v3/api-docs")
+                || (path.equals("/actuator/health") && method.equals("GET"))
+                || managementPortRequestMatcher.matches(request)
                 || (path.equals("/api/v1/sse/subscribe") && method.equals("GET"));
     }
 
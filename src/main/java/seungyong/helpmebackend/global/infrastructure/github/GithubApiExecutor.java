@@ -1,37 +1,93 @@
 package seungyong.helpmebackend.global.infrastructure.github;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GithubRateLimitException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+import seungyong.helpmebackend.global.infrastructure.resilience.DependencyGuard;
+import seungyong.helpmebackend.global.infrastructure.resilience.ExternalDependency;
 import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
-
+import java.util.function.Supplier;
+
+/**
+ * GitHub API 호출 공통 실행기
+ * <br />
+ * - GET 요청은 동일 요청 합치기(GithubRequestCoalescer)와 재시도/헤징(GithubResilienceExecutor)을 거쳐 실행됩니다. <br />
+ * - 모든 요청은 DependencyGuard(Circuit Breaker + Bulkhead)로 보호됩니다. <br />
+ * - 실제 HTTP 요청마다 GithubApiMetrics로 지연 시간/상태/응답 크기를 기록합니다. <br />
+ * - 재시도는 합쳐진 요청 단위로 한 번만 수행되므로 기다리는 호출자 수만큼 재시도가 늘어나지 않습니다. <br />
+ * - POST/PUT/DELETE는 멱등하지 않을 수 있으므로 재시도하지 않습니다. <br />
+ * - *Async 메서드는 공용 ForkJoinPool이 아닌 GitHub I/O 전용 스레드 풀(githubIoExecutor)에서 실행되며,
+ *   토큰 별 동시 실행 수는 GithubConcurrencyLimiter로 제한됩니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GithubApiExecutor {
     private final GithubClient githubClient;
     private final ObjectMapper objectMapper;
+    private final GithubRequestCoalescer requestCoalescer;
+    private final GithubResilienceExecutor resilienceExecutor;
+    private final DependencyGuard dependencyGuard;
+    private final GithubApiMetrics apiMetrics;
+    private final GithubConcurrencyLimiter concurrencyLimiter;
+    private final Executor ioExecutor;
+
+    public GithubApiExecutor(
+            GithubClient githubClient,
+            ObjectMapper objectMapper,
+            GithubRequestCoalescer requestCoalescer,
+            GithubResilienceExecutor resilienceExecutor,
+            DependencyGuard dependencyGuard,
+            GithubApiMetrics apiMetrics,
+            GithubConcurrencyLimiter concurrencyLimiter,
+            @Qualifier("githubIoExecutor") Executor ioExecutor
+    ) {
+        this.githubClient = githubClient;
+        this.objectMapper = objectMapper;
+        this.requestCoalescer = requestCoalescer;
+        this.resilienceExecutor = resilienceExecutor;
+        this.dependencyGuard = dependencyGuard;
+        this.apiMetrics = apiMetrics;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.ioExecutor = ioExecutor;
+    }
 
     @FunctionalInterface
     public interface JsonResponseParser<T> {
         T parse(JsonNode jsonNode) throws Exception;
     }
 
+    @FunctionalInterface
+    public interface StreamResponseParser<T> {
+        T parse(JsonParser parser, HttpHeaders headers) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface BinaryResponseParser<T> {
+        T parse(InputStream body, HttpHeaders headers) throws IOException;
+    }
+
     @FunctionalInterface
     public interface ExceptionHandler<T> {
         Optional<T> handle(Exception e);
@@ -47,7 +103,11 @@ public class GithubApiExecutor {
         String responseBody = null;
 
         try {
-            responseBody = githubClient.fetchGetMethodForBody(url, accessToken);
+            // 동시에 들어온 동일 요청은 한 번만 호출하고, 파싱은 호출자별로 수행
+            responseBody = requestCoalescer.executeShared(
+                    GithubRequestCoalescer.createKey(url, accessToken, GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_JSON),
+                    () -> fetch(operationName, () -> githubClient.fetchGetMethodForBody(url, accessToken))
+            );
             JsonNode jsonNode = objectMapper.readTree(responseBody);
             return parser.parse(jsonNode);
         } catch (Exception e) {
@@ -70,6 +130,34 @@ public class GithubApiExecutor {
         return executeGet(url, accessToken, parser, operationName, null);
     }
 
+    /**
+     * {@link #executeGet(String, String, JsonResponseParser, String, ExceptionHandler)}를 GitHub I/O 스레드 풀에서 실행합니다.
+     * <br />
+     * 예외는 CompletionException으로 감싸져 전달됩니다.
+     */
+    public <T> CompletableFuture<T> executeGetAsync(
+            String url,
+            String accessToken,
+            JsonResponseParser<T> parser,
+            String operationName,
+            ExceptionHandler<T> exceptionHandler
+    ) {
+        return concurrencyLimiter.submit(
+                accessToken,
+                () -> executeGet(url, accessToken, parser, operationName, exceptionHandler),
+                ioExecutor
+        );
+    }
+
+    public <T> CompletableFuture<T> executeGetAsync(
+            String url,
+            String accessToken,
+            JsonResponseParser<T> parser,
+            String operationName
+    ) {
+        return executeGetAsync(url, accessToken, parser, operationName, null);
+    }
+
     public String executeGetRaw(
             String url,
             String accessToken,
@@ -79,10 +167,14 @@ public class GithubApiExecutor {
         String responseBody = null;
 
         try {
-            responseBody = githubClient.fetchGetMethodForBody(
-                    url,
-                    accessToken,
-                    GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_RAW_JSON
+            // 파일 원문은 서버 간 공유(Redis)하지 않고 같은 서버 내에서만 합침
+            responseBody = requestCoalescer.execute(
+                    GithubRequestCoalescer.createKey(url, accessToken, GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_RAW_JSON),
+                    () -> fetch(operationName, () -> githubClient.fetchGetMethodForBody(
+                            url,
+                            accessToken,
+                            GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_RAW_JSON
+                    ))
             );
 
             return responseBody;
@@ -97,6 +189,19 @@ public class GithubApiExecutor {
         }
     }
 
+    public CompletableFuture<String> executeGetRawAsync(
+            String url,
+            String accessToken,
+            String operationName,
+            ExceptionHandler<String> exceptionHandler
+    ) {
+        return concurrencyLimiter.submit(
+                accessToken,
+                () -> executeGetRaw(url, accessToken, operationName, exceptionHandler),
+                ioExecutor
+        );
+    }
+
     public <T> T executeGetJson(
             String url,
             String accessToken,
@@ -108,11 +213,14 @@ public class GithubApiExecutor {
         ResponseEntity<String> response = null;
 
         try {
-            response = githubClient.fetchGet(
-                    url,
-                    accessToken,
-                    accept,
-                    String.class
+            response = requestCoalescer.execute(
+                    GithubRequestCoalescer.createKey(url, accessToken, accept),
+                    () -> fetch(operationName, () -> githubClient.fetchGet(
+                            url,
+                            accessToken,
+                            accept,
+                            String.class
+                    ))
             );
 
             return handler.apply(response);
@@ -127,6 +235,145 @@ public class GithubApiExecutor {
         }
     }
 
+    /**
+     * 응답 본문을 String/JsonNode로 만들지 않고 JsonParser로 바로 읽어 결과를 만듭니다.
+     * <br />
+     * 트리/커밋 목록처럼 큰 응답에서 필요한 필드만 읽고 나머지는 건너뛰기 위해 사용합니다. <br />
+     * 스트림은 공유할 수 없으므로 동일 요청 합치기(Single-flight)와 ETag 캐시를 사용하지 않습니다.
+     */
+    public <T> T executeGetStream(
+            String url,
+            String accessToken,
+            String accept,
+            StreamResponseParser<T> parser,
+            String operationName,
+            ExceptionHandler<T> exceptionHandler
+    ) {
+        return executeGetStream(url, accessToken, accept, parser, operationName, exceptionHandler, GithubRateLimitReservation.none());
+    }
+
+    private <T> T executeGetStream(
+            String url,
+            String accessToken,
+            String accept,
+            StreamResponseParser<T> parser,
+            String operationName,
+            ExceptionHandler<T> exceptionHandler,
+            GithubRateLimitReservation reservation
+    ) {
+        return executeGetBinary(
+                url,
+                accessToken,
+                accept,
+                (body, headers) -> {
+                    try (JsonParser jsonParser = objectMapper.createParser(body)) {
+                        return parser.parse(jsonParser, headers);
+                    } catch (JsonProcessingException e) {
+                        log.error("[{}] JSON streaming parse error at {}", operationName, e.getLocation(), e);
+                        throw new CustomException(RepositoryErrorCode.JSON_PROCESSING_ERROR);
+                    }
+                },
+                operationName,
+                exceptionHandler,
+                reservation
+        );
+    }
+
+    /**
+     * 응답 본문을 메모리에 모으지 않고 InputStream 그대로 파서에 전달합니다.
+     * <br />
+     * tarball처럼 JSON이 아닌 큰 바이너리 응답을 읽으면서 바로 처리하기 위해 사용합니다. <br />
+     * 스트림은 공유할 수 없으므로 동일 요청 합치기(Single-flight)와 ETag 캐시를 사용하지 않습니다.
+     */
+    public <T> T executeGetBinary(
+            String url,
+            String accessToken,
+            String accept,
+            BinaryResponseParser<T> parser,
+            String operationName,
+            ExceptionHandler<T> exceptionHandler
+    ) {
+        return executeGetBinary(url, accessToken, accept, parser, operationName, exceptionHandler, GithubRateLimitReservation.none());
+    }
+
+    private <T> T executeGetBinary(
+            String url,
+            String accessToken,
+            String accept,
+            BinaryResponseParser<T> parser,
+            String operationName,
+            ExceptionHandler<T> exceptionHandler,
+            GithubRateLimitReservation reservation
+    ) {
+        try {
+            return fetch(operationName, () -> githubClient.fetchGetStream(
+                    url,
+                    accessToken,
+                    accept,
+                    (headers, body) -> parser.parse(apiMetrics.countingStream(operationName, body), headers),
+                    reservation
+            ));
+        } catch (Exception e) {
+            String responseBody = extractResponseBody(e, null);
+
+            if (isCommonHttpError(e)) {
+                handleCommonHttpException(e, responseBody, operationName);
+            }
+
+            return executeWithExceptionHandler(e, responseBody, operationName, exceptionHandler);
+        }
+    }
+
+    public <T> T executeGetStream(
+            String url,
+            String accessToken,
+            StreamResponseParser<T> parser,
+            String operationName
+    ) {
+        return executeGetStream(url, accessToken, GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_JSON, parser, operationName, null);
+    }
+
+    public <T> CompletableFuture<T> executeGetStreamAsync(
+            String url,
+            String accessToken,
+            String accept,
+            StreamResponseParser<T> parser,
+            String operationName,
+            ExceptionHandler<T> exceptionHandler
+    ) {
+        return executeGetStreamAsync(url, accessToken, accept, parser, operationName, exceptionHandler, GithubRateLimitReservation.none());
+    }
+
+    /**
+     * 미리 확보한 Rate Limit 예산으로 보내는 요청
+     * <br />
+     * 예약은 동시 실행 수 제한 대기열을 통과해 요청을 보내기 직전에 사용되므로, 대기 중인 요청의 예산은 다른 요청이 쓸 수 없습니다.
+     */
+    public <T> CompletableFuture<T> executeGetStreamAsync(
+            String url,
+            String accessToken,
+            String accept,
+            StreamResponseParser<T> parser,
+            String operationName,
+            ExceptionHandler<T> exceptionHandler,
+            GithubRateLimitReservation reservation
+    ) {
+        return concurrencyLimiter.submit(
+                accessToken,
+                () -> executeGetStream(url, accessToken, accept, parser, operationName, exceptionHandler, reservation),
+                ioExecutor
+        );
+    }
+
+    public <T> CompletableFuture<T> executeGetStreamAsync(
+            String url,
+            String accessToken,
+            StreamResponseParser<T> parser,
+            String operationName
+    ) {
+        return executeGetStreamAsync(url, accessToken, GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_JSON, parser, operationName, null);
+    }
+
     public <T> T executePost(
             String url,
             String accessToken,
@@ -135,7 +382,7 @@ public class GithubApiExecutor {
             String operationName
     ) {
         try {
-            String responseBody = githubClient.postWithBearer(url, accessToken, requestBody, String.class);
+            String responseBody = guard(operationName, "POST", () -> githubClient.postWithBearer(url, accessToken, requestBody, String.class));
             JsonNode jsonNode = objectMapper.readTree(responseBody);
             return parser.parse(jsonNode);
         } catch (Exception e) {
@@ -149,6 +396,52 @@ public class GithubApiExecutor {
         }
     }
 
+    /**
+     * GitHub GraphQL API에 쿼리를 보내고 data 노드를 파싱합니다.
+     * <br />
+     * 일부 필드만 실패한 경우(errors + data)는 경고 로그만 남기고 data를 그대로 전달합니다. <br />
+     * data가 없으면 GITHUB_ERROR로 처리합니다.
+     */
+    public <T> T executeGraphQL(
+            String accessToken,
+            String query,
+            Map<String, Object> variables,
+            JsonResponseParser<T> parser,
+            String operationName
+    ) {
+        String responseBody = null;
+
+        try {
+            Map<String, Object> requestBody = Map.of(
+                    "query", query,
+                    "variables", variables
+            );
+
+            responseBody = guard(operationName, "POST", () -> githubClient.postWithBearer(GithubClient.GRAPHQL_URL, accessToken, requestBody, String.class));
+            JsonNode root = objectMapper.readTree(responseBody);
+
+            JsonNode errors = root.get("errors");
+            if (errors != null && !errors.isEmpty()) {
+                log.warn("[{}] Github GraphQL partial errors = {}", operationName, errors);
+            }
+
+            JsonNode data = root.get("data");
+            if (data == null || data.isNull()) {
+                throw new CustomException(GlobalErrorCode.GITHUB_ERROR);
+            }
+
+            return parser.parse(data);
+        } catch (Exception e) {
+            String errorResponseBody = extractResponseBody(e, responseBody);
+
+            if (isCommonHttpError(e)) {
+                handleCommonHttpException(e, errorResponseBody, operationName);
+            }
+
+            return executeWithExceptionHandler(e, errorResponseBody, operationName, null);
+        }
+    }
+
     public <T> T executePostNoAuth(
             String url,
             Map<String, String> requestBody,
@@ -156,7 +449,7 @@ public class GithubApiExecutor {
             String operationName
     ) {
         try {
-            return githubClient.postNoAuth(url, requestBody, responseType);
+            return guard(operationName, "POST", () -> githubClient.postNoAuth(url, requestBody, responseType));
         } catch (Exception e) {
             String errorResponseBody = extractResponseBody(e, null);
 
@@ -176,7 +469,10 @@ public class GithubApiExecutor {
             ExceptionHandler<Void> exceptionHandler
     ) {
         try {
-            githubClient.putWithBearer(url, accessToken, requestBody);
+            guard(operationName, "PUT", () -> {
+                githubClient.putWithBearer(url, accessToken, requestBody);
+                return null;
+            });
         } catch (Exception e) {
             String responseBody = extractResponseBody(e, null);
 
@@ -203,7 +499,10 @@ public class GithubApiExecutor {
             String operationName
     ) {
         try {
-            githubClient.deleteWithBearer(url, accessToken);
+            guard(operationName, "DELETE", () -> {
+                githubClient.deleteWithBearer(url, accessToken);
+                return null;
+            });
         } catch (Exception e) {
             String responseBody = extractResponseBody(e, null);
 
@@ -215,6 +514,27 @@ public class GithubApiExecutor {
         }
     }
 
+    /**
+     * GET 요청: Circuit Breaker/Bulkhead 안에서 재시도/헤징을 적용하여 실행합니다.
+     * <br />
+     * 재시도를 모두 실패해야 Circuit Breaker에 한 번의 실패로 기록됩니다.
+     */
+    private <T> T fetch(String operationName, Supplier<T> call) {
+        return dependencyGuard.execute(
+                ExternalDependency.GITHUB,
+                GithubOperations.normalize(operationName),
+                () -> resilienceExecutor.execute(operationName, () -> apiMetrics.record(operationName, "GET", call))
+        );
+    }
+
+    private <T> T guard(String operationName, String method, Supplier<T> call) {
+        return dependencyGuard.execute(
+                ExternalDependency.GITHUB,
+                GithubOperations.normalize(operationName),
+                () -> apiMetrics.record(operationName, method, call)
+        );
+    }
+
     /**
      * 예외 또는 응답에서 응답 본문 추출
      */
@@ -282,8 +602,14 @@ public class GithubApiExecutor {
 
         if (status == HttpStatus.FORBIDDEN) {
             if (responseBody != null && responseBody.contains("rate limit")) {
-                log.error("[{}] Rate limit exceeded for Github API. Response = {}", operationName, responseBody, e);
-                throw new GithubRateLimitException(60);
+                HttpHeaders headers = httpEx.getResponseHeaders();
+                String resetTime = headers != null ? headers.getFirst("X-RateLimit-Reset") : null;
+                String retryAfter = headers != null ? headers.getFirst("Retry-After") : null;
+
+                long waitSeconds = calculateWaitSeconds(resetTime, retryAfter);
+
+                log.error("[{}] Rate limit exceeded for Github API. Must wait {} seconds. Response = {}", operationName, waitSeconds, responseBody, e);
+                throw new GithubRateLimitException((int) waitSeconds);
             }
 
             log.error("[{}] Forbidden access to Github API. Response = {}", operationName, responseBody, e);
@@ -320,6 +646,11 @@ public class GithubApiExecutor {
     }
 
     private void handleException(Exception e, String responseBody, String operationName) {
+        // Circuit Breaker 차단 / Bulkhead 초과는 503으로 그대로 전달
+        if (e instanceof CustomException customException && customException.getErrorCode() == GlobalErrorCode.GITHUB_UNAVAILABLE) {
+            throw customException;
+        }
+
         if (e instanceof JsonParseException || (e instanceof CustomException && ((CustomException) e).getErrorCode() == RepositoryErrorCode.JSON_PROCESSING_ERROR)) {
             log.error("[{}] JSON parsing error. Response = {}", operationName, responseBody, e);
             throw new CustomException(RepositoryErrorCode.JSON_PROCESSING_ERROR);
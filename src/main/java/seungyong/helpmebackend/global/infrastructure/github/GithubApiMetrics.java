@@ -0,0 +1,162 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import seungyong.helpmebackend.global.exception.CustomException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * GitHub API 호출 메트릭
+ * <br />
+ * - github.api.requests (Timer): 정규화된 operation / HTTP 메서드 / 상태 분류(2xx, 4xx, 5xx, io, error) 별 지연 시간 히스토그램 <br />
+ * - github.api.response.size (DistributionSummary): operation 별 응답 본문 크기 <br />
+ * - github.rate-limit.remaining (Gauge): 리소스 별 토큰 중 가장 적은 Rate Limit 잔여량 <br />
+ * 재시도/헤징 횟수는 GithubResilienceExecutor의 github.api.retries / github.api.hedges를 사용합니다.
+ */
+@Component
+public class GithubApiMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public GithubApiMetrics(MeterRegistry meterRegistry, GithubRateLimitTracker rateLimitTracker) {
+        this.meterRegistry = meterRegistry;
+
+        for (String resource : new String[]{GithubRateLimitTracker.CORE_RESOURCE, GithubRateLimitTracker.GRAPHQL_RESOURCE}) {
+            Gauge.builder("github.rate-limit.remaining", rateLimitTracker, tracker -> tracker.getLowestRemaining(resource))
+                    .description("Lowest remaining Github rate limit among tracked tokens")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 단일 HTTP 요청(재시도 시 시도마다)의 지연 시간과 상태 분류를 기록합니다.
+     *
+     * @param operationName 요청 이름 (정규화하여 태그로 사용)
+     * @param method        HTTP 메서드
+     * @param call          실제 요청
+     * @return              요청 결과
+     */
+    public <T> T record(String operationName, String method, Supplier<T> call) {
+        String operation = GithubOperations.normalize(operationName);
+        long start = System.nanoTime();
+        String status = "2xx";
+
+        try {
+            T result = call.get();
+
+            if (result instanceof ResponseEntity<?> response) {
+                status = response.getStatusCode().value() / 100 + "xx";
+                recordBody(operation, response.getBody());
+            } else if (result instanceof String body) {
+                recordBody(operation, body);
+            }
+
+            return result;
+        } catch (RuntimeException e) {
+            status = statusOf(e);
+            throw e;
+        } finally {
+            Timer.builder("github.api.requests")
+                    .description("Github API request latency")
+                    .tag("operation", operation)
+                    .tag("method", method)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 스트리밍 응답의 읽은 바이트 수를 기록하도록 InputStream을 감쌉니다.
+     */
+    public InputStream countingStream(String operationName, InputStream body) {
+        return new CountingInputStream(body, responseSize(GithubOperations.normalize(operationName)));
+    }
+
+    private void recordBody(String operation, Object body) {
+        if (body instanceof String text) {
+            // UTF-8 인코딩 없이 근사값 기록 (대부분 ASCII인 JSON 응답 기준)
+            responseSize(operation).record(text.length());
+        } else if (body instanceof byte[] bytes) {
+            responseSize(operation).record(bytes.length);
+        }
+    }
+
+    private DistributionSummary responseSize(String operation) {
+        return DistributionSummary.builder("github.api.response.size")
+                .description("Github API response body size")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private String statusOf(RuntimeException e) {
+        if (e instanceof RestClientResponseException responseException) {
+            return responseException.getStatusCode().value() / 100 + "xx";
+        }
+
+        if (e instanceof ResourceAccessException) {
+            return "io";
+        }
+
+        if (e instanceof CustomException) {
+            return "rejected";
+        }
+
+        return "error";
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final DistributionSummary summary;
+        private long count;
+        private boolean recorded;
+
+        private CountingInputStream(InputStream in, DistributionSummary summary) {
+            super(in);
+            this.summary = summary;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) { count++; }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) { count += n; }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!recorded) {
+                recorded = true;
+                summary.record(count);
+            }
+
+            super.close();
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package seungyong.helpmebackend.global.infrastructure.github;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
 import seungyong.helpmebackend.global.domain.entity.PageInfo;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
@@ -17,9 +21,22 @@ import java.util.Optional;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class GithubClient {
-    private final RestTemplate restTemplate = new RestTemplate();
+    // GithubHttpClientConfig의 커넥션 풀 기반 RestTemplate
+    private final RestTemplate restTemplate;
+    private final GithubResponseCache responseCache;
+    private final GithubRateLimitTracker rateLimitTracker;
     private static final String API_VERSION = "2022-11-28";
+    static final String GRAPHQL_URL = "https://api.github.com/graphql";
+
+    /**
+     * 응답 본문을 문자열로 읽지 않고 스트림으로 처리하는 핸들러
+     */
+    @FunctionalInterface
+    public interface StreamHandler<T> {
+        T handle(HttpHeaders headers, InputStream body) throws IOException;
+    }
 
     public static class Accept {
         public static final String APPLICATION_GITHUB_VND_GITHUB_JSON =
@@ -134,6 +151,8 @@ public class GithubClient {
      * - Accept 헤더에 GitHub API 버전을 지정합니다. <br>
      * - Accept 헤더에 전달된 accept 값을 설정합니다. <br>
      * - X-GitHub-Api-Version 헤더에 API 버전을 설정합니다. <br>
+     * - 문자열 응답은 ETag를 캐시하고, 다음 요청부터 If-None-Match로 재검증합니다. <br>
+     * - 304 Not Modified 응답이면 캐시된 본문을 200 응답으로 반환합니다. <br>
      *
      * @param url           요청을 보낼 GitHub API의 URL
      * @param token         인증에 사용할 Bearer 토큰
@@ -152,13 +171,128 @@ public class GithubClient {
         headers.set(HttpHeaders.ACCEPT, accept);
         headers.set("X-GitHub-Api-Version", API_VERSION);
 
+        boolean cacheable = responseType == String.class;
+        Optional<GithubResponseCache.CachedResponse> cached = cacheable
+                ? responseCache.get(url, token, accept)
+                : Optional.empty();
+        cached.ifPresent(c -> headers.setIfNoneMatch(c.etag()));
+
         HttpEntity<Void> request = new HttpEntity<>(headers);
-        return restTemplate.exchange(
+        ResponseEntity<T> response = exchange(
                 url,
+                token,
                 HttpMethod.GET,
                 request,
                 responseType
         );
+
+        if (!cacheable || response == null) {
+            return response;
+        }
+
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached.isPresent()) {
+            return castResponse(responseCache.revalidated(cached.get(), response.getHeaders()));
+        }
+
+        responseCache.put(url, token, accept, castResponse(response));
+        return response;
+    }
+
+    /**
+     * GitHub API에 GET 요청을 보내고 응답 본문을 스트림 그대로 핸들러에 전달합니다.
+     * - 응답 본문 전체를 문자열로 읽지 않으므로 큰 응답도 메모리를 일정하게 사용합니다. <br>
+     * - 스트림은 한 번만 읽을 수 있으므로 ETag 캐시를 사용하지 않습니다. <br>
+     * - 4xx/5xx 응답은 fetchGet과 동일하게 RestClientResponseException으로 전달됩니다. <br>
+     *
+     * @param url       요청을 보낼 GitHub API의 URL
+     * @param token     인증에 사용할 Bearer 토큰
+     * @param accept    Accept 헤더 값
+     * @param handler   응답 헤더와 본문 스트림을 처리할 핸들러
+     * @return          핸들러의 처리 결과
+     * @param <T>       처리 결과 타입
+     */
+    public <T> T fetchGetStream(
+            String url,
+            String token,
+            String accept,
+            StreamHandler<T> handler
+    ) {
+        return fetchGetStream(url, token, accept, handler, GithubRateLimitReservation.none());
+    }
+
+    /**
+     * {@link #fetchGetStream(String, String, String, StreamHandler)}와 같으며, 요청을 보내기 직전에 미리 확보한 예약을 사용합니다.
+     *
+     * @param reservation   요청에 사용할 Rate Limit 예약
+     */
+    public <T> T fetchGetStream(
+            String url,
+            String token,
+            String accept,
+            StreamHandler<T> handler,
+            GithubRateLimitReservation reservation
+    ) {
+        rateLimitTracker.acquire(token, GithubRateLimitTracker.CORE_RESOURCE, reservation);
+
+        try {
+            return restTemplate.execute(
+                    url,
+                    HttpMethod.GET,
+                    request -> {
+                        HttpHeaders headers = request.getHeaders();
+                        headers.setBearerAuth(token);
+                        headers.set(HttpHeaders.ACCEPT, accept);
+                        headers.set("X-GitHub-Api-Version", API_VERSION);
+                    },
+                    response -> {
+                        rateLimitTracker.record(token, response.getHeaders());
+                        return handler.handle(response.getHeaders(), response.getBody());
+                    }
+            );
+        } catch (RestClientResponseException e) {
+            rateLimitTracker.record(token, e.getResponseHeaders());
+            throw e;
+        }
+    }
+
+    /**
+     * Rate Limit 잔여량을 확인한 뒤 요청을 보내고, 응답(오류 응답 포함)의 Rate Limit 헤더를 기록합니다.
+     */
+    private <T> ResponseEntity<T> exchange(
+            String url,
+            String token,
+            HttpMethod method,
+            HttpEntity<?> request,
+            Class<T> responseType
+    ) {
+        if (token == null) {
+            return restTemplate.exchange(url, method, request, responseType);
+        }
+
+        rateLimitTracker.acquire(token, resourceOf(url), GithubRateLimitReservation.none());
+
+        try {
+            ResponseEntity<T> response = restTemplate.exchange(url, method, request, responseType);
+
+            if (response != null) {
+                rateLimitTracker.record(token, response.getHeaders());
+            }
+
+            return response;
+        } catch (RestClientResponseException e) {
+            rateLimitTracker.record(token, e.getResponseHeaders());
+            throw e;
+        }
+    }
+
+    // GraphQL API는 REST API(core)와 Rate Limit을 따로 계산
+    private String resourceOf(String url) {
+        return GRAPHQL_URL.equals(url) ? GithubRateLimitTracker.GRAPHQL_RESOURCE : GithubRateLimitTracker.CORE_RESOURCE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> ResponseEntity<R> castResponse(ResponseEntity<T> response) {
+        return (ResponseEntity<R>) response;
     }
     
     /**
@@ -204,7 +338,7 @@ public class GithubClient {
     public <T> T postWithBearer(String url, String token, Object body, Class<T> responseType) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
-        return post(url, headers, body, responseType);
+        return post(url, token, headers, body, responseType);
     }
 
     /**
@@ -220,15 +354,16 @@ public class GithubClient {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        return post(url, headers, body, responseType);
+        return post(url, null, headers, body, responseType);
     }
 
-    private <T> T post(String url, HttpHeaders headers, Object body, Class<T> responseType) {
+    private <T> T post(String url, String token, HttpHeaders headers, Object body, Class<T> responseType) {
         HttpEntity<Object> request = new HttpEntity<>(body, headers);
 
         try {
-            ResponseEntity<T> response = restTemplate.exchange(
+            ResponseEntity<T> response = exchange(
                     url,
+                    token,
                     HttpMethod.POST,
                     request,
                     responseType
@@ -257,18 +392,19 @@ public class GithubClient {
     public <T> void putWithBearer(String url, String token, Object body) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
-        put(url, headers, body);
+        put(url, token, headers, body);
     }
 
-    private <T> void put(String url, HttpHeaders headers, Object body) {
+    private <T> void put(String url, String token, HttpHeaders headers, Object body) {
         headers.set(HttpHeaders.ACCEPT, Accept.APPLICATION_GITHUB_VND_GITHUB_JSON);
         headers.set("X-GitHub-Api-Version", API_VERSION);
 
         HttpEntity<Object> request = new HttpEntity<>(body, headers);
 
         try {
-            restTemplate.exchange(
+            exchange(
                     url,
+                    token,
                     HttpMethod.PUT,
                     request,
                     Void.class
@@ -293,17 +429,18 @@ public class GithubClient {
     public void deleteWithBearer(String url, String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
-        delete(url, headers);
+        delete(url, token, headers);
     }
 
-    private void delete(String url, HttpHeaders headers) {
+    private void delete(String url, String token, HttpHeaders headers) {
         HttpEntity<Void> request = new HttpEntity<>(headers);
         headers.set(HttpHeaders.ACCEPT, Accept.APPLICATION_GITHUB_VND_GITHUB_JSON);
         headers.set("X-GitHub-Api-Version", API_VERSION);
 
         try {
-            restTemplate.exchange(
+            exchange(
                     url,
+                    token,
                     HttpMethod.DELETE,
                     request,
                     Void.class
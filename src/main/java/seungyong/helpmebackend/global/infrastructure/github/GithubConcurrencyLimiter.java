@@ -0,0 +1,115 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 토큰 별 GitHub 비동기 요청 동시 실행 수 제한
+ * <br />
+ * - 같은 토큰(GithubTokenScope)으로 동시에 실행되는 요청을 max-per-token 개로 제한합니다. <br />
+ * - 제한을 넘는 요청은 스레드를 점유하지 않고 대기열에 쌓였다가, 앞선 요청이 끝나면 이어서 실행됩니다. <br />
+ * - 한 사용자의 대량 요청이 I/O 스레드 풀과 GitHub Secondary Rate Limit을 독점하지 않도록 하기 위함입니다.
+ */
+@Component
+public class GithubConcurrencyLimiter {
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final int maxPerToken;
+
+    public GithubConcurrencyLimiter(@Value("${github.concurrency.max-per-token:8}") int maxPerToken) {
+        this.maxPerToken = Math.max(1, maxPerToken);
+    }
+
+    /**
+     * 토큰 별 허용량 안에서 작업을 executor로 실행합니다.
+     *
+     * @param token     GitHub Access Token
+     * @param task      실행할 작업
+     * @param executor  작업을 실행할 스레드 풀
+     * @return          작업 결과
+     */
+    public <T> CompletableFuture<T> submit(String token, Supplier<T> task, Executor executor) {
+        String scope = GithubTokenScope.of(token);
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        Runnable start = () -> {
+            try {
+                CompletableFuture.supplyAsync(task, executor).whenComplete((value, ex) -> {
+                    release(scope);
+
+                    if (ex != null) {
+                        result.completeExceptionally(ex);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 스레드 풀이 작업을 거부한 경우
+                release(scope);
+                result.completeExceptionally(e);
+            }
+        };
+
+        boolean[] runNow = {false};
+
+        lanes.compute(scope, (key, lane) -> {
+            Lane current = lane != null ? lane : new Lane();
+
+            if (current.active < maxPerToken) {
+                current.active++;
+                runNow[0] = true;
+            } else {
+                current.waiting.add(start);
+            }
+
+            return current;
+        });
+
+        if (runNow[0]) {
+            start.run();
+        }
+
+        return result;
+    }
+
+    /**
+     * 현재 실행 중인 요청 수
+     */
+    int getActive(String token) {
+        Lane lane = lanes.get(GithubTokenScope.of(token));
+        return lane != null ? lane.active : 0;
+    }
+
+    private void release(String scope) {
+        Runnable[] next = {null};
+
+        lanes.computeIfPresent(scope, (key, lane) -> {
+            next[0] = lane.waiting.poll();
+
+            // 대기 중인 요청이 있으면 허용량을 그대로 넘겨줌
+            if (next[0] != null) { return lane; }
+
+            lane.active--;
+            return lane.active == 0 ? null : lane;
+        });
+
+        if (next[0] != null) {
+            next[0].run();
+        }
+    }
+
+    /**
+     * 토큰 별 실행 상태 (ConcurrentHashMap.compute 안에서만 변경)
+     */
+    private static final class Lane {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+    }
+}
@@ -0,0 +1,50 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * GitHub API 호출의 operationName을 정책/메트릭 키로 사용할 수 있도록 정규화
+ * <br />
+ * operationName에는 owner/name, 브랜치, 페이지 번호 등 요청마다 달라지는 값이 포함되므로
+ * 전치사(for, in, on ...)나 '/', '=' 가 포함된 토큰 이전까지만 사용합니다. <br />
+ * 예) "Get repository tree for owner/name on branch main" -> "get-repository-tree"
+ */
+public final class GithubOperations {
+    private static final Set<String> STOP_WORDS = Set.of("for", "in", "on", "to", "from", "with", "by", "of");
+    private static final int MAX_TOKENS = 4;
+    private static final String UNKNOWN = "unknown";
+
+    private GithubOperations() {
+    }
+
+    public static String normalize(String operationName) {
+        if (operationName == null || operationName.isBlank()) {
+            return UNKNOWN;
+        }
+
+        List<String> tokens = new ArrayList<>();
+
+        for (String token : operationName.trim().split("\\s+")) {
+            String lower = token.toLowerCase(Locale.ROOT);
+
+            if (STOP_WORDS.contains(lower) || lower.contains("/") || lower.contains("=")) {
+                break;
+            }
+
+            if (!lower.matches("[a-z]+")) {
+                continue;
+            }
+
+            tokens.add(lower);
+
+            if (tokens.size() == MAX_TOKENS) {
+                break;
+            }
+        }
+
+        return tokens.isEmpty() ? UNKNOWN : String.join("-", tokens);
+    }
+}
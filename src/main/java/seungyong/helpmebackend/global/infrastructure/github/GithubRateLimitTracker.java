@@ -0,0 +1,325 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
+import seungyong.helpmebackend.global.exception.GithubRateLimitException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 별 GitHub Rate Limit 잔여량 추적기
+ * <br />
+ * - 모든 응답의 X-RateLimit-Remaining / X-RateLimit-Reset / X-RateLimit-Resource 헤더를 기록합니다. <br />
+ * - 요청 전 {@link #acquire(String)}로 잔여량이 적으면 속도를 늦추고, 소진되면 리셋 시각까지 대기합니다. <br />
+ * - 여러 요청을 한 번에 보내기 전 {@link #reserve(String, int)}로 필요한 호출 수를 미리 확보합니다. <br />
+ * - 예약된 호출 수는 다른 요청이 사용할 수 없으므로, 속도 조절/대기 판단은 잔여량에서 예약을 뺀 값으로 합니다. <br />
+ * - 리셋까지 대기 시간이 너무 길면 작업 도중이 아닌 시작 시점에 GithubRateLimitException을 던집니다.
+ */
+@Slf4j
+@Component
+public class GithubRateLimitTracker {
+    public static final String CORE_RESOURCE = "core";
+    public static final String GRAPHQL_RESOURCE = "graphql";
+
+    private static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final String HEADER_RESOURCE = "X-RateLimit-Resource";
+
+    private final int lowWatermark;
+    private final Duration maxPacingDelay;
+    private final Duration maxWait;
+    private final Clock clock;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 특정 토큰/리소스의 Rate Limit 상태
+     *
+     * @param resource      Rate Limit 리소스 (core, graphql, search 등)
+     * @param limit         시간당 최대 요청 수
+     * @param remaining     서버가 알려준 잔여 요청 수
+     * @param reserved      아직 사용하지 않은 예약 요청 수
+     * @param resetAt       잔여 요청 수가 초기화되는 시각
+     */
+    public record Budget(String resource, int limit, int remaining, int reserved, Instant resetAt) {
+        public int available() {
+            return Math.max(0, remaining - reserved);
+        }
+    }
+
+    private static final class Bucket {
+        private int limit;
+        private int remaining;
+        private int reserved;
+        private Instant resetAt;
+    }
+
+    @Autowired
+    public GithubRateLimitTracker(
+            @Value("${github.rate-limit.low-watermark:100}") int lowWatermark,
+            @Value("${github.rate-limit.max-pacing-delay:2s}") Duration maxPacingDelay,
+            @Value("${github.rate-limit.max-wait:30s}") Duration maxWait
+    ) {
+        this(lowWatermark, maxPacingDelay, maxWait, Clock.systemUTC());
+    }
+
+    GithubRateLimitTracker(int lowWatermark, Duration maxPacingDelay, Duration maxWait, Clock clock) {
+        this.lowWatermark = lowWatermark;
+        this.maxPacingDelay = maxPacingDelay;
+        this.maxWait = maxWait;
+        this.clock = clock;
+    }
+
+    /**
+     * 응답 헤더의 Rate Limit 정보를 기록합니다.
+     *
+     * @param token     요청에 사용한 Access Token
+     * @param headers   GitHub API 응답 헤더
+     */
+    public void record(String token, HttpHeaders headers) {
+        if (headers == null) { return; }
+
+        Integer remaining = parseInt(headers.getFirst(HEADER_REMAINING));
+        Long reset = parseLong(headers.getFirst(HEADER_RESET));
+
+        if (remaining == null || reset == null) { return; }
+
+        Integer limit = parseInt(headers.getFirst(HEADER_LIMIT));
+        String resource = Optional.ofNullable(headers.getFirst(HEADER_RESOURCE)).orElse(CORE_RESOURCE);
+
+        Bucket bucket = buckets.computeIfAbsent(createKey(token, resource), k -> new Bucket());
+
+        synchronized (bucket) {
+            bucket.limit = limit != null ? limit : bucket.limit;
+            bucket.remaining = remaining;
+            bucket.resetAt = Instant.ofEpochSecond(reset);
+        }
+    }
+
+    /**
+     * 토큰의 core 리소스 Rate Limit 상태를 조회합니다.
+     *
+     * @param token     Access Token
+     * @return          기록된 상태, 응답을 받은 적이 없거나 리셋 시각이 지났으면 빈 Optional
+     */
+    public Optional<Budget> getBudget(String token) {
+        Bucket bucket = buckets.get(createKey(token, CORE_RESOURCE));
+        if (bucket == null) { return Optional.empty(); }
+
+        synchronized (bucket) {
+            if (isExpired(bucket)) { return Optional.empty(); }
+
+            return Optional.of(new Budget(CORE_RESOURCE, bucket.limit, bucket.remaining, bucket.reserved, bucket.resetAt));
+        }
+    }
+
+    /**
+     * 리소스 별로 기록된 토큰 중 가장 적은 잔여 요청 수를 조회합니다. (메트릭용)
+     *
+     * @param resource  Rate Limit 리소스
+     * @return          가장 적은 잔여 요청 수, 기록이 없으면 NaN
+     */
+    public double getLowestRemaining(String resource) {
+        String suffix = ":" + resource;
+        double lowest = Double.NaN;
+
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            if (!entry.getKey().endsWith(suffix)) { continue; }
+
+            Bucket bucket = entry.getValue();
+
+            synchronized (bucket) {
+                if (isExpired(bucket)) { continue; }
+
+                if (Double.isNaN(lowest) || bucket.remaining < lowest) {
+                    lowest = bucket.remaining;
+                }
+            }
+        }
+
+        return lowest;
+    }
+
+    /**
+     * 여러 요청을 보내기 전에 필요한 호출 수를 예약합니다.
+     * <br />
+     * - 잔여량이 충분하면 즉시 예약합니다. <br />
+     * - 부족하면 리셋 시각까지 대기한 뒤 예약하며, 대기 시간이 max-wait를 넘으면 예외를 던집니다. <br />
+     * - 예약은 반환된 handle로 요청마다 사용하고, 작업이 끝나면 남은 예약을 반납해야 합니다.
+     *
+     * @param token     Access Token
+     * @param calls     예약할 호출 수
+     * @return          예약 handle
+     * @throws GithubRateLimitException 리셋까지 대기 시간이 너무 긴 경우
+     */
+    public GithubRateLimitReservation reserve(String token, int calls) {
+        if (calls <= 0) { return GithubRateLimitReservation.none(); }
+
+        Bucket bucket = buckets.get(createKey(token, CORE_RESOURCE));
+        if (bucket == null) { return GithubRateLimitReservation.none(); }
+
+        Duration wait;
+
+        synchronized (bucket) {
+            if (isExpired(bucket) || bucket.remaining - bucket.reserved >= calls) {
+                bucket.reserved += calls;
+                return new Reservation(bucket, calls);
+            }
+
+            wait = untilReset(bucket);
+        }
+
+        waitForReset(wait, "reserve " + calls + " calls");
+
+        synchronized (bucket) {
+            bucket.reserved += calls;
+        }
+
+        return new Reservation(bucket, calls);
+    }
+
+    /**
+     * 예약 없이 core 리소스를 사용하는 단일 요청을 보내기 전에 호출합니다.
+     *
+     * @see #acquire(String, String, GithubRateLimitReservation)
+     */
+    public void acquire(String token) {
+        acquire(token, CORE_RESOURCE, GithubRateLimitReservation.none());
+    }
+
+    /**
+     * 단일 요청을 보내기 전에 호출합니다.
+     * <br />
+     * - 예약되지 않은 잔여량이 low-watermark 이하이면 리셋까지 남은 시간을 잔여량으로 나눈 만큼 간격을 둡니다. <br />
+     * - 예약되지 않은 잔여량이 없으면 리셋 시각까지 대기하며, 대기 시간이 max-wait를 넘으면 예외를 던집니다. <br />
+     * - 예약한 요청은 여기서 예약을 사용하므로, 자신의 예약 때문에 대기하지 않습니다.
+     *
+     * @param token         Access Token
+     * @param resource      요청이 사용하는 Rate Limit 리소스 (core, graphql 등)
+     * @param reservation   요청에 사용할 예약 (예약 없이 보내는 요청은 {@link GithubRateLimitReservation#none()})
+     * @throws GithubRateLimitException 리셋까지 대기 시간이 너무 긴 경우
+     */
+    public void acquire(String token, String resource, GithubRateLimitReservation reservation) {
+        // 동시 실행 수 제한 대기열을 통과해 실제로 보내기 직전에 예약을 사용
+        reservation.use();
+
+        Bucket bucket = buckets.get(createKey(token, resource));
+        if (bucket == null) { return; }
+
+        int remaining;
+        Duration untilReset;
+
+        synchronized (bucket) {
+            if (isExpired(bucket) || bucket.remaining - bucket.reserved > lowWatermark) { return; }
+
+            remaining = bucket.remaining - bucket.reserved;
+            untilReset = untilReset(bucket);
+        }
+
+        if (remaining <= 0) {
+            waitForReset(untilReset, "acquire");
+            return;
+        }
+
+        Duration pacing = untilReset.dividedBy(remaining);
+        if (pacing.compareTo(maxPacingDelay) > 0) {
+            pacing = maxPacingDelay;
+        }
+
+        log.debug("Github rate limit is low. remaining = {}, pacing = {}ms", remaining, pacing.toMillis());
+        sleep(pacing);
+    }
+
+    /**
+     * 버킷에 잡아 둔 예약
+     * <br />
+     * 예약한 수 이상으로 반납되지 않도록 남은 수를 따로 관리합니다.
+     */
+    private static final class Reservation implements GithubRateLimitReservation {
+        private final Bucket bucket;
+        private int left;
+
+        private Reservation(Bucket bucket, int calls) {
+            this.bucket = bucket;
+            this.left = calls;
+        }
+
+        @Override
+        public void use() {
+            release(1);
+        }
+
+        @Override
+        public void close() {
+            release(Integer.MAX_VALUE);
+        }
+
+        private void release(int calls) {
+            synchronized (bucket) {
+                int released = Math.min(left, calls);
+
+                left -= released;
+                bucket.reserved = Math.max(0, bucket.reserved - released);
+            }
+        }
+    }
+
+    private void waitForReset(Duration wait, String action) {
+        if (wait.compareTo(maxWait) > 0) {
+            log.warn("Github rate limit exhausted. Cannot {} until reset in {} seconds", action, wait.toSeconds());
+            throw new GithubRateLimitException((int) Math.max(1, wait.toSeconds()));
+        }
+
+        log.info("Github rate limit exhausted. Waiting {} seconds to {}", wait.toSeconds(), action);
+        sleep(wait);
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) { return; }
+
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GithubRateLimitException((int) Math.max(1, duration.toSeconds()));
+        }
+    }
+
+    private boolean isExpired(Bucket bucket) {
+        return bucket.resetAt == null || !clock.instant().isBefore(bucket.resetAt);
+    }
+
+    private Duration untilReset(Bucket bucket) {
+        return Duration.between(clock.instant(), bucket.resetAt);
+    }
+
+    private String createKey(String token, String resource) {
+        return GithubTokenScope.of(token) + ":" + resource;
+    }
+
+    private Integer parseInt(String value) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long parseLong(String value) {
+        try {
+            return value != null ? Long.parseLong(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 GitHub GET 요청의 중복 실행 방지 (Single-flight)
+ * <br />
+ * - 같은 키(URL + Accept + 토큰 범위)로 동시에 들어온 요청은 하나의 네트워크 호출 결과를 공유합니다. <br />
+ * - 응답이 도착하면 키를 제거하므로, 결과를 보관하는 캐시가 아닌 진행 중인 요청만 합칩니다. <br />
+ * - github.coalescing.distributed.enabled=true 이면 Redis Lease로 여러 서버 간 중복 호출도 억제합니다.
+ */
+@Slf4j
+@Component
+public class GithubRequestCoalescer {
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisPortOut redisPortOut;
+    private final boolean distributedEnabled;
+    private final Duration leaseTtl;
+    private final Duration resultTtl;
+    private final Duration waitTimeout;
+
+    public GithubRequestCoalescer(
+            RedisPortOut redisPortOut,
+            @Value("${github.coalescing.distributed.enabled:false}") boolean distributedEnabled,
+            @Value("${github.coalescing.distributed.lease-ttl:15s}") Duration leaseTtl,
+            @Value("${github.coalescing.distributed.result-ttl:10s}") Duration resultTtl,
+            @Value("${github.coalescing.distributed.wait-timeout:5s}") Duration waitTimeout
+    ) {
+        this.redisPortOut = redisPortOut;
+        this.distributedEnabled = distributedEnabled;
+        this.leaseTtl = leaseTtl;
+        this.resultTtl = resultTtl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public static String createKey(String url, String token, String accept) {
+        return GithubTokenScope.of(token) + "|" + accept + "|" + url;
+    }
+
+    /**
+     * 같은 서버 내에서 진행 중인 동일 요청이 있으면 그 결과를 기다리고, 없으면 직접 실행합니다.
+     * <br />
+     * 실행 중 발생한 예외도 기다리던 요청에 그대로 전달됩니다.
+     *
+     * @param key       요청 키
+     * @param loader    실제 요청
+     * @return          요청 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return (T) await(existing);
+        }
+
+        try {
+            T result = loader.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * {@link #execute(String, Supplier)}에 더해 여러 서버 간에도 동일 요청을 합칩니다.
+     * <br />
+     * - Lease를 획득한 서버만 GitHub를 호출하고, 결과를 짧은 TTL로 Redis에 공유합니다. <br />
+     * - 다른 서버는 결과가 올라올 때까지 wait-timeout 동안 기다리고, 시간이 지나면 직접 호출합니다. <br />
+     * - Redis 오류 시에는 직접 호출로 대체합니다.
+     *
+     * @param key       요청 키
+     * @param loader    실제 요청 (응답 본문)
+     * @return          응답 본문
+     */
+    public String executeShared(String key, Supplier<String> loader) {
+        if (!distributedEnabled) {
+            return execute(key, loader);
+        }
+
+        return execute(key, () -> loadAcrossNodes(key, loader));
+    }
+
+    private String loadAcrossNodes(String key, Supplier<String> loader) {
+        String hash = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+        String leaseKey = RedisKey.GITHUB_INFLIGHT_LEASE_KEY.getValue() + hash;
+        String resultKey = RedisKey.GITHUB_INFLIGHT_RESULT_KEY.getValue() + hash;
+
+        boolean leader;
+
+        try {
+            String shared = redisPortOut.get(resultKey);
+            if (shared != null) { return shared; }
+
+            leader = redisPortOut.setIfAbsent(leaseKey, nodeId, Instant.now().plus(leaseTtl));
+        } catch (RuntimeException e) {
+            log.warn("Distributed request coalescing unavailable. Fallback to direct call. key = {}", hash, e);
+            return loader.get();
+        }
+
+        if (leader) {
+            String body = null;
+
+            // 요청이 실패해도 Lease를 지워, 기다리던 다른 서버가 wait-timeout 전에 직접 호출하도록 함
+            try {
+                body = loader.get();
+                return body;
+            } finally {
+                publish(leaseKey, resultKey, body);
+            }
+        }
+
+        String shared = awaitShared(leaseKey, resultKey);
+        return shared != null ? shared : loader.get();
+    }
+
+    private void publish(String leaseKey, String resultKey, String body) {
+        try {
+            if (body != null) {
+                redisPortOut.set(resultKey, body, Instant.now().plus(resultTtl));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to share Github response. key = {}", resultKey, e);
+        } finally {
+            try {
+                // TTL이 지나 다른 서버가 다시 획득한 Lease는 지우지 않음
+                redisPortOut.deleteIfEquals(leaseKey, nodeId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to release Github request lease. key = {}", leaseKey, e);
+            }
+        }
+    }
+
+    private String awaitShared(String leaseKey, String resultKey) {
+        Instant deadline = Instant.now().plus(waitTimeout);
+
+        try {
+            while (Instant.now().isBefore(deadline)) {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+
+                String shared = redisPortOut.get(resultKey);
+                if (shared != null) { return shared; }
+
+                // Lease가 사라졌는데 결과가 없으면 다른 서버의 요청이 실패한 것
+                if (!redisPortOut.exists(leaseKey)) { return null; }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Failed to wait for shared Github response. key = {}", resultKey, e);
+        }
+
+        return null;
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import seungyong.helpmebackend.global.config.GithubResilienceProperties;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 멱등한 GitHub GET 요청의 재시도/헤징 실행기
+ * <br />
+ * - 5xx 응답, 타임아웃 등 I/O 오류는 지수 백오프 + Full Jitter로 최대 maxAttempts 번까지 재시도합니다. <br />
+ * - 헤징이 켜진 operation은 최근 p95 지연 시간이 지나도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 도착한 응답을 사용합니다. <br />
+ * - 재시도 횟수(github.api.retries)와 헤징 승자(github.api.hedges)를 메트릭으로 기록합니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(GithubResilienceProperties.class)
+public class GithubResilienceExecutor {
+    private static final int LATENCY_WINDOW = 128;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    private final GithubResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor ioExecutor;
+
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    public GithubResilienceExecutor(
+            GithubResilienceProperties properties,
+            MeterRegistry meterRegistry,
+            @Qualifier("githubIoExecutor") Executor ioExecutor
+    ) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.ioExecutor = ioExecutor;
+    }
+
+    /**
+     * 정책에 따라 재시도/헤징을 적용하여 요청을 실행합니다.
+     *
+     * @param operationName 요청 이름 (정규화하여 정책/메트릭 키로 사용)
+     * @param call          실제 요청
+     * @return              요청 결과
+     */
+    public <T> T execute(String operationName, Supplier<T> call) {
+        String operation = GithubOperations.normalize(operationName);
+        GithubResilienceProperties.Policy policy = properties.resolve(operation);
+        int maxAttempts = Math.max(1, policy.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Boolean.TRUE.equals(policy.getHedgeEnabled())
+                        ? executeHedged(operation, policy, call)
+                        : executeTimed(operation, call);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+
+                Duration backoff = backoff(policy, attempt);
+                meterRegistry.counter("github.api.retries", "operation", operation, "reason", retryReason(e)).increment();
+                log.warn("[{}] Github request failed (attempt {}/{}). Retry after {}ms. cause = {}",
+                        operationName, attempt, maxAttempts, backoff.toMillis(), e.getMessage());
+
+                sleep(backoff);
+            }
+        }
+    }
+
+    private <T> T executeTimed(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        T result = call.get();
+        latencies.computeIfAbsent(operation, k -> new LatencyWindow()).record(System.nanoTime() - start);
+        return result;
+    }
+
+    private <T> T executeHedged(String operation, GithubResilienceProperties.Policy policy, Supplier<T> call) {
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(() -> executeTimed(operation, call), ioExecutor);
+        Duration hedgeDelay = hedgeDelay(operation, policy);
+
+        try {
+            return primary.get(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("[{}] No response within {}ms. Sending hedged request.", operation, hedgeDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for Github response");
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(() -> executeTimed(operation, call), ioExecutor);
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        primary.whenComplete((result, ex) -> complete(winner, failures, operation, "primary", result, ex));
+        hedge.whenComplete((result, ex) -> complete(winner, failures, operation, "hedge", result, ex));
+
+        try {
+            return winner.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private <T> void complete(
+            CompletableFuture<T> winner,
+            AtomicInteger failures,
+            String operation,
+            String source,
+            T result,
+            Throwable ex
+    ) {
+        if (ex == null) {
+            if (winner.complete(result)) {
+                meterRegistry.counter("github.api.hedges", "operation", operation, "winner", source).increment();
+            }
+            return;
+        }
+
+        // 두 요청 모두 실패한 경우에만 실패로 처리
+        if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(ex);
+        }
+    }
+
+    private Duration hedgeDelay(String operation, GithubResilienceProperties.Policy policy) {
+        LatencyWindow window = latencies.get(operation);
+        if (window == null) { return policy.getHedgeDelay(); }
+
+        long p95Nanos = window.percentile(0.95);
+        if (p95Nanos < 0) { return policy.getHedgeDelay(); }
+
+        Duration p95 = Duration.ofNanos(p95Nanos);
+        if (p95.compareTo(policy.getMinHedgeDelay()) < 0) { return policy.getMinHedgeDelay(); }
+        if (p95.compareTo(policy.getMaxHedgeDelay()) > 0) { return policy.getMaxHedgeDelay(); }
+        return p95;
+    }
+
+    private boolean isRetryable(RuntimeException e) {
+        return e instanceof HttpServerErrorException || e instanceof ResourceAccessException;
+    }
+
+    private String retryReason(RuntimeException e) {
+        if (e instanceof HttpServerErrorException serverError) {
+            return String.valueOf(serverError.getStatusCode().value());
+        }
+
+        return "io";
+    }
+
+    private Duration backoff(GithubResilienceProperties.Policy policy, int attempt) {
+        long base = policy.getBaseBackoff().toMillis();
+        long cap = policy.getMaxBackoff().toMillis();
+        long exponential = Math.min(cap, base << Math.min(attempt - 1, 20));
+
+        // Full Jitter: 0 ~ exponential 사이의 임의 값
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(exponential + 1));
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for Github retry");
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return new CompletionException(cause);
+    }
+
+    /**
+     * 최근 N개 요청의 지연 시간 (p95 계산용)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[LATENCY_WINDOW];
+        private int count;
+        private int next;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % LATENCY_WINDOW;
+            count = Math.min(count + 1, LATENCY_WINDOW);
+        }
+
+        synchronized long percentile(double percentile) {
+            if (count < MIN_LATENCY_SAMPLES) { return -1; }
+
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(percentile * count) - 1];
+        }
+    }
+}
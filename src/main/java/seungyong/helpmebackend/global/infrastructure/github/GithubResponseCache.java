@@ -0,0 +1,132 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * GitHub GET 응답의 ETag 기반 조건부 요청 캐시
+ * <br />
+ * - URL, Accept, 토큰 범위(토큰 해시)를 키로 ETag와 응답 본문을 보관합니다. <br />
+ * - 재요청 시 If-None-Match 헤더로 재검증하고, 304 응답이면 보관된 본문을 그대로 사용합니다. <br />
+ * - GitHub는 304 응답을 Rate Limit 사용량에 포함하지 않습니다. <br />
+ * - 본문 크기(가중치) 기준으로 메모리 사용량을 제한하며, 오래 사용되지 않은 항목부터 제거됩니다.
+ */
+@Slf4j
+@Component
+public class GithubResponseCache {
+    // 304 응답에는 본문 관련 헤더가 포함되지 않으므로, 재사용에 필요한 헤더만 보관
+    private static final List<String> PRESERVED_HEADERS = List.of(
+            HttpHeaders.LINK,
+            HttpHeaders.CONTENT_TYPE
+    );
+
+    private final boolean enabled;
+    private final int maxBodyLength;
+    private final Cache<String, CachedResponse> cache;
+
+    public record CachedResponse(String etag, String body, HttpHeaders headers) {
+        public ResponseEntity<String> toResponseEntity() {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .headers(headers)
+                    .body(body);
+        }
+    }
+
+    public GithubResponseCache(
+            @Value("${github.etag-cache.enabled:true}") boolean enabled,
+            @Value("${github.etag-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${github.etag-cache.max-body-length:1048576}") int maxBodyLength,
+            @Value("${github.etag-cache.expire-after-access:6h}") Duration expireAfterAccess
+    ) {
+        this.enabled = enabled;
+        this.maxBodyLength = maxBodyLength;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                // String은 char 당 최대 2바이트이므로 본문 길이의 2배를 가중치로 사용
+                .weigher((String key, CachedResponse value) -> (key.length() + value.body().length()) * 2)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다.
+     *
+     * @param url       요청 URL
+     * @param token     요청에 사용한 Access Token
+     * @param accept    요청 Accept 헤더
+     * @return          캐시된 응답, 없으면 빈 Optional
+     */
+    public Optional<CachedResponse> get(String url, String token, String accept) {
+        if (!enabled) { return Optional.empty(); }
+
+        return Optional.ofNullable(cache.getIfPresent(createKey(url, token, accept)));
+    }
+
+    /**
+     * ETag가 포함된 200 응답을 캐시에 저장합니다.
+     * <br />
+     * ETag가 없거나 본문이 너무 큰 경우는 저장하지 않습니다.
+     *
+     * @param url       요청 URL
+     * @param token     요청에 사용한 Access Token
+     * @param accept    요청 Accept 헤더
+     * @param response  GitHub API 응답
+     */
+    public void put(String url, String token, String accept, ResponseEntity<String> response) {
+        if (!enabled || response == null || response.getStatusCode() != HttpStatus.OK) { return; }
+
+        String etag = response.getHeaders().getETag();
+        String body = response.getBody();
+
+        if (etag == null || body == null || body.length() > maxBodyLength) {
+            return;
+        }
+
+        HttpHeaders preserved = new HttpHeaders();
+        for (String header : PRESERVED_HEADERS) {
+            List<String> values = response.getHeaders().get(header);
+            if (values != null) {
+                preserved.put(header, values);
+            }
+        }
+
+        cache.put(createKey(url, token, accept), new CachedResponse(etag, body, HttpHeaders.readOnlyHttpHeaders(preserved)));
+    }
+
+    /**
+     * 304 응답에 포함된 헤더(Link 등)가 있으면 이를 반영한 응답을 반환합니다.
+     */
+    public ResponseEntity<String> revalidated(CachedResponse cached, HttpHeaders notModifiedHeaders) {
+        log.debug("Serving cached GitHub response by 304 Not Modified. ETag = {}", cached.etag());
+
+        if (notModifiedHeaders == null || notModifiedHeaders.getFirst(HttpHeaders.LINK) == null) {
+            return cached.toResponseEntity();
+        }
+
+        HttpHeaders merged = new HttpHeaders();
+        merged.putAll(cached.headers());
+        merged.put(HttpHeaders.LINK, notModifiedHeaders.get(HttpHeaders.LINK));
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .headers(merged)
+                .body(cached.body());
+    }
+
+    public void evict(String url, String token, String accept) {
+        cache.invalidate(createKey(url, token, accept));
+    }
+
+    private String createKey(String url, String token, String accept) {
+        return GithubTokenScope.of(token) + "|" + accept + "|" + url;
+    }
+}
@@ -0,0 +1,32 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * GitHub Access Token을 캐시/버킷 키로 사용하기 위한 식별자 변환
+ * <br />
+ * 토큰 원문을 메모리 키나 로그에 남기지 않도록 SHA-256 해시의 앞 16바이트만 사용합니다.
+ */
+public final class GithubTokenScope {
+    private static final String ANONYMOUS = "anonymous";
+
+    private GithubTokenScope() {
+    }
+
+    public static String of(String token) {
+        if (token == null || token.isBlank()) {
+            return ANONYMOUS;
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package seungyong.helpmebackend.global.infrastructure.job;
+
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobType;
+
+/**
+ * 작업 큐의 작업 종류 별 실행기
+ * <br />
+ * handle에서 예외를 던지면 max-attempts까지 재시도하고, 이후에는 Dead Letter Stream으로 옮긴 뒤 onFailure를 호출합니다.
+ * 재시도해도 결과가 같은 오류(사용자 없음 등)는 handle 안에서 처리하고 예외를 던지지 않아야 합니다.
+ */
+public interface JobHandler {
+    JobType type();
+
+    void handle(Job job);
+
+    /**
+     * 재시도 없이 끝난 작업의 실패를 처리합니다. (SSE 오류 전송 등)
+     */
+    default void onFailure(Job job, RuntimeException e) {}
+}
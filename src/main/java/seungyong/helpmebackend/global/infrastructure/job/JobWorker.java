@@ -0,0 +1,341 @@
+package seungyong.helpmebackend.global.infrastructure.job;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.JobQueuePortOut;
+import seungyong.helpmebackend.global.config.JobQueueProperties;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobPriority;
+import seungyong.helpmebackend.global.infrastructure.resilience.TrafficContext;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작업 큐 Worker
+ * <br />
+ * - 실행 중인 작업 수가 job.queue.workers보다 적을 때만 큐에서 작업을 하나씩 가져와 Worker 스레드에서 실행합니다. <br />
+ * - 낮은 우선순위(LOW) 작업은 NORMAL 작업이 대기 중이지 않을 때만 가져오고, 동시에 low-priority-workers 수 이내로 실행합니다. <br />
+ * - reclaim-interval마다 visibility-timeout이 지난 작업(종료된 서버가 가져간 작업 등)을 먼저 가져옵니다. (LOW 작업은 low-priority-workers 수 이내) <br />
+ * - 실패한 작업은 max-attempts까지 큐에 다시 등록하고, 넘으면 Dead Letter Stream으로 옮깁니다. <br />
+ * - 작업은 @Async 작업과 같이 BACKGROUND 트래픽으로 실행됩니다.
+ * <br />
+ * 메트릭
+ * - job.queue.depth (Gauge): 우선순위 별 대기 중 + 실행 중 작업 수 (reclaim-interval마다 갱신) <br />
+ * - job.queue.wait (Timer): 큐에 등록된 뒤 실행되기까지 기다린 시간 <br />
+ * - job.execution (Timer): 작업 종류, 결과(success, retry, dead-letter) 별 실행 시간
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(JobQueueProperties.class)
+public class JobWorker implements SmartLifecycle {
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final JobQueuePortOut jobQueuePortOut;
+    private final JobQueueProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobHandler> handlers = new HashMap<>();
+    private final String consumer = consumerName();
+    private final Semaphore permits;
+    private final Semaphore lowPriorityPermits;
+    private final Map<JobPriority, AtomicLong> depths = new EnumMap<>(JobPriority.class);
+    private final ThreadPoolTaskExecutor executor;
+
+    private volatile boolean running;
+    private Thread poller;
+    private Instant nextReclaimAt = Instant.EPOCH;
+
+    public JobWorker(
+            JobQueuePortOut jobQueuePortOut,
+            JobQueueProperties properties,
+            MeterRegistry meterRegistry,
+            List<JobHandler> handlers
+    ) {
+        this.jobQueuePortOut = jobQueuePortOut;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(Math.max(1, properties.getWorkers()));
+        this.lowPriorityPermits = new Semaphore(Math.max(0, Math.min(properties.getLowPriorityWorkers(), properties.getWorkers())));
+        handlers.forEach(handler -> this.handlers.put(handler.type().getValue(), handler));
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, properties.getWorkers()));
+        executor.setMaxPoolSize(Math.max(1, properties.getWorkers()));
+        // 실행 가능한 수만큼만 가져오므로 대기열이 필요 없음
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("job-worker-");
+        executor.setTaskDecorator(TrafficContext.background());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        for (JobPriority priority : JobPriority.values()) {
+            AtomicLong depth = new AtomicLong();
+            depths.put(priority, depth);
+
+            Gauge.builder("job.queue.depth", depth, AtomicLong::get)
+                    .description("Jobs waiting or running in the job queue")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) { return; }
+
+        running = true;
+        poller = new Thread(this::poll, "job-poller");
+        poller.setDaemon(true);
+        poller.start();
+        log.info("Job worker started. consumer = {}, workers = {}", consumer, properties.getWorkers());
+    }
+
+    /**
+     * 새 작업을 가져오지 않고, 실행 중인 작업이 끝날 때까지 기다립니다.
+     * <br />
+     * 기다리는 시간 안에 끝나지 않은 작업은 visibility-timeout 이후 다른 서버에서 다시 실행됩니다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+
+        if (poller != null) {
+            poller.interrupt();
+        }
+
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                pollOnce();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to poll job queue. consumer = {}", consumer, e);
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    /**
+     * 실행할 수 있는 Worker가 생길 때까지 기다린 뒤, 작업을 하나 가져와 실행합니다.
+     */
+    void pollOnce() throws InterruptedException {
+        permits.acquire();
+        ClaimedJob claimed;
+
+        try {
+            claimed = nextJob();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        if (claimed == null) {
+            permits.release();
+            return;
+        }
+
+        Job job = claimed.job();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    release(claimed);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 종료 중이면 실행하지 않고 visibility-timeout 이후 다시 실행되도록 둠
+            release(claimed);
+            log.warn("Job rejected. id = {}, type = {}", job.id(), job.type(), e);
+        }
+    }
+
+    private ClaimedJob nextJob() {
+        Instant now = Instant.now();
+
+        if (!now.isBefore(nextReclaimAt)) {
+            depths.forEach((priority, depth) -> depth.set(jobQueuePortOut.depth(priority)));
+
+            Job expired = first(jobQueuePortOut.reclaimExpired(consumer, JobPriority.NORMAL, properties.getVisibilityTimeout(), 1));
+            if (expired != null) { return new ClaimedJob(expired, false); }
+
+            // 다시 가져온 낮은 우선순위 작업도 low-priority-workers 수 이내로 실행
+            if (lowPriorityPermits.tryAcquire()) {
+                Job expiredLow;
+
+                try {
+                    expiredLow = first(jobQueuePortOut.reclaimExpired(consumer, JobPriority.LOW, properties.getVisibilityTimeout(), 1));
+                } catch (RuntimeException e) {
+                    lowPriorityPermits.release();
+                    throw e;
+                }
+
+                if (expiredLow != null) { return new ClaimedJob(expiredLow, true); }
+
+                lowPriorityPermits.release();
+            }
+
+            nextReclaimAt = now.plus(properties.getReclaimInterval());
+        }
+
+        // 낮은 우선순위 작업을 실행할 수 있으면, 대기 중인 NORMAL 작업이 없을 때만 가져옴
+        if (lowPriorityPermits.tryAcquire()) {
+            Job normal = first(jobQueuePortOut.claim(consumer, JobPriority.NORMAL, 1, Duration.ZERO));
+
+            if (normal != null) {
+                lowPriorityPermits.release();
+                return new ClaimedJob(normal, false);
+            }
+
+            Job low = first(jobQueuePortOut.claim(consumer, JobPriority.LOW, 1, Duration.ZERO));
+            if (low != null) { return new ClaimedJob(low, true); }
+
+            lowPriorityPermits.release();
+        }
+
+        Job job = first(jobQueuePortOut.claim(consumer, JobPriority.NORMAL, 1, properties.getPollTimeout()));
+        return job != null ? new ClaimedJob(job, false) : null;
+    }
+
+    private Job first(List<Job> jobs) {
+        return jobs.isEmpty() ? null : jobs.get(0);
+    }
+
+    private void release(ClaimedJob claimed) {
+        if (claimed.lowPriority()) {
+            lowPriorityPermits.release();
+        }
+
+        permits.release();
+    }
+
+    void process(Job job) {
+        String type = job.type() != null ? job.type() : "unknown";
+
+        Timer.builder("job.queue.wait")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(Duration.between(job.enqueuedAt(), Instant.now()));
+
+        JobHandler handler = handlers.get(job.type());
+
+        if (handler == null) {
+            log.error("No handler for job. id = {}, type = {}", job.id(), job.type());
+            deadLetter(job, "Unknown job type");
+            return;
+        }
+
+        // visibility-timeout 안에 끝나지 않는 작업이 계속 다시 실행되는 것을 막음
+        if (job.attempt() > properties.getMaxAttempts()) {
+            log.error("Job exceeded max attempts. id = {}, type = {}, attempt = {}", job.id(), type, job.attempt());
+            deadLetter(job, "Visibility timeout exceeded");
+            handler.onFailure(job, new IllegalStateException("Job did not complete within visibility timeout"));
+            return;
+        }
+
+        long start = System.nanoTime();
+        String result = "success";
+
+        try {
+            handler.handle(job);
+            acknowledge(job);
+        } catch (RuntimeException e) {
+            result = fail(handler, job, e);
+        } finally {
+            Timer.builder("job.execution")
+                    .tag("type", type)
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String fail(JobHandler handler, Job job, RuntimeException e) {
+        if (job.attempt() < properties.getMaxAttempts()) {
+            log.warn("Job failed. Retry. id = {}, type = {}, attempt = {}", job.id(), job.type(), job.attempt(), e);
+
+            try {
+                jobQueuePortOut.retry(job);
+            } catch (RuntimeException retryException) {
+                log.error("Failed to retry job. It will be reclaimed later. id = {}", job.id(), retryException);
+            }
+
+            return "retry";
+        }
+
+        log.error("Job failed. Move to dead letter. id = {}, type = {}, attempt = {}", job.id(), job.type(), job.attempt(), e);
+        deadLetter(job, e.toString());
+        handler.onFailure(job, e);
+        return "dead-letter";
+    }
+
+    private void acknowledge(Job job) {
+        try {
+            jobQueuePortOut.acknowledge(job);
+        } catch (RuntimeException e) {
+            log.error("Failed to acknowledge job. It may run again. id = {}", job.id(), e);
+        }
+    }
+
+    private void deadLetter(Job job, String reason) {
+        try {
+            jobQueuePortOut.deadLetter(job, reason);
+        } catch (RuntimeException e) {
+            log.error("Failed to move job to dead letter. id = {}", job.id(), e);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String consumerName() {
+        String host;
+
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * @param lowPriority 낮은 우선순위 실행 수를 차지했는지 여부
+     */
+    private record ClaimedJob(Job job, boolean lowPriority) {}
+}
@@ -0,0 +1,75 @@
+package seungyong.helpmebackend.global.infrastructure.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.exception.CustomException;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성(GitHub, OpenAI) 호출 보호기
+ * <br />
+ * - Circuit Breaker: 의존성 + operation 별로 생성하며, 장애가 이어지면 호출하지 않고 즉시 실패합니다. (예: github.get-repository-tree) <br />
+ * - Bulkhead: GitHub는 사용자 요청(interactive)과 @Async 작업(background)의 동시 호출 수를 분리하고, OpenAI는 별도로 제한합니다. <br />
+ * - 차단/초과 시 의존성 별 *_UNAVAILABLE(503) CustomException을 던집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DependencyGuard {
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    /**
+     * Bulkhead -> Circuit Breaker 순서로 감싸서 호출합니다.
+     *
+     * @param dependency    외부 의존성
+     * @param operation     정규화된 operation 이름
+     * @param call          실제 호출
+     * @return              호출 결과
+     * @throws CustomException 차단되었거나 동시 호출 수를 초과한 경우
+     */
+    public <T> T execute(ExternalDependency dependency, String operation, Supplier<T> call) {
+        Bulkhead bulkhead = bulkhead(dependency);
+        CircuitBreaker circuitBreaker = circuitBreaker(dependency, operation);
+
+        try {
+            return Bulkhead.decorateSupplier(
+                    bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, call)
+            ).get();
+        } catch (CallNotPermittedException e) {
+            log.warn("Circuit breaker {} is {}. Failing fast.", circuitBreaker.getName(), circuitBreaker.getState());
+            throw new CustomException(dependency.getUnavailableErrorCode());
+        } catch (BulkheadFullException e) {
+            log.warn("Bulkhead {} is full. Rejecting call for {}", bulkhead.getName(), operation);
+            throw new CustomException(dependency.getUnavailableErrorCode());
+        }
+    }
+
+    private CircuitBreaker circuitBreaker(ExternalDependency dependency, String operation) {
+        String name = dependency.getKey() + "." + operation;
+
+        return circuitBreakerRegistry.getConfiguration(dependency.getKey())
+                .map(config -> circuitBreakerRegistry.circuitBreaker(name, config))
+                .orElseGet(() -> circuitBreakerRegistry.circuitBreaker(name));
+    }
+
+    private Bulkhead bulkhead(ExternalDependency dependency) {
+        String name = dependency == ExternalDependency.GITHUB
+                ? dependency.getKey() + "-" + TrafficContext.current().name().toLowerCase(Locale.ROOT)
+                : dependency.getKey();
+
+        return bulkheadRegistry.getConfiguration(name)
+                .map(config -> bulkheadRegistry.bulkhead(name, config))
+                .orElseGet(() -> bulkheadRegistry.bulkhead(name));
+    }
+}
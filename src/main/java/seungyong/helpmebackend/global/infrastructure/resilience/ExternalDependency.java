@@ -0,0 +1,20 @@
+package seungyong.helpmebackend.global.infrastructure.resilience;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import seungyong.helpmebackend.global.exception.ErrorCode;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+/**
+ * Circuit Breaker / Bulkhead로 보호하는 외부 의존성
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExternalDependency {
+    GITHUB("github", GlobalErrorCode.GITHUB_UNAVAILABLE),
+    OPENAI("openai", GlobalErrorCode.GPT_UNAVAILABLE)
+    ;
+
+    private final String key;
+    private final ErrorCode unavailableErrorCode;
+}
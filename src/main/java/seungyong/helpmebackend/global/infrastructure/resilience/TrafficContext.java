@@ -0,0 +1,59 @@
+package seungyong.helpmebackend.global.infrastructure.resilience;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 현재 스레드에서 실행 중인 외부 호출의 트래픽 종류
+ * <br />
+ * - 기본값은 INTERACTIVE(사용자 요청을 처리하는 웹 스레드)입니다. <br />
+ * - @Async 작업 스레드는 {@link #background()} 데코레이터로 BACKGROUND가 됩니다. <br />
+ * - GitHub I/O 스레드 풀은 {@link #propagating()} 데코레이터로 작업을 제출한 스레드의 값을 이어받습니다.
+ */
+public final class TrafficContext {
+    public enum TrafficClass {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final ThreadLocal<TrafficClass> CURRENT = new ThreadLocal<>();
+
+    private TrafficContext() {
+    }
+
+    public static TrafficClass current() {
+        TrafficClass trafficClass = CURRENT.get();
+        return trafficClass != null ? trafficClass : TrafficClass.INTERACTIVE;
+    }
+
+    /**
+     * 작업을 BACKGROUND 트래픽으로 실행하는 TaskDecorator
+     */
+    public static TaskDecorator background() {
+        return runnable -> () -> runWith(TrafficClass.BACKGROUND, runnable);
+    }
+
+    /**
+     * 작업을 제출한 스레드의 트래픽 종류를 그대로 이어받는 TaskDecorator
+     */
+    public static TaskDecorator propagating() {
+        return runnable -> {
+            TrafficClass submitter = current();
+            return () -> runWith(submitter, runnable);
+        };
+    }
+
+    private static void runWith(TrafficClass trafficClass, Runnable runnable) {
+        TrafficClass previous = CURRENT.get();
+        CURRENT.set(trafficClass);
+
+        try {
+            runnable.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seungyong.helpmebackend.repository.adapter.in.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobType;
+import seungyong.helpmebackend.global.infrastructure.job.JobHandler;
+import seungyong.helpmebackend.repository.application.dto.ContextPrewarmJob;
+import seungyong.helpmebackend.repository.application.port.in.RepositoryPortIn;
+
+/**
+ * 저장소 컨텍스트 미리 생성 작업 실행기
+ */
+@Component
+@RequiredArgsConstructor
+public class ContextPrewarmJobHandler implements JobHandler {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RepositoryPortIn repositoryPortIn;
+
+    @Override
+    public JobType type() {
+        return JobType.CONTEXT_PREWARM;
+    }
+
+    @Override
+    public void handle(Job job) {
+        ContextPrewarmJob payload = read(job);
+
+        repositoryPortIn.prewarmContext(
+                payload.userId(),
+                payload.owner(),
+                payload.name(),
+                payload.branch()
+        );
+    }
+
+    private ContextPrewarmJob read(Job job) {
+        try {
+            return objectMapper.readValue(job.payload(), ContextPrewarmJob.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid job payload. id = " + job.id(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seungyong.helpmebackend.repository.adapter.in.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobType;
+import seungyong.helpmebackend.global.infrastructure.job.JobHandler;
+import seungyong.helpmebackend.repository.application.dto.DraftEvaluationJob;
+import seungyong.helpmebackend.repository.application.port.in.RepositoryPortIn;
+
+/**
+ * README 초안 평가 작업 실행기
+ */
+@Component
+@RequiredArgsConstructor
+public class DraftEvaluationJobHandler implements JobHandler {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RepositoryPortIn repositoryPortIn;
+
+    @Override
+    public JobType type() {
+        return JobType.DRAFT_EVALUATION;
+    }
+
+    @Override
+    public void handle(Job job) {
+        DraftEvaluationJob payload = read(job);
+
+        repositoryPortIn.processDraftEvaluation(
+                payload.request(),
+                job.taskId(),
+                payload.userId(),
+                payload.owner(),
+                payload.name()
+        );
+    }
+
+    @Override
+    public void onFailure(Job job, RuntimeException e) {
+        repositoryPortIn.failDraftEvaluation(job.taskId(), e);
+    }
+
+    private DraftEvaluationJob read(Job job) {
+        try {
+            return objectMapper.readValue(job.payload(), DraftEvaluationJob.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid job payload. id = " + job.id(), e);
+        }
+    }
+}
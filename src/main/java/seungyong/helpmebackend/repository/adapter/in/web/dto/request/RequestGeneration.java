@@ -7,6 +7,9 @@ import jakarta.validation.constraints.NotBlank;
 public record RequestGeneration(
         @Schema(description = "브랜치 이름 (기준 브랜치)", example = "main")
         @NotBlank(message = "브랜치 이름은 필수입니다.")
-        String branch
+        String branch,
+
+        @Schema(description = "이전 생성 결과를 사용하지 않고 다시 생성할지 여부", example = "false")
+        boolean forceRegenerate
 ) {
 }
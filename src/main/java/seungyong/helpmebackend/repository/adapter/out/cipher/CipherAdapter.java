@@ -2,6 +2,8 @@ package seungyong.helpmebackend.repository.adapter.out.cipher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import seungyong.helpmebackend.global.exception.CustomException;
@@ -10,8 +12,11 @@ import seungyong.helpmebackend.repository.application.port.out.CipherPortOut;
 import seungyong.helpmebackend.repository.domain.entity.EncryptedToken;
 
 import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Base64;
@@ -24,6 +29,11 @@ public class CipherAdapter implements CipherPortOut {
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 128;
 
+    // 스트림 형식: [MAGIC(1)][VERSION(1)][IV(12)][AES-GCM(LZ4 Frame(평문))]
+    // 이전 형식(Base64 문자열)은 ASCII 문자로 시작하므로 MAGIC으로 구분
+    private static final int STREAM_MAGIC = 0xE5;
+    private static final int STREAM_VERSION = 1;
+
     @Value("${encryption.secret-key}")
     private String secretKey;
 
@@ -89,6 +99,66 @@ public class CipherAdapter implements CipherPortOut {
         }
     }
 
+    @Override
+    public OutputStream encryptStream(OutputStream sink) {
+        try {
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            new SecureRandom().nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, getKeySpec(), new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+
+            sink.write(STREAM_MAGIC);
+            sink.write(STREAM_VERSION);
+            sink.write(iv);
+
+            // 압축 후 암호화 (암호문은 압축되지 않으므로 순서 중요)
+            return new LZ4FrameOutputStream(new CipherOutputStream(sink, cipher), LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB);
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Stream encryption error = {}", e.getMessage());
+            throw new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public InputStream decryptStream(InputStream source) {
+        try {
+            PushbackInputStream in = new PushbackInputStream(source, 1);
+            int first = in.read();
+
+            if (first != STREAM_MAGIC) {
+                if (first != -1) { in.unread(first); }
+                return decryptLegacy(in);
+            }
+
+            int version = in.read();
+            byte[] iv = in.readNBytes(GCM_IV_LENGTH);
+
+            if (version != STREAM_VERSION || iv.length != GCM_IV_LENGTH) {
+                log.error("Unknown encrypted stream. version = {}", version);
+                throw new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+            }
+
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, getKeySpec(), new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+
+            return new LZ4FrameInputStream(new CipherInputStream(in, cipher));
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Stream decryption error = {}", e.getMessage());
+            throw new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 스트림 형식 이전에 저장된 Base64 암호문 (압축 없음)
+    private InputStream decryptLegacy(InputStream in) throws IOException {
+        String plainText = decrypt(new String(in.readAllBytes(), StandardCharsets.US_ASCII));
+        return new ByteArrayInputStream(plainText != null ? plainText.getBytes(StandardCharsets.UTF_8) : new byte[0]);
+    }
+
     private SecretKeySpec getKeySpec() {
         byte[] decodedKeyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
 
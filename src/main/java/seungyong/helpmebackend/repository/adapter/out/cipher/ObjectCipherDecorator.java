@@ -10,6 +10,14 @@ import seungyong.helpmebackend.global.exception.GlobalErrorCode;
 import seungyong.helpmebackend.repository.application.port.out.CipherPortOut;
 import seungyong.helpmebackend.repository.application.port.out.ObjectCipherPortOut;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 객체/문자열 암호화
+ * <br />
+ * JSON 변환 -> 압축 -> 암호화를 하나의 스트림으로 처리하여, 중간 문자열/Base64 복사 없이 바이트로 저장합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -18,12 +26,18 @@ public class ObjectCipherDecorator implements ObjectCipherPortOut {
     private final ObjectMapper objectMapper;
 
     @Override
-    public <T> String encrypt(T data) {
+    public <T> byte[] encrypt(T data) {
         if (data == null) { return null; }
 
         try {
-            String json = objectMapper.writeValueAsString(data);
-            return cipherPortOut.encrypt(json);
+            ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+            // 스트림을 닫아야 압축/암호화가 완료됨
+            try (OutputStream out = cipherPortOut.encryptStream(sink)) {
+                objectMapper.writeValue(out, data);
+            }
+
+            return sink.toByteArray();
         } catch (Exception e) {
             log.error("Object encryption error = {}", e.getMessage());
             throw new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
@@ -31,15 +45,44 @@ public class ObjectCipherDecorator implements ObjectCipherPortOut {
     }
 
     @Override
-    public <T> T decrypt(String encryptedText, TypeReference<T> typeReference) {
-        if (encryptedText == null) { return null; }
+    public <T> T decrypt(byte[] encrypted, TypeReference<T> typeReference) {
+        if (encrypted == null) { return null; }
 
-        try {
-            String json = cipherPortOut.decrypt(encryptedText);
-            return objectMapper.readValue(json, typeReference);
+        try (InputStream in = cipherPortOut.decryptStream(new ByteArrayInputStream(encrypted))) {
+            return objectMapper.readValue(in, typeReference);
         } catch (Exception e) {
             log.error("Object decryption error = {}", e.getMessage());
             throw new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @Override
+    public byte[] encryptText(String text) {
+        if (text == null) { return null; }
+
+        try {
+            ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+            try (Writer writer = new OutputStreamWriter(cipherPortOut.encryptStream(sink), StandardCharsets.UTF_8)) {
+                writer.write(text);
+            }
+
+            return sink.toByteArray();
+        } catch (Exception e) {
+            log.error("Text encryption error = {}", e.getMessage());
+            throw new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public String decryptText(byte[] encrypted) {
+        if (encrypted == null) { return null; }
+
+        try (InputStream in = cipherPortOut.decryptStream(new ByteArrayInputStream(encrypted))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            log.error("Text decryption error = {}", e.getMessage());
+            throw new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
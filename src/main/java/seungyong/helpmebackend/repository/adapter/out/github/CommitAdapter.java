@@ -1,10 +1,10 @@
 package seungyong.helpmebackend.repository.adapter.out.github;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
@@ -17,7 +17,10 @@ import seungyong.helpmebackend.global.infrastructure.github.GithubClient;
 import seungyong.helpmebackend.global.domain.entity.PageInfo;
 import seungyong.helpmebackend.global.config.GithubPortConfig;
 import seungyong.helpmebackend.repository.application.port.out.CommitPortOut;
+import seungyong.helpmebackend.global.application.port.out.GithubRateLimitPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -27,15 +30,24 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class CommitAdapter extends GithubPortConfig implements CommitPortOut {
     private final GithubApiExecutor githubApiExecutor;
+    private final GithubRateLimitPortOut githubRateLimitPortOut;
 
     @Override
-    public CommitResult getCommits(RepoBranchCommand command, ContributorsResult.Contributor contributor) {
-        int page = 1;
-
-        ResponseEntity<String> latestResponse = fetchCommit(command, page, contributor.username());
-        String latestResponseBody = latestResponse.getBody();
+    public CompletableFuture<CommitResult> getCommitsAsync(
+            RepoBranchCommand command,
+            ContributorsResult.Contributor contributor,
+            GithubRateLimitReservation reservation
+    ) {
+        return fetchCommit(command, 1, contributor.username(), reservation)
+                .thenCompose(latestPage -> fetchOlderCommits(command, contributor, latestPage));
+    }
 
-        PageInfo link = GithubClient.extractLastAndMiddlePage(latestResponse.getHeaders());
+    private CompletableFuture<CommitResult> fetchOlderCommits(
+            RepoBranchCommand command,
+            ContributorsResult.Contributor contributor,
+            CommitPage latestPage
+    ) {
+        PageInfo link = GithubClient.extractLastAndMiddlePage(latestPage.headers());
 
         // 커밋이 한 페이지에 모두 있는 경우
         if (
@@ -43,15 +55,15 @@ public class CommitAdapter extends GithubPortConfig implements CommitPortOut {
                         Objects.equals(link.lastPage(), link.middlePage()) ||
                         link.lastPage() == 1
         ) {
-            return new CommitResult(
+            return CompletableFuture.completedFuture(new CommitResult(
                     contributor,
-                    parseJsonCommit(latestResponseBody),
+                    latestPage.commits(),
                     Collections.emptyList(),
                     Collections.emptyList()
-            );
+            ));
         }
 
-        List<CommitResult.Commit> latestCommits = parseJsonCommit(latestResponseBody);
+        List<CommitResult.Commit> latestCommits = latestPage.commits();
 
         // 중간 페이지가 1페이지거나, 마지막 페이지인 경우
         boolean isMiddleRedundant = (
@@ -60,46 +72,60 @@ public class CommitAdapter extends GithubPortConfig implements CommitPortOut {
                         link.middlePage() == null
         );
 
+        // 중간/처음/끝에서 두 번째 페이지 요청 수만큼 Rate Limit 예산 확보 (끝에서 두 번째 페이지를 요청하지 않으면 완료 시 반납)
+        GithubRateLimitReservation reservation = githubRateLimitPortOut.reserve(
+                command.repoInfo().accessToken(),
+                isMiddleRedundant ? 2 : 3
+        );
+
         CompletableFuture<List<CommitResult.Commit>> middleFuture = isMiddleRedundant
                 ? CompletableFuture.completedFuture(Collections.emptyList())
-                : CompletableFuture.supplyAsync(() -> {
-            ResponseEntity<String> middleResponse = fetchCommit(command, link.middlePage(), contributor.username());
-            return parseJsonCommit(middleResponse.getBody());
-        });
-
-        CompletableFuture<List<CommitResult.Commit>> initialFuture = CompletableFuture.supplyAsync(() -> {
-            ResponseEntity<String> initialResponse = fetchCommit(command, link.lastPage(), contributor.username());
-            List<CommitResult.Commit> initialCommits = parseJsonCommit(initialResponse.getBody());
-
-            int penultimatePage = link.lastPage() - 1;
-            boolean isDuplicatePage = (penultimatePage <= 1 || Objects.equals(penultimatePage, link.middlePage()));
-
-            // 40개보다 적은 경우 추가 요청하여 40개 맞추기
-            if (initialCommits.size() < 40 && !isDuplicatePage) {
-                ResponseEntity<String> penultimateResponse = fetchCommit(command, link.lastPage() - 1, contributor.username());
-                List<CommitResult.Commit> penultimateCommits = parseJsonCommit(penultimateResponse.getBody());
-                int needed = 40 - initialCommits.size();
-
-                for (int i = penultimateCommits.size() - 1; i >= 0 && needed > 0; i--, needed--) {
-                    initialCommits.add(0, penultimateCommits.get(i));
-                }
-            }
+                : fetchCommit(command, link.middlePage(), contributor.username(), reservation).thenApply(CommitPage::commits);
+
+        CompletableFuture<List<CommitResult.Commit>> initialFuture = fetchCommit(command, link.lastPage(), contributor.username(), reservation)
+                .thenCompose(lastPage -> {
+                    List<CommitResult.Commit> initialCommits = lastPage.commits();
 
-            return initialCommits;
-        });
+                    int penultimatePage = link.lastPage() - 1;
+                    boolean isDuplicatePage = (penultimatePage <= 1 || Objects.equals(penultimatePage, link.middlePage()));
 
-        List<CommitResult.Commit> middleCommits = middleFuture.join();
-        List<CommitResult.Commit> initialCommits = initialFuture.join();
+                    if (initialCommits.size() >= 40 || isDuplicatePage) {
+                        return CompletableFuture.completedFuture(initialCommits);
+                    }
+
+                    // 40개보다 적은 경우 추가 요청하여 40개 맞추기
+                    return fetchCommit(command, penultimatePage, contributor.username(), reservation)
+                            .thenApply(penultimate -> {
+                                List<CommitResult.Commit> penultimateCommits = penultimate.commits();
+                                int needed = 40 - initialCommits.size();
+
+                                for (int i = penultimateCommits.size() - 1; i >= 0 && needed > 0; i--, needed--) {
+                                    initialCommits.add(0, penultimateCommits.get(i));
+                                }
 
-        return new CommitResult(
+                                return initialCommits;
+                            });
+                });
+
+        return middleFuture.thenCombine(initialFuture, (middleCommits, initialCommits) -> new CommitResult(
                 contributor,
                 latestCommits,
                 initialCommits,
                 middleCommits
-        );
+        )).whenComplete((result, e) -> reservation.close());
     }
 
-    private ResponseEntity<String> fetchCommit(RepoBranchCommand command, int page, String contributor) {
+    /**
+     * 커밋 페이지를 요청합니다.
+     * <br />
+     * 미리 확보한 Rate Limit 예산은 동시 실행 수 제한 대기열을 통과해 요청을 보내기 직전에 1건 사용됩니다.
+     */
+    private CompletableFuture<CommitPage> fetchCommit(
+            RepoBranchCommand command,
+            int page,
+            String contributor,
+            GithubRateLimitReservation reservation
+    ) {
         String url;
 
         if (contributor == null || contributor.isEmpty()) {
@@ -121,11 +147,11 @@ public class CommitAdapter extends GithubPortConfig implements CommitPortOut {
             );
         }
 
-        return githubApiExecutor.executeGetJson(
+        return githubApiExecutor.executeGetStreamAsync(
                 url,
                 command.repoInfo().accessToken(),
                 GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_JSON,
-                response -> response,
+                (parser, headers) -> new CommitPage(readCommits(parser), headers),
                 "Fetch commits for " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " on branch " + command.branch() + " page " + page,
                 e -> {
                     if (e instanceof HttpClientErrorException.NotFound) {
@@ -133,35 +159,89 @@ public class CommitAdapter extends GithubPortConfig implements CommitPortOut {
                     }
 
                     return Optional.empty();
-                }
+                },
+                reservation
         );
     }
 
-    private List<CommitResult.Commit> parseJsonCommit(String body) {
-        if (body == null || body.isEmpty()) {
-            return Collections.emptyList();
+    /**
+     * 커밋 목록 응답을 스트리밍으로 읽어 sha, message, committer.date만 추출합니다.
+     * 나머지 필드(author, parents, verification 등)는 읽지 않고 건너뜁니다.
+     */
+    private List<CommitResult.Commit> readCommits(JsonParser parser) throws IOException {
+        List<CommitResult.Commit> commits = new ArrayList<>();
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new CustomException(RepositoryErrorCode.JSON_PROCESSING_ERROR);
         }
 
-        try {
-            JsonNode jsonNode = super.getObjectMapper().readTree(body);
-            List<CommitResult.Commit> commits = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String sha = null;
+            String message = null;
+            String date = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
 
-            for (JsonNode commitNode : jsonNode) {
-                String sha = commitNode.get("sha").asText();
-                String message = commitNode.get("commit").get("message").asText();
-                Instant date = Instant.parse(commitNode.get("commit").get("committer").get("date").asText());
+                if ("sha".equals(field)) {
+                    sha = parser.getText();
+                    continue;
+                }
+
+                if (!"commit".equals(field) || parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
 
-                commits.add(new CommitResult.Commit(
-                        sha,
-                        message,
-                        date
-                ));
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String commitField = parser.currentName();
+                    parser.nextToken();
+
+                    if ("message".equals(commitField)) {
+                        message = parser.getText();
+                    } else if ("committer".equals(commitField) && parser.currentToken() == JsonToken.START_OBJECT) {
+                        date = readCommitterDate(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
             }
 
-            return commits;
-        } catch (JsonProcessingException e) {
-            log.error("Error parsing Github commit JSON response = {}", body, e);
-            throw new CustomException(RepositoryErrorCode.JSON_PROCESSING_ERROR);
+            if (sha == null || message == null || date == null) {
+                log.error("Invalid Github commit JSON response. sha = {}", sha);
+                throw new CustomException(RepositoryErrorCode.JSON_PROCESSING_ERROR);
+            }
+
+            commits.add(new CommitResult.Commit(
+                    sha,
+                    message,
+                    Instant.parse(date)
+            ));
         }
+
+        return commits;
     }
+
+    private String readCommitterDate(JsonParser parser) throws IOException {
+        String date = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            if ("date".equals(field)) {
+                date = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return date;
+    }
+
+    private record CommitPage(
+            List<CommitResult.Commit> commits,
+            HttpHeaders headers
+    ) {}
 }
@@ -1,5 +1,7 @@
 package seungyong.helpmebackend.repository.adapter.out.github;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +17,9 @@ import seungyong.helpmebackend.repository.application.port.out.result.*;
 import seungyong.helpmebackend.repository.domain.entity.Repository;
 import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
@@ -23,6 +27,27 @@ import java.util.*;
 public class RepositoryAdapter extends GithubPortConfig implements RepositoryPortOut {
     private final GithubApiExecutor githubApiExecutor;
 
+    private static final String SNAPSHOT_QUERY = """
+            query RepositorySnapshot(
+                $owner: String!, $name: String!, $ref: String!,
+                $readme: String!, $readmeLower: String!, $readmePlain: String!
+            ) {
+                repository(owner: $owner, name: $name) {
+                    owner { avatarUrl }
+                    diskUsage
+                    defaultBranchRef { name }
+                    ref(qualifiedName: $ref) { target { oid } }
+                    languages(first: 100, orderBy: { field: SIZE, direction: DESC }) {
+                        totalCount
+                        edges { size node { name } }
+                    }
+                    readme: object(expression: $readme) { ... on Blob { text isBinary } }
+                    readmeLower: object(expression: $readmeLower) { ... on Blob { text isBinary } }
+                    readmePlain: object(expression: $readmePlain) { ... on Blob { text isBinary } }
+                }
+            }
+            """;
+
     @Override
     public RepositoryResult getRepositoriesByInstallationId(String accessToken, Long installationId, Integer page, Integer perPage) {
         String url = String.format("https://api.github.com/user/installations/%d/repositories?per_page=%d&page=%d", installationId, perPage, page);
@@ -114,6 +139,83 @@ public class RepositoryAdapter extends GithubPortConfig implements RepositoryPor
         );
     }
 
+    @Override
+    public RepositorySnapshotResult getRepositorySnapshot(RepoBranchCommand command) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("owner", command.repoInfo().owner());
+        variables.put("name", command.repoInfo().name());
+        variables.put("ref", "refs/heads/" + command.branch());
+        variables.put("readme", command.branch() + ":README.md");
+        variables.put("readmeLower", command.branch() + ":readme.md");
+        variables.put("readmePlain", command.branch() + ":README");
+
+        try {
+            return githubApiExecutor.executeGraphQL(
+                    command.repoInfo().accessToken(),
+                    SNAPSHOT_QUERY,
+                    variables,
+                    this::parseSnapshot,
+                    "Get repository snapshot for " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " on branch " + command.branch()
+            );
+        } catch (CustomException e) {
+            // GraphQL 실패 시 모든 필드를 REST로 조회하도록 빈 스냅샷 반환
+            log.warn(
+                    "Github GraphQL snapshot failed for {}/{}. Fallback to REST. errorCode = {}",
+                    command.repoInfo().owner(),
+                    command.repoInfo().name(),
+                    e.getErrorCode()
+            );
+            return RepositorySnapshotResult.empty();
+        }
+    }
+
+    private RepositorySnapshotResult parseSnapshot(JsonNode data) {
+        JsonNode repository = data.path("repository");
+        if (repository.isMissingNode() || repository.isNull()) {
+            return RepositorySnapshotResult.empty();
+        }
+
+        String avatarUrl = textOrNull(repository.path("owner").path("avatarUrl"));
+        String defaultBranch = textOrNull(repository.path("defaultBranchRef").path("name"));
+        String headSha = textOrNull(repository.path("ref").path("target").path("oid"));
+
+        // 언어가 100개를 넘으면 일부만 조회되므로 REST로 다시 조회
+        List<RepositoryLanguageResult> languages = null;
+        JsonNode languagesNode = repository.path("languages");
+        JsonNode edges = languagesNode.path("edges");
+
+        if (edges.isArray() && languagesNode.path("totalCount").asInt(Integer.MAX_VALUE) <= edges.size()) {
+            languages = new ArrayList<>();
+
+            for (JsonNode edge : edges) {
+                languages.add(new RepositoryLanguageResult(
+                        edge.path("node").path("name").asText(),
+                        edge.path("size").asLong()
+                ));
+            }
+        }
+
+        String readme = null;
+        for (String alias : List.of("readme", "readmeLower", "readmePlain")) {
+            JsonNode blob = repository.path(alias);
+
+            // 바이너리거나 너무 큰 Blob은 text가 null로 내려옴
+            if (!blob.path("isBinary").asBoolean(false) && blob.hasNonNull("text")) {
+                readme = blob.get("text").asText();
+                break;
+            }
+        }
+
+        JsonNode diskUsage = repository.path("diskUsage");
+        Long diskUsageKb = diskUsage.isNumber() ? diskUsage.asLong() : null;
+
+        return new RepositorySnapshotResult(avatarUrl, defaultBranch, headSha, languages, readme, diskUsageKb);
+    }
+
+    private String textOrNull(JsonNode node) {
+        return node.isValueNode() ? node.asText() : null;
+    }
+
     @Override
     public String getRecentSHA(RepoBranchCommand command) {
         String url = String.format(
@@ -299,7 +401,7 @@ public class RepositoryAdapter extends GithubPortConfig implements RepositoryPor
         return githubApiExecutor.executeGetRaw(
                 url,
                 command.repoInfo().accessToken(),
-                "Get README content for " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " on branch " + command.branch(),
+                "Get README content for " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " at ref " + command.branch(),
                 e -> {
                     if (e instanceof HttpClientErrorException.NotFound) {
                         return Optional.of("");
@@ -370,58 +472,246 @@ public class RepositoryAdapter extends GithubPortConfig implements RepositoryPor
 
     @Override
     public List<RepositoryTreeResult> getRepositoryTree(RepoBranchCommand command) {
-        String url = String.format(
-                "https://api.github.com/repos/%s/%s/git/trees/%s?recursive=1",
-                command.repoInfo().owner(),
-                command.repoInfo().name(),
-                command.branch()
+        String url = createTreeUrl(command);
+
+        // 대형 저장소의 트리 응답은 수 MB가 될 수 있으므로 스트리밍으로 path/type만 읽음
+        return githubApiExecutor.executeGetStream(
+                url,
+                command.repoInfo().accessToken(),
+                (parser, headers) -> readTree(parser),
+                createTreeOperation(command)
         );
+    }
 
-        return githubApiExecutor.executeGet(
+    @Override
+    public CompletableFuture<List<RepositoryTreeResult>> getRepositoryTreeAsync(RepoBranchCommand command) {
+        String url = createTreeUrl(command);
+
+        return githubApiExecutor.executeGetStreamAsync(
                 url,
                 command.repoInfo().accessToken(),
-                jsonNode -> {
-                    List<RepositoryTreeResult> results = new ArrayList<>();
+                (parser, headers) -> readTree(parser),
+                createTreeOperation(command)
+        );
+    }
+
+    @Override
+    public RepositoryCompareResult compareCommits(RepoInfoCommand command, String baseSha, String headSha) {
+        String url = String.format(
+                "https://api.github.com/repos/%s/%s/compare/%s...%s",
+                command.owner(),
+                command.name(),
+                baseSha,
+                headSha
+        );
 
-                    for (JsonNode treeNode : jsonNode.get("tree")) {
-                        String path = treeNode.get("path").asText();
-                        String type = treeNode.get("type").asText();
+        // 변경 파일의 patch는 크기가 크므로 스트리밍으로 필요한 필드만 읽음
+        return githubApiExecutor.executeGetStream(
+                url,
+                command.accessToken(),
+                (parser, headers) -> readCompare(parser),
+                "Compare commits " + baseSha + "..." + headSha + " in " + command.owner() + "/" + command.name()
+        );
+    }
+
+    private RepositoryCompareResult readCompare(JsonParser parser) throws IOException {
+        String status = null;
+        int totalCommits = 0;
+        List<RepositoryCompareResult.Commit> commits = new ArrayList<>();
+        List<RepositoryCompareResult.ChangedFile> files = new ArrayList<>();
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new CustomException(RepositoryErrorCode.JSON_PROCESSING_ERROR);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "status" -> status = parser.getText();
+                case "total_commits" -> totalCommits = parser.getIntValue();
+                case "commits" -> {
+                    if (value != JsonToken.START_ARRAY) { parser.skipChildren(); continue; }
+                    while (parser.nextToken() == JsonToken.START_OBJECT) { commits.add(readCompareCommit(parser)); }
+                }
+                case "files" -> {
+                    if (value != JsonToken.START_ARRAY) { parser.skipChildren(); continue; }
+                    while (parser.nextToken() == JsonToken.START_OBJECT) { files.add(readChangedFile(parser)); }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new RepositoryCompareResult(status, totalCommits, commits, files);
+    }
 
-                        results.add(new RepositoryTreeResult(path, type));
+    private RepositoryCompareResult.Commit readCompareCommit(JsonParser parser) throws IOException {
+        String sha = null;
+        String message = null;
+        String login = null;
+        String avatarUrl = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("sha".equals(field)) {
+                sha = parser.getText();
+            } else if ("commit".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String commitField = parser.currentName();
+                    parser.nextToken();
+
+                    if ("message".equals(commitField)) {
+                        message = parser.getText();
+                    } else {
+                        parser.skipChildren();
                     }
+                }
+            } else if ("author".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String authorField = parser.currentName();
+                    parser.nextToken();
+
+                    switch (authorField) {
+                        case "login" -> login = parser.getText();
+                        case "avatar_url" -> avatarUrl = parser.getText();
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
 
-                    return results;
-                },
-                "Get repository tree for " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " on branch " + command.branch()
+        return new RepositoryCompareResult.Commit(sha, message, login, avatarUrl);
+    }
+
+    private RepositoryCompareResult.ChangedFile readChangedFile(JsonParser parser) throws IOException {
+        String filename = null;
+        String status = null;
+        String sha = null;
+        String previousFilename = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "filename" -> filename = parser.getText();
+                case "status" -> status = parser.getText();
+                case "sha" -> sha = parser.getText();
+                case "previous_filename" -> previousFilename = parser.getText();
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new RepositoryCompareResult.ChangedFile(filename, status, sha, previousFilename);
+    }
+
+    private String createTreeUrl(RepoBranchCommand command) {
+        return String.format(
+                "https://api.github.com/repos/%s/%s/git/trees/%s?recursive=1",
+                command.repoInfo().owner(),
+                command.repoInfo().name(),
+                command.branch()
         );
     }
 
-    @Override
-    public RepositoryFileContentResult getFileContent(RepoBranchCommand command, RepositoryTreeResult file) {
-        String url = String.format(
+    private String createTreeOperation(RepoBranchCommand command) {
+        return "Get repository tree for " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " at ref " + command.branch();
+    }
+
+    private String createFileContentUrl(RepoBranchCommand command, RepositoryTreeResult file) {
+        return String.format(
                 "https://api.github.com/repos/%s/%s/contents/%s?ref=%s",
                 command.repoInfo().owner(),
                 command.repoInfo().name(),
                 file.path(),
                 command.branch()
         );
+    }
+
+    private String createFileContentOperation(RepoBranchCommand command, RepositoryTreeResult file) {
+        return "Get file content for " + file.path() + " in " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " at ref " + command.branch();
+    }
+
+    // 파일이 없으면 빈 문자열로 처리
+    private Optional<String> handleFileNotFound(Exception e) {
+        if (e instanceof HttpClientErrorException.NotFound) {
+            return Optional.of("");
+        }
+
+        return Optional.empty();
+    }
+
+    private List<RepositoryTreeResult> readTree(JsonParser parser) throws IOException {
+        List<RepositoryTreeResult> results = new ArrayList<>();
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new CustomException(RepositoryErrorCode.JSON_PROCESSING_ERROR);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (!"tree".equals(field) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String path = null;
+                String type = null;
+                String sha = null;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String treeField = parser.currentName();
+                    parser.nextToken();
+
+                    switch (treeField) {
+                        case "path" -> path = parser.getText();
+                        case "type" -> type = parser.getText();
+                        case "sha" -> sha = parser.getText();
+                        default -> parser.skipChildren();
+                    }
+                }
+
+                results.add(new RepositoryTreeResult(path, type, sha));
+            }
+        }
+
+        return results;
+    }
+
+    @Override
+    public RepositoryFileContentResult getFileContent(RepoBranchCommand command, RepositoryTreeResult file) {
+        String url = createFileContentUrl(command, file);
 
         String content = githubApiExecutor.executeGetRaw(
                 url,
                 command.repoInfo().accessToken(),
-                "Get file content for " + file.path() + " in " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " on branch " + command.branch(),
-                e -> {
-                    if (e instanceof HttpClientErrorException.NotFound) {
-                        return Optional.of("");
-                    }
-
-                    return Optional.empty();
-                }
+                createFileContentOperation(command, file),
+                this::handleFileNotFound
         );
 
         return new RepositoryFileContentResult(file.path(), content);
     }
 
+    @Override
+    public CompletableFuture<RepositoryFileContentResult> getFileContentAsync(RepoBranchCommand command, RepositoryTreeResult file) {
+        String url = createFileContentUrl(command, file);
+
+        return githubApiExecutor.executeGetRawAsync(
+                url,
+                command.repoInfo().accessToken(),
+                createFileContentOperation(command, file),
+                this::handleFileNotFound
+        ).thenApply(content -> new RepositoryFileContentResult(file.path(), content));
+    }
+
     @Override
     public boolean checkPermission(RepoPermissionCommand command) {
         String url = String.format(
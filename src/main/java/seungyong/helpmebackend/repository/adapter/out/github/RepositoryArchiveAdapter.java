@@ -0,0 +1,135 @@
+package seungyong.helpmebackend.repository.adapter.out.github;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.infrastructure.github.GithubApiExecutor;
+import seungyong.helpmebackend.global.infrastructure.github.GithubClient;
+import seungyong.helpmebackend.repository.application.port.out.RepositoryArchivePortOut;
+import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryFileContentResult;
+import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 저장소 tarball 기반 파일 일괄 조회
+ * <br />
+ * - 커밋 SHA 기준 tarball을 한 번 받아 압축을 해제하면서 요청한 경로의 파일만 메모리로 읽습니다. <br />
+ * - 디스크에 쓰지 않고, 요청한 파일을 모두 찾으면 나머지 아카이브는 읽지 않고 종료합니다. <br />
+ * - 파일 수가 적거나 저장소가 너무 크면 파일별 조회(RepositoryAdapter)가 더 유리하므로 isPreferred로 선택합니다.
+ */
+@Slf4j
+@Component
+public class RepositoryArchiveAdapter implements RepositoryArchivePortOut {
+    private final GithubApiExecutor githubApiExecutor;
+    private final int minPaths;
+    private final long maxSizeKb;
+    private final long maxFileBytes;
+
+    public RepositoryArchiveAdapter(
+            GithubApiExecutor githubApiExecutor,
+            @Value("${github.archive.min-paths:6}") int minPaths,
+            @Value("${github.archive.max-size-kb:20480}") long maxSizeKb,
+            @Value("${github.archive.max-file-bytes:1048576}") long maxFileBytes
+    ) {
+        this.githubApiExecutor = githubApiExecutor;
+        this.minPaths = minPaths;
+        this.maxSizeKb = maxSizeKb;
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    @Override
+    public boolean isPreferred(int pathCount, Long repositorySizeKb) {
+        // 저장소 크기를 모르면 아카이브 전체를 받아야 할 수도 있으므로 파일별 조회 사용
+        if (repositorySizeKb == null) { return false; }
+
+        return pathCount >= minPaths && repositorySizeKb <= maxSizeKb;
+    }
+
+    @Override
+    public List<RepositoryFileContentResult> getFileContents(RepoBranchCommand command, String sha, List<String> paths) {
+        if (paths.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String url = String.format(
+                "https://api.github.com/repos/%s/%s/tarball/%s",
+                command.repoInfo().owner(),
+                command.repoInfo().name(),
+                sha
+        );
+
+        return githubApiExecutor.executeGetBinary(
+                url,
+                command.repoInfo().accessToken(),
+                GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_JSON,
+                (body, headers) -> extract(body, paths),
+                "Get tarball for " + command.repoInfo().owner() + "/" + command.repoInfo().name() + " at " + sha,
+                e -> {
+                    if (e instanceof HttpClientErrorException.NotFound) {
+                        throw new CustomException(RepositoryErrorCode.REPOSITORY_OR_BRANCH_NOT_FOUND);
+                    }
+
+                    return Optional.empty();
+                }
+        );
+    }
+
+    /**
+     * tarball 스트림을 순서대로 읽으며 요청한 경로의 파일만 추출합니다.
+     * <br />
+     * GitHub tarball의 엔트리는 "{owner}-{repo}-{sha}/" 디렉토리 아래에 있으므로 첫 경로는 제거하고 비교합니다.
+     */
+    List<RepositoryFileContentResult> extract(InputStream body, List<String> paths) throws IOException {
+        Set<String> remaining = new HashSet<>(paths);
+        Map<String, String> contents = new HashMap<>();
+
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(new GZIPInputStream(new BufferedInputStream(body)))) {
+            TarArchiveEntry entry;
+
+            while (!remaining.isEmpty() && (entry = tar.getNextEntry()) != null) {
+                if (!entry.isFile()) { continue; }
+
+                String path = stripRootDirectory(entry.getName());
+                if (path == null || !remaining.remove(path)) { continue; }
+
+                if (entry.getSize() > maxFileBytes) {
+                    log.warn("Skip large file in tarball. path = {}, size = {}", path, entry.getSize());
+                    continue;
+                }
+
+                contents.put(path, new String(tar.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        // 요청한 경로 순서대로 정렬
+        List<RepositoryFileContentResult> results = new ArrayList<>();
+
+        for (String path : paths) {
+            String content = contents.get(path);
+
+            if (content != null) {
+                results.add(new RepositoryFileContentResult(path, content));
+            }
+        }
+
+        return results;
+    }
+
+    private String stripRootDirectory(String name) {
+        int slash = name.indexOf('/');
+        if (slash < 0 || slash == name.length() - 1) { return null; }
+
+        return name.substring(slash + 1);
+    }
+}
@@ -10,6 +10,8 @@ import seungyong.helpmebackend.repository.application.port.out.result.Evaluation
 import seungyong.helpmebackend.repository.application.port.out.result.GPTRepositoryInfoResult;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+import seungyong.helpmebackend.global.infrastructure.resilience.DependencyGuard;
+import seungyong.helpmebackend.global.infrastructure.resilience.ExternalDependency;
 import seungyong.helpmebackend.repository.application.port.out.GPTPortOut;
 
 @Slf4j
@@ -17,11 +19,14 @@ import seungyong.helpmebackend.repository.application.port.out.GPTPortOut;
 @RequiredArgsConstructor
 public class GPTAdapter implements GPTPortOut {
     private final GPTClient gptClient;
+    private final DependencyGuard dependencyGuard;
 
     @Override
     public GPTRepositoryInfoResult getRepositoryInfo(String fullName, RepositoryInfoCommand command) {
         try {
-            return gptClient.getRepositoryInfo(fullName, command);
+            return dependencyGuard.execute(ExternalDependency.OPENAI, "get-repository-info", () -> gptClient.getRepositoryInfo(fullName, command));
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error GPT repository info = {}", e.getMessage(), e);
             throw new CustomException(GlobalErrorCode.GPT_ERROR);
@@ -31,7 +36,9 @@ public class GPTAdapter implements GPTPortOut {
     @Override
     public EvaluationContentResult evaluateReadme(EvaluationCommand command) {
         try {
-            return gptClient.evaluateReadme(command);
+            return dependencyGuard.execute(ExternalDependency.OPENAI, "evaluate-readme", () -> gptClient.evaluateReadme(command));
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error GPT evaluate readme = {}", e.getMessage(), e);
             throw new CustomException(GlobalErrorCode.GPT_ERROR);
@@ -41,7 +48,9 @@ public class GPTAdapter implements GPTPortOut {
     @Override
     public String generateDraftReadme(GenerateReadmeCommand command) {
         try {
-            return gptClient.generateDraftReadme(command);
+            return dependencyGuard.execute(ExternalDependency.OPENAI, "generate-draft-readme", () -> gptClient.generateDraftReadme(command));
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error GPT generate draft readme = {}", e.getMessage(), e);
             throw new CustomException(GlobalErrorCode.GPT_ERROR);
@@ -0,0 +1,53 @@
+package seungyong.helpmebackend.repository.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import seungyong.helpmebackend.project.application.port.out.ProjectPortOut;
+import seungyong.helpmebackend.project.domain.entity.Project;
+import seungyong.helpmebackend.section.application.port.out.SectionPortOut;
+import seungyong.helpmebackend.section.domain.entity.Section;
+
+import java.util.List;
+
+/**
+ * 생성된 README 초안을 사용자의 섹션으로 저장
+ * <br />
+ * 같은 초안을 여러 사용자(연결된 작업)에게 저장할 때 한 사용자의 저장 실패가 다른 사용자에게 영향을 주지 않도록,
+ * 사용자 별로 새 트랜잭션에서 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DraftSectionWriter {
+    private final ProjectPortOut projectPortOut;
+    private final SectionPortOut sectionPortOut;
+
+    /**
+     * 사용자의 기존 섹션을 초안으로 교체합니다.
+     *
+     * @param userId        사용자 ID
+     * @param repoFullName  저장소 이름 (owner/name)
+     * @param draftReadme   생성된 README 초안
+     * @return              저장된 섹션 목록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Section> replaceSections(Long userId, String repoFullName, String draftReadme) {
+        Project project = projectPortOut.getByUserIdAndRepoFullName(userId, repoFullName)
+                .orElseGet(() -> projectPortOut.save(new Project(null, userId, repoFullName)));
+
+        List<Section> existingSections = sectionPortOut.getSectionsByUserIdAndRepoFullName(userId, repoFullName);
+
+        if (!existingSections.isEmpty()) {
+            sectionPortOut.deleteAllByUserIdAndRepoFullName(userId, repoFullName);
+        }
+
+        return sectionPortOut.saveAll(
+                Section.splitContent(
+                        project.getId(),
+                        draftReadme,
+                        Section.SplitMode.SPLIT
+                )
+        );
+    }
+}
@@ -0,0 +1,260 @@
+package seungyong.helpmebackend.repository.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
+import seungyong.helpmebackend.global.domain.type.RedisKeyFactory;
+import seungyong.helpmebackend.repository.application.port.out.RepositoryPortOut;
+import seungyong.helpmebackend.repository.application.port.out.RepositoryTreeFilterPortOut;
+import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
+import seungyong.helpmebackend.repository.application.port.out.command.RepositoryInfoCommand;
+import seungyong.helpmebackend.repository.application.port.out.result.GPTRepositoryInfoResult;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryCompareResult;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryLanguageResult;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryTreeResult;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 브랜치의 이전 커밋 캐시를 새 커밋 기준으로 갱신 (Incremental Refresh)
+ * <br />
+ * - 브랜치별로 마지막으로 컨텍스트를 만든 커밋 SHA를 기록해 두고, 새 커밋이 들어오면 Compare API로 변경분만 조회합니다. <br />
+ * - 트리/커밋 캐시는 변경분으로 수정하여 새 커밋 키로 저장하고, README/언어는 그대로 복사합니다. <br />
+ * - GPT 저장소 분석은 엔트리/중요 파일이나 빌드 설정 파일이 바뀐 경우에만 다시 실행하도록 복사하지 않습니다. <br />
+ * - 파일 내용은 blob SHA 기준으로 캐싱되므로 바뀐 파일만 다시 조회됩니다. <br />
+ * - 이전 커밋에서 앞으로만 진행하지 않았거나(force push 등), 변경분이 Compare API 응답 한도를 넘으면 전체를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncrementalContextRefresher {
+    private static final int MAX_LATEST_COMMITS = 40;
+
+    // 변경 시 저장소 분석(기술 스택, 엔트리 포인트)에 영향을 주는 빌드/의존성 설정 파일
+    private static final Set<String> BUILD_MANIFESTS = Set.of(
+            "package.json", "build.gradle", "build.gradle.kts", "settings.gradle", "settings.gradle.kts",
+            "pom.xml", "go.mod", "cargo.toml", "requirements.txt", "pyproject.toml", "setup.py",
+            "gemfile", "composer.json", "pubspec.yaml", "package.swift", "dockerfile", "docker-compose.yml"
+    );
+
+    private final RepositoryPortOut repositoryPortOut;
+    private final RepositoryTreeFilterPortOut repositoryTreeFilterPortOut;
+    private final RedisPortOut redisPortOut;
+
+    /**
+     * 새 커밋 기준 캐시가 없으면 이전 커밋 캐시와 변경분으로 채웁니다.
+     * <br />
+     * 갱신에 실패해도 예외를 던지지 않으며, 이후 조회 단계에서 Cache Miss로 처리됩니다.
+     *
+     * @param command       저장소/브랜치 정보
+     * @param headSha       새 커밋 SHA
+     * @param expiration    캐시 만료 시각
+     * @return              브랜치의 이전 컨텍스트 생성 커밋 SHA (없거나 새 커밋과 같으면 null)
+     */
+    public String refresh(RepoBranchCommand command, String headSha, Instant expiration) {
+        String owner = command.repoInfo().owner();
+        String name = command.repoInfo().name();
+        String baseSha = null;
+
+        try {
+            baseSha = redisPortOut.get(RedisKeyFactory.createBranchHeadKey(owner, name, command.branch()));
+            if (baseSha == null || baseSha.equals(headSha)) { return null; }
+
+            // 이미 새 커밋 기준으로 만든 캐시가 있으면 갱신 불필요
+            if (redisPortOut.exists(RedisKeyFactory.createTreeKey(owner, name, headSha))) { return baseSha; }
+
+            // 이전 커밋의 캐시를 한 번에 조회
+            RedisValues base = redisPortOut.multiGet(List.of(
+                    RedisKeyFactory.createTreeKey(owner, name, baseSha),
+                    RedisKeyFactory.createCommitsKey(owner, name, baseSha),
+                    RedisKeyFactory.createLanguageKey(owner, name, baseSha),
+                    RedisKeyFactory.createReadmeKey(owner, name, baseSha),
+                    RedisKeyFactory.createRepoInfoKey(owner, name, baseSha)
+            ));
+
+            List<RepositoryTreeResult> baseTree = base.getObject(
+                    RedisKeyFactory.createTreeKey(owner, name, baseSha),
+                    new TypeReference<List<RepositoryTreeResult>>() {}
+            );
+            if (baseTree == null) { return baseSha; }
+
+            RepositoryCompareResult compare = repositoryPortOut.compareCommits(command.repoInfo(), baseSha, headSha);
+
+            if (!"ahead".equals(compare.status()) || !compare.isComplete()) {
+                log.info("Skip incremental refresh. repo = {}/{}, status = {}, commits = {}, files = {}",
+                        owner, name, compare.status(), compare.totalCommits(), compare.files().size());
+                return baseSha;
+            }
+
+            Map<String, Object> patched = new LinkedHashMap<>();
+            patched.put(RedisKeyFactory.createTreeKey(owner, name, headSha), patchTree(baseTree, compare.files()));
+
+            List<RepositoryInfoCommand.CommitCommand> baseCommits = base.getObject(
+                    RedisKeyFactory.createCommitsKey(owner, name, baseSha),
+                    new TypeReference<List<RepositoryInfoCommand.CommitCommand>>() {}
+            );
+            if (baseCommits != null) {
+                patched.put(RedisKeyFactory.createCommitsKey(owner, name, headSha), patchCommits(baseCommits, compare.commits()));
+            }
+
+            List<RepositoryLanguageResult> languages = base.getObject(
+                    RedisKeyFactory.createLanguageKey(owner, name, baseSha),
+                    new TypeReference<List<RepositoryLanguageResult>>() {}
+            );
+            if (languages != null) {
+                patched.put(RedisKeyFactory.createLanguageKey(owner, name, headSha), languages);
+            }
+
+            GPTRepositoryInfoResult analysis = base.getObject(
+                    RedisKeyFactory.createRepoInfoKey(owner, name, baseSha),
+                    new TypeReference<GPTRepositoryInfoResult>() {}
+            );
+            boolean analysisReused = analysis != null && !affectsAnalysis(analysis, compare.files());
+            if (analysisReused) {
+                patched.put(RedisKeyFactory.createRepoInfoKey(owner, name, headSha), analysis);
+            }
+
+            redisPortOut.multiSetObjectWithTtl(patched, expiration);
+
+            String readme = base.get(RedisKeyFactory.createReadmeKey(owner, name, baseSha));
+            if (readme != null && !touchesReadme(compare.files())) {
+                redisPortOut.set(RedisKeyFactory.createReadmeKey(owner, name, headSha), readme, expiration);
+            }
+
+            log.info("Incremental refresh {}/{} {} -> {}. files = {}, commits = {}, analysis reused = {}",
+                    owner, name, baseSha, headSha, compare.files().size(), compare.commits().size(), analysisReused);
+        } catch (RuntimeException e) {
+            log.warn("Incremental refresh failed. Fallback to full rebuild. repo = {}/{}, sha = {}", owner, name, headSha, e);
+        }
+
+        return baseSha != null && !baseSha.equals(headSha) ? baseSha : null;
+    }
+
+    /**
+     * 브랜치의 마지막 컨텍스트 생성 커밋을 기록합니다.
+     */
+    public void markBuilt(RepoBranchCommand command, String sha, Instant expiration) {
+        String key = RedisKeyFactory.createBranchHeadKey(
+                command.repoInfo().owner(),
+                command.repoInfo().name(),
+                command.branch()
+        );
+
+        try {
+            redisPortOut.set(key, sha, expiration);
+        } catch (RuntimeException e) {
+            log.warn("Cache write failed for key {}: {}", key, e.getMessage());
+        }
+    }
+
+    List<RepositoryTreeResult> patchTree(
+            List<RepositoryTreeResult> baseTree,
+            List<RepositoryCompareResult.ChangedFile> files
+    ) {
+        Map<String, RepositoryTreeResult> byPath = new LinkedHashMap<>();
+        baseTree.forEach(tree -> byPath.put(tree.path(), tree));
+
+        List<RepositoryTreeResult> added = new ArrayList<>();
+
+        for (RepositoryCompareResult.ChangedFile file : files) {
+            switch (file.status()) {
+                case "removed" -> byPath.remove(file.filename());
+                case "renamed" -> {
+                    byPath.remove(file.previousFilename());
+                    added.add(new RepositoryTreeResult(file.filename(), "blob", file.sha()));
+                }
+                default -> {
+                    RepositoryTreeResult existing = byPath.get(file.filename());
+
+                    if (existing != null) {
+                        byPath.put(file.filename(), new RepositoryTreeResult(existing.path(), existing.type(), file.sha()));
+                    } else {
+                        added.add(new RepositoryTreeResult(file.filename(), "blob", file.sha()));
+                    }
+                }
+            }
+        }
+
+        List<RepositoryTreeResult> patched = new ArrayList<>(byPath.values());
+
+        // 새로 추가된 파일은 기존 트리와 같은 기준으로 필터링
+        if (!added.isEmpty()) {
+            patched.addAll(repositoryTreeFilterPortOut.filter(added));
+        }
+
+        return patched;
+    }
+
+    private List<RepositoryInfoCommand.CommitCommand> patchCommits(
+            List<RepositoryInfoCommand.CommitCommand> baseCommits,
+            List<RepositoryCompareResult.Commit> newCommits
+    ) {
+        Map<String, RepositoryInfoCommand.CommitCommand> byContributor = new LinkedHashMap<>();
+        baseCommits.forEach(commit -> byContributor.put(commit.contributor().username(), commit));
+
+        // Compare API는 오래된 순이므로 순서대로 최신 커밋 목록 앞에 추가
+        for (RepositoryCompareResult.Commit commit : newCommits) {
+            if (commit.authorLogin() == null || commit.message() == null) { continue; }
+
+            RepositoryInfoCommand.CommitCommand existing = byContributor.get(commit.authorLogin());
+
+            if (existing == null) {
+                byContributor.put(commit.authorLogin(), new RepositoryInfoCommand.CommitCommand(
+                        new RepositoryInfoCommand.ContributorCommand(commit.authorLogin(), commit.authorAvatarUrl()),
+                        List.of(commit.message()),
+                        Collections.emptyList(),
+                        Collections.emptyList()
+                ));
+                continue;
+            }
+
+            List<String> latest = new ArrayList<>();
+            latest.add(commit.message());
+            latest.addAll(existing.latestCommit());
+
+            byContributor.put(commit.authorLogin(), new RepositoryInfoCommand.CommitCommand(
+                    existing.contributor(),
+                    latest.subList(0, Math.min(latest.size(), MAX_LATEST_COMMITS)),
+                    existing.middleCommit(),
+                    existing.initialCommit()
+            ));
+        }
+
+        return new ArrayList<>(byContributor.values());
+    }
+
+    private boolean affectsAnalysis(GPTRepositoryInfoResult analysis, List<RepositoryCompareResult.ChangedFile> files) {
+        Set<String> analyzedPaths = new HashSet<>();
+        if (analysis.entryPoints() != null) { analyzedPaths.addAll(Arrays.asList(analysis.entryPoints())); }
+        if (analysis.importantFiles() != null) { analyzedPaths.addAll(Arrays.asList(analysis.importantFiles())); }
+
+        return files.stream().anyMatch(file ->
+                affectsAnalysis(file.filename(), analyzedPaths) || affectsAnalysis(file.previousFilename(), analyzedPaths)
+        );
+    }
+
+    private boolean affectsAnalysis(String path, Set<String> analyzedPaths) {
+        if (path == null) { return false; }
+
+        return analyzedPaths.contains(path) || BUILD_MANIFESTS.contains(getFileName(path).toLowerCase());
+    }
+
+    private boolean touchesReadme(List<RepositoryCompareResult.ChangedFile> files) {
+        return files.stream().anyMatch(file ->
+                isReadme(file.filename()) || isReadme(file.previousFilename())
+        );
+    }
+
+    // 저장소 루트 README만 대상
+    private boolean isReadme(String path) {
+        return path != null && !path.contains("/") && path.toLowerCase().startsWith("readme");
+    }
+
+    private String getFileName(String path) {
+        return path.contains("/") ? path.substring(path.lastIndexOf('/') + 1) : path;
+    }
+}
@@ -1,24 +1,37 @@
 package seungyong.helpmebackend.repository.application;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+import seungyong.helpmebackend.global.application.cache.CacheLoadCoordinator;
+import seungyong.helpmebackend.global.application.port.out.GithubRateLimitPortOut;
+import seungyong.helpmebackend.global.application.port.out.JobDeduplicationPortOut;
+import seungyong.helpmebackend.global.application.port.out.JobQueuePortOut;
 import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
+import seungyong.helpmebackend.global.domain.entity.AttachedJob;
+import seungyong.helpmebackend.global.domain.type.JobType;
 import seungyong.helpmebackend.global.domain.type.RedisKey;
 import seungyong.helpmebackend.global.domain.type.RedisKeyFactory;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.ErrorCode;
 import seungyong.helpmebackend.global.exception.ErrorResponse;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
-import seungyong.helpmebackend.project.application.port.out.ProjectPortOut;
-import seungyong.helpmebackend.project.domain.entity.Project;
+import seungyong.helpmebackend.global.application.pipeline.StageGraph;
+import seungyong.helpmebackend.global.application.pipeline.StageGraphFactory;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestDraftEvaluation;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestGeneration;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestPull;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.response.*;
+import seungyong.helpmebackend.repository.application.dto.ContextPrewarmJob;
+import seungyong.helpmebackend.repository.application.dto.DraftEvaluationJob;
+import seungyong.helpmebackend.repository.application.dto.DraftGenerationJob;
+import seungyong.helpmebackend.repository.application.dto.FileManifestEntry;
 import seungyong.helpmebackend.repository.application.dto.ReadmeContext;
 import seungyong.helpmebackend.repository.application.port.in.RepositoryPortIn;
 import seungyong.helpmebackend.repository.application.port.in.RepositoryPortInMapper;
@@ -26,22 +39,28 @@ import seungyong.helpmebackend.repository.application.port.out.*;
 import seungyong.helpmebackend.repository.application.port.out.command.*;
 import seungyong.helpmebackend.repository.application.port.out.result.*;
 import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
+import seungyong.helpmebackend.repository.domain.type.GPTSystemPrompt;
 import seungyong.helpmebackend.section.adapter.in.web.dto.response.ResponseSections;
 import seungyong.helpmebackend.section.application.port.in.SectionPortInMapper;
-import seungyong.helpmebackend.section.application.port.out.SectionPortOut;
 import seungyong.helpmebackend.section.domain.entity.Section;
 import seungyong.helpmebackend.sse.application.port.out.SSEPortOut;
 import seungyong.helpmebackend.sse.domain.type.SSETaskName;
 import seungyong.helpmebackend.user.application.port.out.UserPortOut;
 import seungyong.helpmebackend.user.domain.entity.User;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -49,15 +68,54 @@ import java.util.function.Supplier;
 public class RepositoryService implements RepositoryPortIn {
     private final UserPortOut userPortOut;
     private final RepositoryPortOut repositoryPortOut;
+    private final RepositoryArchivePortOut repositoryArchivePortOut;
     private final CipherPortOut cipherPortOut;
     private final ObjectCipherPortOut objectCipherPortOut;
     private final GPTPortOut gptPortOut;
     private final RedisPortOut redisPortOut;
     private final RepositoryTreeFilterPortOut repositoryTreeFilterPortOut;
     private final SSEPortOut ssePortOut;
-    private final ProjectPortOut projectPortOut;
-    private final SectionPortOut sectionPortOut;
+    private final DraftSectionWriter draftSectionWriter;
     private final CommitPortOut commitPortOut;
+    private final GithubRateLimitPortOut githubRateLimitPortOut;
+    private final StageGraphFactory stageGraphFactory;
+    private final IncrementalContextRefresher incrementalContextRefresher;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
+    private final JobQueuePortOut jobQueuePortOut;
+    private final JobDeduplicationPortOut jobDeduplicationPortOut;
+    private final MeterRegistry meterRegistry;
+
+    // 작업 하나에서 동시에 실행하는 파일별 조회 수 (토큰 별 제한은 GithubConcurrencyLimiter)
+    @Value("${repository.file-fetch.max-concurrency:6}")
+    private int fileFetchConcurrency;
+
+    // 새 커밋의 캐시가 없을 때 이전 커밋의 커밋/언어/저장소 분석 캐시를 먼저 사용하고 백그라운드에서 갱신
+    @Value("${cache.stale-while-revalidate.enabled:false}")
+    private boolean staleWhileRevalidate;
+
+    // 같은 커밋, 기존 README, 프롬프트 버전으로 생성한 초안을 재사용 (forceRegenerate 요청은 제외)
+    @Value("${cache.draft.enabled:true}")
+    private boolean draftCacheEnabled;
+
+    @Value("${cache.draft.ttl:7d}")
+    private Duration draftCacheTtl;
+
+    // 같은 커밋, 초안 내용(정규화), 프롬프트 버전의 평가 결과를 재사용
+    @Value("${cache.evaluation.enabled:true}")
+    private boolean evaluationCacheEnabled;
+
+    @Value("${cache.evaluation.ttl:1d}")
+    private Duration evaluationCacheTtl;
+
+    // 저장소/브랜치 조회 시 해당 브랜치의 컨텍스트를 낮은 우선순위 작업으로 미리 생성 (토큰의 남은 Rate Limit이 min-remaining 이상일 때만)
+    @Value("${context.prewarm.enabled:false}")
+    private boolean prewarmEnabled;
+
+    @Value("${context.prewarm.min-remaining:1000}")
+    private int prewarmMinRemaining;
+
+    @Value("${context.prewarm.interval:10m}")
+    private Duration prewarmInterval;
 
     @Override
     public ResponseRepositories getRepositories(Long userId, Long installationId, Integer page, Integer perPage) {
@@ -80,6 +138,8 @@ public class RepositoryService implements RepositoryPortIn {
 
         // Repository 정보 조회
         RepositoryDetailResult repository = repositoryPortOut.getRepository(repoInfo);
+        requestPrewarm(userId, accessToken, owner, name, repository.defaultBranch());
+
         return RepositoryPortInMapper.INSTANCE.toResponseRepository(repository);
     }
 
@@ -96,6 +156,7 @@ public class RepositoryService implements RepositoryPortIn {
 
         String defaultBranchName = repositoryPortOut.getRepository(repoInfo).defaultBranch();
         List<String> branches = repositoryPortOut.getAllBranches(repoInfo);
+        requestPrewarm(userId, accessToken, owner, name, defaultBranchName);
 
         return new ResponseBranches(defaultBranchName, branches);
     }
@@ -206,131 +267,427 @@ public class RepositoryService implements RepositoryPortIn {
         }
     }
 
-    @Async
+    /**
+     * README 초안 평가 작업을 큐에 등록합니다.
+     * <br />
+     * 결과는 작업을 실행한 서버에서 SSE(연결이 없으면 Fallback 키)로 전달합니다.
+     */
     @Override
     public void evaluateDraftReadme(RequestDraftEvaluation request, String taskId, Long userId, String owner, String name) {
+        jobQueuePortOut.enqueue(JobType.DRAFT_EVALUATION, taskId, new DraftEvaluationJob(userId, owner, name, request));
+    }
+
+    /**
+     * README 초안 생성 작업을 큐에 등록합니다.
+     */
+    @Override
+    public void generateDraftReadme(RequestGeneration request, String taskId, Long userId, String owner, String name) {
+        jobQueuePortOut.enqueue(JobType.DRAFT_GENERATION, taskId, new DraftGenerationJob(userId, owner, name, request));
+    }
+
+    /**
+     * README 초안을 평가하고 결과를 전송합니다. (작업 큐 Worker에서 실행)
+     * <br />
+     * - CustomException은 재시도해도 결과가 같으므로 바로 오류를 전송하고, 그 외 예외는 작업 큐에서 재시도하도록 던집니다. <br />
+     * - 같은 커밋, 초안 내용, 프롬프트 버전의 평가 결과가 있으면 GPT를 호출하지 않고 바로 전송합니다. <br />
+     * - 같은 저장소, 커밋, 요청 내용의 평가가 실행 중이면 해당 작업에 연결하고, 결과는 연결된 모든 작업에 전송합니다.
+     */
+    @Override
+    public void processDraftEvaluation(RequestDraftEvaluation request, String taskId, Long userId, String owner, String name) {
         try {
             User user = userPortOut.getById(userId);
             log.info("User : {}", user);
             String accessToken = cipherPortOut.decrypt(user.getGithubUser().getGithubToken().value());
 
-            ReadmeContext readmeContext = generateReadmeContext(
-                    owner,
-                    name,
-                    accessToken,
-                    request.branch()
-            );
+            // 사용자 토큰으로 최신 커밋을 조회한 뒤 연결하므로, 접근 권한이 없는 저장소의 결과는 받을 수 없음
+            ResolvedHead head = resolveHead(owner, name, accessToken, request.branch());
+            String evaluationKey = evaluationCacheEnabled ? createEvaluationCacheKey(owner, name, head.sha(), request.content()) : null;
 
-            EvaluationContentResult response = gptPortOut.evaluateReadme(
-                    new EvaluationCommand(
-                            owner + "/" + name,
-                            request.content(),
-                            new RepositoryInfoCommand(
-                                    readmeContext.languages(),
-                                    readmeContext.commits(),
-                                    readmeContext.trees()
-                            ),
-                            readmeContext.entryContents(),
-                            readmeContext.importantFileContents(),
-                            readmeContext.repositoryInfo().techStack(),
-                            readmeContext.repositoryInfo().projectSize()
-                    )
-            );
+            if (evaluationKey != null) {
+                EvaluationContentResult cachedEvaluation = readResultCache(JobType.DRAFT_EVALUATION, evaluationKey, new TypeReference<>() {});
 
-            sseSend(
-                    RedisKey.SSE_EMITTER_EVALUATION_DRAFT_KEY.getValue() + taskId,
-                    taskId,
-                    SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName(),
-                    new ResponseEvaluation(
-                            response.rating(),
-                            response.contents()
-                    )
-            );
-        } catch (Exception e) {
-            sseSendError(
-                    taskId,
-                    SSETaskName.COMPLETION_EVALUATE_DRAFT_ERROR.getTaskName(),
-                    e
-            );
+                if (cachedEvaluation != null) {
+                    sendEvaluation(taskId, new ResponseEvaluation(cachedEvaluation.rating(), cachedEvaluation.contents()));
+                    return;
+                }
+            }
+
+            String dedupKey = createDedupKey(JobType.DRAFT_EVALUATION, owner, name, head.sha(), request);
+
+            if (!jobDeduplicationPortOut.acquireOrAttach(dedupKey, new AttachedJob(taskId, userId))) {
+                log.info("Draft evaluation attached to running job. taskId = {}, key = {}", taskId, dedupKey);
+                return;
+            }
+
+            ResponseEvaluation evaluation;
+
+            try {
+                ReadmeContext readmeContext = generateReadmeContext(owner, name, head);
+
+                EvaluationContentResult response = gptPortOut.evaluateReadme(
+                        new EvaluationCommand(
+                                owner + "/" + name,
+                                request.content(),
+                                new RepositoryInfoCommand(
+                                        readmeContext.languages(),
+                                        readmeContext.commits(),
+                                        readmeContext.trees()
+                                ),
+                                readmeContext.entryContents(),
+                                readmeContext.importantFileContents(),
+                                readmeContext.repositoryInfo().techStack(),
+                                readmeContext.repositoryInfo().projectSize()
+                        )
+                );
+
+                // 이전 커밋의 캐시로 만든 결과는 최신 커밋 key에 저장하지 않음
+                if (evaluationKey != null && !readmeContext.stale()) {
+                    writeResultCache(JobType.DRAFT_EVALUATION, evaluationKey, response, evaluationCacheTtl);
+                }
+
+                evaluation = new ResponseEvaluation(
+                        response.rating(),
+                        response.contents()
+                );
+            } catch (RuntimeException e) {
+                releaseOnFailure(
+                        dedupKey,
+                        taskId,
+                        e,
+                        attached -> jobQueuePortOut.enqueue(
+                                JobType.DRAFT_EVALUATION,
+                                attached.taskId(),
+                                new DraftEvaluationJob(attached.userId(), owner, name, request)
+                        ),
+                        this::failDraftEvaluation
+                );
+                throw e;
+            }
+
+            List<AttachedJob> attachedJobs = jobDeduplicationPortOut.release(dedupKey, taskId);
+
+            sendEvaluation(taskId, evaluation);
+            attachedJobs.forEach(attached -> sendEvaluation(attached.taskId(), evaluation));
+        } catch (CustomException e) {
+            failDraftEvaluation(taskId, e);
         }
     }
 
-    @Async
-    @Transactional
+    /**
+     * README 초안을 생성하고 섹션으로 저장합니다. (작업 큐 Worker에서 실행)
+     * <br />
+     * - 같은 커밋, 기존 README, 프롬프트 버전으로 생성한 초안이 있으면 GPT를 호출하지 않고 바로 섹션으로 저장합니다. (forceRegenerate 제외) <br />
+     * - 같은 저장소, 커밋의 생성이 실행 중이면 해당 작업에 연결하고, 생성된 초안은 연결된 사용자 별로 섹션을 저장하여 전송합니다. <br />
+     * - 섹션은 사용자 별 트랜잭션으로 저장하며, 연결된 작업 하나의 저장 실패는 해당 작업에만 실패로 전달합니다.
+     */
     @Override
-    public void generateDraftReadme(RequestGeneration request, String taskId, Long userId, String owner, String name) {
+    public void processDraftGeneration(RequestGeneration request, String taskId, Long userId, String owner, String name) {
         try {
             User user = userPortOut.getById(userId);
             String accessToken = cipherPortOut.decrypt(user.getGithubUser().getGithubToken().value());
 
-            ReadmeContext readmeContext = generateReadmeContext(
-                    owner,
-                    name,
-                    accessToken,
-                    request.branch()
-            );
+            ResolvedHead head = resolveHead(owner, name, accessToken, request.branch());
+            String draftKey = draftCacheEnabled ? createDraftCacheKey(owner, name, head) : null;
 
-            String draftReadme = gptPortOut.generateDraftReadme(
-                    new GenerateReadmeCommand(
-                            owner + "/" + name,
-                            readmeContext.readme(),
-                            new RepositoryInfoCommand(
-                                    readmeContext.languages(),
-                                    readmeContext.commits(),
-                                    readmeContext.trees()
-                            ),
-                            readmeContext.entryContents(),
-                            readmeContext.importantFileContents(),
-                            readmeContext.repositoryInfo().techStack(),
-                            readmeContext.repositoryInfo().projectSize()
-                    )
-            );
+            if (draftKey != null && !request.forceRegenerate()) {
+                String cachedDraft = readResultCache(JobType.DRAFT_GENERATION, draftKey, new TypeReference<>() {});
 
-            Project project = projectPortOut.getByUserIdAndRepoFullName(userId, owner + "/" + name)
-                    .orElseGet(() -> projectPortOut.save(new Project(null, userId, owner + "/" + name)));
+                if (cachedDraft != null) {
+                    sendGeneration(taskId, userId, owner, name, cachedDraft);
+                    return;
+                }
+            }
 
-            List<Section> existingSections = sectionPortOut.getSectionsByUserIdAndRepoFullName(userId, owner + "/" + name);
+            String dedupKey = createDedupKey(JobType.DRAFT_GENERATION, owner, name, head.sha(), request);
 
-            if (!existingSections.isEmpty()) {
-                sectionPortOut.deleteAllByUserIdAndRepoFullName(userId, owner + "/" + name);
+            if (!jobDeduplicationPortOut.acquireOrAttach(dedupKey, new AttachedJob(taskId, userId))) {
+                log.info("Draft generation attached to running job. taskId = {}, key = {}", taskId, dedupKey);
+                return;
             }
 
-            List<Section> savedSections = sectionPortOut.saveAll(
-                    Section.splitContent(
-                            project.getId(),
-                            draftReadme,
-                            Section.SplitMode.SPLIT
-                    )
-            );
+            String draftReadme;
+            boolean staleContext;
 
-            sseSend(
-                    RedisKey.SSE_EMITTER_GENERATION_KEY.getValue() + taskId,
-                    taskId,
-                    SSETaskName.COMPLETION_GENERATE.getTaskName(),
-                    new ResponseSections(
-                            savedSections.stream()
-                                    .map(SectionPortInMapper.INSTANCE::toResponseSection)
-                                    .toList()
-                    )
+            try {
+                ReadmeContext readmeContext = generateReadmeContext(owner, name, head);
+                staleContext = readmeContext.stale();
+
+                draftReadme = gptPortOut.generateDraftReadme(
+                        new GenerateReadmeCommand(
+                                owner + "/" + name,
+                                readmeContext.readme(),
+                                new RepositoryInfoCommand(
+                                        readmeContext.languages(),
+                                        readmeContext.commits(),
+                                        readmeContext.trees()
+                                ),
+                                readmeContext.entryContents(),
+                                readmeContext.importantFileContents(),
+                                readmeContext.repositoryInfo().techStack(),
+                                readmeContext.repositoryInfo().projectSize()
+                        )
+                );
+            } catch (RuntimeException e) {
+                releaseOnFailure(
+                        dedupKey,
+                        taskId,
+                        e,
+                        attached -> jobQueuePortOut.enqueue(
+                                JobType.DRAFT_GENERATION,
+                                attached.taskId(),
+                                new DraftGenerationJob(attached.userId(), owner, name, request)
+                        ),
+                        this::failDraftGeneration
+                );
+                throw e;
+            }
+
+            // 이전 커밋의 캐시로 만든 초안은 최신 커밋 key에 저장하지 않음
+            if (draftKey != null && !staleContext) {
+                writeResultCache(JobType.DRAFT_GENERATION, draftKey, draftReadme, draftCacheTtl);
+            }
+
+            List<AttachedJob> attachedJobs = jobDeduplicationPortOut.release(dedupKey, taskId);
+
+            // 연결된 작업을 먼저 전송하여, 요청한 작업의 저장이 실패해 재시도되더라도 연결된 작업에는 결과가 전달되도록 함
+            attachedJobs.forEach(attached -> {
+                try {
+                    sendGeneration(attached.taskId(), attached.userId(), owner, name, draftReadme);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to send draft to attached job. taskId = {}", attached.taskId(), e);
+                    failDraftGeneration(attached.taskId(), e);
+                }
+            });
+
+            sendGeneration(taskId, userId, owner, name, draftReadme);
+        } catch (CustomException e) {
+            failDraftGeneration(taskId, e);
+        }
+    }
+
+    @Override
+    public void failDraftEvaluation(String taskId, Exception e) {
+        sseSendError(
+                taskId,
+                SSETaskName.COMPLETION_EVALUATE_DRAFT_ERROR.getTaskName(),
+                e
+        );
+    }
+
+    @Override
+    public void failDraftGeneration(String taskId, Exception e) {
+        sseSendError(
+                taskId,
+                SSETaskName.COMPLETION_GENERATE_ERROR.getTaskName(),
+                e
+        );
+    }
+
+    /**
+     * 브랜치의 최신 커밋 기준 컨텍스트(트리, 커밋, 언어, 저장소 분석, 파일 내용)를 미리 생성하여 캐시에 저장합니다. (작업 큐 Worker에서 실행)
+     * <br />
+     * 캐시 적재가 목적이므로 실패해도 재시도하지 않습니다.
+     */
+    @Override
+    public void prewarmContext(Long userId, String owner, String name, String branch) {
+        try {
+            User user = userPortOut.getById(userId);
+            String accessToken = cipherPortOut.decrypt(user.getGithubUser().getGithubToken().value());
+
+            // 등록 이후 사용자 요청으로 Rate Limit을 사용했을 수 있으므로 실행 전에 다시 확인
+            if (!hasPrewarmBudget(accessToken)) {
+                log.info("Skip context prewarm. Not enough rate limit. repo = {}/{}, branch = {}", owner, name, branch);
+                return;
+            }
+
+            generateReadmeContext(owner, name, resolveHead(owner, name, accessToken, branch));
+            log.info("Context prewarmed. repo = {}/{}, branch = {}", owner, name, branch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to prewarm context. repo = {}/{}, branch = {}", owner, name, branch, e);
+        }
+    }
+
+    /**
+     * 컨텍스트 미리 생성 작업을 낮은 우선순위로 등록합니다.
+     * <br />
+     * - 같은 저장소/브랜치는 context.prewarm.interval 동안 한 번만 등록합니다. <br />
+     * - 저장소/브랜치 조회 응답에 영향을 주지 않도록 실패는 무시합니다.
+     */
+    private void requestPrewarm(Long userId, String accessToken, String owner, String name, String branch) {
+        if (!prewarmEnabled || branch == null) { return; }
+
+        try {
+            if (!hasPrewarmBudget(accessToken)) { return; }
+
+            boolean requested = redisPortOut.setIfAbsent(
+                    RedisKey.CONTEXT_PREWARM_KEY.getValue() + owner + "/" + name + ":" + branch,
+                    String.valueOf(userId),
+                    Instant.now().plus(prewarmInterval)
             );
-        } catch (Exception e) {
-            sseSendError(
-                    taskId,
-                    SSETaskName.COMPLETION_GENERATE_ERROR.getTaskName(),
-                    e
+
+            if (!requested) { return; }
+
+            jobQueuePortOut.enqueue(
+                    JobType.CONTEXT_PREWARM,
+                    "prewarm-" + UUID.randomUUID(),
+                    new ContextPrewarmJob(userId, owner, name, branch)
             );
+        } catch (RuntimeException e) {
+            log.warn("Failed to request context prewarm. repo = {}/{}, branch = {}", owner, name, branch, e);
+        }
+    }
+
+    // 남은 Rate Limit을 아직 모르면(조회 전) 허용
+    private boolean hasPrewarmBudget(String accessToken) {
+        OptionalInt available = githubRateLimitPortOut.getAvailable(accessToken);
+        return available.isEmpty() || available.getAsInt() >= prewarmMinRemaining;
+    }
+
+    private void sendEvaluation(String taskId, ResponseEvaluation evaluation) {
+        sseSend(
+                RedisKey.SSE_EMITTER_EVALUATION_DRAFT_KEY.getValue() + taskId,
+                taskId,
+                SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName(),
+                evaluation
+        );
+    }
+
+    private void sendGeneration(String taskId, Long userId, String owner, String name, String draftReadme) {
+        List<Section> savedSections = draftSectionWriter.replaceSections(userId, owner + "/" + name, draftReadme);
+
+        sseSend(
+                RedisKey.SSE_EMITTER_GENERATION_KEY.getValue() + taskId,
+                taskId,
+                SSETaskName.COMPLETION_GENERATE.getTaskName(),
+                new ResponseSections(
+                        savedSections.stream()
+                                .map(SectionPortInMapper.INSTANCE::toResponseSection)
+                                .toList()
+                )
+        );
+    }
+
+    /**
+     * 평가/생성 결과 캐시를 조회하고 cache.result.requests{type, result} 메트릭으로 Hit/Miss를 기록합니다.
+     */
+    private <T> T readResultCache(JobType type, String key, TypeReference<T> typeRef) {
+        T cached = redisPortOut.getObject(key, typeRef);
+
+        meterRegistry.counter(
+                "cache.result.requests",
+                "type", type.getValue(),
+                "result", cached != null ? "hit" : "miss"
+        ).increment();
+
+        if (cached != null) {
+            log.info("Result cache hit. type = {}, key = {}", type.getValue(), key);
+        }
+
+        return cached;
+    }
+
+    /**
+     * 평가/생성 결과를 캐시에 저장합니다.
+     * <br />
+     * 캐시 저장은 부가 기능이므로, 실패해도 결과 전송과 작업 완료 처리는 계속 진행합니다.
+     */
+    private void writeResultCache(JobType type, String key, Object value, Duration ttl) {
+        try {
+            redisPortOut.setObject(key, value, Instant.now().plus(ttl));
+        } catch (RuntimeException e) {
+            log.warn("Result cache write failed. type = {}, key = {}", type.getValue(), key, e);
+        }
+    }
+
+    /**
+     * 평가 결과의 캐시 key를 생성합니다.
+     * <br />
+     * 줄바꿈 형식(CRLF/LF), 줄 끝 공백, 앞뒤 공백만 다른 초안은 같은 내용으로 봅니다.
+     */
+    private String createEvaluationCacheKey(String owner, String name, String sha, String content) {
+        String normalized = content == null
+                ? ""
+                : content.lines()
+                        .map(String::stripTrailing)
+                        .collect(Collectors.joining("\n"))
+                        .strip();
+
+        return RedisKeyFactory.createEvaluationKey(
+                owner,
+                name,
+                sha,
+                DigestUtils.md5DigestAsHex(normalized.getBytes(StandardCharsets.UTF_8)),
+                GPTSystemPrompt.EVALUATION_VERSION
+        );
+    }
+
+    /**
+     * 생성된 초안의 캐시 key를 생성합니다.
+     * <br />
+     * 기존 README는 컨텍스트 생성과 같은 캐시를 사용하므로, 이후 컨텍스트 생성 시 다시 조회하지 않습니다.
+     */
+    private String createDraftCacheKey(String owner, String name, ResolvedHead head) {
+        String readmeKey = RedisKeyFactory.createReadmeKey(owner, name, head.sha());
+        String readme = getReadmeWithCache(
+                new RepoBranchCommand(head.branchCommand().repoInfo(), head.sha()),
+                head.snapshot(),
+                redisPortOut.multiGet(List.of(readmeKey)),
+                head.sha(),
+                Instant.now().plus(3, ChronoUnit.HOURS)
+        );
+
+        return RedisKeyFactory.createDraftReadmeKey(
+                owner,
+                name,
+                head.sha(),
+                DigestUtils.md5DigestAsHex(String.valueOf(readme).getBytes(StandardCharsets.UTF_8)),
+                GPTSystemPrompt.DRAFT_README_GENERATION_VERSION
+        );
+    }
+
+    /**
+     * 작업 중복 제거 key를 생성합니다.
+     * <br />
+     * {작업 종류}:{owner}/{name}:{커밋 SHA}:{요청 내용 해시}
+     */
+    private String createDedupKey(JobType type, String owner, String name, String sha, Object request) {
+        String fingerprint = DigestUtils.md5DigestAsHex(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+        return type.getValue() + ":" + owner + "/" + name + ":" + sha + ":" + fingerprint;
+    }
+
+    /**
+     * 실행 권한을 가진 작업이 실패한 경우 실행 권한을 반납하고 연결된 작업을 처리합니다.
+     * <br />
+     * - CustomException은 연결된 작업도 결과가 같으므로 같은 오류를 전송합니다. <br />
+     * - 그 외 예외는 이 작업만 재시도되므로, 연결된 작업은 각자 다시 큐에 등록합니다. (다시 하나로 합쳐짐)
+     */
+    private void releaseOnFailure(
+            String dedupKey,
+            String taskId,
+            RuntimeException e,
+            Consumer<AttachedJob> requeue,
+            BiConsumer<String, Exception> fail
+    ) {
+        List<AttachedJob> attachedJobs = jobDeduplicationPortOut.release(dedupKey, taskId);
+
+        for (AttachedJob attached : attachedJobs) {
+            if (e instanceof CustomException) {
+                fail.accept(attached.taskId(), e);
+            } else {
+                requeue.accept(attached);
+            }
         }
     }
 
     private <T> T getFallbackResult(String key, String taskId, TypeReference<T> typeReference) {
-        T cached = redisPortOut.getObject(key, typeReference);
+        // 조회와 삭제를 한 번에 처리하여 같은 결과를 두 번 가져가지 않도록 함
+        T cached = redisPortOut.getAndDeleteObject(key, typeReference);
 
         if (cached == null) {
             throw new CustomException(RepositoryErrorCode.FALLBACK_NOT_FOUND);
         }
 
         ssePortOut.deleteEmitter(taskId);
-        redisPortOut.delete(key);
         return cached;
     }
 
@@ -364,84 +721,219 @@ public class RepositoryService implements RepositoryPortIn {
         }
     }
 
-    private ReadmeContext generateReadmeContext(
+    /**
+     * 브랜치의 최신 커밋 SHA를 조회합니다.
+     * <br />
+     * 함께 조회한 스냅샷(README, 언어 정보 등)은 컨텍스트 생성에 재사용합니다.
+     */
+    private ResolvedHead resolveHead(
             String owner,
             String name,
             String accessToken,
             String branch
     ) {
-        RepoInfoCommand repoInfoCommand = new RepoInfoCommand(
-                accessToken,
-                owner,
-                name
-        );
-
         RepoBranchCommand branchCommand = new RepoBranchCommand(
-                repoInfoCommand,
+                new RepoInfoCommand(
+                        accessToken,
+                        owner,
+                        name
+                ),
                 branch
         );
 
+        // GraphQL 한 번으로 최신 커밋 SHA, README, 언어 정보를 조회 (조회 실패한 필드만 REST로 대체)
+        RepositorySnapshotResult snapshot = Optional.ofNullable(repositoryPortOut.getRepositorySnapshot(branchCommand))
+                .orElseGet(RepositorySnapshotResult::empty);
+
         // 최신 커밋 SHA 조회 (캐싱 여부 판단용)
-        String latestShaKey = repositoryPortOut.getRecentSHA(branchCommand);
+        String latestShaKey = snapshot.headSha() != null
+                ? snapshot.headSha()
+                : repositoryPortOut.getRecentSHA(branchCommand);
 
         if (latestShaKey == null) {
             throw new CustomException(RepositoryErrorCode.BRANCH_NOT_FOUND);
         }
 
+        return new ResolvedHead(branchCommand, snapshot, latestShaKey);
+    }
+
+    private ReadmeContext generateReadmeContext(
+            String owner,
+            String name,
+            ResolvedHead head
+    ) {
+        RepoBranchCommand branchCommand = head.branchCommand();
+        RepoInfoCommand repoInfoCommand = branchCommand.repoInfo();
+        RepositorySnapshotResult snapshot = head.snapshot();
+        String latestShaKey = head.sha();
+        // 트리/README는 확정한 커밋 기준으로 조회 (브랜치 기준이면 그 사이 push된 내용이 이전 커밋 캐시에 저장될 수 있음)
+        RepoBranchCommand shaCommand = new RepoBranchCommand(repoInfoCommand, latestShaKey);
+
         Instant expiration = Instant.now().plus(3, ChronoUnit.HOURS);
 
-        String readme = getReadmeWithCache(branchCommand, latestShaKey, expiration);
-        List<RepositoryInfoCommand.CommitCommand> commits = getCommitsWithCache(
-                branchCommand,
-                latestShaKey,
-                expiration
-        );
-        List<RepositoryLanguageResult> languages = getLanguagesWithCache(repoInfoCommand, latestShaKey, expiration);
-        List<RepositoryTreeResult> trees = getTreesWithCache(branchCommand, latestShaKey, expiration);
-        GPTRepositoryInfoResult repositoryInfo = getRepositoryWithCache(
-                owner, name, latestShaKey,
-                new RepositoryInfoCommand(
-                        languages,
-                        commits,
-                        trees
-                ),
-                expiration
+        // 이전에 컨텍스트를 만든 커밋이 있으면 변경분만 반영하여 새 커밋 캐시를 미리 채움
+        String previousSha = incrementalContextRefresher.refresh(branchCommand, latestShaKey, expiration);
+        String staleSha = staleWhileRevalidate ? previousSha : null;
+        // 이전 커밋의 캐시를 사용한 경우, 그 값으로 만든 Manifest/결과는 최신 커밋 key에 저장하지 않음
+        AtomicBoolean stale = new AtomicBoolean(false);
+
+        // 각 단계의 캐시를 한 번에 조회 (Cache Hit 시 Redis 왕복 1회)
+        RedisValues cached = prefetchContext(owner, name, latestShaKey, staleSha);
+
+        // README/커밋/언어/트리 -> 저장소 분석(GPT) -> 엔트리/중요 파일 순으로 의존하는 작업 그래프
+        StageGraph graph = stageGraphFactory.create("readme-context");
+
+        StageGraph.Stage<String> readme = graph.stage(
+                "readme",
+                () -> getReadmeWithCache(shaCommand, snapshot, cached, latestShaKey, expiration)
+        );
+        StageGraph.Stage<List<RepositoryInfoCommand.CommitCommand>> commits = graph.stage(
+                "commits",
+                () -> getCommitsWithCache(branchCommand, cached, latestShaKey, staleSha, stale, expiration)
+        );
+        StageGraph.Stage<List<RepositoryLanguageResult>> languages = graph.stage(
+                "languages",
+                () -> getLanguagesWithCache(repoInfoCommand, snapshot, cached, latestShaKey, staleSha, stale, expiration)
+        );
+        StageGraph.Stage<List<RepositoryTreeResult>> trees = graph.stageAsync(
+                "trees",
+                () -> getTreesWithCacheAsync(shaCommand, cached, latestShaKey, expiration)
+        );
+
+        StageGraph.Stage<GPTRepositoryInfoResult> repositoryInfo = graph.stage(
+                "analysis",
+                List.of(commits, languages, trees),
+                () -> getRepositoryWithCache(
+                        owner, name, cached, latestShaKey, staleSha, stale,
+                        new RepositoryInfoCommand(
+                                languages.get(),
+                                commits.get(),
+                                trees.get()
+                        ),
+                        expiration
+                )
         );
-        List<RepositoryFileContentResult> entryContents = getEntryContentsWithCache(branchCommand, repositoryInfo, latestShaKey, expiration);
-        List<RepositoryFileContentResult> importantFileContents = getImportantFileContentsWithCache(
-                branchCommand,
-                repositoryInfo,
-                latestShaKey, expiration
+        StageGraph.Stage<FileContentSource> fileContentSource = graph.stage(
+                "file-source",
+                List.of(repositoryInfo, trees),
+                () -> createFileContentSource(branchCommand, repositoryInfo.get(), trees.get(), snapshot, cached, latestShaKey, stale.get())
         );
 
+        // 엔트리/중요 파일 목록은 서로 독립적이므로 동시에 조회
+        StageGraph.Stage<List<RepositoryFileContentResult>> entryContents = graph.stageAsync(
+                "entry-files",
+                List.of(fileContentSource),
+                () -> getFileContentsWithCacheAsync(
+                        fileContentSource.get(),
+                        fileContentSource.get().entryFiles(),
+                        expiration
+                )
+        );
+        StageGraph.Stage<List<RepositoryFileContentResult>> importantFileContents = graph.stageAsync(
+                "important-files",
+                List.of(fileContentSource),
+                () -> getFileContentsWithCacheAsync(
+                        fileContentSource.get(),
+                        fileContentSource.get().importantFiles(),
+                        expiration
+                )
+        );
+
+        graph.await();
+        incrementalContextRefresher.markBuilt(branchCommand, latestShaKey, expiration);
+
         return new ReadmeContext(
-                readme,
-                commits,
-                repositoryInfo,
-                languages,
-                trees,
-                entryContents,
-                importantFileContents
+                readme.get(),
+                commits.get(),
+                repositoryInfo.get(),
+                languages.get(),
+                trees.get(),
+                entryContents.get(),
+                importantFileContents.get(),
+                stale.get()
         );
     }
 
+    /**
+     * 캐시를 조회하고, Cache Miss인 경우 원본을 조회하여 캐시에 저장합니다.
+     * <br />
+     * - 같은 key의 동시 Cache Miss는 {@link CacheLoadCoordinator}가 한 번만 조회하도록 합니다. <br />
+     * - staleKey(이전 커밋 캐시)가 있으면 이전 값을 바로 반환하고, 새 값은 백그라운드에서 적재합니다.
+     *
+     * @param cached        미리 조회한 캐시
+     * @param key           캐시 key
+     * @param staleKey      대신 사용할 수 있는 이전 커밋의 캐시 key (사용하지 않으면 null)
+     * @param staleUsed     이전 값을 반환한 경우 true로 표시 (staleKey가 없으면 null)
+     * @param loader        원본 조회
+     * @param cacheReader   조회 결과에서 값을 읽는 함수
+     * @param cacheWriter   캐시 저장
+     */
     private <T> T getOrLoadAndCache(
+            RedisValues cached,
             String key,
+            String staleKey,
+            AtomicBoolean staleUsed,
             Supplier<T> loader,
-            Function<String, T> cacheReader,
+            BiFunction<RedisValues, String, T> cacheReader,
             BiConsumer<String, T> cacheWriter
     ) {
+        T cachedData = readCache(cached, key, cacheReader);
+        if (cachedData != null) {
+            return cachedData;
+        }
+
+        Supplier<T> loadAndWrite = () -> writeCache(key, loader.get(), cacheWriter);
+        Supplier<T> sharedReader = () -> readShared(key, cacheReader);
+
+        T staleData = staleKey != null ? readCache(cached, staleKey, cacheReader) : null;
+        if (staleData != null) {
+            staleUsed.set(true);
+            cacheLoadCoordinator.revalidateAsync(key, loadAndWrite, sharedReader);
+            return staleData;
+        }
+
+        return cacheLoadCoordinator.load(key, loadAndWrite, sharedReader);
+    }
+
+    /**
+     * {@link #getOrLoadAndCache}의 비동기 버전
+     * <br />
+     * 캐시 조회는 호출 스레드에서 바로 수행하고, Cache Miss인 경우에만 비동기로 조회 후 캐시에 저장합니다.
+     */
+    private <T> CompletableFuture<T> getOrLoadAndCacheAsync(
+            RedisValues cached,
+            String key,
+            Supplier<CompletableFuture<T>> loader,
+            BiFunction<RedisValues, String, T> cacheReader,
+            BiConsumer<String, T> cacheWriter
+    ) {
+        T cachedData = readCache(cached, key, cacheReader);
+        if (cachedData != null) {
+            return CompletableFuture.completedFuture(cachedData);
+        }
+
+        return cacheLoadCoordinator.loadAsync(
+                key,
+                () -> loader.get().thenApply(data -> writeCache(key, data, cacheWriter)),
+                () -> readShared(key, cacheReader)
+        );
+    }
+
+    private <T> T readCache(RedisValues cached, String key, BiFunction<RedisValues, String, T> cacheReader) {
         try {
-            T cachedData = cacheReader.apply(key);
-            if (cachedData != null) {
-                return cachedData;
-            }
+            return cacheReader.apply(cached, key);
         } catch (Exception e) {
             log.warn("Cache read failed for key {}: {}", key, e.getMessage());
+            return null;
         }
+    }
 
-        T data = loader.get();
+    // 다른 요청이 적재한 결과는 미리 조회한 캐시에 없으므로 Redis에서 다시 조회
+    private <T> T readShared(String key, BiFunction<RedisValues, String, T> cacheReader) {
+        return cacheReader.apply(redisPortOut.multiGet(List.of(key)), key);
+    }
 
+    private <T> T writeCache(String key, T data, BiConsumer<String, T> cacheWriter) {
         if (data != null) {
             try {
                 cacheWriter.accept(key, data);
@@ -453,24 +945,51 @@ public class RepositoryService implements RepositoryPortIn {
         return data;
     }
 
+    /**
+     * 비동기 작업의 결과를 기다립니다.
+     * <br />
+     * CompletionException에 감싸진 CustomException 등은 원래 예외로 풀어서 던집니다.
+     */
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw e;
+        }
+    }
+
     private List<RepositoryInfoCommand.CommitCommand> getCommits(
             RepoBranchCommand command
     ) {
         ContributorsResult contributors = repositoryPortOut.getContributors(command.repoInfo());
-        List<CompletableFuture<CommitResult>> commitFutures = contributors.contributors().stream()
-                .map(contributor -> CompletableFuture.supplyAsync(() ->
-                        commitPortOut.getCommits(command, contributor)
-                ))
-                .toList();
 
-        // size 계산보다 자바가 알아서 크기 최적화하는 것이 빠르므로 toArray에 0 전달
-        CompletableFuture<List<CommitResult>> commitsFuture = CompletableFuture.allOf(commitFutures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> commitFutures.stream()
-                        .map(CompletableFuture::join)
-                        .toList()
-                );
+        List<CommitResult> commitResults;
+
+        // 기여자별 최신 커밋 페이지 요청 수만큼 Rate Limit 예산을 먼저 확보 (추가 페이지는 CommitAdapter에서 확보)
+        try (GithubRateLimitReservation reservation = githubRateLimitPortOut.reserve(
+                command.repoInfo().accessToken(),
+                contributors.contributors().size()
+        )) {
+            // 기여자별 커밋 조회는 GitHub I/O 전용 스레드 풀에서 실행
+            List<CompletableFuture<CommitResult>> commitFutures = contributors.contributors().stream()
+                    .map(contributor -> commitPortOut.getCommitsAsync(command, contributor, reservation))
+                    .toList();
+
+            // size 계산보다 자바가 알아서 크기 최적화하는 것이 빠르므로 toArray에 0 전달
+            CompletableFuture<List<CommitResult>> commitsFuture = CompletableFuture.allOf(commitFutures.toArray(new CompletableFuture[0]))
+                    .thenApply(v -> commitFutures.stream()
+                            .map(CompletableFuture::join)
+                            .toList()
+                    );
 
-        return commitsFuture.join().stream()
+            commitResults = await(commitsFuture);
+        }
+
+        return commitResults.stream()
                 .map(commitResult -> new RepositoryInfoCommand.CommitCommand(
                         new RepositoryInfoCommand.ContributorCommand(
                                 commitResult.contributor().username(),
@@ -489,8 +1008,41 @@ public class RepositoryService implements RepositoryPortIn {
                 .toList();
     }
 
+    /**
+     * README 컨텍스트 생성에 사용하는 커밋 단위 캐시를 MGET 한 번으로 조회합니다.
+     * <br />
+     * - staleSha가 있으면 이전 값을 사용할 수 있는 커밋/언어/저장소 분석 캐시도 함께 조회합니다. <br />
+     * - 조회에 실패하면 빈 결과를 반환하여 각 단계가 Cache Miss로 처리하도록 합니다.
+     */
+    private RedisValues prefetchContext(String owner, String name, String sha, String staleSha) {
+        List<String> keys = new ArrayList<>(List.of(
+                RedisKeyFactory.createReadmeKey(owner, name, sha),
+                RedisKeyFactory.createCommitsKey(owner, name, sha),
+                RedisKeyFactory.createLanguageKey(owner, name, sha),
+                RedisKeyFactory.createTreeKey(owner, name, sha),
+                RedisKeyFactory.createRepoInfoKey(owner, name, sha),
+                RedisKeyFactory.createEntryFileKey(owner, name, sha),
+                RedisKeyFactory.createImportanceFileKey(owner, name, sha)
+        ));
+
+        if (staleSha != null) {
+            keys.add(RedisKeyFactory.createCommitsKey(owner, name, staleSha));
+            keys.add(RedisKeyFactory.createLanguageKey(owner, name, staleSha));
+            keys.add(RedisKeyFactory.createRepoInfoKey(owner, name, staleSha));
+        }
+
+        try {
+            return redisPortOut.multiGet(keys);
+        } catch (Exception e) {
+            log.warn("Cache prefetch failed for {}/{}@{}: {}", owner, name, sha, e.getMessage());
+            return RedisValues.empty();
+        }
+    }
+
     private String getReadmeWithCache(
             RepoBranchCommand command,
+            RepositorySnapshotResult snapshot,
+            RedisValues cached,
             String sha,
             Instant expiration
     ) {
@@ -501,53 +1053,65 @@ public class RepositoryService implements RepositoryPortIn {
         );
 
         return getOrLoadAndCache(
+                cached,
                 key,
-                () -> repositoryPortOut.getReadmeContent(command),
-                redisPortOut::get,
+                null,
+                null,
+                () -> snapshot.readme() != null
+                        ? snapshot.readme()
+                        : repositoryPortOut.getReadmeContent(command),
+                RedisValues::get,
                 (writeKey, val) -> redisPortOut.set(writeKey, val, expiration)
         );
     }
 
     private List<RepositoryInfoCommand.CommitCommand> getCommitsWithCache(
         RepoBranchCommand command,
+        RedisValues cached,
         String sha,
+        String staleSha,
+        AtomicBoolean stale,
         Instant expiration
     ) {
-        String key = RedisKeyFactory.createCommitsKey(
-                command.repoInfo().owner(),
-                command.repoInfo().name(),
-                sha
-        );
+        String owner = command.repoInfo().owner();
+        String name = command.repoInfo().name();
 
         return getOrLoadAndCache(
-                key,
+                cached,
+                RedisKeyFactory.createCommitsKey(owner, name, sha),
+                staleSha != null ? RedisKeyFactory.createCommitsKey(owner, name, staleSha) : null,
+                stale,
                 () -> getCommits(command),
-                (readKey) -> redisPortOut.getObject(readKey, new TypeReference<List<RepositoryInfoCommand.CommitCommand>>() {}),
+                (values, readKey) -> values.getObject(readKey, new TypeReference<List<RepositoryInfoCommand.CommitCommand>>() {}),
                 (writeKey, val) -> redisPortOut.setObject(writeKey, val, expiration)
         );
     }
 
     private List<RepositoryLanguageResult> getLanguagesWithCache(
             RepoInfoCommand command,
+            RepositorySnapshotResult snapshot,
+            RedisValues cached,
             String sha,
+            String staleSha,
+            AtomicBoolean stale,
             Instant expiration
     ) {
-        String key = RedisKeyFactory.createLanguageKey(
-                command.owner(),
-                command.name(),
-                sha
-        );
-
         return getOrLoadAndCache(
-                key,
-                () -> repositoryPortOut.getRepositoryLanguages(command),
-                (readKey) -> redisPortOut.getObject(readKey, new TypeReference<List<RepositoryLanguageResult>>() {}),
+                cached,
+                RedisKeyFactory.createLanguageKey(command.owner(), command.name(), sha),
+                staleSha != null ? RedisKeyFactory.createLanguageKey(command.owner(), command.name(), staleSha) : null,
+                stale,
+                () -> snapshot.languages() != null
+                        ? snapshot.languages()
+                        : repositoryPortOut.getRepositoryLanguages(command),
+                (values, readKey) -> values.getObject(readKey, new TypeReference<List<RepositoryLanguageResult>>() {}),
                 (writeKey, val) -> redisPortOut.setObject(writeKey, val, expiration)
         );
     }
 
-    private List<RepositoryTreeResult> getTreesWithCache(
+    private CompletableFuture<List<RepositoryTreeResult>> getTreesWithCacheAsync(
             RepoBranchCommand command,
+            RedisValues cached,
             String sha,
             Instant expiration
     ) {
@@ -557,13 +1121,12 @@ public class RepositoryService implements RepositoryPortIn {
                 sha
         );
 
-        return getOrLoadAndCache(
+        return getOrLoadAndCacheAsync(
+                cached,
                 key,
-                () -> {
-                    List<RepositoryTreeResult> results = repositoryPortOut.getRepositoryTree(command);
-                    return repositoryTreeFilterPortOut.filter(results);
-                },
-                (readKey) -> redisPortOut.getObject(readKey, new TypeReference<List<RepositoryTreeResult>>() {}),
+                () -> repositoryPortOut.getRepositoryTreeAsync(command)
+                        .thenApply(repositoryTreeFilterPortOut::filter),
+                (values, readKey) -> values.getObject(readKey, new TypeReference<List<RepositoryTreeResult>>() {}),
                 (writeKey, val) -> redisPortOut.setObject(writeKey, val, expiration)
         );
     }
@@ -571,85 +1134,158 @@ public class RepositoryService implements RepositoryPortIn {
     private GPTRepositoryInfoResult getRepositoryWithCache(
             String owner,
             String name,
+            RedisValues cached,
             String sha,
+            String staleSha,
+            AtomicBoolean stale,
             RepositoryInfoCommand repositoryInfo,
             Instant expiration
     ) {
-        String key = RedisKeyFactory.createRepoInfoKey(owner, name, sha);
+        // 이전 커밋의 커밋/언어 정보로 분석한 결과는 최신 커밋 key에 저장하지 않음
+        boolean staleInput = stale.get();
 
         return getOrLoadAndCache(
-                key,
+                cached,
+                RedisKeyFactory.createRepoInfoKey(owner, name, sha),
+                staleSha != null ? RedisKeyFactory.createRepoInfoKey(owner, name, staleSha) : null,
+                stale,
                 () -> gptPortOut.getRepositoryInfo(
                         owner + "/" + name,
                         repositoryInfo
                 ),
-                (readKey) -> redisPortOut.getObject(readKey, new TypeReference<GPTRepositoryInfoResult>() {}),
-                (writeKey, val) -> redisPortOut.setObject(writeKey, val, expiration)
+                (values, readKey) -> values.getObject(readKey, new TypeReference<GPTRepositoryInfoResult>() {}),
+                (writeKey, val) -> {
+                    if (!staleInput) {
+                        redisPortOut.setObject(writeKey, val, expiration);
+                    }
+                }
         );
     }
 
-    private List<RepositoryFileContentResult> getEntryContentsWithCache(
-            RepoBranchCommand command,
-            GPTRepositoryInfoResult repositoryInfo,
-            String sha,
+    /**
+     * 파일 목록의 내용을 조회하고, 처음 조회한 커밋이면 Manifest를 캐싱합니다.
+     * <br />
+     * 일부 파일 조회에 실패했거나 이전 커밋의 분석 결과로 파일 목록을 정한 경우에는 Manifest를 캐싱하지 않습니다.
+     */
+    private CompletableFuture<List<RepositoryFileContentResult>> getFileContentsWithCacheAsync(
+            FileContentSource source,
+            FileSelection selection,
             Instant expiration
     ) {
-        String key = RedisKeyFactory.createEntryFileKey(
-                command.repoInfo().owner(),
-                command.repoInfo().name(),
-                sha
-        );
+        AtomicBoolean partial = new AtomicBoolean(false);
 
-        return getOrLoadAndCache(
-                key,
-                () -> fetchFileContents(
-                        command,
-                        getFilePaths(repositoryInfo.entryPoints())
-                ),
-                (readKey) -> {
-                    String encrypted = redisPortOut.get(readKey);
-                    return objectCipherPortOut.decrypt(
-                            encrypted,
-                            new TypeReference<List<RepositoryFileContentResult>>() {}
-                    );
-                },
-                (writeKey, val) -> {
-                    String encrypted = objectCipherPortOut.encrypt(val);
-                    redisPortOut.set(writeKey, encrypted, expiration);
+        return fetchFileContents(source, selection.files(), partial).thenApply(contents -> {
+            if (!selection.cached() && !partial.get() && !source.stale()) {
+                writeManifest(selection, contents, expiration);
+            }
+
+            return contents;
+        });
+    }
+
+    /**
+     * 커밋 별 Manifest(경로 -> blob SHA)를 조회하고, 없으면 GPT 분석 결과와 트리의 blob SHA로 만듭니다.
+     */
+    private FileSelection selectFiles(RedisValues cached, String key, List<String> paths, Map<String, String> blobShas) {
+        try {
+            byte[] encrypted = cached.getBytes(key);
+
+            if (encrypted != null) {
+                List<FileManifestEntry> manifest = objectCipherPortOut.decrypt(
+                        encrypted,
+                        new TypeReference<List<FileManifestEntry>>() {}
+                );
+
+                if (manifest != null) {
+                    return new FileSelection(key, manifest, true);
                 }
-        );
+            }
+        } catch (Exception e) {
+            log.warn("Cache read failed for key {}: {}", key, e.getMessage());
+        }
+
+        List<FileManifestEntry> files = paths.stream()
+                .map(path -> new FileManifestEntry(path, blobShas.get(path)))
+                .toList();
+
+        return new FileSelection(key, files, false);
     }
 
-    private List<RepositoryFileContentResult> getImportantFileContentsWithCache(
-            RepoBranchCommand command,
-            GPTRepositoryInfoResult repositoryInfo,
-            String sha,
-            Instant expiration
-    ) {
-        String key = RedisKeyFactory.createImportanceFileKey(
-                command.repoInfo().owner(),
-                command.repoInfo().name(),
-                sha
-        );
+    // 내용이 있는 파일만 Manifest에 남겨 다음 요청에서 없는 파일을 다시 조회하지 않도록 함
+    private void writeManifest(FileSelection selection, List<RepositoryFileContentResult> contents, Instant expiration) {
+        Set<String> fetchedPaths = new HashSet<>();
+        contents.forEach(content -> fetchedPaths.add(content.path()));
 
-        return getOrLoadAndCache(
-                key,
-                () -> fetchFileContents(
-                        command,
-                        getFilePaths(repositoryInfo.importantFiles())
-                ),
-                (readKey) -> {
-                    String encrypted = redisPortOut.get(readKey);
-                    return objectCipherPortOut.decrypt(
-                            encrypted,
-                            new TypeReference<List<RepositoryFileContentResult>>() {}
-                    );
-                },
-                (writeKey, val) -> {
-                    String encrypted = objectCipherPortOut.encrypt(val);
-                    redisPortOut.set(writeKey, encrypted, expiration);
+        List<FileManifestEntry> manifest = selection.files().stream()
+                .filter(file -> fetchedPaths.contains(file.path()))
+                .toList();
+
+        try {
+            byte[] encrypted = objectCipherPortOut.encrypt(manifest);
+            redisPortOut.setBytes(selection.key(), encrypted, expiration);
+        } catch (Exception e) {
+            log.warn("Cache write failed for key {}: {}", selection.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * blob SHA 기준 파일 내용 캐시를 조회합니다.
+     * <br />
+     * 같은 내용의 파일은 커밋/브랜치/포크가 달라도 blob SHA가 같으므로, 변경되지 않은 파일은 다시 내려받지 않습니다.
+     */
+    private Map<String, RepositoryFileContentResult> readBlobs(Collection<FileManifestEntry> files) {
+        Map<String, RepositoryFileContentResult> contents = new HashMap<>();
+
+        List<String> keys = files.stream()
+                .filter(file -> file.blobSha() != null)
+                .map(file -> RedisKeyFactory.createBlobKey(file.blobSha()))
+                .distinct()
+                .toList();
+        if (keys.isEmpty()) { return contents; }
+
+        RedisValues blobs;
+
+        try {
+            blobs = redisPortOut.multiGet(keys);
+        } catch (Exception e) {
+            log.warn("Cache read failed for blob keys: {}", e.getMessage());
+            return contents;
+        }
+
+        for (FileManifestEntry file : files) {
+            if (file.blobSha() == null || contents.containsKey(file.path())) { continue; }
+
+            String key = RedisKeyFactory.createBlobKey(file.blobSha());
+
+            try {
+                byte[] encrypted = blobs.getBytes(key);
+                String content = encrypted != null ? objectCipherPortOut.decryptText(encrypted) : null;
+
+                if (content != null) {
+                    contents.put(file.path(), new RepositoryFileContentResult(file.path(), content));
                 }
-        );
+            } catch (Exception e) {
+                log.warn("Cache read failed for key {}: {}", key, e.getMessage());
+            }
+        }
+
+        return contents;
+    }
+
+    // 새로 조회한 파일 내용을 한 번의 파이프라인으로 blob 캐시에 저장
+    private void writeBlobs(Map<String, String> contentsByBlobSha) {
+        if (contentsByBlobSha.isEmpty()) { return; }
+
+        try {
+            Map<String, byte[]> values = new HashMap<>();
+            contentsByBlobSha.forEach((blobSha, content) ->
+                    values.put(RedisKeyFactory.createBlobKey(blobSha), objectCipherPortOut.encryptText(content))
+            );
+
+            redisPortOut.multiSetBytesWithTtl(values, Instant.now().plus(7, ChronoUnit.DAYS));
+        } catch (Exception e) {
+            log.warn("Cache write failed for blob keys: {}", e.getMessage());
+        }
     }
 
     private List<String> getFilePaths(String[] paths) {
@@ -663,28 +1299,323 @@ public class RepositoryService implements RepositoryPortIn {
                 .toList();
     }
 
-    private List<RepositoryFileContentResult> fetchFileContents(
+    /**
+     * 엔트리/중요 파일 목록과 조회 방식을 결정합니다.
+     * <br />
+     * - 커밋 별 Manifest로 파일 목록을 정하고, blob 캐시에 있는 파일은 내용을 미리 읽어 둡니다. <br />
+     * - 캐시에 없는 파일 수와 저장소 크기를 기준으로 tarball 일괄 조회가 유리하면,
+     *   처음 요청될 때 tarball을 한 번만 받아 두 목록에서 함께 사용합니다.
+     */
+    private FileContentSource createFileContentSource(
             RepoBranchCommand command,
+            GPTRepositoryInfoResult repositoryInfo,
+            List<RepositoryTreeResult> trees,
+            RepositorySnapshotResult snapshot,
+            RedisValues cached,
+            String sha,
+            boolean stale
+    ) {
+        Map<String, String> blobShas = new HashMap<>();
+
+        for (RepositoryTreeResult tree : trees) {
+            if (tree.path() != null && tree.sha() != null) {
+                blobShas.putIfAbsent(tree.path(), tree.sha());
+            }
+        }
+
+        String owner = command.repoInfo().owner();
+        String name = command.repoInfo().name();
+
+        FileSelection entryFiles = selectFiles(
+                cached,
+                RedisKeyFactory.createEntryFileKey(owner, name, sha),
+                getFilePaths(repositoryInfo.entryPoints()),
+                blobShas
+        );
+        FileSelection importantFiles = selectFiles(
+                cached,
+                RedisKeyFactory.createImportanceFileKey(owner, name, sha),
+                getFilePaths(repositoryInfo.importantFiles()),
+                blobShas
+        );
+
+        Set<FileManifestEntry> allFiles = new LinkedHashSet<>(entryFiles.files());
+        allFiles.addAll(importantFiles.files());
+
+        Map<String, RepositoryFileContentResult> cachedContents = readBlobs(allFiles);
+        List<String> uncachedPaths = allFiles.stream()
+                .map(FileManifestEntry::path)
+                .filter(path -> !cachedContents.containsKey(path))
+                .distinct()
+                .toList();
+
+        Supplier<Map<String, RepositoryFileContentResult>> archive =
+                !uncachedPaths.isEmpty() && repositoryArchivePortOut.isPreferred(uncachedPaths.size(), snapshot.diskUsageKb())
+                        ? memoize(() -> fetchArchiveContents(command, sha, uncachedPaths))
+                        : null;
+
+        return new FileContentSource(
+                command,
+                sha,
+                stale,
+                entryFiles,
+                importantFiles,
+                cachedContents,
+                archive,
+                new FileFetchLimiter(fileFetchConcurrency)
+        );
+    }
+
+    private Map<String, RepositoryFileContentResult> fetchArchiveContents(
+            RepoBranchCommand command,
+            String sha,
             List<String> paths
     ) {
-        List<RepositoryFileContentResult> fileContents = new ArrayList<>();
-
-        for (String path : paths) {
-            RepositoryFileContentResult contentResult = repositoryPortOut.getFileContent(
-                    command,
-                    new RepositoryTreeResult(
-                            path,
-                            "file"
-                    )
-            );
+        try {
+            Map<String, RepositoryFileContentResult> contents = new HashMap<>();
+
+            for (RepositoryFileContentResult result : repositoryArchivePortOut.getFileContents(command, sha, paths)) {
+                contents.put(result.path(), result);
+            }
+
+            return contents;
+        } catch (RuntimeException e) {
+            // tarball 조회 실패 시 파일별 조회로 대체
+            log.warn("Failed to fetch repository archive. Fallback to per-file fetch. repo = {}/{}, sha = {}",
+                    command.repoInfo().owner(), command.repoInfo().name(), sha, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private <T> Supplier<T> memoize(Supplier<T> loader) {
+        return new Supplier<>() {
+            private T value;
+            private boolean loaded;
+
+            @Override
+            public synchronized T get() {
+                if (!loaded) {
+                    value = loader.get();
+                    loaded = true;
+                }
+
+                return value;
+            }
+        };
+    }
+
+    /**
+     * 파일 내용을 조회합니다.
+     * <br />
+     * - blob 캐시 -> tarball -> 파일별 조회 순으로 찾고, 새로 받은 파일은 blob SHA 기준으로 캐싱합니다. <br />
+     * - tarball과 파일별 조회 모두 트리와 같은 커밋 SHA 기준이므로, 캐싱하는 내용과 blob SHA가 항상 일치합니다. <br />
+     * - 파일별 조회의 동시 요청 수는 작업(FileFetchLimiter) 단위로 제한됩니다. <br />
+     * - 일부 파일 조회에 실패해도 나머지 결과는 사용하고 partial을 표시합니다. 모든 파일 조회에 실패한 경우에만 예외를 전달합니다. <br />
+     * - 결과는 요청한 경로 순서대로 모으고, 내용이 비어 있는 파일은 제외합니다.
+     */
+    private CompletableFuture<List<RepositoryFileContentResult>> fetchFileContents(
+            FileContentSource source,
+            List<FileManifestEntry> files,
+            AtomicBoolean partial
+    ) {
+        Map<String, RepositoryFileContentResult> cached = source.cachedContents();
+        List<FileManifestEntry> missingFiles = files.stream()
+                .filter(file -> !cached.containsKey(file.path()))
+                .toList();
+
+        Map<String, RepositoryFileContentResult> archived = source.archive() != null && !missingFiles.isEmpty()
+                ? source.archive().get()
+                : Collections.emptyMap();
+
+        List<String> fetchPaths = missingFiles.stream()
+                .map(FileManifestEntry::path)
+                .filter(path -> !archived.containsKey(path))
+                .toList();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+        // blob SHA를 얻은 트리와 같은 커밋 기준으로 조회 (브랜치 기준이면 그 사이 push된 내용이 이전 blob SHA로 캐싱될 수 있음)
+        RepoBranchCommand shaCommand = new RepoBranchCommand(source.command().repoInfo(), source.sha());
+
+        List<CompletableFuture<RepositoryFileContentResult>> contentFutures = fetchPaths.stream()
+                .map(path -> source.limiter().submit(() -> repositoryPortOut.getFileContentAsync(
+                                shaCommand,
+                                new RepositoryTreeResult(
+                                        path,
+                                        "file"
+                                )
+                        ))
+                        .handle((contentResult, ex) -> {
+                            if (ex == null) { return contentResult; }
+
+                            log.warn("Failed to fetch file content. path = {}, cause = {}", path, ex.getMessage());
+                            failures.add(ex);
+                            partial.set(true);
+                            return null;
+                        }))
+                .toList();
+
+        return CompletableFuture.allOf(contentFutures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            if (!fetchPaths.isEmpty() && failures.size() == fetchPaths.size() && fetchPaths.size() == files.size()) {
+                Throwable failure = failures.get(0);
+                throw failure instanceof CompletionException completionException
+                        ? completionException
+                        : new CompletionException(failure);
+            }
+
+            Map<String, RepositoryFileContentResult> fetched = new HashMap<>(archived);
+
+            for (CompletableFuture<RepositoryFileContentResult> contentFuture : contentFutures) {
+                RepositoryFileContentResult contentResult = contentFuture.join();
+
+                if (contentResult != null) {
+                    fetched.put(contentResult.path(), contentResult);
+                }
+            }
+
+            List<RepositoryFileContentResult> fileContents = new ArrayList<>();
+            Map<String, String> newBlobs = new HashMap<>();
+
+            for (FileManifestEntry file : files) {
+                RepositoryFileContentResult contentResult = cached.containsKey(file.path())
+                        ? cached.get(file.path())
+                        : fetched.get(file.path());
+
+                if (contentResult == null || contentResult.content() == null || contentResult.content().isBlank()) {
+                    continue;
+                }
+
+                if (!cached.containsKey(file.path()) && file.blobSha() != null) {
+                    newBlobs.put(file.blobSha(), contentResult.content());
+                }
 
-            if (contentResult.content() == null || contentResult.content().isBlank()) {
-                continue;
+                fileContents.add(contentResult);
             }
 
-            fileContents.add(contentResult);
+            writeBlobs(newBlobs);
+
+            return fileContents;
+        });
+    }
+
+    /**
+     * 파일 내용 조회 방식 (tarball이 없으면 파일별 조회)
+     *
+     * @param command           저장소/브랜치 정보
+     * @param sha               트리를 조회한 커밋 SHA (파일 내용도 이 커밋 기준으로 조회)
+     * @param stale             이전 커밋의 분석 결과로 파일 목록을 정했는지 여부 (Manifest를 저장하지 않음)
+     * @param entryFiles        엔트리 파일 목록
+     * @param importantFiles    중요 파일 목록
+     * @param cachedContents    blob 캐시에서 읽은 파일 내용 (경로 기준)
+     * @param archive           tarball에서 추출한 파일 내용 (파일별 조회 시 null)
+     * @param limiter           작업 단위 파일별 조회 동시 실행 수 제한
+     */
+    private record FileContentSource(
+            RepoBranchCommand command,
+            String sha,
+            boolean stale,
+            FileSelection entryFiles,
+            FileSelection importantFiles,
+            Map<String, RepositoryFileContentResult> cachedContents,
+            Supplier<Map<String, RepositoryFileContentResult>> archive,
+            FileFetchLimiter limiter
+    ) {}
+
+    /**
+     * 요청 시점에 확정한 브랜치의 최신 커밋
+     *
+     * @param branchCommand     저장소/브랜치 정보
+     * @param snapshot          저장소 스냅샷 (GraphQL 조회 결과, 실패 시 빈 스냅샷)
+     * @param sha               브랜치의 최신 커밋 SHA
+     */
+    private record ResolvedHead(
+            RepoBranchCommand branchCommand,
+            RepositorySnapshotResult snapshot,
+            String sha
+    ) {}
+
+    /**
+     * 커밋 별 파일 목록
+     *
+     * @param key       Manifest 캐시 키
+     * @param files     파일 경로와 blob SHA 목록
+     * @param cached    캐시된 Manifest 여부
+     */
+    private record FileSelection(
+            String key,
+            List<FileManifestEntry> files,
+            boolean cached
+    ) {}
+
+    /**
+     * 작업 하나에서 동시에 실행되는 파일별 조회 수 제한
+     * <br />
+     * 허용량을 넘는 요청은 스레드를 점유하지 않고 대기하다가, 앞선 요청이 끝나면 이어서 시작됩니다.
+     */
+    private static final class FileFetchLimiter {
+        private final int maxConcurrency;
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+
+        private FileFetchLimiter(int maxConcurrency) {
+            this.maxConcurrency = Math.max(1, maxConcurrency);
         }
 
-        return fileContents;
+        <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+
+            Runnable start = () -> {
+                CompletableFuture<T> future;
+
+                try {
+                    future = task.get();
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+
+                future.whenComplete((value, ex) -> {
+                    release();
+
+                    if (ex != null) {
+                        result.completeExceptionally(ex);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            };
+
+            boolean runNow;
+
+            synchronized (this) {
+                runNow = active < maxConcurrency;
+
+                if (runNow) {
+                    active++;
+                } else {
+                    waiting.add(start);
+                }
+            }
+
+            if (runNow) {
+                start.run();
+            }
+
+            return result;
+        }
+
+        private void release() {
+            Runnable next;
+
+            synchronized (this) {
+                next = waiting.poll();
+
+                if (next == null) {
+                    active--;
+                }
+            }
+
+            if (next != null) {
+                next.run();
+            }
+        }
     }
 }
@@ -0,0 +1,17 @@
+package seungyong.helpmebackend.repository.application.dto;
+
+/**
+ * 저장소 컨텍스트 미리 생성 작업 내용 (작업 큐에 JSON으로 저장)
+ *
+ * @param userId    저장소를 연 사용자 ID (이 사용자의 토큰으로 조회)
+ * @param owner     저장소 소유자
+ * @param name      저장소 이름
+ * @param branch    미리 생성할 브랜치
+ */
+public record ContextPrewarmJob(
+        Long userId,
+        String owner,
+        String name,
+        String branch
+) {
+}
@@ -0,0 +1,19 @@
+package seungyong.helpmebackend.repository.application.dto;
+
+import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestGeneration;
+
+/**
+ * README 초안 생성 작업 내용 (작업 큐에 JSON으로 저장)
+ *
+ * @param userId    요청한 사용자 ID
+ * @param owner     저장소 소유자
+ * @param name      저장소 이름
+ * @param request   생성 요청
+ */
+public record DraftGenerationJob(
+        Long userId,
+        String owner,
+        String name,
+        RequestGeneration request
+) {
+}
@@ -0,0 +1,15 @@
+package seungyong.helpmebackend.repository.application.dto;
+
+/**
+ * 커밋 별 파일 목록(Manifest) 항목
+ * <br />
+ * 파일 내용은 blob SHA 기준으로 따로 캐싱하므로, 커밋 별로는 경로와 blob SHA만 저장합니다.
+ *
+ * @param path      파일 경로
+ * @param blobSha   Git blob SHA (트리에 없는 파일이면 null)
+ */
+public record FileManifestEntry(
+        String path,
+        String blobSha
+) {
+}
@@ -15,6 +15,8 @@ public record ReadmeContext(
         List<RepositoryLanguageResult> languages,
         List<RepositoryTreeResult> trees,
         List<RepositoryFileContentResult> entryContents,
-        List<RepositoryFileContentResult> importantFileContents
+        List<RepositoryFileContentResult> importantFileContents,
+        // 이전 커밋의 캐시(Stale-While-Revalidate)를 사용했는지 여부
+        boolean stale
 ) {
 }
@@ -15,4 +15,9 @@ public interface RepositoryPortIn {
     ResponsePull createPullRequest(RequestPull request, Long userId, String owner, String name);
     void evaluateDraftReadme(RequestDraftEvaluation request, String taskId, Long userId, String owner, String name);
     void generateDraftReadme(RequestGeneration request, String taskId, Long userId, String owner, String name);
+    void processDraftEvaluation(RequestDraftEvaluation request, String taskId, Long userId, String owner, String name);
+    void processDraftGeneration(RequestGeneration request, String taskId, Long userId, String owner, String name);
+    void failDraftEvaluation(String taskId, Exception e);
+    void failDraftGeneration(String taskId, Exception e);
+    void prewarmContext(Long userId, String owner, String name, String branch);
 }
@@ -1,6 +1,19 @@
 package seungyong.helpmebackend.repository.application.port.out;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+
 public interface CipherPortOut {
     String encrypt(String plainText);
     String decrypt(String cipherText);
+
+    /**
+     * sink에 압축 후 암호화하여 쓰는 스트림을 반환합니다. (스트림을 닫아야 암호화가 완료됩니다)
+     */
+    OutputStream encryptStream(OutputStream sink);
+
+    /**
+     * source를 복호화 후 압축 해제하여 읽는 스트림을 반환합니다. (이전 Base64 형식도 읽을 수 있습니다)
+     */
+    InputStream decryptStream(InputStream source);
 }
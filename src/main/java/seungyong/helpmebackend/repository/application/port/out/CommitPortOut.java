@@ -1,9 +1,12 @@
 package seungyong.helpmebackend.repository.application.port.out;
 
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
 import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
 import seungyong.helpmebackend.repository.application.port.out.result.CommitResult;
 import seungyong.helpmebackend.repository.application.port.out.result.ContributorsResult;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface CommitPortOut {
-    CommitResult getCommits(RepoBranchCommand command, ContributorsResult.Contributor contributor);
+    CompletableFuture<CommitResult> getCommitsAsync(RepoBranchCommand command, ContributorsResult.Contributor contributor, GithubRateLimitReservation reservation);
 }
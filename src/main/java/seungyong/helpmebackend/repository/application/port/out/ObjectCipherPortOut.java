@@ -3,6 +3,8 @@ package seungyong.helpmebackend.repository.application.port.out;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 public interface ObjectCipherPortOut {
-    <T> String encrypt(T data);
-    <T> T decrypt(String encryptedText, TypeReference<T> typeReference);
+    <T> byte[] encrypt(T data);
+    <T> T decrypt(byte[] encrypted, TypeReference<T> typeReference);
+    byte[] encryptText(String text);
+    String decryptText(byte[] encrypted);
 }
@@ -0,0 +1,29 @@
+package seungyong.helpmebackend.repository.application.port.out;
+
+import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryFileContentResult;
+
+import java.util.List;
+
+public interface RepositoryArchivePortOut {
+    /**
+     * 파일별 조회 대신 저장소 아카이브(tarball) 한 번으로 조회하는 것이 유리한지 판단합니다.
+     *
+     * @param pathCount             조회할 파일 수
+     * @param repositorySizeKb      저장소 크기 (KB, 알 수 없으면 null)
+     * @return                      아카이브 조회가 유리하면 true
+     */
+    boolean isPreferred(int pathCount, Long repositorySizeKb);
+
+    /**
+     * 지정한 커밋의 아카이브를 스트리밍으로 읽으며 요청한 경로의 파일만 추출합니다.
+     * <br />
+     * 아카이브에 없는 경로는 결과에 포함되지 않습니다.
+     *
+     * @param command   저장소/브랜치 정보
+     * @param sha       아카이브를 받을 커밋 SHA
+     * @param paths     추출할 파일 경로 목록
+     * @return          추출한 파일 내용 목록
+     */
+    List<RepositoryFileContentResult> getFileContents(RepoBranchCommand command, String sha, List<String> paths);
+}
@@ -7,15 +7,20 @@ import seungyong.helpmebackend.repository.application.port.out.command.*;
 import seungyong.helpmebackend.repository.application.port.out.result.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface RepositoryPortOut {
     RepositoryResult getRepositoriesByInstallationId(String accessToken, Long installationId, Integer page, Integer perPage);
     RepositoryDetailResult getRepository(RepoInfoCommand command);
     List<RepositoryLanguageResult> getRepositoryLanguages(RepoInfoCommand command);
     List<RepositoryTreeResult> getRepositoryTree(RepoBranchCommand command);
+    CompletableFuture<List<RepositoryTreeResult>> getRepositoryTreeAsync(RepoBranchCommand command);
 
     ContributorsResult getContributors(RepoInfoCommand info);
 
+    RepositorySnapshotResult getRepositorySnapshot(RepoBranchCommand command);
+    RepositoryCompareResult compareCommits(RepoInfoCommand command, String baseSha, String headSha);
+
     String getRecentSHA(RepoBranchCommand command);
     String getReadmeSHA(RepoBranchCommand command);
     String getReadmeContent(RepoBranchCommand command);
@@ -29,5 +34,6 @@ public interface RepositoryPortOut {
     String createPullRequest(CreatePullRequestCommand command);
 
     RepositoryFileContentResult getFileContent(RepoBranchCommand command, RepositoryTreeResult file);
+    CompletableFuture<RepositoryFileContentResult> getFileContentAsync(RepoBranchCommand command, RepositoryTreeResult file);
     boolean checkPermission(RepoPermissionCommand command);
 }
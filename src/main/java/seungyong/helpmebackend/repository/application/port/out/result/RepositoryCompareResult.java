@@ -0,0 +1,49 @@
+package seungyong.helpmebackend.repository.application.port.out.result;
+
+import java.util.List;
+
+/**
+ * 두 커밋 사이의 비교 결과 (Compare API)
+ *
+ * @param status        ahead, behind, diverged, identical
+ * @param totalCommits  두 커밋 사이의 전체 커밋 수
+ * @param commits       응답에 포함된 커밋 목록 (오래된 순, 최대 250개)
+ * @param files         변경된 파일 목록 (최대 300개)
+ */
+public record RepositoryCompareResult(
+        String status,
+        int totalCommits,
+        List<Commit> commits,
+        List<ChangedFile> files
+) {
+    public static final int MAX_FILES = 300;
+
+    public record Commit(
+            String sha,
+            String message,
+            String authorLogin,
+            String authorAvatarUrl
+    ) {}
+
+    /**
+     * @param filename          변경 후 경로
+     * @param status            added, removed, modified, renamed, copied, changed
+     * @param sha               변경 후 blob SHA
+     * @param previousFilename  이름이 바뀐 경우 이전 경로
+     */
+    public record ChangedFile(
+            String filename,
+            String status,
+            String sha,
+            String previousFilename
+    ) {}
+
+    /**
+     * 응답에 모든 커밋과 변경 파일이 포함되었는지 여부
+     * <br />
+     * GitHub는 커밋 250개, 파일 300개까지만 응답하므로 그 이상이면 일부가 빠졌을 수 있습니다.
+     */
+    public boolean isComplete() {
+        return totalCommits == commits.size() && files.size() < MAX_FILES;
+    }
+}
@@ -0,0 +1,23 @@
+package seungyong.helpmebackend.repository.application.port.out.result;
+
+import java.util.List;
+
+/**
+ * GraphQL 한 번의 요청으로 조회한 저장소 스냅샷
+ * <br />
+ * 조회하지 못한 필드는 null이며, 호출자는 해당 필드만 REST API로 다시 조회합니다.
+ *
+ * @param diskUsageKb 저장소 크기 (KB, 파일 내용 조회 방식 선택용)
+ */
+public record RepositorySnapshotResult(
+        String avatarUrl,
+        String defaultBranch,
+        String headSha,
+        List<RepositoryLanguageResult> languages,
+        String readme,
+        Long diskUsageKb
+) {
+    public static RepositorySnapshotResult empty() {
+        return new RepositorySnapshotResult(null, null, null, null, null, null);
+    }
+}
@@ -1,7 +1,16 @@
 package seungyong.helpmebackend.repository.application.port.out.result;
 
+/**
+ * @param path  파일/디렉토리 경로
+ * @param type  blob, tree 등 Git 객체 타입
+ * @param sha   Git 객체 SHA (blob이면 파일 내용 캐시 키로 사용)
+ */
 public record RepositoryTreeResult(
         String path,
-        String type
+        String type,
+        String sha
 ) {
+    public RepositoryTreeResult(String path, String type) {
+        this(path, type, null);
+    }
 }
@@ -1,5 +1,9 @@
 package seungyong.helpmebackend.repository.domain.type;
 
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
 public final class GPTSystemPrompt {
     public static final String REPOSITORY_ANALYZE_PROMPT = """
             너는 이제부터 유명한 프로젝트 매니저이자 깃허브 전문가야.
@@ -243,4 +247,16 @@ public final class GPTSystemPrompt {
         
         이제, 위 지침을 완벽히 숙지하고 제공된 정보를 바탕으로 **절대 다른 말 없이** 최고의 README 초안을 JSON으로만 응답하세요.
     """;
+
+    /**
+     * README 초안 평가/생성 프롬프트 버전
+     * <br />
+     * 프롬프트 내용에서 계산하므로, 프롬프트를 수정하면 이전 프롬프트로 만든 결과 캐시는 사용하지 않습니다.
+     */
+    public static final String EVALUATION_VERSION = version(EVALUATION_PROMPT);
+    public static final String DRAFT_README_GENERATION_VERSION = version(DRAFT_README_GENERATION_PROMPT);
+
+    private static String version(String prompt) {
+        return DigestUtils.md5DigestAsHex(prompt.getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+    }
 }
@@ -1,10 +1,16 @@
 package seungyong.helpmebackend.sse.adapter.out.sse;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.sse.application.port.out.SSEPortOut;
 import seungyong.helpmebackend.sse.domain.exception.SseErrorCode;
@@ -13,13 +19,38 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * SSE 연결 관리 및 작업 결과 전송
+ * <br />
+ * - SSE 연결은 서버 메모리에만 있으므로, 작업을 실행한 서버에 연결이 없으면 Redis Pub/Sub으로 결과를 전달합니다. <br />
+ * - 연결을 가진 서버가 결과를 받아 전송하며, 전달 여부는 알 수 없으므로 호출자에게는 전송 실패로 알려 Fallback 결과도 저장하도록 합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SSEAdapter implements SSEPortOut {
+    private static final String FIELD_TASK_NAME = "taskName";
+    private static final String FIELD_DATA = "data";
+
     private final SSERepository sseRepository;
+    private final RedisPortOut redisPortOut;
+    private final ObjectMapper objectMapper;
     private final static Long DEFAULT_TIMEOUT = 20L * 60 * 1000L; // 20 minutes
 
+    /**
+     * 다른 서버에서 전달한 작업 결과를 구독합니다.
+     * <br />
+     * 구독에 실패해도 결과는 Fallback으로 조회할 수 있으므로 예외를 던지지 않습니다.
+     */
+    @PostConstruct
+    void subscribe() {
+        try {
+            redisPortOut.subscribe(RedisKey.SSE_COMPLETION_CHANNEL.getValue() + "*", this::onRelayed);
+        } catch (RuntimeException e) {
+            log.warn("Failed to subscribe SSE completion channel. Remote results fall back to polling.", e);
+        }
+    }
+
     @Override
     public SseEmitter createEmitter() {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
@@ -46,10 +77,47 @@ public class SSEAdapter implements SSEPortOut {
         SseEmitter emitter = sseRepository.getEmitter(taskId);
 
         if (emitter == null) {
-            log.warn("No emitter found for taskName = {}, taskId = {}", taskName, taskId);
+            relay(taskId, taskName, data);
             return false;
         }
 
+        return send(emitter, taskId, taskName, data);
+    }
+
+    @Override
+    public void deleteEmitter(String taskId) {
+        sseRepository.removeEmitter(taskId);
+    }
+
+    // 이 서버에 연결이 없으면 다른 서버에 연결되어 있을 수 있으므로 결과를 발행
+    private void relay(String taskId, String taskName, Object data) {
+        try {
+            ObjectNode message = objectMapper.createObjectNode();
+            message.put(FIELD_TASK_NAME, taskName);
+            message.set(FIELD_DATA, objectMapper.valueToTree(data));
+
+            redisPortOut.publish(RedisKey.SSE_COMPLETION_CHANNEL.getValue() + taskId, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("Failed to relay SSE completion. taskName = {}, taskId = {}", taskName, taskId, e);
+        }
+    }
+
+    private void onRelayed(String channel, String message) {
+        String taskId = channel.substring(RedisKey.SSE_COMPLETION_CHANNEL.getValue().length());
+        SseEmitter emitter = sseRepository.getEmitter(taskId);
+
+        // 연결을 가진 서버만 전송 (발행한 서버 자신도 메시지를 받음)
+        if (emitter == null) { return; }
+
+        try {
+            JsonNode relayed = objectMapper.readTree(message);
+            send(emitter, taskId, relayed.path(FIELD_TASK_NAME).asText(), relayed.get(FIELD_DATA));
+        } catch (Exception e) {
+            log.warn("Failed to read relayed SSE completion. taskId = {}", taskId, e);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String taskId, String taskName, Object data) {
         try {
             emitter.send(SseEmitter.event().name(taskName).data(data, MediaType.APPLICATION_JSON));
             emitter.complete();
@@ -61,9 +129,4 @@ public class SSEAdapter implements SSEPortOut {
             return false;
         }
     }
-
-    @Override
-    public void deleteEmitter(String taskId) {
-        sseRepository.removeEmitter(taskId);
-    }
 }
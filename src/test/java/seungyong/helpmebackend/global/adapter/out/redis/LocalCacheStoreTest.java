@@ -0,0 +1,124 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import seungyong.helpmebackend.global.config.LocalCacheProperties;
+import seungyong.helpmebackend.global.domain.type.RedisValueEncoding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheStoreTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LocalCacheStore create(LocalCacheProperties properties) {
+        return new LocalCacheStore(properties, meterRegistry);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private double count(String tier, String artifact, String result) {
+        return meterRegistry.counter("cache.local.requests", "tier", tier, "artifact", artifact, "result", result).count();
+    }
+
+    @Nested
+    @DisplayName("put / get - 보관 및 조회")
+    class PutAndGet {
+        @Test
+        @DisplayName("성공 - Hit/Miss 메트릭 기록")
+        void get_success_metrics() {
+            LocalCacheStore store = create(new LocalCacheProperties());
+
+            store.get("gh:trees:owner:repo:sha");
+            store.recordL2("gh:trees:owner:repo:sha", true);
+            store.put("gh:trees:owner:repo:sha", utf8("[]"));
+            store.get("gh:trees:owner:repo:sha");
+
+            assertThat(count(LocalCacheStore.TIER_L1, "trees", "miss")).isEqualTo(1);
+            assertThat(count(LocalCacheStore.TIER_L2, "trees", "hit")).isEqualTo(1);
+            assertThat(count(LocalCacheStore.TIER_L1, "trees", "hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("무시 - 항목 종류 별 최대 크기 초과")
+        void put_skip_tooLarge() {
+            LocalCacheProperties properties = new LocalCacheProperties();
+            properties.getMaxEntryBytes().put("readme", 10L);
+            LocalCacheStore store = create(properties);
+
+            store.putText("gh:readme:owner:repo:sha", "# a very long readme");
+
+            assertThat(store.get("gh:readme:owner:repo:sha")).isNull();
+        }
+
+        @Test
+        @DisplayName("무시 - 암호화 항목 보관 비활성화")
+        void put_skip_encrypted() {
+            LocalCacheProperties properties = new LocalCacheProperties();
+            properties.setKeepEncrypted(false);
+            LocalCacheStore store = create(properties);
+
+            store.putText("gh:blob:abc", "encrypted");
+
+            assertThat(store.supports("gh:blob:abc")).isFalse();
+            assertThat(store.get("gh:blob:abc")).isNull();
+            assertThat(store.supports("gh:trees:owner:repo:sha")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("getObject - 변환 결과 재사용")
+    class GetObject {
+        @Test
+        @DisplayName("성공 - 같은 타입은 한 번만 변환")
+        void getObject_success_decodeOnce() {
+            LocalCacheStore store = create(new LocalCacheProperties());
+            AtomicInteger decodes = new AtomicInteger();
+            LocalCacheStore.Decoder decoder = new LocalCacheStore.Decoder() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <T> T decode(byte[] stored, TypeReference<T> typeRef) {
+                    decodes.incrementAndGet();
+                    return (T) List.of(new String(stored, StandardCharsets.UTF_8));
+                }
+            };
+
+            store.put("gh:commits:owner:repo:sha", utf8("[]"));
+            List<String> first = store.getObject("gh:commits:owner:repo:sha", new TypeReference<List<String>>() {}, decoder);
+            List<String> second = store.getObject("gh:commits:owner:repo:sha", new TypeReference<List<String>>() {}, decoder);
+
+            assertThat(second).isSameAs(first);
+            assertThat(decodes.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 값 - 압축 해제 크기 기준 제한")
+    class Compressed {
+        @Test
+        @DisplayName("무시 - 압축 해제 크기가 최대 크기 초과")
+        void put_skip_decodedTooLarge() throws Exception {
+            LocalCacheProperties properties = new LocalCacheProperties();
+            properties.getMaxEntryBytes().put("trees", 1_000L);
+            LocalCacheStore store = create(properties);
+
+            // 같은 값의 반복이라 압축 후에는 한도보다 작음
+            byte[] compressed = new RedisValueCodec(new ObjectMapper())
+                    .encode(Collections.nCopies(1_000, "src/main/java/Main.java"), RedisValueEncoding.SMILE_LZ4);
+            store.put("gh:trees:owner:repo:sha", compressed);
+
+            assertThat(compressed.length).isLessThan(1_000);
+            assertThat(store.getBytes("gh:trees:owner:repo:sha")).isNull();
+        }
+    }
+}
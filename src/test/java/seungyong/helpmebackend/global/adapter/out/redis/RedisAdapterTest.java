@@ -1,5 +1,7 @@
 package seungyong.helpmebackend.global.adapter.out.redis;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -7,15 +9,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
+import seungyong.helpmebackend.global.config.LocalCacheProperties;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 public class RedisAdapterTest {
     @Mock private RedisStore redisStore;
+    @Mock private RedisMessageStore redisMessageStore;
+    @Spy private LocalCacheStore localCacheStore = new LocalCacheStore(new LocalCacheProperties(), new SimpleMeterRegistry());
     @InjectMocks private RedisAdapter redisAdapter;
 
     @Nested
@@ -50,6 +60,28 @@ public class RedisAdapterTest {
 
             Mockito.verify(redisStore, Mockito.times(1)).setObjectIfAbsent(Mockito.anyString(), Mockito.any(), Mockito.any(Instant.class));
         }
+
+        @Test
+        @DisplayName("setIfAbsent - 성공")
+        void setIfAbsent_Success() {
+            Mockito.when(redisStore.setIfAbsent(Mockito.anyString(), Mockito.anyString(), Mockito.any(Instant.class))).thenReturn(true);
+
+            boolean result = redisAdapter.setIfAbsent("testKey", "testValue", Instant.now().plusSeconds(60));
+
+            assertThat(result).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis Pub/Sub")
+    class PubSubTests {
+        @Test
+        @DisplayName("publish - 성공")
+        void publish_Success() {
+            redisAdapter.publish("channel", "message");
+
+            Mockito.verify(redisMessageStore, Mockito.times(1)).publish("channel", "message");
+        }
     }
 
     @Nested
@@ -114,4 +146,104 @@ public class RedisAdapterTest {
 
         Mockito.verify(redisStore, Mockito.times(1)).delete(Mockito.anyString());
     }
+
+    @Nested
+    @DisplayName("서버 내 캐시(L1)")
+    class LocalCacheTests {
+        private static final String TREE_KEY = "gh:trees:owner:repo:sha";
+
+        @Test
+        @DisplayName("성공 - 두 번째 조회는 Redis 미호출")
+        void getObject_LocalHit() {
+            Mockito.when(redisStore.getBytes(TREE_KEY)).thenReturn(new byte[]{1, 2});
+            Mockito.when(redisStore.decode(Mockito.eq(TREE_KEY), Mockito.any(byte[].class), Mockito.any()))
+                    .thenReturn(List.of("a", "b"));
+
+            List<String> first = redisAdapter.getObject(TREE_KEY, new TypeReference<List<String>>() {});
+            List<String> second = redisAdapter.getObject(TREE_KEY, new TypeReference<List<String>>() {});
+
+            assertThat(second).isSameAs(first);
+            Mockito.verify(redisStore, Mockito.times(1)).getBytes(TREE_KEY);
+            Mockito.verify(redisStore, Mockito.times(1)).decode(Mockito.anyString(), Mockito.any(byte[].class), Mockito.any());
+        }
+
+        @Test
+        @DisplayName("성공 - 변경되는 key는 항상 Redis 조회")
+        void get_NotCached() {
+            Mockito.when(redisStore.get("gh:branch-head:owner:repo:main")).thenReturn("sha");
+
+            redisAdapter.get("gh:branch-head:owner:repo:main");
+            redisAdapter.get("gh:branch-head:owner:repo:main");
+
+            Mockito.verify(redisStore, Mockito.times(2)).get("gh:branch-head:owner:repo:main");
+        }
+
+        @Test
+        @DisplayName("성공 - 저장한 값은 L1에서 조회")
+        void set_WriteThrough() {
+            redisAdapter.set("gh:readme:owner:repo:sha", "# readme", Instant.now().plusSeconds(60));
+
+            assertThat(redisAdapter.get("gh:readme:owner:repo:sha")).isEqualTo("# readme");
+            Mockito.verify(redisStore, Mockito.never()).get(Mockito.anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - multiGet은 L1에 없는 key만 Redis 조회")
+        void multiGet_OnlyMisses() {
+            redisAdapter.set("gh:readme:owner:repo:sha", "# readme", Instant.now().plusSeconds(60));
+            Mockito.when(redisStore.multiGetBytes(List.of("gh:languages:owner:repo:sha")))
+                    .thenReturn(Map.of("gh:languages:owner:repo:sha", "[]".getBytes(StandardCharsets.UTF_8)));
+
+            RedisValues result = redisAdapter.multiGet(List.of("gh:readme:owner:repo:sha", "gh:languages:owner:repo:sha"));
+
+            assertThat(result.get("gh:readme:owner:repo:sha")).isEqualTo("# readme");
+            assertThat(result.get("gh:languages:owner:repo:sha")).isEqualTo("[]");
+        }
+
+        @Test
+        @DisplayName("성공 - 객체 저장 시 변환한 값을 Redis와 L1에 함께 저장")
+        void setObject_WriteThrough() {
+            byte[] encoded = new byte[]{RedisValueCodec.MAGIC, 1};
+            Mockito.when(redisStore.encode(TREE_KEY, List.of("a"))).thenReturn(encoded);
+
+            redisAdapter.setObject(TREE_KEY, List.of("a"), Instant.now().plusSeconds(60));
+            redisAdapter.multiGet(List.of(TREE_KEY));
+
+            Mockito.verify(redisStore, Mockito.times(1)).setBytes(Mockito.eq(TREE_KEY), Mockito.eq(encoded), Mockito.any(Instant.class));
+            Mockito.verify(redisStore, Mockito.never()).setObject(Mockito.anyString(), Mockito.any(), Mockito.any(Instant.class));
+            Mockito.verify(redisStore, Mockito.never()).multiGetBytes(List.of(TREE_KEY));
+        }
+
+        @Test
+        @DisplayName("성공 - 바이트 값 저장 후 L1 조회")
+        void setBytes_WriteThrough() {
+            byte[] encrypted = new byte[]{(byte) 0xE5, 1, 2};
+
+            redisAdapter.setBytes("gh:file:entry:owner:repo:sha", encrypted, Instant.now().plusSeconds(60));
+
+            assertThat(redisAdapter.getBytes("gh:file:entry:owner:repo:sha")).isSameAs(encrypted);
+            Mockito.verify(redisStore, Mockito.times(1)).setBytes(Mockito.eq("gh:file:entry:owner:repo:sha"), Mockito.eq(encrypted), Mockito.any(Instant.class));
+            Mockito.verify(redisStore, Mockito.never()).getBytes(Mockito.anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 삭제 시 L1도 제거")
+        void delete_Invalidate() {
+            redisAdapter.set("gh:readme:owner:repo:sha", "# readme", Instant.now().plusSeconds(60));
+
+            redisAdapter.delete("gh:readme:owner:repo:sha");
+            redisAdapter.get("gh:readme:owner:repo:sha");
+
+            Mockito.verify(redisStore, Mockito.times(1)).get("gh:readme:owner:repo:sha");
+        }
+
+        @Test
+        @DisplayName("성공 - multiSetWithTtl 후 L1 조회")
+        void multiSet_WriteThrough() {
+            redisAdapter.multiSetWithTtl(Map.of("gh:blob:abc", "encrypted"), Instant.now().plusSeconds(60));
+
+            assertThat(redisAdapter.get("gh:blob:abc")).isEqualTo("encrypted");
+            Mockito.verify(redisStore, Mockito.never()).get(Mockito.anyString());
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import seungyong.helpmebackend.global.config.JobQueueProperties;
+import seungyong.helpmebackend.global.domain.entity.AttachedJob;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RedisJobDeduplicationAdapterTest {
+    private static final String KEY = "draft-generation:owner/repo:sha:hash";
+    private static final List<String> KEYS = List.of(
+            RedisKey.JOB_DEDUP_LEASE_KEY.getValue() + KEY,
+            RedisKey.JOB_DEDUP_ATTACHED_KEY.getValue() + KEY
+    );
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    private JobQueueProperties properties;
+    private RedisJobDeduplicationAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobQueueProperties();
+        adapter = new RedisJobDeduplicationAdapter(redisTemplate, properties);
+    }
+
+    @Nested
+    @DisplayName("acquireOrAttach - 실행 권한 획득 또는 연결")
+    class AcquireOrAttach {
+        @Test
+        @DisplayName("성공 - 실행 권한 획득")
+        @SuppressWarnings("unchecked")
+        void acquireOrAttach_success_acquired() {
+            given(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class))).willReturn(1L);
+
+            assertThat(adapter.acquireOrAttach(KEY, new AttachedJob("task-1", 1L))).isTrue();
+            verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("task-1"), eq("1:task-1"), eq("900000"));
+        }
+
+        @Test
+        @DisplayName("성공 - 실행 중인 작업에 연결")
+        @SuppressWarnings("unchecked")
+        void acquireOrAttach_success_attached() {
+            given(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class))).willReturn(0L);
+
+            assertThat(adapter.acquireOrAttach(KEY, new AttachedJob("task-2", 2L))).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 비활성화 시 항상 실행 권한 획득")
+        void acquireOrAttach_success_disabled() {
+            properties.setDedupEnabled(false);
+
+            assertThat(adapter.acquireOrAttach(KEY, new AttachedJob("task-1", 1L))).isTrue();
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("실패 - Redis 오류")
+        @SuppressWarnings("unchecked")
+        void acquireOrAttach_failure() {
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willThrow(new RuntimeException("down"));
+
+            assertThatThrownBy(() -> adapter.acquireOrAttach(KEY, new AttachedJob("task-1", 1L)))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    @Nested
+    @DisplayName("release - 실행 권한 반납")
+    class Release {
+        @Test
+        @DisplayName("성공 - 연결된 작업 목록 반환")
+        @SuppressWarnings("unchecked")
+        void release_success() {
+            given(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("task-1")))
+                    .willReturn(List.of("2:task-2", "3:task-3", "invalid"));
+
+            assertThat(adapter.release(KEY, "task-1")).containsExactly(
+                    new AttachedJob("task-2", 2L),
+                    new AttachedJob("task-3", 3L)
+            );
+        }
+
+        @Test
+        @DisplayName("성공 - 실행 권한 없음")
+        @SuppressWarnings("unchecked")
+        void release_success_notOwner() {
+            given(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("task-1"))).willReturn(List.of());
+
+            assertThat(adapter.release(KEY, "task-1")).isEmpty();
+        }
+    }
+}
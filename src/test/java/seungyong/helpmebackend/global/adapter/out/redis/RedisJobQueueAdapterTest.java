@@ -0,0 +1,212 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import seungyong.helpmebackend.global.config.JobQueueProperties;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobPriority;
+import seungyong.helpmebackend.global.domain.type.JobType;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisJobQueueAdapterTest {
+    private static final String QUEUE = RedisKey.JOB_QUEUE_KEY.getValue();
+    private static final String LOW_QUEUE = RedisKey.JOB_LOW_PRIORITY_QUEUE_KEY.getValue();
+    private static final String DEAD_LETTER = RedisKey.JOB_DEAD_LETTER_KEY.getValue();
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private StreamOperations<String, Object, Object> streamOperations;
+
+    private RedisJobQueueAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        adapter = new RedisJobQueueAdapter(redisTemplate, new JobQueueProperties());
+    }
+
+    private MapRecord<String, Object, Object> record(String id, String attempt) {
+        return StreamRecords.<String, Object, Object>mapBacked(Map.of(
+                "type", JobType.DRAFT_GENERATION.getValue(),
+                "taskId", "task-123",
+                "payload", "{\"userId\":1}",
+                "attempt", attempt,
+                "enqueuedAt", "1700000000000"
+        )).withStreamKey(QUEUE).withId(RecordId.of(id));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> capturedFields(String key) {
+        ArgumentCaptor<MapRecord<String, String, String>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations, atLeastOnce()).add(captor.capture());
+
+        return captor.getAllValues().stream()
+                .filter(added -> added.getStream().equals(key))
+                .findFirst()
+                .orElseThrow()
+                .getValue();
+    }
+
+    @Nested
+    @DisplayName("enqueue - 작업 등록")
+    class Enqueue {
+        @Test
+        @DisplayName("성공")
+        void enqueue_success() {
+            adapter.enqueue(JobType.DRAFT_EVALUATION, "task-123", Map.of("userId", 1));
+
+            assertThat(capturedFields(QUEUE))
+                    .containsEntry("type", JobType.DRAFT_EVALUATION.getValue())
+                    .containsEntry("taskId", "task-123")
+                    .containsEntry("payload", "{\"userId\":1}")
+                    .containsEntry("attempt", "1")
+                    .containsKey("enqueuedAt");
+        }
+
+        @Test
+        @DisplayName("성공 - 낮은 우선순위 작업은 별도 Stream에 등록")
+        void enqueue_success_lowPriority() {
+            adapter.enqueue(JobType.CONTEXT_PREWARM, "prewarm-1", Map.of());
+
+            assertThat(capturedFields(LOW_QUEUE)).containsEntry("type", JobType.CONTEXT_PREWARM.getValue());
+        }
+
+        @Test
+        @DisplayName("실패 - Redis 오류")
+        void enqueue_failure() {
+            given(streamOperations.add(any(MapRecord.class))).willThrow(new RuntimeException("down"));
+
+            assertThatThrownBy(() -> adapter.enqueue(JobType.DRAFT_EVALUATION, "task-123", Map.of()))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
+    @Nested
+    @DisplayName("claim - 새 작업 가져오기")
+    class Claim {
+        @Test
+        @DisplayName("성공 - Consumer Group 생성 후 조회")
+        @SuppressWarnings("unchecked")
+        void claim_success() {
+            given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                    .willReturn(List.of(record("1-0", "1")));
+
+            List<Job> jobs = adapter.claim("node-1", JobPriority.NORMAL, 1, Duration.ofSeconds(2));
+
+            assertThat(jobs).containsExactly(new Job(
+                    "1-0", JobType.DRAFT_GENERATION.getValue(), "task-123", "{\"userId\":1}", 1, Instant.ofEpochMilli(1700000000000L)
+            ));
+            verify(redisTemplate).execute(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 낮은 우선순위 Stream을 기다리지 않고 조회")
+        @SuppressWarnings("unchecked")
+        void claim_success_lowPriority() {
+            ArgumentCaptor<StreamReadOptions> options = ArgumentCaptor.forClass(StreamReadOptions.class);
+            ArgumentCaptor<StreamOffset<String>> offset = ArgumentCaptor.forClass(StreamOffset.class);
+            given(streamOperations.read(any(Consumer.class), options.capture(), offset.capture())).willReturn(List.of());
+
+            assertThat(adapter.claim("node-1", JobPriority.LOW, 1, Duration.ZERO)).isEmpty();
+
+            assertThat(offset.getValue().getKey()).isEqualTo(LOW_QUEUE);
+            assertThat(options.getValue().getBlock()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("reclaimExpired - 시간이 지난 작업 가져오기")
+    class ReclaimExpired {
+        @Test
+        @DisplayName("성공 - visibility-timeout이 지난 작업만 가져오고 시도 횟수 증가")
+        void reclaimExpired_success() {
+            Duration timeout = Duration.ofMinutes(10);
+            PendingMessages pending = new PendingMessages(RedisJobQueueAdapter.GROUP, List.of(
+                    new PendingMessage(RecordId.of("1-0"), Consumer.from(RedisJobQueueAdapter.GROUP, "dead-node"), Duration.ofMinutes(11), 1),
+                    new PendingMessage(RecordId.of("2-0"), Consumer.from(RedisJobQueueAdapter.GROUP, "live-node"), Duration.ofMinutes(1), 1)
+            ));
+            given(streamOperations.pending(eq(QUEUE), eq(RedisJobQueueAdapter.GROUP), any(Range.class), anyLong())).willReturn(pending);
+            given(streamOperations.claim(QUEUE, RedisJobQueueAdapter.GROUP, "node-1", timeout, RecordId.of("1-0")))
+                    .willReturn(List.of(record("1-0", "1")));
+
+            List<Job> jobs = adapter.reclaimExpired("node-1", JobPriority.NORMAL, timeout, 5);
+
+            assertThat(jobs).singleElement().satisfies(job -> {
+                assertThat(job.id()).isEqualTo("1-0");
+                assertThat(job.attempt()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("성공 - 시간이 지난 작업 없음")
+        void reclaimExpired_success_none() {
+            given(streamOperations.pending(anyString(), eq(RedisJobQueueAdapter.GROUP), any(Range.class), anyLong()))
+                    .willReturn(new PendingMessages(RedisJobQueueAdapter.GROUP, List.of()));
+
+            assertThat(adapter.reclaimExpired("node-1", JobPriority.NORMAL, Duration.ofMinutes(10), 5)).isEmpty();
+            verify(streamOperations, never()).claim(anyString(), anyString(), anyString(), any(Duration.class), any(RecordId[].class));
+        }
+    }
+
+    @Nested
+    @DisplayName("작업 완료/재시도/Dead Letter")
+    class Complete {
+        private final Job job = new Job("1-0", JobType.DRAFT_GENERATION.getValue(), "task-123", "{}", 2, Instant.now());
+
+        @Test
+        @DisplayName("acknowledge - ACK 후 Stream에서 삭제")
+        void acknowledge_success() {
+            adapter.acknowledge(job);
+
+            verify(streamOperations).acknowledge(QUEUE, RedisJobQueueAdapter.GROUP, "1-0");
+            verify(streamOperations).delete(QUEUE, "1-0");
+        }
+
+        @Test
+        @DisplayName("retry - 시도 횟수를 늘려 다시 등록 후 ACK")
+        void retry_success() {
+            adapter.retry(job);
+
+            assertThat(capturedFields(QUEUE)).containsEntry("attempt", "3");
+            verify(streamOperations).acknowledge(QUEUE, RedisJobQueueAdapter.GROUP, "1-0");
+        }
+
+        @Test
+        @DisplayName("deadLetter - Dead Letter Stream에 등록 후 ACK")
+        void deadLetter_success() {
+            adapter.deadLetter(job, "boom");
+
+            assertThat(capturedFields(DEAD_LETTER))
+                    .containsEntry("taskId", "task-123")
+                    .containsEntry("attempt", "2")
+                    .containsEntry("reason", "boom");
+            verify(streamOperations).trim(DEAD_LETTER, 10_000, true);
+            verify(streamOperations).acknowledge(QUEUE, RedisJobQueueAdapter.GROUP, "1-0");
+        }
+    }
+}
@@ -1,21 +1,32 @@
 package seungyong.helpmebackend.global.adapter.out.redis;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
+import seungyong.helpmebackend.global.domain.type.RedisKeyFactory;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
 import seungyong.helpmebackend.user.domain.entity.JWTUser;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
@@ -24,7 +35,20 @@ import static org.assertj.core.api.Assertions.*;
 public class RedisStoreTest {
     @Mock private RedisTemplate<String, String> redisTemplate;
     @Mock private ValueOperations<String, String> valueOperations;
-    @InjectMocks private RedisStore redisStore;
+    @Mock private RedisTemplate<String, byte[]> binaryRedisTemplate;
+    @Mock private ValueOperations<String, byte[]> binaryValueOperations;
+
+    private RedisStore redisStore;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 타입의 RedisTemplate이 두 개이므로 직접 생성
+        redisStore = new RedisStore(redisTemplate, binaryRedisTemplate);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
 
     @Nested
     @DisplayName("Redis 저장")
@@ -56,6 +80,50 @@ public class RedisStoreTest {
         }
     }
 
+    @Nested
+    @DisplayName("Redis 선점 저장")
+    class SetIfAbsentTests {
+        @Test
+        @DisplayName("성공 - 저장됨")
+        void setIfAbsent_Success() {
+            Mockito
+                    .when(redisTemplate.opsForValue())
+                    .thenReturn(valueOperations);
+
+            Mockito
+                    .when(valueOperations.setIfAbsent(Mockito.anyString(), Mockito.anyString(), Mockito.anyLong(), Mockito.any(TimeUnit.class)))
+                    .thenReturn(true);
+
+            boolean result = redisStore.setIfAbsent("testKey", "testValue", Instant.now().plusSeconds(60));
+
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 이미 존재")
+        void setIfAbsent_AlreadyExists() {
+            Mockito
+                    .when(redisTemplate.opsForValue())
+                    .thenReturn(valueOperations);
+
+            Mockito
+                    .when(valueOperations.setIfAbsent(Mockito.anyString(), Mockito.anyString(), Mockito.anyLong(), Mockito.any(TimeUnit.class)))
+                    .thenReturn(false);
+
+            boolean result = redisStore.setIfAbsent("testKey", "testValue", Instant.now().plusSeconds(60));
+
+            assertThat(result).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패 - 과거 시간")
+        void setIfAbsent_Fail_PastTime() {
+            assertThatThrownBy(() -> redisStore.setIfAbsent("testKey", "testValue", Instant.now().minusSeconds(60)))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.REDIS_ERROR);
+        }
+    }
+
     @Nested
     @DisplayName("객체 Redis 저장")
     class SetObjectTests {
@@ -63,36 +131,53 @@ public class RedisStoreTest {
         @DisplayName("성공")
         void setObject_Success() {
             Mockito
-                    .when(redisTemplate.opsForValue())
-                    .thenReturn(valueOperations);
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
 
             Mockito
                     .doNothing()
-                    .when(valueOperations)
-                    .set(Mockito.anyString(), Mockito.anyString(), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+                    .when(binaryValueOperations)
+                    .set(Mockito.anyString(), Mockito.any(byte[].class), Mockito.anyLong(), Mockito.any(TimeUnit.class));
 
             redisStore.setObject("testKey", new JWTUser(1L, "test-name"), Instant.now().plusSeconds(60));
 
-            Mockito.verify(redisTemplate.opsForValue(), Mockito.times(1))
-                    .set(Mockito.anyString(), Mockito.anyString(), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+            Mockito.verify(binaryValueOperations, Mockito.times(1))
+                    .set(Mockito.eq("testKey"), Mockito.eq(utf8("{\"id\":1,\"username\":\"test-name\"}")), Mockito.anyLong(), Mockito.any(TimeUnit.class));
         }
 
         @Test
         @DisplayName("성공 - ifAbsent")
         void setObject_Success_IfAbsent() {
             Mockito
-                    .when(redisTemplate.opsForValue())
-                    .thenReturn(valueOperations);
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
 
             Mockito
                     .doNothing()
-                    .when(valueOperations)
-                    .set(Mockito.anyString(), Mockito.anyString(), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+                    .when(binaryValueOperations)
+                    .set(Mockito.anyString(), Mockito.any(byte[].class), Mockito.anyLong(), Mockito.any(TimeUnit.class));
 
             redisStore.setObject("testKey", new JWTUser(1L, "test-name"), Instant.now().plusSeconds(60));
 
-            Mockito.verify(redisTemplate.opsForValue(), Mockito.times(1))
-                    .set(Mockito.anyString(), Mockito.anyString(), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+            Mockito.verify(binaryValueOperations, Mockito.times(1))
+                    .set(Mockito.eq("testKey"), Mockito.eq(utf8("{\"id\":1,\"username\":\"test-name\"}")), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 항목 별 저장 형식 적용")
+        void setObject_Success_CompactEncoding() {
+            Mockito
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
+
+            String key = RedisKeyFactory.createTreeKey("owner", "name", "sha");
+            redisStore.setObject(key, List.of("a", "b"), Instant.now().plusSeconds(60));
+
+            ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+            Mockito.verify(binaryValueOperations).set(Mockito.eq(key), captor.capture(), Mockito.anyLong(), Mockito.any(TimeUnit.class));
+
+            assertThat(captor.getValue()[0]).isEqualTo(RedisValueCodec.MAGIC);
+            assertThat(redisStore.decode(key, captor.getValue(), new TypeReference<List<String>>() {})).containsExactly("a", "b");
         }
 
         @Test
@@ -184,19 +269,19 @@ public class RedisStoreTest {
         void getObject_ExistingKey() {
             String key = "existingKey";
             Mockito
-                    .when(redisTemplate.opsForValue())
-                    .thenReturn(valueOperations);
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
 
             Mockito
-                    .when(valueOperations.get(Mockito.eq(key)))
-                    .thenReturn("{\"id\":1,\"username\":\"test-name\"}");
+                    .when(binaryValueOperations.get(Mockito.eq(key)))
+                    .thenReturn(utf8("{\"id\":1,\"username\":\"test-name\"}"));
 
             JWTUser result = redisStore.getObject(key, new TypeReference<JWTUser>() {});
 
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(1L);
             assertThat(result.getUsername()).isEqualTo("test-name");
-            Mockito.verify(redisTemplate.opsForValue(), Mockito.times(1)).get("existingKey");
+            Mockito.verify(binaryValueOperations, Mockito.times(1)).get("existingKey");
         }
 
         @Test
@@ -204,17 +289,17 @@ public class RedisStoreTest {
         void getObject_NullValue() {
             String key = "nullValueKey";
             Mockito
-                    .when(redisTemplate.opsForValue())
-                    .thenReturn(valueOperations);
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
 
             Mockito
-                    .when(valueOperations.get(Mockito.eq(key)))
+                    .when(binaryValueOperations.get(Mockito.eq(key)))
                     .thenReturn(null);
 
             JWTUser result = redisStore.getObject(key, new TypeReference<JWTUser>() {});
 
             assertThat(result).isNull();
-            Mockito.verify(redisTemplate.opsForValue(), Mockito.times(1)).get(key);
+            Mockito.verify(binaryValueOperations, Mockito.times(1)).get(key);
         }
     }
 
@@ -230,4 +315,147 @@ public class RedisStoreTest {
 
         Mockito.verify(redisTemplate, Mockito.times(1)).delete(key);
     }
+
+    @Nested
+    @DisplayName("값이 같을 때만 삭제")
+    class DeleteIfEqualsTests {
+        @Test
+        @DisplayName("성공 - 값이 같으면 삭제")
+        void deleteIfEquals_Success() {
+            Mockito
+                    .when(redisTemplate.execute(Mockito.<RedisScript<Long>>any(), Mockito.eq(List.of("lease")), Mockito.eq("node")))
+                    .thenReturn(1L);
+
+            assertThat(redisStore.deleteIfEquals("lease", "node")).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 값이면 삭제하지 않음")
+        void deleteIfEquals_NotOwner() {
+            Mockito
+                    .when(redisTemplate.execute(Mockito.<RedisScript<Long>>any(), Mockito.eq(List.of("lease")), Mockito.eq("node")))
+                    .thenReturn(0L);
+
+            assertThat(redisStore.deleteIfEquals("lease", "node")).isFalse();
+            Mockito.verify(redisTemplate, Mockito.never()).delete(Mockito.anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - Redis 오류")
+        void deleteIfEquals_Failure() {
+            Mockito
+                    .when(redisTemplate.execute(Mockito.<RedisScript<Long>>any(), Mockito.anyList(), Mockito.any()))
+                    .thenThrow(new RuntimeException("Redis down"));
+
+            assertThatThrownBy(() -> redisStore.deleteIfEquals("lease", "node"))
+                    .isInstanceOf(CustomException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 후 삭제")
+    class GetAndDeleteTests {
+        @Test
+        @DisplayName("성공 - 객체 존재")
+        void getAndDeleteObject_ExistingKey() {
+            Mockito
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
+
+            Mockito
+                    .when(binaryValueOperations.getAndDelete("existingKey"))
+                    .thenReturn(utf8("{\"id\":1,\"username\":\"test-name\"}"));
+
+            JWTUser result = redisStore.getAndDeleteObject("existingKey", new TypeReference<JWTUser>() {});
+
+            assertThat(result.getUsername()).isEqualTo("test-name");
+            Mockito.verify(redisTemplate, Mockito.never()).delete(Mockito.anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 미존재")
+        void getAndDeleteObject_NonExistingKey() {
+            Mockito
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
+
+            Mockito
+                    .when(binaryValueOperations.getAndDelete("nonExistingKey"))
+                    .thenReturn(null);
+
+            JWTUser result = redisStore.getAndDeleteObject("nonExistingKey", new TypeReference<JWTUser>() {});
+
+            assertThat(result).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 key 조회")
+    class MultiGetTests {
+        @Test
+        @DisplayName("성공 - 일부 존재")
+        void multiGet_PartialHit() {
+            Mockito
+                    .when(binaryRedisTemplate.opsForValue())
+                    .thenReturn(binaryValueOperations);
+
+            Mockito
+                    .when(binaryValueOperations.multiGet(List.of("raw", "object", "missing")))
+                    .thenReturn(Arrays.asList(utf8("text"), utf8("{\"id\":1,\"username\":\"test-name\"}"), null));
+
+            RedisValues result = redisStore.multiGet(List.of("raw", "object", "missing"));
+
+            assertThat(result.get("raw")).isEqualTo("text");
+            assertThat(result.getObject("object", new TypeReference<JWTUser>() {}).getId()).isEqualTo(1L);
+            assertThat(result.get("missing")).isNull();
+            assertThat(result.getObject("missing", new TypeReference<JWTUser>() {})).isNull();
+            Mockito.verify(binaryValueOperations, Mockito.times(1)).multiGet(Mockito.anyCollection());
+        }
+
+        @Test
+        @DisplayName("성공 - 빈 key 목록은 조회하지 않음")
+        void multiGet_Empty() {
+            RedisValues result = redisStore.multiGet(List.of());
+
+            assertThat(result.get("any")).isNull();
+            Mockito.verify(binaryRedisTemplate, Mockito.never()).opsForValue();
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 key 저장")
+    class MultiSetTests {
+        @Test
+        @DisplayName("성공 - 파이프라인 한 번으로 저장")
+        @SuppressWarnings("unchecked")
+        void multiSet_Success() {
+            RedisOperations<String, String> operations = Mockito.mock(RedisOperations.class);
+            Mockito.when(operations.opsForValue()).thenReturn(valueOperations);
+            Mockito
+                    .when(redisTemplate.executePipelined(Mockito.any(SessionCallback.class)))
+                    .thenAnswer(invocation -> {
+                        SessionCallback<Object> callback = invocation.getArgument(0);
+                        callback.execute(operations);
+                        return List.of();
+                    });
+
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put("a", "1");
+            values.put("b", "2");
+
+            redisStore.multiSet(values, Instant.now().plusSeconds(60));
+
+            Mockito.verify(redisTemplate, Mockito.times(1)).executePipelined(Mockito.any(SessionCallback.class));
+            Mockito.verify(valueOperations).set(Mockito.eq("a"), Mockito.eq("1"), Mockito.anyLong(), Mockito.eq(TimeUnit.SECONDS));
+            Mockito.verify(valueOperations).set(Mockito.eq("b"), Mockito.eq("2"), Mockito.anyLong(), Mockito.eq(TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("실패 - 과거 시간")
+        void multiSet_Fail_PastTime() {
+            assertThatThrownBy(() -> redisStore.multiSet(Map.of("a", "1"), Instant.now().minusSeconds(60)))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.REDIS_ERROR);
+        }
+    }
 }
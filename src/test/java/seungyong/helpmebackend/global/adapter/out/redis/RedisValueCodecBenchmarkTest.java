@@ -0,0 +1,108 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import seungyong.helpmebackend.global.domain.type.RedisValueEncoding;
+import seungyong.helpmebackend.repository.application.port.out.command.RepositoryInfoCommand;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryTreeResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 값 저장 형식 별 크기, 변환 시간 비교
+ * <br />
+ * 시간 측정은 환경에 따라 달라지므로 기본 테스트에서는 제외합니다. (gradle benchmark로 실행) <br />
+ * 검증은 크기 감소만 수행하고, 시간은 결과 표로 확인합니다.
+ */
+@Tag("benchmark")
+class RedisValueCodecBenchmarkTest {
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private final RedisValueCodec codec = new RedisValueCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("트리 - 10,000개 파일")
+    void benchmark_tree() throws IOException {
+        List<RepositoryTreeResult> tree = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            tree.add(new RepositoryTreeResult(
+                    "src/main/java/seungyong/helpmebackend/module" + (i % 50) + "/File" + i + ".java",
+                    "blob",
+                    String.format("%040x", i * 7919L)
+            ));
+        }
+
+        Map<RedisValueEncoding, byte[]> sizes = run("trees", tree, new TypeReference<List<RepositoryTreeResult>>() {});
+
+        assertThat(sizes.get(RedisValueEncoding.SMILE_LZ4).length).isLessThan(sizes.get(RedisValueEncoding.JSON).length / 2);
+    }
+
+    @Test
+    @DisplayName("커밋 - 기여자 30명, 커밋 메시지 100개씩")
+    void benchmark_commits() throws IOException {
+        List<RepositoryInfoCommand.CommitCommand> commits = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            List<String> messages = new ArrayList<>();
+            for (int j = 0; j < 100; j++) {
+                messages.add("feat(module" + (j % 10) + "): 기능 " + j + " 추가 및 테스트 보강");
+            }
+
+            commits.add(new RepositoryInfoCommand.CommitCommand(
+                    new RepositoryInfoCommand.ContributorCommand("contributor" + i, "https://avatars.githubusercontent.com/u/" + i),
+                    messages,
+                    messages.subList(0, 30),
+                    messages.subList(30, 60)
+            ));
+        }
+
+        Map<RedisValueEncoding, byte[]> sizes = run("commits", commits, new TypeReference<List<RepositoryInfoCommand.CommitCommand>>() {});
+
+        assertThat(sizes.get(RedisValueEncoding.SMILE_LZ4).length).isLessThan(sizes.get(RedisValueEncoding.JSON).length);
+    }
+
+    private <T> Map<RedisValueEncoding, byte[]> run(String name, T value, TypeReference<T> typeRef) throws IOException {
+        Map<RedisValueEncoding, byte[]> encoded = new EnumMap<>(RedisValueEncoding.class);
+        StringBuilder table = new StringBuilder("\n[" + name + "]\n")
+                .append(String.format("%-10s %12s %14s %14s%n", "encoding", "bytes", "encode(us)", "decode(us)"));
+
+        for (RedisValueEncoding encoding : RedisValueEncoding.values()) {
+            byte[] bytes = codec.encode(value, encoding);
+            encoded.put(encoding, bytes);
+
+            for (int i = 0; i < WARMUP; i++) {
+                codec.decode(codec.encode(value, encoding), typeRef);
+            }
+
+            long encodeNanos = 0;
+            long decodeNanos = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                byte[] result = codec.encode(value, encoding);
+                long middle = System.nanoTime();
+                codec.decode(result, typeRef);
+                long end = System.nanoTime();
+
+                encodeNanos += middle - start;
+                decodeNanos += end - middle;
+            }
+
+            table.append(String.format(
+                    "%-10s %12d %14.1f %14.1f%n",
+                    encoding, bytes.length, encodeNanos / 1_000.0 / ITERATIONS, decodeNanos / 1_000.0 / ITERATIONS
+            ));
+        }
+
+        System.out.println(table);
+        return encoded;
+    }
+}
@@ -0,0 +1,81 @@
+package seungyong.helpmebackend.global.adapter.out.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import seungyong.helpmebackend.global.domain.type.RedisValueEncoding;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryTreeResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisValueCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisValueCodec codec = new RedisValueCodec(objectMapper);
+
+    private final List<RepositoryTreeResult> tree = List.of(
+            new RepositoryTreeResult("src/Main.java", "blob", "main-sha"),
+            new RepositoryTreeResult("src", "tree", "src-sha")
+    );
+
+    @Nested
+    @DisplayName("encode / decode - 형식 별 변환")
+    class RoundTrip {
+        @ParameterizedTest
+        @EnumSource(RedisValueEncoding.class)
+        @DisplayName("성공 - 변환 후 원래 객체로 복원")
+        void roundTrip_success(RedisValueEncoding encoding) throws IOException {
+            byte[] encoded = codec.encode(tree, encoding);
+
+            assertThat(codec.decode(encoded, new TypeReference<List<RepositoryTreeResult>>() {})).isEqualTo(tree);
+        }
+
+        @Test
+        @DisplayName("성공 - JSON은 헤더 없이 기존 형식 그대로 저장")
+        void encode_success_jsonWithoutHeader() throws IOException {
+            byte[] encoded = codec.encode(tree, RedisValueEncoding.JSON);
+
+            assertThat(encoded).isEqualTo(objectMapper.writeValueAsBytes(tree));
+        }
+
+        @Test
+        @DisplayName("성공 - 형식 변경 전 저장된 JSON 값 조회")
+        void decode_success_legacyJson() throws IOException {
+            byte[] legacy = "[{\"path\":\"src/Main.java\",\"type\":\"blob\",\"sha\":\"main-sha\"}]".getBytes(StandardCharsets.UTF_8);
+
+            assertThat(codec.decode(legacy, new TypeReference<List<RepositoryTreeResult>>() {}))
+                    .containsExactly(new RepositoryTreeResult("src/Main.java", "blob", "main-sha"));
+        }
+
+        @Test
+        @DisplayName("실패 - 알 수 없는 형식")
+        void decode_fail_unknownFormat() {
+            byte[] unknown = new byte[]{RedisValueCodec.MAGIC, 99, 0};
+
+            assertThatThrownBy(() -> codec.decode(unknown, new TypeReference<List<RepositoryTreeResult>>() {}))
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("decodedSize - 압축 해제 크기")
+    class DecodedSize {
+        @Test
+        @DisplayName("성공 - LZ4는 기록된 원본 크기, 그 외는 저장 크기")
+        void decodedSize_success() throws IOException {
+            byte[] compressed = codec.encode(tree, RedisValueEncoding.SMILE_LZ4);
+            byte[] smile = codec.encode(tree, RedisValueEncoding.SMILE);
+
+            assertThat(RedisValueCodec.decodedSize(compressed)).isEqualTo(smile.length - 2);
+            assertThat(RedisValueCodec.decodedSize(smile)).isEqualTo(smile.length);
+        }
+    }
+}
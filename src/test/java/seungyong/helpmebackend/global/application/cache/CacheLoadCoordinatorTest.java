@@ -0,0 +1,197 @@
+package seungyong.helpmebackend.global.application.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.domain.type.RedisKey;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheLoadCoordinatorTest {
+    private static final String KEY = "gh:tech-stack:owner/repo:sha";
+    private static final String LEASE_KEY = RedisKey.CACHE_LOAD_LEASE_KEY.getValue() + KEY;
+    private static final String CHANNEL = RedisKey.CACHE_LOADED_CHANNEL.getValue() + KEY;
+
+    @Mock private RedisPortOut redisPortOut;
+
+    private CacheLoadCoordinator coordinator;
+    private BiConsumer<String, String> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        coordinator = coordinator(Duration.ofSeconds(5));
+
+        ArgumentCaptor<BiConsumer<String, String>> captor = ArgumentCaptor.forClass(BiConsumer.class);
+        coordinator.subscribe();
+        verify(redisPortOut).subscribe(eq(RedisKey.CACHE_LOADED_CHANNEL.getValue() + "*"), captor.capture());
+        listener = captor.getValue();
+    }
+
+    private CacheLoadCoordinator coordinator(Duration waitTimeout) {
+        return new CacheLoadCoordinator(
+                redisPortOut, new SyncTaskExecutor(), new SyncTaskExecutor(), true, Duration.ofSeconds(60), waitTimeout
+        );
+    }
+
+    @Nested
+    @DisplayName("load - Cache Miss 적재")
+    class Load {
+        @Test
+        @DisplayName("성공 - Lease 획득 시 직접 적재 후 완료 알림")
+        void load_success_leader() {
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(true);
+
+            String result = coordinator.load(KEY, () -> "loaded", () -> null);
+
+            ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+            assertThat(result).isEqualTo("loaded");
+            verify(redisPortOut).setIfAbsent(eq(LEASE_KEY), owner.capture(), any(Instant.class));
+            // 자신이 획득한 Lease만 해제
+            verify(redisPortOut).deleteIfEquals(LEASE_KEY, owner.getValue());
+            verify(redisPortOut).publish(eq(CHANNEL), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - 적재 실패 시에도 Lease 해제 및 완료 알림")
+        void load_failure_leaderReleases() {
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(true);
+
+            assertThatThrownBy(() -> coordinator.load(KEY, () -> { throw new IllegalStateException("boom"); }, () -> null))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(redisPortOut).deleteIfEquals(eq(LEASE_KEY), anyString());
+            verify(redisPortOut).publish(eq(CHANNEL), anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 서버가 적재 중이면 완료 알림 후 캐시 조회 (원본 미조회)")
+        void load_success_waitForOtherNode() throws Exception {
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(false);
+            AtomicReference<String> cache = new AtomicReference<>();
+            AtomicInteger loads = new AtomicInteger();
+
+            CompletableFuture<String> waiting = coordinator.loadAsync(
+                    KEY,
+                    () -> { loads.incrementAndGet(); return CompletableFuture.completedFuture("direct"); },
+                    cache::get
+            );
+            assertThat(waiting).isNotDone();
+
+            // 다른 서버가 캐시 저장 후 완료 알림
+            cache.set("shared");
+            listener.accept(CHANNEL, "other-node");
+
+            assertThat(waiting.get(1, TimeUnit.SECONDS)).isEqualTo("shared");
+            assertThat(loads.get()).isZero();
+            verify(redisPortOut, never()).deleteIfEquals(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 서버의 적재가 실패하면 직접 적재")
+        void load_success_otherNodeFailed() throws Exception {
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(false);
+
+            CompletableFuture<String> waiting = coordinator.loadAsync(
+                    KEY,
+                    () -> CompletableFuture.completedFuture("direct"),
+                    () -> null
+            );
+            listener.accept(CHANNEL, "other-node");
+
+            assertThat(waiting.get(1, TimeUnit.SECONDS)).isEqualTo("direct");
+        }
+
+        @Test
+        @DisplayName("성공 - 완료 알림이 없으면 wait-timeout 이후 직접 적재")
+        void load_success_waitTimeout() {
+            CacheLoadCoordinator shortWait = coordinator(Duration.ofMillis(50));
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(false);
+
+            assertThat(shortWait.load(KEY, () -> "direct", () -> null)).isEqualTo("direct");
+        }
+
+        @Test
+        @DisplayName("성공 - 같은 서버의 동시 요청은 한 번만 적재")
+        void load_success_localSingleFlight() {
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(true);
+            CompletableFuture<String> loading = new CompletableFuture<>();
+            AtomicInteger loads = new AtomicInteger();
+
+            CompletableFuture<String> first = coordinator.loadAsync(KEY, () -> { loads.incrementAndGet(); return loading; }, () -> null);
+            CompletableFuture<String> second = coordinator.loadAsync(KEY, () -> { loads.incrementAndGet(); return loading; }, () -> null);
+
+            loading.complete("loaded");
+
+            assertThat(first.join()).isEqualTo("loaded");
+            assertThat(second.join()).isEqualTo("loaded");
+            assertThat(loads.get()).isEqualTo(1);
+            verify(redisPortOut, times(1)).setIfAbsent(anyString(), anyString(), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 오류 시 직접 적재")
+        void load_success_redisUnavailable() {
+            given(redisPortOut.setIfAbsent(anyString(), anyString(), any(Instant.class))).willThrow(new RuntimeException("down"));
+
+            assertThat(coordinator.load(KEY, () -> "direct", () -> null)).isEqualTo("direct");
+        }
+
+        @Test
+        @DisplayName("성공 - 비활성화 시 Lease 없이 직접 적재")
+        void load_success_disabled() {
+            CacheLoadCoordinator disabled = new CacheLoadCoordinator(
+                    redisPortOut, new SyncTaskExecutor(), new SyncTaskExecutor(), false, Duration.ofSeconds(60), Duration.ofSeconds(5)
+            );
+
+            assertThat(disabled.load(KEY, () -> "direct", () -> null)).isEqualTo("direct");
+            verify(redisPortOut, never()).setIfAbsent(anyString(), anyString(), any(Instant.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("revalidateAsync - 백그라운드 갱신")
+    class Revalidate {
+        @Test
+        @DisplayName("성공")
+        void revalidate_success() {
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(true);
+            AtomicInteger loads = new AtomicInteger();
+
+            coordinator.revalidateAsync(KEY, loads::incrementAndGet, () -> null);
+
+            assertThat(loads.get()).isEqualTo(1);
+            verify(redisPortOut).publish(eq(CHANNEL), anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 적재 실패 시 예외 미전파")
+        void revalidate_failure_ignored() {
+            given(redisPortOut.setIfAbsent(eq(LEASE_KEY), anyString(), any(Instant.class))).willReturn(true);
+
+            coordinator.revalidateAsync(KEY, () -> { throw new IllegalStateException("boom"); }, () -> null);
+
+            verify(redisPortOut).deleteIfEquals(eq(LEASE_KEY), anyString());
+        }
+    }
+}
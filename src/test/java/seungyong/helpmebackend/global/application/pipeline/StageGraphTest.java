@@ -0,0 +1,107 @@
+package seungyong.helpmebackend.global.application.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StageGraphTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("stage - Stage 실행")
+    class RunStage {
+        @Test
+        @DisplayName("성공 (선행 Stage 결과 사용)")
+        void stage_success_dependency() {
+            StageGraph graph = new StageGraphFactory(meterRegistry, Runnable::run).create("test");
+
+            StageGraph.Stage<Integer> left = graph.stage("left", () -> 1);
+            StageGraph.Stage<Integer> right = graph.stageAsync("right", () -> CompletableFuture.completedFuture(2));
+            StageGraph.Stage<Integer> sum = graph.stage("sum", List.of(left, right), () -> left.get() + right.get());
+
+            graph.await();
+
+            assertThat(sum.get()).isEqualTo(3);
+            assertThat(meterRegistry.get("pipeline.stage")
+                    .tag("pipeline", "test")
+                    .tag("stage", "sum")
+                    .tag("outcome", "success")
+                    .timer()
+                    .count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 (독립적인 Stage 동시 실행)")
+        void stage_success_parallel() throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                StageGraph graph = new StageGraphFactory(meterRegistry, executor).create("test");
+                CountDownLatch bothStarted = new CountDownLatch(2);
+
+                // 두 Stage가 동시에 실행되어야만 서로의 시작을 확인할 수 있음
+                graph.stage("first", () -> awaitLatch(bothStarted));
+                graph.stage("second", () -> awaitLatch(bothStarted));
+
+                graph.await();
+            } finally {
+                executor.shutdownNow();
+                assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("실패 (선행 Stage 실패 시 이후 Stage 미실행)")
+        void stage_failure_dependencyFailed() {
+            StageGraph graph = new StageGraphFactory(meterRegistry, Runnable::run).create("test");
+            AtomicBoolean executed = new AtomicBoolean(false);
+
+            StageGraph.Stage<Integer> failed = graph.stage("failed", () -> {
+                throw new CustomException(GlobalErrorCode.GITHUB_UNAVAILABLE);
+            });
+            graph.stage("dependent", List.of(failed), () -> {
+                executed.set(true);
+                return 1;
+            });
+
+            assertThatThrownBy(graph::await)
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GITHUB_UNAVAILABLE);
+            assertThat(executed).isFalse();
+            assertThat(meterRegistry.get("pipeline.stage")
+                    .tag("stage", "failed")
+                    .tag("outcome", "error")
+                    .timer()
+                    .count()).isEqualTo(1);
+        }
+    }
+
+    private boolean awaitLatch(CountDownLatch latch) {
+        latch.countDown();
+
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Stages did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package seungyong.helpmebackend.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubResiliencePropertiesTest {
+    @Nested
+    @DisplayName("resolve - operation 별 정책 조회")
+    class Resolve {
+        @Test
+        @DisplayName("성공 (기본 정책)")
+        void resolve_success_defaults() {
+            GithubResilienceProperties properties = new GithubResilienceProperties();
+
+            GithubResilienceProperties.Policy policy = properties.resolve("get-repository-tree");
+
+            assertThat(policy.getMaxAttempts()).isEqualTo(3);
+            assertThat(policy.getHedgeEnabled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 (지정한 값만 덮어씀)")
+        void resolve_success_override() {
+            GithubResilienceProperties properties = new GithubResilienceProperties();
+            GithubResilienceProperties.Policy override = new GithubResilienceProperties.Policy();
+            override.setHedgeEnabled(true);
+            properties.getOperations().put("get-repository-tree", override);
+            properties.getDefaults().setMaxAttempts(5);
+
+            GithubResilienceProperties.Policy policy = properties.resolve("get-repository-tree");
+
+            assertThat(policy.getHedgeEnabled()).isTrue();
+            assertThat(policy.getMaxAttempts()).isEqualTo(5);
+            assertThat(policy.getHedgeDelay()).isEqualTo(Duration.ofSeconds(1));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seungyong.helpmebackend.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ManagementPortRequestMatcherTest {
+    private MockHttpServletRequest request(int port, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setLocalPort(port);
+        return request;
+    }
+
+    @Nested
+    @DisplayName("matches - 관리 포트 요청 판별")
+    class Matches {
+        @Test
+        @DisplayName("성공 (관리 포트의 Actuator 요청)")
+        void matches_success_managementPort() {
+            ManagementPortRequestMatcher matcher = new ManagementPortRequestMatcher(8080, 8081);
+
+            assertThat(matcher.matches(request(8081, "/actuator/prometheus"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패 (서비스 포트의 Actuator 요청)")
+        void matches_failure_serverPort() {
+            ManagementPortRequestMatcher matcher = new ManagementPortRequestMatcher(8080, 8081);
+
+            assertThat(matcher.matches(request(8080, "/actuator/prometheus"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패 (관리 포트 미지정)")
+        void matches_failure_notConfigured() {
+            ManagementPortRequestMatcher matcher = new ManagementPortRequestMatcher(8080, -1);
+
+            assertThat(matcher.matches(request(8080, "/actuator/prometheus"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패 (관리 포트가 서비스 포트와 같음)")
+        void matches_failure_samePort() {
+            ManagementPortRequestMatcher matcher = new ManagementPortRequestMatcher(8080, 8080);
+
+            assertThat(matcher.matches(request(8080, "/actuator/prometheus"))).isFalse();
+        }
+    }
+}
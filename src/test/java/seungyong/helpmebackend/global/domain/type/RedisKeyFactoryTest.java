@@ -31,6 +31,13 @@ class RedisKeyFactoryTest {
         assertThat(key).isEqualTo("gh:languages:seungyong:helpme:abc123456789");
     }
 
+    @Test
+    @DisplayName("createBranchHeadKey - 브랜치 마지막 컨텍스트 커밋 키 생성")
+    void createBranchHeadKey() {
+        String key = RedisKeyFactory.createBranchHeadKey(OWNER, NAME, "main");
+        assertThat(key).isEqualTo("gh:branch-head:seungyong:helpme:main");
+    }
+
     @Test
     @DisplayName("createTreeKey - Tree 캐시 키 생성")
     void createTreeKey() {
@@ -58,4 +65,21 @@ class RedisKeyFactoryTest {
         String key = RedisKeyFactory.createImportanceFileKey(OWNER, NAME, SHA);
         assertThat(key).isEqualTo("gh:file:importance:seungyong:helpme:abc123456789");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("createBlobKey - 파일 내용(blob) 캐시 키 생성")
+    void createBlobKey() {
+        String key = RedisKeyFactory.createBlobKey("blob-sha");
+        assertThat(key).isEqualTo("gh:blob:blob-sha");
+    }
+
+    @Test
+    @DisplayName("encodingOf - key 항목 별 객체 저장 형식")
+    void encodingOf() {
+        assertThat(RedisKeyFactory.encodingOf(RedisKeyFactory.createTreeKey(OWNER, NAME, SHA))).isEqualTo(RedisValueEncoding.SMILE_LZ4);
+        assertThat(RedisKeyFactory.encodingOf(RedisKeyFactory.createLanguageKey(OWNER, NAME, SHA))).isEqualTo(RedisValueEncoding.SMILE);
+        assertThat(RedisKeyFactory.encodingOf(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, SHA))).isEqualTo(RedisValueEncoding.SMILE);
+        assertThat(RedisKeyFactory.encodingOf(RedisKeyFactory.createEntryFileKey(OWNER, NAME, SHA))).isEqualTo(RedisValueEncoding.JSON);
+        assertThat(RedisKeyFactory.encodingOf("unknown:key")).isEqualTo(RedisValueEncoding.JSON);
+    }
+}
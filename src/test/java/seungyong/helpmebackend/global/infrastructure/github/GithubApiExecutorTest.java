@@ -1,22 +1,39 @@
 package seungyong.helpmebackend.global.infrastructure.github;
 
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import seungyong.helpmebackend.global.config.GithubResilienceProperties;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GithubRateLimitException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+import seungyong.helpmebackend.global.infrastructure.resilience.DependencyGuard;
 import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,9 +44,27 @@ import static org.mockito.Mockito.*;
 class GithubApiExecutorTest {
     @Mock private GithubClient githubClient;
     @Mock private ObjectMapper objectMapper;
+    @Spy private GithubRequestCoalescer requestCoalescer =
+            new GithubRequestCoalescer(null, false, Duration.ofSeconds(15), Duration.ofSeconds(10), Duration.ofSeconds(5));
+    @Spy private GithubResilienceExecutor resilienceExecutor =
+            new GithubResilienceExecutor(resilienceProperties(), new SimpleMeterRegistry(), Runnable::run);
+    @Spy private DependencyGuard dependencyGuard =
+            new DependencyGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+    @Spy private GithubApiMetrics apiMetrics = new GithubApiMetrics(
+            new SimpleMeterRegistry(),
+            new GithubRateLimitTracker(100, Duration.ZERO, Duration.ZERO)
+    );
+    @Spy private GithubConcurrencyLimiter concurrencyLimiter = new GithubConcurrencyLimiter(4);
+    @Spy private Executor ioExecutor = new SyncTaskExecutor();
 
     @InjectMocks private GithubApiExecutor githubApiExecutor;
 
+    private static GithubResilienceProperties resilienceProperties() {
+        GithubResilienceProperties properties = new GithubResilienceProperties();
+        properties.getDefaults().setBaseBackoff(Duration.ZERO);
+        return properties;
+    }
+
     @Nested
     @DisplayName("executeGet - GET 요청 실행")
     class ExecuteGet {
@@ -62,6 +97,81 @@ class GithubApiExecutorTest {
             assertThat(recoveredValue).isEqualTo("recovered");
         }
 
+        @Test
+        @DisplayName("성공 (5xx 응답 후 재시도)")
+        void executeGet_success_retryOnServerError() throws Exception {
+            String url = "https://api.github.com/test";
+            String token = "token";
+            String responseBody = "{\"key\":\"value\"}";
+
+            given(githubClient.fetchGetMethodForBody(url, token))
+                    .willThrow(HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, null, null))
+                    .willReturn(responseBody);
+            given(objectMapper.readTree(responseBody)).willReturn(mock(JsonNode.class));
+
+            String result = githubApiExecutor.executeGet(url, token, node -> "parsedValue", "testOp");
+
+            assertThat(result).isEqualTo("parsedValue");
+            verify(githubClient, times(2)).fetchGetMethodForBody(url, token);
+        }
+
+        @Test
+        @DisplayName("실패 (재시도 횟수 초과)")
+        void executeGet_failure_retryExhausted() {
+            given(githubClient.fetchGetMethodForBody(anyString(), anyString()))
+                    .willThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", HttpHeaders.EMPTY, null, null));
+
+            assertThatThrownBy(() -> githubApiExecutor.executeGet("url", "token", node -> "val", "testOp"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GITHUB_ERROR);
+
+            verify(githubClient, times(3)).fetchGetMethodForBody("url", "token");
+        }
+
+        @Test
+        @DisplayName("성공 (비동기 - I/O 스레드 풀에서 실행)")
+        void executeGetAsync_success() throws Exception {
+            String url = "https://api.github.com/test";
+            String token = "token";
+            String responseBody = "{\"key\":\"value\"}";
+
+            given(githubClient.fetchGetMethodForBody(url, token)).willReturn(responseBody);
+            given(objectMapper.readTree(responseBody)).willReturn(mock(JsonNode.class));
+
+            String result = githubApiExecutor.executeGetAsync(url, token, node -> "parsedValue", "testOp").join();
+
+            assertThat(result).isEqualTo("parsedValue");
+            verify(ioExecutor).execute(any(Runnable.class));
+        }
+
+        @Test
+        @DisplayName("실패 (비동기 - 예외는 CompletionException으로 전달)")
+        void executeGetAsync_failure() {
+            given(githubClient.fetchGetMethodForBody(anyString(), anyString()))
+                    .willThrow(HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", HttpHeaders.EMPTY, null, null));
+
+            assertThatThrownBy(() -> githubApiExecutor.executeGetAsync("url", "token", node -> "val", "testOp").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(CustomException.class);
+        }
+
+        @Test
+        @DisplayName("실패 (Circuit Breaker 차단 - 503)")
+        void executeGet_failure_circuitOpen() {
+            CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+            registry.circuitBreaker("github." + GithubOperations.normalize("testOp")).transitionToOpenState();
+            DependencyGuard openGuard = new DependencyGuard(registry, BulkheadRegistry.ofDefaults());
+            GithubApiExecutor executor = new GithubApiExecutor(
+                    githubClient, objectMapper, requestCoalescer, resilienceExecutor, openGuard, apiMetrics, concurrencyLimiter, ioExecutor
+            );
+
+            assertThatThrownBy(() -> executor.executeGet("url", "token", node -> "val", "testOp", e -> Optional.empty()))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GITHUB_UNAVAILABLE);
+
+            verify(githubClient, never()).fetchGetMethodForBody(anyString(), anyString());
+        }
+
         @Test
         @DisplayName("실패 (401 미인증)")
         void executeGet_failure_unauthorized() {
@@ -110,6 +220,137 @@ class GithubApiExecutorTest {
         }
     }
 
+    @Nested
+    @DisplayName("executeGetStream - GET 스트리밍 요청 실행")
+    class ExecuteGetStream {
+        private void mockStream(String url, String body) {
+            given(githubClient.fetchGetStream(eq(url), anyString(), anyString(), any(), any()))
+                    .willAnswer(invocation -> {
+                        GithubClient.StreamHandler<?> handler = invocation.getArgument(3);
+                        return handler.handle(new HttpHeaders(), new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+                    });
+        }
+
+        @Test
+        @DisplayName("성공")
+        void executeGetStream_success() throws Exception {
+            String url = "https://api.github.com/test";
+            mockStream(url, "[1, 2, 3]");
+            given(objectMapper.createParser(any(InputStream.class)))
+                    .willAnswer(invocation -> new ObjectMapper().createParser((InputStream) invocation.getArgument(0)));
+
+            Integer result = githubApiExecutor.executeGetStream(url, "token", (parser, headers) -> {
+                int count = 0;
+                parser.nextToken();
+                while (parser.nextToken() == JsonToken.VALUE_NUMBER_INT) { count++; }
+                return count;
+            }, "testOp");
+
+            assertThat(result).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("실패 (JSON 파싱 에러)")
+        void executeGetStream_failure_invalidJson() throws Exception {
+            String url = "https://api.github.com/test";
+            mockStream(url, "[1, ");
+            given(objectMapper.createParser(any(InputStream.class)))
+                    .willAnswer(invocation -> new ObjectMapper().createParser((InputStream) invocation.getArgument(0)));
+
+            assertThatThrownBy(() -> githubApiExecutor.executeGetStream(url, "token", (parser, headers) -> {
+                while (parser.nextToken() != null) { }
+                return 0;
+            }, "testOp"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", RepositoryErrorCode.JSON_PROCESSING_ERROR);
+        }
+
+        @Test
+        @DisplayName("실패 (401 Unauthorized)")
+        void executeGetStream_failure_unauthorized() {
+            String url = "https://api.github.com/test";
+            HttpClientErrorException unauthorized = HttpClientErrorException.create(
+                    HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null
+            );
+            given(githubClient.fetchGetStream(eq(url), anyString(), anyString(), any(), any())).willThrow(unauthorized);
+
+            assertThatThrownBy(() -> githubApiExecutor.executeGetStream(url, "token", (parser, headers) -> 0, "testOp"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", RepositoryErrorCode.GITHUB_UNAUTHORIZED);
+        }
+    }
+
+    @Nested
+    @DisplayName("executeGetBinary - GET 바이너리 스트리밍 요청 실행")
+    class ExecuteGetBinary {
+        @Test
+        @DisplayName("성공")
+        void executeGetBinary_success() {
+            String url = "https://api.github.com/test";
+            given(githubClient.fetchGetStream(eq(url), anyString(), anyString(), any(), any()))
+                    .willAnswer(invocation -> {
+                        GithubClient.StreamHandler<?> handler = invocation.getArgument(3);
+                        return handler.handle(new HttpHeaders(), new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+                    });
+
+            Integer result = githubApiExecutor.executeGetBinary(
+                    url, "token", GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_JSON,
+                    (body, headers) -> body.readAllBytes().length,
+                    "testOp", null
+            );
+
+            assertThat(result).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("실패 (404 Not Found - 예외 핸들러 처리)")
+        void executeGetBinary_failure_notFound() {
+            String url = "https://api.github.com/test";
+            HttpClientErrorException notFound = HttpClientErrorException.create(
+                    HttpStatus.NOT_FOUND, "Not Found", null, null, null
+            );
+            given(githubClient.fetchGetStream(eq(url), anyString(), anyString(), any(), any())).willThrow(notFound);
+
+            Integer result = githubApiExecutor.executeGetBinary(
+                    url, "token", GithubClient.Accept.APPLICATION_GITHUB_VND_GITHUB_JSON,
+                    (body, headers) -> 1,
+                    "testOp",
+                    e -> Optional.of(0)
+            );
+
+            assertThat(result).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("executeGraphQL - GraphQL 요청 실행")
+    class ExecuteGraphQL {
+        @Test
+        @DisplayName("성공 (부분 오류는 data 그대로 전달)")
+        void executeGraphQL_success_partialErrors() throws Exception {
+            String responseStr = "{\"data\":{\"repository\":{\"name\":\"repo\"}},\"errors\":[{\"message\":\"partial\"}]}";
+            given(githubClient.postWithBearer(eq("https://api.github.com/graphql"), eq("token"), anyMap(), eq(String.class)))
+                    .willReturn(responseStr);
+            given(objectMapper.readTree(responseStr)).willReturn(new ObjectMapper().readTree(responseStr));
+
+            String result = githubApiExecutor.executeGraphQL("token", "query", Map.of(), data -> data.get("repository").get("name").asText(), "gqlOp");
+
+            assertThat(result).isEqualTo("repo");
+        }
+
+        @Test
+        @DisplayName("실패 (data 없음)")
+        void executeGraphQL_failure_noData() throws Exception {
+            String responseStr = "{\"data\":null,\"errors\":[{\"message\":\"bad query\"}]}";
+            given(githubClient.postWithBearer(anyString(), anyString(), anyMap(), eq(String.class))).willReturn(responseStr);
+            given(objectMapper.readTree(responseStr)).willReturn(new ObjectMapper().readTree(responseStr));
+
+            assertThatThrownBy(() -> githubApiExecutor.executeGraphQL("token", "query", Map.of(), data -> data, "gqlOp"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GITHUB_ERROR);
+        }
+    }
+
     @Nested
     @DisplayName("executePost - POST 요청 실행")
     class ExecutePost {
@@ -0,0 +1,110 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GithubApiMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GithubRateLimitTracker rateLimitTracker = new GithubRateLimitTracker(100, Duration.ZERO, Duration.ZERO);
+    private final GithubApiMetrics apiMetrics = new GithubApiMetrics(meterRegistry, rateLimitTracker);
+
+    private Timer timer(String operation, String status) {
+        return meterRegistry.find("github.api.requests")
+                .tag("operation", operation)
+                .tag("status", status)
+                .timer();
+    }
+
+    @Nested
+    @DisplayName("record - 요청 지연 시간/상태 기록")
+    class Record {
+        @Test
+        @DisplayName("성공 (응답 본문 크기 기록)")
+        void record_success() {
+            String result = apiMetrics.record("Get repository tree for owner/name", "GET", () -> "{\"tree\":[]}");
+
+            assertThat(result).isEqualTo("{\"tree\":[]}");
+            assertThat(timer("get-repository-tree", "2xx").count()).isEqualTo(1);
+            assertThat(meterRegistry.find("github.api.response.size").tag("operation", "get-repository-tree").summary().totalAmount())
+                    .isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("성공 (ResponseEntity 상태 코드 분류)")
+        void record_success_responseEntity() {
+            apiMetrics.record("Get readme", "GET", () -> ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+
+            assertThat(timer("get-readme", "2xx").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 (4xx 응답)")
+        void record_failure_clientError() {
+            assertThatThrownBy(() -> apiMetrics.record("Get readme", "GET", () -> {
+                throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null);
+            })).isInstanceOf(HttpClientErrorException.class);
+
+            assertThat(timer("get-readme", "4xx").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 (I/O 오류)")
+        void record_failure_io() {
+            assertThatThrownBy(() -> apiMetrics.record("Get readme", "GET", () -> {
+                throw new ResourceAccessException("Read timed out");
+            })).isInstanceOf(ResourceAccessException.class);
+
+            assertThat(timer("get-readme", "io").count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("countingStream - 스트리밍 응답 크기 기록")
+    class CountingStream {
+        @Test
+        @DisplayName("성공")
+        void countingStream_success() throws Exception {
+            byte[] body = new byte[1024];
+
+            try (InputStream in = apiMetrics.countingStream("Fetch commits", new ByteArrayInputStream(body))) {
+                assertThat(in.readAllBytes()).hasSize(1024);
+            }
+
+            assertThat(meterRegistry.find("github.api.response.size").tag("operation", "fetch-commits").summary().totalAmount())
+                    .isEqualTo(1024);
+        }
+    }
+
+    @Nested
+    @DisplayName("github.rate-limit.remaining - Rate Limit 잔여량")
+    class RateLimitRemaining {
+        @Test
+        @DisplayName("성공")
+        void rateLimitRemaining_success() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("X-RateLimit-Limit", "5000");
+            headers.set("X-RateLimit-Remaining", "321");
+            headers.set("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() / 1000 + 600));
+            headers.set("X-RateLimit-Resource", "core");
+
+            rateLimitTracker.record("token", headers);
+
+            assertThat(meterRegistry.find("github.rate-limit.remaining").tag("resource", "core").gauge().value())
+                    .isEqualTo(321);
+        }
+    }
+}
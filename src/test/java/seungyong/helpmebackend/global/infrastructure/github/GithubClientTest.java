@@ -6,21 +6,32 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.*;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
 import seungyong.helpmebackend.global.domain.entity.PageInfo;
 import seungyong.helpmebackend.global.exception.CustomException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +43,13 @@ class GithubClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private GithubResponseCache responseCache =
+            new GithubResponseCache(true, 1024 * 1024, 64 * 1024, Duration.ofHours(1));
+
+    @Mock
+    private GithubRateLimitTracker rateLimitTracker;
+
     @BeforeEach
     void setUp() {
         // 내부에서 생성된 restTemplate을 mock 객체로 교체
@@ -119,6 +137,92 @@ class GithubClientTest {
             assertThat(result.getBody()).isEqualTo("body");
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         }
+
+        @Test
+        @DisplayName("성공 (ETag 재검증 - 304 응답 시 캐시된 본문 반환)")
+        void fetchGet_success_notModified() {
+            String url = "url";
+            HttpHeaders okHeaders = new HttpHeaders();
+            okHeaders.setETag("\"etag-1\"");
+            okHeaders.set(HttpHeaders.LINK, "<https://api.github.com/user/repos?page=2>; rel=\"next\"");
+
+            given(restTemplate.exchange(eq(url), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                    .willReturn(new ResponseEntity<>("body", okHeaders, HttpStatus.OK))
+                    .willReturn(new ResponseEntity<>(null, new HttpHeaders(), HttpStatus.NOT_MODIFIED));
+
+            githubClient.fetchGet(url, "token", "accept", String.class);
+            ResponseEntity<String> result = githubClient.fetchGet(url, "token", "accept", String.class);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<HttpEntity<Void>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(restTemplate, times(2)).exchange(eq(url), eq(HttpMethod.GET), captor.capture(), eq(String.class));
+
+            assertThat(captor.getAllValues().get(0).getHeaders().getIfNoneMatch()).isEmpty();
+            assertThat(captor.getAllValues().get(1).getHeaders().getIfNoneMatch()).containsExactly("\"etag-1\"");
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getBody()).isEqualTo("body");
+            assertThat(GithubClient.extractNextUrl(result.getHeaders())).contains("https://api.github.com/user/repos?page=2");
+        }
+
+        @Test
+        @DisplayName("성공 (토큰이 다르면 캐시를 공유하지 않음)")
+        void fetchGet_success_differentTokenScope() {
+            String url = "url";
+            HttpHeaders okHeaders = new HttpHeaders();
+            okHeaders.setETag("\"etag-1\"");
+
+            given(restTemplate.exchange(eq(url), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                    .willReturn(new ResponseEntity<>("body", okHeaders, HttpStatus.OK));
+
+            githubClient.fetchGet(url, "token-a", "accept", String.class);
+            githubClient.fetchGet(url, "token-b", "accept", String.class);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<HttpEntity<Void>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+            verify(restTemplate, times(2)).exchange(eq(url), eq(HttpMethod.GET), captor.capture(), eq(String.class));
+
+            assertThat(captor.getAllValues().get(1).getHeaders().getIfNoneMatch()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("fetchGetStream - GET 스트리밍 요청 실행")
+    class FetchGetStream {
+        @Test
+        @DisplayName("성공")
+        @SuppressWarnings("unchecked")
+        void fetchGetStream_success() throws Exception {
+            String url = "url";
+            MockClientHttpRequest mockRequest = new MockClientHttpRequest();
+            MockClientHttpResponse mockResponse = new MockClientHttpResponse("stream-body".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+            given(restTemplate.execute(eq(url), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                    .willAnswer(invocation -> {
+                        RequestCallback callback = invocation.getArgument(2);
+                        ResponseExtractor<Object> extractor = invocation.getArgument(3);
+                        callback.doWithRequest(mockRequest);
+                        return extractor.extractData(mockResponse);
+                    });
+
+            String result = githubClient.fetchGetStream(url, "token", "accept",
+                    (headers, body) -> new String(body.readAllBytes(), StandardCharsets.UTF_8));
+
+            assertThat(result).isEqualTo("stream-body");
+            assertThat(mockRequest.getHeaders().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token");
+            assertThat(mockRequest.getHeaders().getFirst(HttpHeaders.ACCEPT)).isEqualTo("accept");
+            verify(rateLimitTracker).record(eq("token"), any(HttpHeaders.class));
+            verify(rateLimitTracker).acquire(eq("token"), eq(GithubRateLimitTracker.CORE_RESOURCE), any());
+        }
+
+        @Test
+        @DisplayName("성공 (요청 직전에 전달받은 예약 사용)")
+        void fetchGetStream_success_reservation() {
+            GithubRateLimitReservation reservation = mock(GithubRateLimitReservation.class);
+
+            githubClient.fetchGetStream("url", "token", "accept", (headers, body) -> "", reservation);
+
+            verify(rateLimitTracker).acquire("token", GithubRateLimitTracker.CORE_RESOURCE, reservation);
+        }
     }
 
     @Nested
@@ -135,6 +239,18 @@ class GithubClientTest {
             String result = githubClient.postWithBearer(url, "token", body, String.class);
 
             assertThat(result).isEqualTo("success");
+            verify(rateLimitTracker).acquire(eq("token"), eq(GithubRateLimitTracker.CORE_RESOURCE), any());
+        }
+
+        @Test
+        @DisplayName("성공 (GraphQL 요청은 graphql Rate Limit 기준으로 허가)")
+        void postWithBearer_success_graphql() {
+            given(restTemplate.exchange(eq(GithubClient.GRAPHQL_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+                    .willReturn(ResponseEntity.ok("{}"));
+
+            githubClient.postWithBearer(GithubClient.GRAPHQL_URL, "token", Map.of("query", "{}"), String.class);
+
+            verify(rateLimitTracker).acquire(eq("token"), eq(GithubRateLimitTracker.GRAPHQL_RESOURCE), any());
         }
 
         @Test
@@ -0,0 +1,101 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GithubConcurrencyLimiterTest {
+    private final GithubConcurrencyLimiter limiter = new GithubConcurrencyLimiter(2);
+
+    /**
+     * 제출된 작업을 보관만 하고, 테스트에서 직접 실행하는 Executor
+     */
+    private static final class ManualExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runNext() {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Nested
+    @DisplayName("submit - 토큰 별 동시 실행 제한")
+    class Submit {
+        @Test
+        @DisplayName("성공 (허용량을 넘는 요청은 앞선 요청 완료 후 실행)")
+        void submit_success_queued() {
+            ManualExecutor executor = new ManualExecutor();
+
+            CompletableFuture<Integer> first = limiter.submit("token", () -> 1, executor);
+            CompletableFuture<Integer> second = limiter.submit("token", () -> 2, executor);
+            CompletableFuture<Integer> third = limiter.submit("token", () -> 3, executor);
+
+            assertThat(executor.tasks).hasSize(2);
+            assertThat(limiter.getActive("token")).isEqualTo(2);
+
+            executor.runNext();
+
+            assertThat(first).isCompletedWithValue(1);
+            assertThat(executor.tasks).hasSize(2);
+
+            executor.runNext();
+            executor.runNext();
+
+            assertThat(second).isCompletedWithValue(2);
+            assertThat(third).isCompletedWithValue(3);
+            assertThat(limiter.getActive("token")).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 (다른 토큰은 영향 없음)")
+        void submit_success_otherToken() {
+            ManualExecutor executor = new ManualExecutor();
+
+            limiter.submit("token", () -> 1, executor);
+            limiter.submit("token", () -> 2, executor);
+            limiter.submit("other-token", () -> 3, executor);
+
+            assertThat(executor.tasks).hasSize(3);
+            assertThat(limiter.getActive("other-token")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 (작업 예외 전달 후 허용량 반환)")
+        void submit_failure_taskException() {
+            CompletableFuture<Integer> result = limiter.submit("token", () -> {
+                throw new IllegalStateException("boom");
+            }, Runnable::run);
+
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(limiter.getActive("token")).isZero();
+        }
+
+        @Test
+        @DisplayName("실패 (스레드 풀 거부 시 허용량 반환)")
+        void submit_failure_rejected() {
+            CompletableFuture<Integer> result = limiter.submit("token", () -> 1, command -> {
+                throw new RejectedExecutionException("full");
+            });
+
+            assertThat(result).isCompletedExceptionally();
+            assertThat(limiter.getActive("token")).isZero();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubOperationsTest {
+    @Nested
+    @DisplayName("normalize - operation 이름 정규화")
+    class Normalize {
+        @Test
+        @DisplayName("성공")
+        void normalize_success() {
+            assertThat(GithubOperations.normalize("Get repository tree")).isEqualTo("get-repository-tree");
+        }
+
+        @Test
+        @DisplayName("성공 (동적 값 제거)")
+        void normalize_success_dynamicValues() {
+            assertThat(GithubOperations.normalize("Fetch commits for owner/repo page=2")).isEqualTo("fetch-commits");
+        }
+
+        @Test
+        @DisplayName("성공 (빈 이름)")
+        void normalize_success_blank() {
+            assertThat(GithubOperations.normalize(null)).isEqualTo("unknown");
+            assertThat(GithubOperations.normalize("  ")).isEqualTo("unknown");
+        }
+    }
+}
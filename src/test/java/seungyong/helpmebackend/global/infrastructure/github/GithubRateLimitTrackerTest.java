@@ -0,0 +1,223 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
+import seungyong.helpmebackend.global.exception.GithubRateLimitException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GithubRateLimitTrackerTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final GithubRateLimitTracker tracker = new GithubRateLimitTracker(
+            10,
+            Duration.ZERO,
+            Duration.ZERO,
+            Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    private HttpHeaders rateLimitHeaders(int remaining, Instant reset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Limit", "5000");
+        headers.set("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.set("X-RateLimit-Reset", String.valueOf(reset.getEpochSecond()));
+        headers.set("X-RateLimit-Resource", "core");
+        return headers;
+    }
+
+    @Nested
+    @DisplayName("record - Rate Limit 헤더 기록")
+    class Record {
+        @Test
+        @DisplayName("성공")
+        void record_success() {
+            tracker.record("token", rateLimitHeaders(4000, NOW.plusSeconds(600)));
+
+            assertThat(tracker.getBudget("token"))
+                    .hasValueSatisfying(budget -> {
+                        assertThat(budget.limit()).isEqualTo(5000);
+                        assertThat(budget.remaining()).isEqualTo(4000);
+                        assertThat(budget.resetAt()).isEqualTo(NOW.plusSeconds(600));
+                    });
+        }
+
+        @Test
+        @DisplayName("무시 (Rate Limit 헤더 없음)")
+        void record_ignore_noHeaders() {
+            tracker.record("token", new HttpHeaders());
+
+            assertThat(tracker.getBudget("token")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("무시 (리셋 시각 경과)")
+        void record_expired() {
+            tracker.record("token", rateLimitHeaders(0, NOW.minusSeconds(1)));
+
+            assertThat(tracker.getBudget("token")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getLowestRemaining - 리소스 별 최소 잔여량 조회")
+    class GetLowestRemaining {
+        @Test
+        @DisplayName("성공")
+        void getLowestRemaining_success() {
+            tracker.record("token-a", rateLimitHeaders(4000, NOW.plusSeconds(600)));
+            tracker.record("token-b", rateLimitHeaders(1200, NOW.plusSeconds(600)));
+
+            assertThat(tracker.getLowestRemaining(GithubRateLimitTracker.CORE_RESOURCE)).isEqualTo(1200);
+        }
+
+        @Test
+        @DisplayName("성공 (기록 없음)")
+        void getLowestRemaining_success_empty() {
+            assertThat(tracker.getLowestRemaining(GithubRateLimitTracker.GRAPHQL_RESOURCE)).isNaN();
+        }
+    }
+
+    @Nested
+    @DisplayName("reserve - 호출 수 예약")
+    class Reserve {
+        @Test
+        @DisplayName("성공")
+        void reserve_success() {
+            tracker.record("token", rateLimitHeaders(100, NOW.plusSeconds(600)));
+
+            tracker.reserve("token", 30);
+
+            assertThat(tracker.getBudget("token"))
+                    .hasValueSatisfying(budget -> assertThat(budget.available()).isEqualTo(70));
+        }
+
+        @Test
+        @DisplayName("성공 (예약한 요청마다 사용, 남은 예약은 반납)")
+        void reserve_success_useAndClose() {
+            tracker.record("token", rateLimitHeaders(100, NOW.plusSeconds(600)));
+            GithubRateLimitReservation reservation = tracker.reserve("token", 3);
+
+            reservation.use();
+            reservation.use();
+
+            assertThat(tracker.getBudget("token"))
+                    .hasValueSatisfying(budget -> assertThat(budget.reserved()).isEqualTo(1));
+
+            reservation.close();
+            reservation.close();
+
+            assertThat(tracker.getBudget("token"))
+                    .hasValueSatisfying(budget -> assertThat(budget.reserved()).isZero());
+        }
+
+        @Test
+        @DisplayName("성공 (예약하지 않은 요청의 응답은 예약을 차감하지 않음)")
+        void reserve_success_notReleasedByOtherResponse() {
+            tracker.record("token", rateLimitHeaders(100, NOW.plusSeconds(600)));
+            tracker.reserve("token", 2);
+
+            tracker.record("token", rateLimitHeaders(99, NOW.plusSeconds(600)));
+
+            assertThat(tracker.getBudget("token"))
+                    .hasValueSatisfying(budget -> assertThat(budget.reserved()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("성공 (기록 없음)")
+        void reserve_success_unknownToken() {
+            assertThatCode(() -> tracker.reserve("token", 1000)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("실패 (잔여량 부족 + 리셋까지 대기 시간 초과)")
+        void reserve_failure_exhausted() {
+            tracker.record("token", rateLimitHeaders(5, NOW.plusSeconds(600)));
+
+            assertThatThrownBy(() -> tracker.reserve("token", 10))
+                    .isInstanceOf(GithubRateLimitException.class)
+                    .extracting("resetTime")
+                    .isEqualTo(600);
+        }
+    }
+
+    @Nested
+    @DisplayName("acquire - 단일 요청 허가")
+    class Acquire {
+        @Test
+        @DisplayName("성공 (잔여량 적음 - 속도 조절)")
+        void acquire_success_lowRemaining() {
+            tracker.record("token", rateLimitHeaders(3, NOW.plusSeconds(600)));
+
+            assertThatCode(() -> tracker.acquire("token")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("실패 (소진 + 리셋까지 대기 시간 초과)")
+        void acquire_failure_exhausted() {
+            tracker.record("token", rateLimitHeaders(0, NOW.plusSeconds(120)));
+
+            assertThatThrownBy(() -> tracker.acquire("token"))
+                    .isInstanceOf(GithubRateLimitException.class);
+        }
+
+        @Test
+        @DisplayName("실패 (남은 요청이 모두 예약됨 + 리셋까지 대기 시간 초과)")
+        void acquire_failure_reserved() {
+            tracker.record("token", rateLimitHeaders(50, NOW.plusSeconds(120)));
+            tracker.reserve("token", 50);
+
+            assertThatThrownBy(() -> tracker.acquire("token"))
+                    .isInstanceOf(GithubRateLimitException.class);
+        }
+
+        @Test
+        @DisplayName("성공 (예약을 사용한 요청은 자신의 예약 때문에 대기하지 않음)")
+        void acquire_success_reservationUsed() {
+            tracker.record("token", rateLimitHeaders(50, NOW.plusSeconds(120)));
+            GithubRateLimitReservation reservation = tracker.reserve("token", 50);
+
+            reservation.use();
+
+            assertThatCode(() -> tracker.acquire("token")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("성공 (전달받은 예약을 허가 직전에 사용)")
+        void acquire_success_reservationPassed() {
+            tracker.record("token", rateLimitHeaders(50, NOW.plusSeconds(120)));
+            GithubRateLimitReservation reservation = tracker.reserve("token", 50);
+
+            assertThatCode(() -> tracker.acquire("token", GithubRateLimitTracker.CORE_RESOURCE, reservation))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("실패 (GraphQL 잔여량은 core 와 별도로 판단)")
+        void acquire_failure_graphqlExhausted() {
+            HttpHeaders graphqlHeaders = rateLimitHeaders(0, NOW.plusSeconds(120));
+            graphqlHeaders.set("X-RateLimit-Resource", "graphql");
+            tracker.record("token", rateLimitHeaders(5000, NOW.plusSeconds(120)));
+            tracker.record("token", graphqlHeaders);
+
+            assertThatCode(() -> tracker.acquire("token")).doesNotThrowAnyException();
+            assertThatThrownBy(() -> tracker.acquire("token", GithubRateLimitTracker.GRAPHQL_RESOURCE, GithubRateLimitReservation.none()))
+                    .isInstanceOf(GithubRateLimitException.class);
+        }
+
+        @Test
+        @DisplayName("성공 (다른 토큰은 영향 없음)")
+        void acquire_success_otherToken() {
+            tracker.record("token", rateLimitHeaders(0, NOW.plusSeconds(120)));
+
+            assertThatCode(() -> tracker.acquire("other-token")).doesNotThrowAnyException();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GithubRequestCoalescerTest {
+    @Mock private RedisPortOut redisPortOut;
+
+    private GithubRequestCoalescer localCoalescer() {
+        return new GithubRequestCoalescer(redisPortOut, false, Duration.ofSeconds(15), Duration.ofSeconds(10), Duration.ofSeconds(1));
+    }
+
+    private GithubRequestCoalescer distributedCoalescer() {
+        return new GithubRequestCoalescer(redisPortOut, true, Duration.ofSeconds(15), Duration.ofSeconds(10), Duration.ofSeconds(1));
+    }
+
+    @Nested
+    @DisplayName("execute - 같은 서버 내 요청 합치기")
+    class Execute {
+        @Test
+        @DisplayName("성공 (동시 요청은 한 번만 호출)")
+        void execute_success_concurrent() throws Exception {
+            GithubRequestCoalescer coalescer = localCoalescer();
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                Future<String> leader = executor.submit(() -> coalescer.execute("key", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return "body";
+                }));
+                started.await(1, TimeUnit.SECONDS);
+
+                List<Future<String>> followers = List.of(
+                        executor.submit(() -> coalescer.execute("key", () -> { calls.incrementAndGet(); return "other"; })),
+                        executor.submit(() -> coalescer.execute("key", () -> { calls.incrementAndGet(); return "other"; }))
+                );
+
+                // 후속 요청이 대기 상태에 들어갈 시간을 확보
+                Thread.sleep(100);
+                release.countDown();
+
+                assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("body");
+                for (Future<String> follower : followers) {
+                    assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("body");
+                }
+                assertThat(calls.get()).isEqualTo(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("성공 (완료 후 요청은 새로 호출)")
+        void execute_success_sequential() {
+            GithubRequestCoalescer coalescer = localCoalescer();
+            AtomicInteger calls = new AtomicInteger();
+
+            coalescer.execute("key", calls::incrementAndGet);
+            coalescer.execute("key", calls::incrementAndGet);
+
+            assertThat(calls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("실패 (예외 전파)")
+        void execute_failure_propagatesException() {
+            GithubRequestCoalescer coalescer = localCoalescer();
+
+            assertThatThrownBy(() -> coalescer.execute("key", () -> { throw new IllegalStateException("boom"); }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+    }
+
+    @Nested
+    @DisplayName("executeShared - 서버 간 요청 합치기")
+    class ExecuteShared {
+        @Test
+        @DisplayName("성공 (비활성화 시 Redis 미사용)")
+        void executeShared_success_disabled() {
+            String result = localCoalescer().executeShared("key", () -> "body");
+
+            assertThat(result).isEqualTo("body");
+            verifyNoInteractions(redisPortOut);
+        }
+
+        @Test
+        @DisplayName("성공 (Lease 획득 시 호출 후 결과 공유)")
+        void executeShared_success_leader() {
+            given(redisPortOut.get(anyString())).willReturn(null);
+            given(redisPortOut.setIfAbsent(anyString(), anyString(), any(Instant.class))).willReturn(true);
+
+            String result = distributedCoalescer().executeShared("key", () -> "body");
+
+            ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+            assertThat(result).isEqualTo("body");
+            verify(redisPortOut).set(startsWith("gh:inflight:result:"), eq("body"), any(Instant.class));
+            verify(redisPortOut).setIfAbsent(startsWith("gh:inflight:lease:"), owner.capture(), any(Instant.class));
+            // 자신이 획득한 Lease만 반납
+            verify(redisPortOut).deleteIfEquals(startsWith("gh:inflight:lease:"), eq(owner.getValue()));
+            verify(redisPortOut, never()).delete(anyString());
+        }
+
+        @Test
+        @DisplayName("실패 (호출 실패 시에도 Lease 반납, 결과는 공유하지 않음)")
+        void executeShared_failure_leaderReleasesLease() {
+            given(redisPortOut.get(anyString())).willReturn(null);
+            given(redisPortOut.setIfAbsent(anyString(), anyString(), any(Instant.class))).willReturn(true);
+
+            assertThatThrownBy(() -> distributedCoalescer().executeShared("key", () -> {
+                throw new IllegalStateException("github down");
+            })).isInstanceOf(IllegalStateException.class);
+
+            verify(redisPortOut).deleteIfEquals(startsWith("gh:inflight:lease:"), anyString());
+            verify(redisPortOut, never()).set(anyString(), anyString(), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("성공 (다른 서버가 호출 중이면 공유 결과 사용)")
+        void executeShared_success_follower() {
+            AtomicInteger calls = new AtomicInteger();
+            given(redisPortOut.get(anyString())).willReturn(null, "shared");
+            given(redisPortOut.setIfAbsent(anyString(), anyString(), any(Instant.class))).willReturn(false);
+
+            String result = distributedCoalescer().executeShared("key", () -> {
+                calls.incrementAndGet();
+                return "body";
+            });
+
+            assertThat(result).isEqualTo("shared");
+            assertThat(calls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 (Redis 오류 시 직접 호출)")
+        void executeShared_success_redisError() {
+            given(redisPortOut.get(anyString())).willThrow(new RuntimeException("redis down"));
+
+            String result = distributedCoalescer().executeShared("key", () -> "body");
+
+            assertThat(result).isEqualTo("body");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import seungyong.helpmebackend.global.config.GithubResilienceProperties;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GithubResilienceExecutorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService ioExecutor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        ioExecutor.shutdownNow();
+    }
+
+    private GithubResilienceExecutor createExecutor(boolean hedgeEnabled) {
+        GithubResilienceProperties properties = new GithubResilienceProperties();
+        properties.getDefaults().setBaseBackoff(Duration.ZERO);
+        properties.getDefaults().setHedgeEnabled(hedgeEnabled);
+        properties.getDefaults().setHedgeDelay(Duration.ofMillis(50));
+
+        return new GithubResilienceExecutor(properties, meterRegistry, ioExecutor);
+    }
+
+    private double counter(String name, String tagKey, String tagValue) {
+        return meterRegistry.find(name).tag(tagKey, tagValue).counters()
+                .stream()
+                .mapToDouble(c -> c.count())
+                .sum();
+    }
+
+    @Nested
+    @DisplayName("execute - 재시도")
+    class Retry {
+        @Test
+        @DisplayName("성공 (타임아웃 후 재시도)")
+        void execute_success_retryOnTimeout() {
+            GithubResilienceExecutor executor = createExecutor(false);
+            AtomicInteger calls = new AtomicInteger();
+
+            String result = executor.execute("Get repository tree", () -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new ResourceAccessException("Read timed out");
+                }
+
+                return "ok";
+            });
+
+            assertThat(result).isEqualTo("ok");
+            assertThat(calls).hasValue(2);
+            assertThat(counter("github.api.retries", "reason", "io")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 (최대 시도 횟수 초과)")
+        void execute_failure_exhausted() {
+            GithubResilienceExecutor executor = createExecutor(false);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThatThrownBy(() -> executor.execute("Get repository tree", () -> {
+                calls.incrementAndGet();
+                throw HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, null, null);
+            })).isInstanceOf(HttpServerErrorException.class);
+
+            assertThat(calls).hasValue(3);
+            assertThat(counter("github.api.retries", "reason", "502")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("실패 (4xx는 재시도하지 않음)")
+        void execute_failure_clientError() {
+            GithubResilienceExecutor executor = createExecutor(false);
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThatThrownBy(() -> executor.execute("Get repository tree", () -> {
+                calls.incrementAndGet();
+                throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null);
+            })).isInstanceOf(HttpClientErrorException.class);
+
+            assertThat(calls).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("execute - 헤징")
+    class Hedge {
+        @Test
+        @DisplayName("성공 (느린 요청보다 헤징 요청이 먼저 응답)")
+        void execute_success_hedgeWins() {
+            GithubResilienceExecutor executor = createExecutor(true);
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            String result = executor.execute("Get repository tree", () -> {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    return "primary";
+                }
+
+                return "hedge";
+            });
+            release.countDown();
+
+            assertThat(result).isEqualTo("hedge");
+            assertThat(calls).hasValue(2);
+            assertThat(counter("github.api.hedges", "winner", "hedge")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 (빠른 응답은 헤징하지 않음)")
+        void execute_success_noHedge() {
+            GithubResilienceExecutor executor = createExecutor(true);
+            AtomicInteger calls = new AtomicInteger();
+
+            String result = executor.execute("Get repository tree", () -> {
+                calls.incrementAndGet();
+                return "primary";
+            });
+
+            assertThat(result).isEqualTo("primary");
+            assertThat(calls).hasValue(1);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seungyong.helpmebackend.global.infrastructure.github;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubResponseCacheTest {
+    private final GithubResponseCache cache =
+            new GithubResponseCache(true, 1024 * 1024, 16, Duration.ofHours(1));
+
+    private ResponseEntity<String> okWithEtag(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"etag\"");
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    @Nested
+    @DisplayName("put - 응답 저장")
+    class Put {
+        @Test
+        @DisplayName("성공")
+        void put_success() {
+            cache.put("url", "token", "accept", okWithEtag("body"));
+
+            assertThat(cache.get("url", "token", "accept"))
+                    .hasValueSatisfying(cached -> {
+                        assertThat(cached.etag()).isEqualTo("\"etag\"");
+                        assertThat(cached.body()).isEqualTo("body");
+                    });
+        }
+
+        @Test
+        @DisplayName("저장 안 함 (ETag 없음)")
+        void put_skip_noEtag() {
+            cache.put("url", "token", "accept", ResponseEntity.ok("body"));
+
+            assertThat(cache.get("url", "token", "accept")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("저장 안 함 (본문 크기 초과)")
+        void put_skip_tooLarge() {
+            cache.put("url", "token", "accept", okWithEtag("x".repeat(17)));
+
+            assertThat(cache.get("url", "token", "accept")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("저장 안 함 (비활성화)")
+        void put_skip_disabled() {
+            GithubResponseCache disabled = new GithubResponseCache(false, 1024, 16, Duration.ofHours(1));
+
+            disabled.put("url", "token", "accept", okWithEtag("body"));
+
+            assertThat(disabled.get("url", "token", "accept")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("get - 응답 조회")
+    class Get {
+        @Test
+        @DisplayName("토큰/Accept 별로 분리")
+        void get_scopedByTokenAndAccept() {
+            cache.put("url", "token", "accept", okWithEtag("body"));
+
+            assertThat(cache.get("url", "other-token", "accept")).isEmpty();
+            assertThat(cache.get("url", "token", "other-accept")).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package seungyong.helpmebackend.global.infrastructure.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import seungyong.helpmebackend.global.application.port.out.JobQueuePortOut;
+import seungyong.helpmebackend.global.config.JobQueueProperties;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobPriority;
+import seungyong.helpmebackend.global.domain.type.JobType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobWorkerTest {
+    @Mock private JobQueuePortOut jobQueuePortOut;
+    @Mock private JobHandler jobHandler;
+    @Mock private JobHandler lowPriorityHandler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobQueueProperties properties = new JobQueueProperties();
+    private JobWorker jobWorker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWorkers(1);
+        properties.setMaxAttempts(3);
+
+        lenient().when(jobHandler.type()).thenReturn(JobType.DRAFT_EVALUATION);
+        lenient().when(lowPriorityHandler.type()).thenReturn(JobType.CONTEXT_PREWARM);
+        lenient().when(jobQueuePortOut.claim(anyString(), any(JobPriority.class), anyInt(), any(Duration.class))).thenReturn(Collections.emptyList());
+        jobWorker = new JobWorker(jobQueuePortOut, properties, meterRegistry, List.of(jobHandler, lowPriorityHandler));
+    }
+
+    private Job job(int attempt) {
+        return new Job("1-0", JobType.DRAFT_EVALUATION.getValue(), "task-123", "{}", attempt, Instant.now().minusSeconds(3));
+    }
+
+    private double executions(String result) {
+        return meterRegistry.find("job.execution").tag("result", result).timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+
+    @Nested
+    @DisplayName("process - 작업 실행")
+    class Process {
+        @Test
+        @DisplayName("성공 - 완료 후 ACK")
+        void process_success() {
+            Job job = job(1);
+
+            jobWorker.process(job);
+
+            verify(jobHandler).handle(job);
+            verify(jobQueuePortOut).acknowledge(job);
+            assertThat(executions("success")).isEqualTo(1);
+            assertThat(meterRegistry.find("job.queue.wait").tag("type", JobType.DRAFT_EVALUATION.getValue()).timer())
+                    .isNotNull()
+                    .satisfies(timer -> assertThat(timer.count()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("실패 - 시도 횟수가 남으면 재등록")
+        void process_failure_retry() {
+            Job job = job(1);
+            doThrow(new IllegalStateException("boom")).when(jobHandler).handle(job);
+
+            jobWorker.process(job);
+
+            verify(jobQueuePortOut).retry(job);
+            verify(jobQueuePortOut, never()).acknowledge(any());
+            verify(jobHandler, never()).onFailure(any(), any());
+            assertThat(executions("retry")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 - 마지막 시도 실패 시 Dead Letter 이동 후 실패 처리")
+        void process_failure_deadLetter() {
+            Job job = job(3);
+            IllegalStateException error = new IllegalStateException("boom");
+            doThrow(error).when(jobHandler).handle(job);
+
+            jobWorker.process(job);
+
+            verify(jobQueuePortOut).deadLetter(eq(job), contains("boom"));
+            verify(jobQueuePortOut, never()).retry(any());
+            verify(jobHandler).onFailure(job, error);
+            assertThat(executions("dead-letter")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 - visibility-timeout을 넘겨 반복 실행된 작업은 실행하지 않음")
+        void process_failure_exceededAttempts() {
+            Job job = job(4);
+
+            jobWorker.process(job);
+
+            verify(jobHandler, never()).handle(any());
+            verify(jobQueuePortOut).deadLetter(eq(job), anyString());
+            verify(jobHandler).onFailure(eq(job), any(IllegalStateException.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 알 수 없는 작업 종류")
+        void process_failure_unknownType() {
+            Job job = new Job("1-0", "unknown", "task-123", "{}", 1, Instant.now());
+
+            jobWorker.process(job);
+
+            verify(jobHandler, never()).handle(any());
+            verify(jobQueuePortOut).deadLetter(job, "Unknown job type");
+        }
+    }
+
+    @Nested
+    @DisplayName("pollOnce - 작업 가져오기")
+    class PollOnce {
+        @Test
+        @DisplayName("성공 - 시간이 지난 작업을 먼저 가져오고 큐 길이 갱신")
+        void pollOnce_success_reclaim() throws Exception {
+            Job expired = job(2);
+            given(jobQueuePortOut.depth(JobPriority.NORMAL)).willReturn(5L);
+            given(jobQueuePortOut.depth(JobPriority.LOW)).willReturn(2L);
+            given(jobQueuePortOut.reclaimExpired(anyString(), eq(JobPriority.NORMAL), eq(properties.getVisibilityTimeout()), eq(1))).willReturn(List.of(expired));
+
+            jobWorker.pollOnce();
+
+            verify(jobHandler, timeout(1000)).handle(expired);
+            verify(jobQueuePortOut, never()).claim(anyString(), any(JobPriority.class), anyInt(), any(Duration.class));
+            assertThat(meterRegistry.find("job.queue.depth").tag("priority", "normal").gauge().value()).isEqualTo(5);
+            assertThat(meterRegistry.find("job.queue.depth").tag("priority", "low").gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("성공 - 시간이 지난 작업이 없으면 새 작업 가져오기")
+        void pollOnce_success_claim() throws Exception {
+            Job job = job(1);
+            given(jobQueuePortOut.reclaimExpired(anyString(), any(JobPriority.class), any(Duration.class), anyInt())).willReturn(Collections.emptyList());
+            given(jobQueuePortOut.claim(anyString(), eq(JobPriority.NORMAL), eq(1), any(Duration.class))).willReturn(List.of(job));
+
+            jobWorker.pollOnce();
+
+            verify(jobHandler, timeout(1000)).handle(job);
+            verify(jobQueuePortOut, timeout(1000)).acknowledge(job);
+        }
+
+        @Test
+        @DisplayName("성공 - Worker가 모두 실행 중이면 가져오지 않음")
+        void pollOnce_success_capacity() throws Exception {
+            Job first = job(1);
+            given(jobQueuePortOut.reclaimExpired(anyString(), any(JobPriority.class), any(Duration.class), anyInt())).willReturn(Collections.emptyList());
+            given(jobQueuePortOut.claim(anyString(), eq(JobPriority.NORMAL), anyInt(), any(Duration.class))).willReturn(List.of(first));
+
+            // 첫 작업이 끝나지 않도록 대기
+            Object lock = new Object();
+            doAnswer(invocation -> {
+                synchronized (lock) { lock.wait(2000); }
+                return null;
+            }).when(jobHandler).handle(first);
+
+            jobWorker.pollOnce();
+
+            Thread poller = new Thread(() -> {
+                try {
+                    jobWorker.pollOnce();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            poller.start();
+            poller.join(200);
+
+            // 두 번째 poll은 Worker를 기다리므로 큐를 다시 조회하지 않음
+            assertThat(poller.isAlive()).isTrue();
+            verify(jobQueuePortOut, times(1)).claim(anyString(), any(JobPriority.class), anyInt(), any(Duration.class));
+
+            poller.interrupt();
+            synchronized (lock) { lock.notifyAll(); }
+        }
+
+        @Test
+        @DisplayName("성공 - 대기 중인 NORMAL 작업이 없을 때만 낮은 우선순위 작업 가져오기")
+        void pollOnce_success_lowPriority() throws Exception {
+            Job low = new Job("2-0", JobType.CONTEXT_PREWARM.getValue(), "prewarm-1", "{}", 1, Instant.now());
+            given(jobQueuePortOut.reclaimExpired(anyString(), any(JobPriority.class), any(Duration.class), anyInt())).willReturn(Collections.emptyList());
+            given(jobQueuePortOut.claim(anyString(), eq(JobPriority.LOW), eq(1), eq(Duration.ZERO))).willReturn(List.of(low));
+
+            jobWorker.pollOnce();
+
+            verify(lowPriorityHandler, timeout(1000)).handle(low);
+            verify(jobQueuePortOut).claim(anyString(), eq(JobPriority.NORMAL), eq(1), eq(Duration.ZERO));
+            verify(jobQueuePortOut, never()).claim(anyString(), eq(JobPriority.NORMAL), eq(1), eq(properties.getPollTimeout()));
+        }
+
+        @Test
+        @DisplayName("성공 - 낮은 우선순위 작업은 low-priority-workers 수 이내로 실행")
+        void pollOnce_success_lowPriorityLimit() throws Exception {
+            properties.setWorkers(2);
+            properties.setLowPriorityWorkers(1);
+            jobWorker = new JobWorker(jobQueuePortOut, properties, new SimpleMeterRegistry(), List.of(jobHandler, lowPriorityHandler));
+
+            Job low = new Job("2-0", JobType.CONTEXT_PREWARM.getValue(), "prewarm-1", "{}", 1, Instant.now());
+            given(jobQueuePortOut.reclaimExpired(anyString(), any(JobPriority.class), any(Duration.class), anyInt())).willReturn(Collections.emptyList());
+            given(jobQueuePortOut.claim(anyString(), eq(JobPriority.LOW), eq(1), eq(Duration.ZERO))).willReturn(List.of(low));
+
+            // 낮은 우선순위 작업이 끝나지 않도록 대기
+            Object lock = new Object();
+            doAnswer(invocation -> {
+                synchronized (lock) { lock.wait(2000); }
+                return null;
+            }).when(lowPriorityHandler).handle(low);
+
+            jobWorker.pollOnce();
+            verify(lowPriorityHandler, timeout(1000)).handle(low);
+
+            jobWorker.pollOnce();
+
+            // 두 번째 poll은 낮은 우선순위 작업을 가져오지 않고 NORMAL 작업만 기다림
+            verify(jobQueuePortOut, times(1)).claim(anyString(), eq(JobPriority.LOW), anyInt(), any(Duration.class));
+            verify(jobQueuePortOut).claim(anyString(), eq(JobPriority.NORMAL), eq(1), eq(properties.getPollTimeout()));
+
+            synchronized (lock) { lock.notifyAll(); }
+        }
+
+        @Test
+        @DisplayName("성공 - 시간이 지나 다시 가져온 낮은 우선순위 작업도 low-priority-workers 수 이내로 실행")
+        void pollOnce_success_reclaimLowPriorityLimit() throws Exception {
+            properties.setWorkers(2);
+            properties.setLowPriorityWorkers(1);
+            jobWorker = new JobWorker(jobQueuePortOut, properties, new SimpleMeterRegistry(), List.of(jobHandler, lowPriorityHandler));
+
+            Job low = new Job("2-0", JobType.CONTEXT_PREWARM.getValue(), "prewarm-1", "{}", 2, Instant.now());
+            given(jobQueuePortOut.reclaimExpired(anyString(), eq(JobPriority.NORMAL), any(Duration.class), anyInt())).willReturn(Collections.emptyList());
+            given(jobQueuePortOut.reclaimExpired(anyString(), eq(JobPriority.LOW), any(Duration.class), anyInt())).willReturn(List.of(low));
+
+            // 낮은 우선순위 작업이 끝나지 않도록 대기
+            Object lock = new Object();
+            doAnswer(invocation -> {
+                synchronized (lock) { lock.wait(2000); }
+                return null;
+            }).when(lowPriorityHandler).handle(low);
+
+            jobWorker.pollOnce();
+            verify(lowPriorityHandler, timeout(1000)).handle(low);
+
+            jobWorker.pollOnce();
+
+            // 두 번째 poll은 낮은 우선순위 작업을 다시 가져오지 않고 NORMAL 작업만 기다림
+            verify(jobQueuePortOut, times(1)).reclaimExpired(anyString(), eq(JobPriority.LOW), any(Duration.class), anyInt());
+            verify(jobQueuePortOut, never()).claim(anyString(), eq(JobPriority.LOW), anyInt(), any(Duration.class));
+            verify(jobQueuePortOut).claim(anyString(), eq(JobPriority.NORMAL), eq(1), eq(properties.getPollTimeout()));
+
+            synchronized (lock) { lock.notifyAll(); }
+        }
+    }
+}
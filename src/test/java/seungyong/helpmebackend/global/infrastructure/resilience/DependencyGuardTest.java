@@ -0,0 +1,135 @@
+package seungyong.helpmebackend.global.infrastructure.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DependencyGuardTest {
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(Map.of(
+            "github", CircuitBreakerConfig.custom()
+                    .slidingWindowSize(2)
+                    .minimumNumberOfCalls(2)
+                    .failureRateThreshold(50)
+                    .recordExceptions(HttpServerErrorException.class)
+                    .build()
+    ));
+
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(Map.of(
+            "github-interactive", BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build(),
+            "github-background", BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()
+    ));
+
+    private final DependencyGuard dependencyGuard = new DependencyGuard(circuitBreakerRegistry, bulkheadRegistry);
+
+    private void failWithServerError() {
+        try {
+            dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository", () -> {
+                throw HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, null, null);
+            });
+        } catch (HttpServerErrorException ignored) {
+        }
+    }
+
+    @Nested
+    @DisplayName("execute - Circuit Breaker")
+    class CircuitBreaker {
+        @Test
+        @DisplayName("성공")
+        void execute_success() {
+            String result = dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository", () -> "ok");
+
+            assertThat(result).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("실패 (5xx 연속 실패 후 차단)")
+        void execute_failure_open() {
+            failWithServerError();
+            failWithServerError();
+
+            assertThatThrownBy(() -> dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository", () -> "ok"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GITHUB_UNAVAILABLE);
+        }
+
+        @Test
+        @DisplayName("성공 (다른 operation은 차단되지 않음)")
+        void execute_success_otherOperation() {
+            failWithServerError();
+            failWithServerError();
+
+            String result = dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository-tree", () -> "ok");
+
+            assertThat(result).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("성공 (4xx는 실패로 기록하지 않음)")
+        void execute_success_clientErrorNotRecorded() {
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository", () -> {
+                    throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null);
+                })).isInstanceOf(HttpClientErrorException.class);
+            }
+
+            assertThat(dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository", () -> "ok")).isEqualTo("ok");
+        }
+    }
+
+    @Nested
+    @DisplayName("execute - Bulkhead")
+    class Bulkhead {
+        @Test
+        @DisplayName("실패 (동시 호출 수 초과)")
+        void execute_failure_full() {
+            AtomicReference<Throwable> nested = new AtomicReference<>();
+
+            dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository", () -> {
+                try {
+                    dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository-tree", () -> "nested");
+                } catch (Throwable e) {
+                    nested.set(e);
+                }
+
+                return "ok";
+            });
+
+            assertThat(nested.get())
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GITHUB_UNAVAILABLE);
+        }
+
+        @Test
+        @DisplayName("성공 (background 작업은 interactive와 별도 Bulkhead 사용)")
+        void execute_success_separateBackground() {
+            AtomicReference<String> nested = new AtomicReference<>();
+
+            dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository", () -> {
+                TrafficContext.background()
+                        .decorate(() -> nested.set(dependencyGuard.execute(ExternalDependency.GITHUB, "get-repository-tree", () -> "background")))
+                        .run();
+
+                return "ok";
+            });
+
+            assertThat(nested.get()).isEqualTo("background");
+            assertThat(TrafficContext.current()).isEqualTo(TrafficContext.TrafficClass.INTERACTIVE);
+        }
+    }
+}
@@ -59,6 +59,8 @@ import seungyong.helpmebackend.user.domain.entity.GithubUser;
 import seungyong.helpmebackend.user.domain.entity.JWTUser;
 import seungyong.helpmebackend.user.domain.entity.User;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -698,18 +700,22 @@ public class RepositoryIntegrationTest {
 
             HttpHeaders commitHeaders = new HttpHeaders();
             commitHeaders.set(HttpHeaders.LINK, "<https://api.github.com/repositories/123/commits?page=3>; rel=\"last\"");
-            given(githubClient.fetchGet(contains("/commits"), anyString(), anyString(), eq(String.class)))
-                    .willAnswer(invocation -> ResponseEntity.ok().headers(commitHeaders).body(createCommitsJson("commit")));
+            given(githubClient.fetchGetStream(contains("/commits"), anyString(), anyString(), any()))
+                    .willAnswer(invocation -> streamResponse(invocation.getArgument(3), commitHeaders, createCommitsJson("commit")));
 
             // Languages, Trees, Contents
             given(githubClient.fetchGetMethodForBody(contains("/languages"), any()))
                     .willReturn("{\"Java\": 70, \"Python\": 30}");
-            given(githubClient.fetchGetMethodForBody(contains("/git/trees"), anyString()))
-                    .willReturn("{\"tree\": [{\"path\": \"file.txt\", \"type\": \"blob\"}]}");
+            given(githubClient.fetchGetStream(contains("/git/trees"), anyString(), anyString(), any()))
+                    .willAnswer(invocation -> streamResponse(invocation.getArgument(3), new HttpHeaders(), "{\"tree\": [{\"path\": \"file.txt\", \"type\": \"blob\"}]}"));
             given(githubClient.fetchGetMethodForBody(contains("/contents/"), anyString(), anyString()))
                     .willReturn("{\"content\": \"R0lGODlhAQABAIAAAAUEBAAAACwAAAAAAQABAAACAkQBADs=\"}");
         }
 
+        private Object streamResponse(GithubClient.StreamHandler<?> handler, HttpHeaders headers, String body) throws Exception {
+            return handler.handle(headers, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        }
+
         private String subscribeAndGetTaskId() throws Exception {
             MvcResult mvcResult = mockMvc.perform(get("/api/v1/sse/subscribe").accept(MediaType.TEXT_EVENT_STREAM_VALUE))
                     .andExpect(status().isOk())
@@ -926,7 +932,7 @@ public class RepositoryIntegrationTest {
                     command to run the project
                     ```
                     """;
-            RequestGeneration request = new RequestGeneration("main");
+            RequestGeneration request = new RequestGeneration("main", false);
 
             @Captor
             ArgumentCaptor<ResponseSections> captor;
@@ -0,0 +1,51 @@
+package seungyong.helpmebackend.repository.adapter.in.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobType;
+import seungyong.helpmebackend.repository.application.port.in.RepositoryPortIn;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ContextPrewarmJobHandlerTest {
+    @Mock private RepositoryPortIn repositoryPortIn;
+
+    @InjectMocks private ContextPrewarmJobHandler handler;
+
+    private Job job(String payload) {
+        return new Job("1-0", JobType.CONTEXT_PREWARM.getValue(), "prewarm-123", payload, 1, Instant.now());
+    }
+
+    @Nested
+    @DisplayName("handle - 컨텍스트 미리 생성 실행")
+    class Handle {
+        @Test
+        @DisplayName("성공")
+        void handle_success() {
+            handler.handle(job("""
+                    {"userId":1,"owner":"owner","name":"repo","branch":"main"}
+                    """));
+
+            verify(repositoryPortIn).prewarmContext(1L, "owner", "repo", "main");
+            assertThat(handler.type()).isEqualTo(JobType.CONTEXT_PREWARM);
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 작업 내용")
+        void handle_failure_invalidPayload() {
+            assertThatThrownBy(() -> handler.handle(job("not-json")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
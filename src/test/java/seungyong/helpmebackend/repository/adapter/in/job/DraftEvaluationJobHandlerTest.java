@@ -0,0 +1,68 @@
+package seungyong.helpmebackend.repository.adapter.in.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import seungyong.helpmebackend.global.domain.entity.Job;
+import seungyong.helpmebackend.global.domain.type.JobType;
+import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestDraftEvaluation;
+import seungyong.helpmebackend.repository.application.port.in.RepositoryPortIn;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DraftEvaluationJobHandlerTest {
+    @Mock private RepositoryPortIn repositoryPortIn;
+
+    @InjectMocks private DraftEvaluationJobHandler handler;
+
+    private Job job(String payload) {
+        return new Job("1-0", JobType.DRAFT_EVALUATION.getValue(), "task-123", payload, 1, Instant.now());
+    }
+
+    @Nested
+    @DisplayName("handle - 초안 평가 실행")
+    class Handle {
+        @Test
+        @DisplayName("성공")
+        void handle_success() {
+            handler.handle(job("""
+                    {"userId":1,"owner":"owner","name":"repo","request":{"branch":"main","content":"# readme"}}
+                    """));
+
+            verify(repositoryPortIn).processDraftEvaluation(
+                    new RequestDraftEvaluation("main", "# readme"), "task-123", 1L, "owner", "repo"
+            );
+            assertThat(handler.type()).isEqualTo(JobType.DRAFT_EVALUATION);
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 작업 내용")
+        void handle_failure_invalidPayload() {
+            assertThatThrownBy(() -> handler.handle(job("not-json")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("onFailure - 재시도 실패")
+    class OnFailure {
+        @Test
+        @DisplayName("성공 - 오류 전송")
+        void onFailure_success() {
+            IllegalStateException error = new IllegalStateException("boom");
+
+            handler.onFailure(job("{}"), error);
+
+            verify(repositoryPortIn).failDraftEvaluation("task-123", error);
+        }
+    }
+}
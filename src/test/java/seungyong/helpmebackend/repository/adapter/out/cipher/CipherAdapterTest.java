@@ -10,6 +10,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -69,4 +72,51 @@ class CipherAdapterTest {
                     .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("encryptStream / decryptStream - 스트림 압축 후 암호화")
+    class Stream {
+        private byte[] encrypt(String plainText) throws IOException {
+            ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+            try (OutputStream out = cipherAdapter.encryptStream(sink)) {
+                out.write(plainText.getBytes(StandardCharsets.UTF_8));
+            }
+
+            return sink.toByteArray();
+        }
+
+        @Test
+        @DisplayName("성공 - 압축되어 평문보다 작게 저장")
+        void stream_success() throws IOException {
+            String plainText = "public class Main {}\n".repeat(1_000);
+
+            byte[] encrypted = encrypt(plainText);
+
+            assertThat(encrypted.length).isLessThan(plainText.length() / 10);
+            try (InputStream in = cipherAdapter.decryptStream(new ByteArrayInputStream(encrypted))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plainText);
+            }
+        }
+
+        @Test
+        @DisplayName("성공 - 이전 Base64 형식 암호문 복호화")
+        void decryptStream_success_legacy() throws IOException {
+            byte[] legacy = cipherAdapter.encrypt("test-message").getBytes(StandardCharsets.US_ASCII);
+
+            try (InputStream in = cipherAdapter.decryptStream(new ByteArrayInputStream(legacy))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("test-message");
+            }
+        }
+
+        @Test
+        @DisplayName("실패 - 변조된 암호문인 경우")
+        void decryptStream_failure_tampered() throws IOException {
+            byte[] encrypted = encrypt("test-message");
+            encrypted[encrypted.length - 1] ^= 1;
+
+            assertThatThrownBy(() -> cipherAdapter.decryptStream(new ByteArrayInputStream(encrypted)).readAllBytes())
+                    .isInstanceOf(IOException.class);
+        }
+    }
+}
@@ -14,13 +14,17 @@ import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
 import seungyong.helpmebackend.repository.application.port.out.CipherPortOut;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ObjectCipherDecoratorTest {
@@ -30,34 +34,38 @@ class ObjectCipherDecoratorTest {
 
     @InjectMocks private ObjectCipherDecorator objectCipherDecorator;
 
+    // 암호화 없이 그대로 통과시키는 스트림
+    private void givenPassThrough() {
+        given(cipherPortOut.encryptStream(any())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
     @Nested
     @DisplayName("encrypt - 객체 암호화")
     class Encrypt {
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - JSON을 스트림으로 바로 암호화")
         void encrypt_success() {
-            Map<String, String> data = Map.of("key", "value");
-            String encryptedString = "encrypted-string";
-            given(cipherPortOut.encrypt(anyString())).willReturn(encryptedString);
+            givenPassThrough();
 
-            String result = objectCipherDecorator.encrypt(data);
+            byte[] result = objectCipherDecorator.encrypt(Map.of("key", "value"));
 
-            assertThat(result).isEqualTo(encryptedString);
+            assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("{\"key\":\"value\"}");
         }
 
         @Test
         @DisplayName("성공 - 데이터가 null인 경우")
         void encrypt_success_null() {
-            String result = objectCipherDecorator.encrypt(null);
+            byte[] result = objectCipherDecorator.encrypt(null);
 
             assertThat(result).isNull();
+            verify(cipherPortOut, never()).encryptStream(any());
         }
 
         @Test
         @DisplayName("실패 - 직렬화 또는 암호화 중 예외 발생")
         void encrypt_failure_exception() {
             Map<String, String> data = Map.of("key", "value");
-            given(cipherPortOut.encrypt(any())).willThrow(new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR));
+            given(cipherPortOut.encryptStream(any())).willThrow(new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR));
 
             assertThatThrownBy(() -> objectCipherDecorator.encrypt(data))
                     .isInstanceOf(CustomException.class)
@@ -70,19 +78,16 @@ class ObjectCipherDecoratorTest {
     class Decrypt {
         @Test
         @DisplayName("성공")
-        void decrypt_success() throws Exception {
-            String encryptedText = "encrypted-text";
-            Map<String, String> expectedData = Map.of("key", "value");
-            String json = objectMapper.writeValueAsString(expectedData);
-
-            given(cipherPortOut.decrypt(encryptedText)).willReturn(json);
+        void decrypt_success() {
+            byte[] encrypted = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+            given(cipherPortOut.decryptStream(any())).willAnswer(invocation -> invocation.getArgument(0));
 
             Map<String, String> result = objectCipherDecorator.decrypt(
-                    encryptedText,
+                    encrypted,
                     new TypeReference<Map<String, String>>() {}
             );
 
-            assertThat(result).isEqualTo(expectedData);
+            assertThat(result).isEqualTo(Map.of("key", "value"));
         }
 
         @Test
@@ -99,12 +104,43 @@ class ObjectCipherDecoratorTest {
         @Test
         @DisplayName("실패 - 잘못된 형식의 암호문인 경우")
         void decrypt_failure_invalid_format() {
-            String encryptedText = "invalid-text";
-            given(cipherPortOut.decrypt(anyString())).willThrow(new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR));
+            byte[] encrypted = "invalid-text".getBytes(StandardCharsets.UTF_8);
+            given(cipherPortOut.decryptStream(any())).willThrow(new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR));
 
-            assertThatThrownBy(() -> objectCipherDecorator.decrypt(encryptedText, new TypeReference<Object>() {}))
+            assertThatThrownBy(() -> objectCipherDecorator.decrypt(encrypted, new TypeReference<Object>() {}))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Nested
+    @DisplayName("encryptText / decryptText - 문자열 암호화")
+    class Text {
+        @Test
+        @DisplayName("성공 - JSON 변환 없이 UTF-8 그대로 암호화")
+        void text_success() {
+            givenPassThrough();
+            given(cipherPortOut.decryptStream(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            byte[] encrypted = objectCipherDecorator.encryptText("class Main {}");
+
+            assertThat(encrypted).isEqualTo("class Main {}".getBytes(StandardCharsets.UTF_8));
+            assertThat(objectCipherDecorator.decryptText(encrypted)).isEqualTo("class Main {}");
+        }
+
+        @Test
+        @DisplayName("실패 - 복호화 중 예외 발생")
+        void decryptText_failure_exception() {
+            given(cipherPortOut.decryptStream(any())).willReturn(new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("Tag mismatch");
+                }
+            });
+
+            assertThatThrownBy(() -> objectCipherDecorator.decryptText(new byte[]{1}))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package seungyong.helpmebackend.repository.adapter.out.github;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,7 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
+import seungyong.helpmebackend.global.application.port.out.GithubRateLimitPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
 import seungyong.helpmebackend.global.infrastructure.github.GithubApiExecutor;
 import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
 import seungyong.helpmebackend.repository.application.port.out.result.CommitResult;
@@ -19,14 +23,20 @@ import seungyong.helpmebackend.repository.application.port.out.result.Contributo
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CommitAdapterTest {
     @Mock private GithubApiExecutor githubApiExecutor;
+    @Mock private GithubRateLimitPortOut githubRateLimitPortOut;
+
+    @Mock private GithubRateLimitReservation reservation;
+    @Mock private GithubRateLimitReservation firstPageReservation;
 
     @InjectMocks private CommitAdapter commitAdapter;
 
@@ -35,6 +45,11 @@ class CommitAdapterTest {
             .defaultNotNull(true)
             .build();
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(githubRateLimitPortOut.reserve(anyString(), anyInt())).thenReturn(reservation);
+    }
+
     private String createCommitJson(int count, String prefix) {
         List<String> commits = new ArrayList<>();
         for (int i = 0; i < count; i++) {
@@ -55,17 +70,23 @@ class CommitAdapterTest {
     }
 
     private void mockApi(int page, int count, String prefix, HttpHeaders headers) {
-        ResponseEntity<String> response = ResponseEntity.ok()
-                .headers(headers == null ? new HttpHeaders() : headers)
-                .body(createCommitJson(count, prefix));
+        mockApi(page, createCommitJson(count, prefix), headers);
+    }
+
+    private void mockApi(int page, String json, HttpHeaders headers) {
+        given(githubApiExecutor.executeGetStreamAsync(
+                contains("&page=" + page), anyString(), any(), any(), anyString(), any(), any()
+        )).willAnswer(invocation -> {
+            GithubApiExecutor.StreamResponseParser<?> parser = invocation.getArgument(3);
 
-        given(githubApiExecutor.executeGetJson(
-                contains("&page=" + page), anyString(), any(), any(), anyString(), any()
-        )).willReturn(response);
+            try (JsonParser jsonParser = new JsonFactory().createParser(json)) {
+                return CompletableFuture.completedFuture(parser.parse(jsonParser, headers == null ? new HttpHeaders() : headers));
+            }
+        });
     }
 
     @Nested
-    @DisplayName("getCommits - 커밋 목록 조회")
+    @DisplayName("getCommitsAsync - 커밋 목록 조회")
     class GetCommits {
         @Test
         @DisplayName("성공 - 페이지가 1개인 경우")
@@ -75,13 +96,43 @@ class CommitAdapterTest {
 
             mockApi(1, 40, "p1", createLinkHeader(null));
 
-            CommitResult result = commitAdapter.getCommits(command, contributor);
+            CommitResult result = commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
 
             assertThat(result.latestCommits()).hasSize(40);
             assertThat(result.middleCommits()).isEmpty();
             assertThat(result.initialCommits()).isEmpty();
         }
 
+        @Test
+        @DisplayName("성공 - 필요 없는 필드는 건너뛰고 sha/message/date만 읽음")
+        void getCommits_success_skipUnusedFields() {
+            RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
+            ContributorsResult.Contributor contributor = fixtureMonkey.giveMeOne(ContributorsResult.Contributor.class);
+            String json = """
+                    [{
+                        "url": "https://api.github.com/commit",
+                        "author": {"login": "user", "id": 1},
+                        "commit": {
+                            "author": {"name": "user", "date": "2024-01-01T00:00:00Z"},
+                            "committer": {"name": "github", "email": "noreply@github.com", "date": "2024-01-02T00:00:00Z"},
+                            "message": "feat: streaming",
+                            "tree": {"sha": "tree-sha"},
+                            "verification": {"verified": true, "payload": null}
+                        },
+                        "parents": [{"sha": "parent-sha"}],
+                        "sha": "commit-sha"
+                    }]
+                    """;
+
+            mockApi(1, json, createLinkHeader(null));
+
+            CommitResult result = commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
+
+            assertThat(result.latestCommits()).containsExactly(
+                    new CommitResult.Commit("commit-sha", "feat: streaming", Instant.parse("2024-01-02T00:00:00Z"))
+            );
+        }
+
         @Test
         @DisplayName("성공 - 페이지가 2개인 경우 (middle이 1이므로 빈 리스트 반환)")
         void getCommits_success_page_2() {
@@ -91,7 +142,7 @@ class CommitAdapterTest {
             mockApi(1, 40, "p1", createLinkHeader(2));
             mockApi(2, 20, "p2", null);
 
-            CommitResult result = commitAdapter.getCommits(command, contributor);
+            CommitResult result = commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
 
             assertThat(result.latestCommits()).hasSize(40);
             assertThat(result.middleCommits()).isEmpty();
@@ -108,7 +159,7 @@ class CommitAdapterTest {
             mockApi(2, 40, "p2", null);
             mockApi(3, 10, "p3", null);
 
-            CommitResult result = commitAdapter.getCommits(command, contributor);
+            CommitResult result = commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
 
             assertThat(result.latestCommits()).hasSize(40);
             assertThat(result.middleCommits()).hasSize(40);
@@ -127,7 +178,7 @@ class CommitAdapterTest {
             mockApi(2, 40, "p2", null);
             mockApi(4, 40, "p4", null);
 
-            CommitResult result = commitAdapter.getCommits(command, contributor);
+            CommitResult result = commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
 
             assertThat(result.latestCommits()).hasSize(40);
             assertThat(result.middleCommits()).hasSize(40);
@@ -146,7 +197,7 @@ class CommitAdapterTest {
             mockApi(3, 40, "p3", null);
             mockApi(4, 15, "p4", null);
 
-            CommitResult result = commitAdapter.getCommits(command, contributor);
+            CommitResult result = commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
 
             assertThat(result.latestCommits()).hasSize(40);
             assertThat(result.middleCommits()).hasSize(40);
@@ -156,6 +207,35 @@ class CommitAdapterTest {
             assertThat(result.initialCommits().get(25).sha()).startsWith("p4");
         }
 
+        @Test
+        @DisplayName("성공 - 첫 페이지는 전달받은 예약, 추가 페이지는 새로 확보한 예약으로 요청하고 완료 시 남은 예약 반납")
+        void getCommits_success_reservation() {
+            RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
+            ContributorsResult.Contributor contributor = fixtureMonkey.giveMeOne(ContributorsResult.Contributor.class);
+
+            mockApi(1, 40, "p1", createLinkHeader(4));
+            mockApi(2, 40, "p2", null);
+            mockApi(4, 40, "p4", null);
+
+            commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
+
+            verify(githubRateLimitPortOut).reserve(command.repoInfo().accessToken(), 3);
+            verify(githubApiExecutor).executeGetStreamAsync(
+                    contains("&page=1"), anyString(), any(), any(), anyString(), any(), eq(firstPageReservation)
+            );
+            verify(githubApiExecutor).executeGetStreamAsync(
+                    contains("&page=2"), anyString(), any(), any(), anyString(), any(), eq(reservation)
+            );
+            verify(githubApiExecutor).executeGetStreamAsync(
+                    contains("&page=4"), anyString(), any(), any(), anyString(), any(), eq(reservation)
+            );
+
+            // 예약은 요청을 보내기 직전(GithubClient)에 사용되므로 여기서는 사용하지 않음
+            verify(reservation, never()).use();
+            verify(reservation).close();
+            verifyNoInteractions(firstPageReservation);
+        }
+
         @Test
         @DisplayName("성공 - 페이지가 5개이고 마지막 페이지가 40개 미만인 경우 (이전 페이지 호출하여 개수 채움)")
         void getCommits_success_page_5_last_under_40() {
@@ -167,7 +247,7 @@ class CommitAdapterTest {
             mockApi(4, 40, "p4", null);
             mockApi(5, 10, "p5", null);
 
-            CommitResult result = commitAdapter.getCommits(command, contributor);
+            CommitResult result = commitAdapter.getCommitsAsync(command, contributor, firstPageReservation).join();
 
             assertThat(result.latestCommits()).hasSize(40);
 
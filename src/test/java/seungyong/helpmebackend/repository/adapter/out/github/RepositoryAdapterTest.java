@@ -1,5 +1,6 @@
 package seungyong.helpmebackend.repository.adapter.out.github;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
@@ -14,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
 import seungyong.helpmebackend.global.infrastructure.github.GithubApiExecutor;
 import seungyong.helpmebackend.repository.application.port.out.command.*;
 import seungyong.helpmebackend.repository.application.port.out.result.*;
@@ -21,6 +23,7 @@ import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -472,12 +475,15 @@ class RepositoryAdapterTest {
         @DisplayName("성공")
         void getRepositoryTree_success() {
             RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
-            String json = "{\"tree\": [{\"path\": \"file.txt\", \"type\": \"blob\"}]}";
+            String json = "{\"sha\": \"tree-sha\", \"tree\": [{\"path\": \"file.txt\", \"mode\": \"100644\", \"type\": \"blob\", \"sha\": \"blob-sha\", \"size\": 10}], \"truncated\": false}";
 
-            given(githubApiExecutor.executeGet(anyString(), anyString(), any(), anyString()))
+            given(githubApiExecutor.executeGetStream(anyString(), anyString(), any(), anyString()))
                     .willAnswer(invocation -> {
-                        GithubApiExecutor.JsonResponseParser<List<RepositoryTreeResult>> extractor = invocation.getArgument(2);
-                        return extractor.parse(objectMapper.readTree(json));
+                        GithubApiExecutor.StreamResponseParser<List<RepositoryTreeResult>> parser = invocation.getArgument(2);
+
+                        try (JsonParser jsonParser = objectMapper.createParser(json)) {
+                            return parser.parse(jsonParser, new HttpHeaders());
+                        }
                     });
 
             List<RepositoryTreeResult> result = repositoryAdapter.getRepositoryTree(command);
@@ -485,6 +491,147 @@ class RepositoryAdapterTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).path()).isEqualTo("file.txt");
             assertThat(result.get(0).type()).isEqualTo("blob");
+            assertThat(result.get(0).sha()).isEqualTo("blob-sha");
+        }
+    }
+
+    @Nested
+    @DisplayName("getRepositoryTreeAsync - 트리 구조 비동기 조회")
+    class GetRepositoryTreeAsync {
+        @Test
+        @DisplayName("성공")
+        void getRepositoryTreeAsync_success() {
+            RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
+            String json = "{\"sha\": \"tree-sha\", \"tree\": [{\"path\": \"src\", \"type\": \"tree\"}], \"truncated\": false}";
+
+            given(githubApiExecutor.executeGetStreamAsync(anyString(), anyString(), any(), anyString()))
+                    .willAnswer(invocation -> {
+                        GithubApiExecutor.StreamResponseParser<List<RepositoryTreeResult>> parser = invocation.getArgument(2);
+
+                        try (JsonParser jsonParser = objectMapper.createParser(json)) {
+                            return CompletableFuture.completedFuture(parser.parse(jsonParser, new HttpHeaders()));
+                        }
+                    });
+
+            List<RepositoryTreeResult> result = repositoryAdapter.getRepositoryTreeAsync(command).join();
+
+            assertThat(result).containsExactly(new RepositoryTreeResult("src", "tree"));
+        }
+    }
+
+    @Nested
+    @DisplayName("compareCommits - 커밋 비교 조회")
+    class CompareCommits {
+        @Test
+        @DisplayName("성공")
+        void compareCommits_success() {
+            RepoInfoCommand command = fixtureMonkey.giveMeOne(RepoInfoCommand.class);
+            String json = "{\"status\": \"ahead\", \"ahead_by\": 1, \"total_commits\": 1, "
+                    + "\"commits\": [{\"sha\": \"c1\", \"commit\": {\"message\": \"feat: add\", \"author\": {\"name\": \"s\"}}, "
+                    + "\"author\": {\"login\": \"seungyong\", \"avatar_url\": \"avatar\"}, \"parents\": []}], "
+                    + "\"files\": [{\"filename\": \"src/New.java\", \"status\": \"renamed\", \"sha\": \"blob\", "
+                    + "\"previous_filename\": \"src/Old.java\", \"patch\": \"@@ -1 +1 @@\"}]}";
+
+            given(githubApiExecutor.executeGetStream(anyString(), anyString(), any(), anyString()))
+                    .willAnswer(invocation -> {
+                        GithubApiExecutor.StreamResponseParser<RepositoryCompareResult> parser = invocation.getArgument(2);
+
+                        try (JsonParser jsonParser = objectMapper.createParser(json)) {
+                            return parser.parse(jsonParser, new HttpHeaders());
+                        }
+                    });
+
+            RepositoryCompareResult result = repositoryAdapter.compareCommits(command, "base", "head");
+
+            assertThat(result.status()).isEqualTo("ahead");
+            assertThat(result.isComplete()).isTrue();
+            assertThat(result.commits()).containsExactly(
+                    new RepositoryCompareResult.Commit("c1", "feat: add", "seungyong", "avatar")
+            );
+            assertThat(result.files()).containsExactly(
+                    new RepositoryCompareResult.ChangedFile("src/New.java", "renamed", "blob", "src/Old.java")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("getRepositorySnapshot - GraphQL 스냅샷 조회")
+    class GetRepositorySnapshot {
+        private void mockGraphQL(String dataJson) {
+            given(githubApiExecutor.executeGraphQL(anyString(), anyString(), anyMap(), any(), anyString()))
+                    .willAnswer(invocation -> {
+                        GithubApiExecutor.JsonResponseParser<RepositorySnapshotResult> parser = invocation.getArgument(3);
+                        return parser.parse(objectMapper.readTree(dataJson));
+                    });
+        }
+
+        @Test
+        @DisplayName("성공")
+        void getRepositorySnapshot_success() {
+            RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
+            mockGraphQL("""
+                    {"repository": {
+                        "owner": {"avatarUrl": "avatar"},
+                        "diskUsage": 2048,
+                        "defaultBranchRef": {"name": "main"},
+                        "ref": {"target": {"oid": "head-sha"}},
+                        "languages": {"totalCount": 2, "edges": [
+                            {"size": 300, "node": {"name": "Java"}},
+                            {"size": 100, "node": {"name": "Kotlin"}}
+                        ]},
+                        "readme": null,
+                        "readmeLower": {"text": "# hello", "isBinary": false},
+                        "readmePlain": null
+                    }}
+                    """);
+
+            RepositorySnapshotResult result = repositoryAdapter.getRepositorySnapshot(command);
+
+            assertThat(result.avatarUrl()).isEqualTo("avatar");
+            assertThat(result.defaultBranch()).isEqualTo("main");
+            assertThat(result.headSha()).isEqualTo("head-sha");
+            assertThat(result.languages()).containsExactly(
+                    new RepositoryLanguageResult("Java", 300L),
+                    new RepositoryLanguageResult("Kotlin", 100L)
+            );
+            assertThat(result.readme()).isEqualTo("# hello");
+            assertThat(result.diskUsageKb()).isEqualTo(2048L);
+        }
+
+        @Test
+        @DisplayName("성공 - 조회하지 못한 필드는 null (브랜치 없음, 언어 100개 초과, README 없음)")
+        void getRepositorySnapshot_success_partial() {
+            RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
+            mockGraphQL("""
+                    {"repository": {
+                        "owner": {"avatarUrl": "avatar"},
+                        "defaultBranchRef": {"name": "main"},
+                        "ref": null,
+                        "languages": {"totalCount": 101, "edges": [{"size": 300, "node": {"name": "Java"}}]},
+                        "readme": {"text": null, "isBinary": true},
+                        "readmeLower": null,
+                        "readmePlain": null
+                    }}
+                    """);
+
+            RepositorySnapshotResult result = repositoryAdapter.getRepositorySnapshot(command);
+
+            assertThat(result.defaultBranch()).isEqualTo("main");
+            assertThat(result.headSha()).isNull();
+            assertThat(result.languages()).isNull();
+            assertThat(result.readme()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패 - GraphQL 오류 시 빈 스냅샷 반환")
+        void getRepositorySnapshot_failure_fallback() {
+            RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
+            given(githubApiExecutor.executeGraphQL(anyString(), anyString(), anyMap(), any(), anyString()))
+                    .willThrow(new CustomException(GlobalErrorCode.GITHUB_ERROR));
+
+            RepositorySnapshotResult result = repositoryAdapter.getRepositorySnapshot(command);
+
+            assertThat(result).isEqualTo(RepositorySnapshotResult.empty());
         }
     }
 
@@ -525,6 +672,24 @@ class RepositoryAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("getFileContentAsync - 파일 내용 비동기 조회")
+    class GetFileContentAsync {
+        @Test
+        @DisplayName("성공")
+        void getFileContentAsync_success() {
+            RepoBranchCommand command = fixtureMonkey.giveMeOne(RepoBranchCommand.class);
+            RepositoryTreeResult file = new RepositoryTreeResult("file.txt", "blob");
+
+            given(githubApiExecutor.executeGetRawAsync(anyString(), anyString(), anyString(), any()))
+                    .willReturn(CompletableFuture.completedFuture("file-content"));
+
+            RepositoryFileContentResult result = repositoryAdapter.getFileContentAsync(command, file).join();
+
+            assertThat(result).isEqualTo(new RepositoryFileContentResult("file.txt", "file-content"));
+        }
+    }
+
     @Nested
     @DisplayName("checkPermission - 권한 확인")
     class CheckPermission {
@@ -0,0 +1,179 @@
+package seungyong.helpmebackend.repository.adapter.out.github;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.infrastructure.github.GithubApiExecutor;
+import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
+import seungyong.helpmebackend.repository.application.port.out.command.RepoInfoCommand;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryFileContentResult;
+import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RepositoryArchiveAdapterTest {
+    @Mock private GithubApiExecutor githubApiExecutor;
+
+    private RepositoryArchiveAdapter repositoryArchiveAdapter;
+
+    private final RepoBranchCommand command = new RepoBranchCommand(
+            new RepoInfoCommand("token", "owner", "repo"),
+            "main"
+    );
+
+    @BeforeEach
+    void setUp() {
+        repositoryArchiveAdapter = new RepositoryArchiveAdapter(githubApiExecutor, 6, 20480, 16);
+    }
+
+    private byte[] createTarball(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new GZIPOutputStream(bytes))) {
+            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tar.putArchiveEntry(new TarArchiveEntry("owner-repo-sha/"));
+            tar.closeArchiveEntry();
+
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                byte[] content = file.getValue().getBytes(StandardCharsets.UTF_8);
+                TarArchiveEntry entry = new TarArchiveEntry("owner-repo-sha/" + file.getKey());
+                entry.setSize(content.length);
+
+                tar.putArchiveEntry(entry);
+                tar.write(content);
+                tar.closeArchiveEntry();
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("isPreferred - tarball 조회 여부 판단")
+    class IsPreferred {
+        @Test
+        @DisplayName("성공 - 파일 수가 충분하고 저장소가 작은 경우")
+        void isPreferred_success() {
+            assertThat(repositoryArchiveAdapter.isPreferred(6, 1024L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 파일 수가 적은 경우 파일별 조회")
+        void isPreferred_success_fewPaths() {
+            assertThat(repositoryArchiveAdapter.isPreferred(5, 1024L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 저장소가 큰 경우 파일별 조회")
+        void isPreferred_success_largeRepository() {
+            assertThat(repositoryArchiveAdapter.isPreferred(10, 20481L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 저장소 크기를 모르는 경우 파일별 조회")
+        void isPreferred_success_unknownSize() {
+            assertThat(repositoryArchiveAdapter.isPreferred(10, null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("getFileContents - tarball에서 파일 추출")
+    class GetFileContents {
+        @Test
+        @DisplayName("성공 - 요청한 경로만 요청 순서대로 추출")
+        void getFileContents_success() throws IOException {
+            byte[] tarball = createTarball(Map.of(
+                    "src/Main.java", "class Main {}",
+                    "README.md", "# readme",
+                    "build.gradle", "plugins {}"
+            ));
+
+            given(githubApiExecutor.executeGetBinary(anyString(), anyString(), anyString(), any(), anyString(), any()))
+                    .willAnswer(invocation -> {
+                        GithubApiExecutor.BinaryResponseParser<List<RepositoryFileContentResult>> parser = invocation.getArgument(3);
+                        return parser.parse(new ByteArrayInputStream(tarball), HttpHeaders.EMPTY);
+                    });
+
+            List<RepositoryFileContentResult> result = repositoryArchiveAdapter.getFileContents(
+                    command, "sha", List.of("build.gradle", "src/Main.java", "src/Missing.java")
+            );
+
+            assertThat(result).containsExactly(
+                    new RepositoryFileContentResult("build.gradle", "plugins {}"),
+                    new RepositoryFileContentResult("src/Main.java", "class Main {}")
+            );
+            verify(githubApiExecutor).executeGetBinary(
+                    eq("https://api.github.com/repos/owner/repo/tarball/sha"), eq("token"), anyString(), any(), anyString(), any()
+            );
+        }
+
+        @Test
+        @DisplayName("성공 - 최대 크기를 넘는 파일은 제외")
+        void getFileContents_success_skipLargeFile() throws IOException {
+            byte[] tarball = createTarball(Map.of(
+                    "small.txt", "small",
+                    "large.txt", "this content is larger than limit"
+            ));
+
+            given(githubApiExecutor.executeGetBinary(anyString(), anyString(), anyString(), any(), anyString(), any()))
+                    .willAnswer(invocation -> {
+                        GithubApiExecutor.BinaryResponseParser<List<RepositoryFileContentResult>> parser = invocation.getArgument(3);
+                        return parser.parse(new ByteArrayInputStream(tarball), HttpHeaders.EMPTY);
+                    });
+
+            List<RepositoryFileContentResult> result = repositoryArchiveAdapter.getFileContents(
+                    command, "sha", List.of("small.txt", "large.txt")
+            );
+
+            assertThat(result).containsExactly(new RepositoryFileContentResult("small.txt", "small"));
+        }
+
+        @Test
+        @DisplayName("성공 - 경로가 없으면 요청하지 않음")
+        void getFileContents_success_emptyPaths() {
+            assertThat(repositoryArchiveAdapter.getFileContents(command, "sha", List.of())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 - 저장소 또는 커밋을 찾을 수 없는 경우")
+        void getFileContents_failure_notFound() {
+            given(githubApiExecutor.executeGetBinary(anyString(), anyString(), anyString(), any(), anyString(), any()))
+                    .willAnswer(invocation -> {
+                        GithubApiExecutor.ExceptionHandler<List<RepositoryFileContentResult>> handler = invocation.getArgument(5);
+                        Optional<List<RepositoryFileContentResult>> handled = handler.handle(HttpClientErrorException.create(
+                                HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null
+                        ));
+                        return handled.orElse(null);
+                    });
+
+            assertThatThrownBy(() -> repositoryArchiveAdapter.getFileContents(command, "sha", List.of("README.md")))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(RepositoryErrorCode.REPOSITORY_OR_BRANCH_NOT_FOUND);
+        }
+    }
+}
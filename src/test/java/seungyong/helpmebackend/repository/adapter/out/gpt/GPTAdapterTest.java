@@ -1,6 +1,8 @@
 package seungyong.helpmebackend.repository.adapter.out.gpt;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,9 +10,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import seungyong.helpmebackend.global.exception.CustomException;
 import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+import seungyong.helpmebackend.global.infrastructure.resilience.DependencyGuard;
+import seungyong.helpmebackend.global.infrastructure.resilience.ExternalDependency;
 import seungyong.helpmebackend.repository.application.port.out.command.EvaluationCommand;
 import seungyong.helpmebackend.repository.application.port.out.command.GenerateReadmeCommand;
 import seungyong.helpmebackend.repository.application.port.out.command.RepositoryInfoCommand;
@@ -21,11 +26,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 class GPTAdapterTest {
     @Mock private GPTClient gptClient;
+    @Spy private DependencyGuard dependencyGuard =
+            new DependencyGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
 
     @InjectMocks private GPTAdapter gptAdapter;
 
@@ -64,6 +74,22 @@ class GPTAdapterTest {
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GPT_ERROR);
         }
+
+        @Test
+        @DisplayName("실패 - Circuit Breaker 차단")
+        void getRepositoryInfo_failure_unavailable() {
+            String fullName = "owner/repo";
+            RepositoryInfoCommand command = fixtureMonkey.giveMeOne(RepositoryInfoCommand.class);
+
+            doThrow(new CustomException(GlobalErrorCode.GPT_UNAVAILABLE))
+                    .when(dependencyGuard).execute(eq(ExternalDependency.OPENAI), anyString(), any());
+
+            assertThatThrownBy(() -> gptAdapter.getRepositoryInfo(fullName, command))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", GlobalErrorCode.GPT_UNAVAILABLE);
+
+            verifyNoInteractions(gptClient);
+        }
     }
 
     @Nested
@@ -0,0 +1,245 @@
+package seungyong.helpmebackend.repository.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
+import seungyong.helpmebackend.global.domain.type.RedisKeyFactory;
+import seungyong.helpmebackend.repository.application.port.out.RepositoryPortOut;
+import seungyong.helpmebackend.repository.application.port.out.RepositoryTreeFilterPortOut;
+import seungyong.helpmebackend.repository.application.port.out.command.RepoBranchCommand;
+import seungyong.helpmebackend.repository.application.port.out.command.RepoInfoCommand;
+import seungyong.helpmebackend.repository.application.port.out.command.RepositoryInfoCommand;
+import seungyong.helpmebackend.repository.application.port.out.result.GPTRepositoryInfoResult;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryCompareResult;
+import seungyong.helpmebackend.repository.application.port.out.result.RepositoryTreeResult;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalContextRefresherTest {
+    private static final String OWNER = "seungyong";
+    private static final String NAME = "helpme";
+    private static final String BASE = "base-sha";
+    private static final String HEAD = "head-sha";
+
+    @Mock private RepositoryPortOut repositoryPortOut;
+    @Mock private RepositoryTreeFilterPortOut repositoryTreeFilterPortOut;
+    @Mock private RedisPortOut redisPortOut;
+
+    @InjectMocks private IncrementalContextRefresher refresher;
+
+    private final RepoBranchCommand command = new RepoBranchCommand(
+            new RepoInfoCommand("token", OWNER, NAME),
+            "main"
+    );
+    private final Instant expiration = Instant.parse("2025-01-01T03:00:00Z");
+
+    private final GPTRepositoryInfoResult analysis = new GPTRepositoryInfoResult(
+            new String[]{"Java"},
+            "small",
+            new String[]{"src/Main.java"},
+            new String[]{"src/Service.java"}
+    );
+
+    // 이전 커밋의 캐시 (multiGet 결과)
+    private final Map<String, Object> baseCache = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        baseCache.put(RedisKeyFactory.createTreeKey(OWNER, NAME, BASE), List.of(
+                new RepositoryTreeResult("src/Main.java", "blob", "main-v1"),
+                new RepositoryTreeResult("src/Old.java", "blob", "old-v1"),
+                new RepositoryTreeResult("src/Gone.java", "blob", "gone-v1")
+        ));
+        baseCache.put(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, BASE), analysis);
+        baseCache.put(RedisKeyFactory.createReadmeKey(OWNER, NAME, BASE), "# readme");
+
+        lenient().when(redisPortOut.get(RedisKeyFactory.createBranchHeadKey(OWNER, NAME, "main"))).thenReturn(BASE);
+        lenient().when(redisPortOut.exists(RedisKeyFactory.createTreeKey(OWNER, NAME, HEAD))).thenReturn(false);
+        lenient().when(redisPortOut.multiGet(anyCollection())).thenAnswer(invocation -> new RedisValues() {
+            @Override
+            public String get(String key) {
+                return (String) baseCache.get(key);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T getObject(String key, TypeReference<T> typeRef) {
+                return (T) baseCache.get(key);
+            }
+
+            @Override
+            public byte[] getBytes(String key) {
+                return (byte[]) baseCache.get(key);
+            }
+        });
+        lenient().when(repositoryTreeFilterPortOut.filter(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> capturePatched() {
+        ArgumentCaptor<Map<String, ?>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(redisPortOut).multiSetObjectWithTtl(captor.capture(), eq(expiration));
+        return (Map<String, Object>) captor.getValue();
+    }
+
+    private RepositoryCompareResult compare(List<RepositoryCompareResult.ChangedFile> files) {
+        return new RepositoryCompareResult(
+                "ahead",
+                1,
+                List.of(new RepositoryCompareResult.Commit("c1", "feat: new", "seungyong", "avatar")),
+                files
+        );
+    }
+
+    @Nested
+    @DisplayName("refresh - 변경분 기반 캐시 갱신")
+    class Refresh {
+        @Test
+        @DisplayName("성공 - 트리 패치 및 분석 결과 재사용")
+        @SuppressWarnings("unchecked")
+        void refresh_success() {
+            given(repositoryPortOut.compareCommits(command.repoInfo(), BASE, HEAD)).willReturn(compare(List.of(
+                    new RepositoryCompareResult.ChangedFile("src/Gone.java", "removed", "gone-v1", null),
+                    new RepositoryCompareResult.ChangedFile("src/New.java", "renamed", "new-v1", "src/Old.java"),
+                    new RepositoryCompareResult.ChangedFile("src/Util.java", "added", "util-v1", null)
+            )));
+            baseCache.put(RedisKeyFactory.createCommitsKey(OWNER, NAME, BASE), List.of(
+                    new RepositoryInfoCommand.CommitCommand(
+                            new RepositoryInfoCommand.ContributorCommand("seungyong", "avatar"),
+                            List.of("feat: old"),
+                            Collections.emptyList(),
+                            Collections.emptyList()
+                    )
+            ));
+
+            assertThat(refresher.refresh(command, HEAD, expiration)).isEqualTo(BASE);
+
+            Map<String, Object> patched = capturePatched();
+
+            assertThat((List<RepositoryTreeResult>) patched.get(RedisKeyFactory.createTreeKey(OWNER, NAME, HEAD))).containsExactly(
+                    new RepositoryTreeResult("src/Main.java", "blob", "main-v1"),
+                    new RepositoryTreeResult("src/New.java", "blob", "new-v1"),
+                    new RepositoryTreeResult("src/Util.java", "blob", "util-v1")
+            );
+
+            assertThat((List<RepositoryInfoCommand.CommitCommand>) patched.get(RedisKeyFactory.createCommitsKey(OWNER, NAME, HEAD)))
+                    .singleElement()
+                    .satisfies(commit -> assertThat(commit.latestCommit()).containsExactly("feat: new", "feat: old"));
+
+            assertThat(patched).containsEntry(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, HEAD), analysis);
+            verify(redisPortOut).set(RedisKeyFactory.createReadmeKey(OWNER, NAME, HEAD), "# readme", expiration);
+        }
+
+        @Test
+        @DisplayName("성공 - 엔트리 파일 변경 시 분석 결과 미재사용")
+        void refresh_success_entryPointChanged() {
+            given(repositoryPortOut.compareCommits(command.repoInfo(), BASE, HEAD)).willReturn(compare(List.of(
+                    new RepositoryCompareResult.ChangedFile("src/Main.java", "modified", "main-v2", null)
+            )));
+
+            refresher.refresh(command, HEAD, expiration);
+
+            assertThat(capturePatched())
+                    .containsKey(RedisKeyFactory.createTreeKey(OWNER, NAME, HEAD))
+                    .doesNotContainKey(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, HEAD));
+        }
+
+        @Test
+        @DisplayName("성공 - 빌드 설정/README 변경 시 분석 결과, README 미재사용")
+        void refresh_success_manifestAndReadmeChanged() {
+            given(repositoryPortOut.compareCommits(command.repoInfo(), BASE, HEAD)).willReturn(compare(List.of(
+                    new RepositoryCompareResult.ChangedFile("build.gradle", "modified", "gradle-v2", null),
+                    new RepositoryCompareResult.ChangedFile("README.md", "modified", "readme-v2", null)
+            )));
+
+            refresher.refresh(command, HEAD, expiration);
+
+            assertThat(capturePatched()).doesNotContainKey(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, HEAD));
+            verify(redisPortOut, never()).set(eq(RedisKeyFactory.createReadmeKey(OWNER, NAME, HEAD)), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("무시 - 이전 커밋 기준 기록 없음")
+        void refresh_skip_noBase() {
+            given(redisPortOut.get(RedisKeyFactory.createBranchHeadKey(OWNER, NAME, "main"))).willReturn(null);
+
+            assertThat(refresher.refresh(command, HEAD, expiration)).isNull();
+
+            verify(repositoryPortOut, never()).compareCommits(any(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("무시 - 이미 같은 커밋으로 컨텍스트 생성")
+        void refresh_skip_sameSha() {
+            assertThat(refresher.refresh(command, BASE, expiration)).isNull();
+
+            verify(repositoryPortOut, never()).compareCommits(any(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("무시 - force push 등으로 앞선 커밋이 아님")
+        void refresh_skip_diverged() {
+            given(repositoryPortOut.compareCommits(command.repoInfo(), BASE, HEAD)).willReturn(new RepositoryCompareResult(
+                    "diverged", 1, Collections.emptyList(), Collections.emptyList()
+            ));
+
+            refresher.refresh(command, HEAD, expiration);
+
+            verify(redisPortOut, never()).multiSetObjectWithTtl(anyMap(), any());
+        }
+
+        @Test
+        @DisplayName("무시 - 변경분이 응답 한도를 넘음")
+        void refresh_skip_incomplete() {
+            given(repositoryPortOut.compareCommits(command.repoInfo(), BASE, HEAD)).willReturn(new RepositoryCompareResult(
+                    "ahead", 500, Collections.emptyList(), Collections.emptyList()
+            ));
+
+            refresher.refresh(command, HEAD, expiration);
+
+            verify(redisPortOut, never()).multiSetObjectWithTtl(anyMap(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - Compare API 실패 시 전체 재생성으로 대체")
+        void refresh_success_fallbackOnFailure() {
+            given(repositoryPortOut.compareCommits(command.repoInfo(), BASE, HEAD)).willThrow(new RuntimeException("boom"));
+
+            assertThat(refresher.refresh(command, HEAD, expiration)).isEqualTo(BASE);
+            verify(redisPortOut, never()).multiSetObjectWithTtl(anyMap(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("markBuilt - 마지막 컨텍스트 생성 커밋 기록")
+    class MarkBuilt {
+        @Test
+        @DisplayName("성공")
+        void markBuilt_success() {
+            refresher.markBuilt(command, HEAD, expiration);
+
+            verify(redisPortOut).set(RedisKeyFactory.createBranchHeadKey(OWNER, NAME, "main"), HEAD, expiration);
+        }
+    }
+}
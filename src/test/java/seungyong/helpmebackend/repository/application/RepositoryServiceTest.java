@@ -4,25 +4,46 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
 import net.jqwik.api.Arbitraries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+import seungyong.helpmebackend.global.application.cache.CacheLoadCoordinator;
+import seungyong.helpmebackend.global.application.port.out.GithubRateLimitPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.GithubRateLimitReservation;
+import seungyong.helpmebackend.global.application.port.out.JobDeduplicationPortOut;
+import seungyong.helpmebackend.global.application.port.out.JobQueuePortOut;
 import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
+import seungyong.helpmebackend.global.application.port.out.result.RedisValues;
+import seungyong.helpmebackend.global.domain.entity.AttachedJob;
+import seungyong.helpmebackend.global.domain.type.JobType;
 import seungyong.helpmebackend.global.domain.type.RedisKey;
+import seungyong.helpmebackend.global.domain.type.RedisKeyFactory;
 import seungyong.helpmebackend.global.exception.CustomException;
+import seungyong.helpmebackend.global.exception.GlobalErrorCode;
+import seungyong.helpmebackend.global.application.pipeline.StageGraphFactory;
 import seungyong.helpmebackend.project.application.port.out.ProjectPortOut;
 import seungyong.helpmebackend.project.domain.entity.Project;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestDraftEvaluation;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestGeneration;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.request.RequestPull;
 import seungyong.helpmebackend.repository.adapter.in.web.dto.response.*;
+import seungyong.helpmebackend.repository.application.dto.ContextPrewarmJob;
+import seungyong.helpmebackend.repository.application.dto.DraftEvaluationJob;
+import seungyong.helpmebackend.repository.application.dto.DraftGenerationJob;
+import seungyong.helpmebackend.repository.application.dto.FileManifestEntry;
 import seungyong.helpmebackend.repository.application.port.out.*;
 import seungyong.helpmebackend.repository.application.port.out.command.CreatePullRequestCommand;
 import seungyong.helpmebackend.repository.application.port.out.command.ReadmePushCommand;
@@ -30,6 +51,7 @@ import seungyong.helpmebackend.repository.application.port.out.command.RepoBranc
 import seungyong.helpmebackend.repository.application.port.out.command.RepoInfoCommand;
 import seungyong.helpmebackend.repository.application.port.out.result.*;
 import seungyong.helpmebackend.repository.domain.exception.RepositoryErrorCode;
+import seungyong.helpmebackend.repository.domain.type.GPTSystemPrompt;
 import seungyong.helpmebackend.section.adapter.in.web.dto.response.ResponseSections;
 import seungyong.helpmebackend.section.application.port.out.SectionPortOut;
 import seungyong.helpmebackend.section.domain.entity.Section;
@@ -38,12 +60,22 @@ import seungyong.helpmebackend.sse.domain.type.SSETaskName;
 import seungyong.helpmebackend.user.application.port.out.UserPortOut;
 import seungyong.helpmebackend.user.domain.entity.User;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -53,6 +85,7 @@ import static org.mockito.Mockito.*;
 class RepositoryServiceTest {
     @Mock private UserPortOut userPortOut;
     @Mock private RepositoryPortOut repositoryPortOut;
+    @Mock private RepositoryArchivePortOut repositoryArchivePortOut;
     @Mock private CipherPortOut cipherPortOut;
     @Mock private ObjectCipherPortOut objectCipherPortOut;
     @Mock private GPTPortOut gptPortOut;
@@ -62,6 +95,16 @@ class RepositoryServiceTest {
     @Mock private ProjectPortOut projectPortOut;
     @Mock private SectionPortOut sectionPortOut;
     @Mock private CommitPortOut commitPortOut;
+    @Mock private GithubRateLimitPortOut githubRateLimitPortOut;
+    @Mock private IncrementalContextRefresher incrementalContextRefresher;
+    @Mock private JobQueuePortOut jobQueuePortOut;
+    @Mock private JobDeduplicationPortOut jobDeduplicationPortOut;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy private StageGraphFactory stageGraphFactory = new StageGraphFactory(meterRegistry, new SyncTaskExecutor());
+    // 분산 Lease는 사용하지 않고, 백그라운드 갱신은 호출 스레드에서 바로 실행
+    @Spy private CacheLoadCoordinator cacheLoadCoordinator = new CacheLoadCoordinator(
+            null, new SyncTaskExecutor(), new SyncTaskExecutor(), false, Duration.ofSeconds(60), Duration.ofSeconds(30)
+    );
 
     @InjectMocks private RepositoryService repositoryService;
 
@@ -76,13 +119,43 @@ class RepositoryServiceTest {
     private final String ACCESS_TOKEN = "decrypted-token";
     private final String ENCRYPTED_TOKEN = "encrypted-token";
 
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     @BeforeEach
     void setUp() {
         User mockUser = mock(User.class, RETURNS_DEEP_STUBS);
 
         lenient().when(mockUser.getGithubUser().getGithubToken().value()).thenReturn(ENCRYPTED_TOKEN);
+
+        // multiGet은 key 별 단건 조회 stub을 그대로 사용
+        lenient().when(redisPortOut.multiGet(anyCollection())).thenAnswer(invocation -> new RedisValues() {
+            @Override
+            public String get(String key) {
+                return redisPortOut.get(key);
+            }
+
+            @Override
+            public <T> T getObject(String key, TypeReference<T> typeRef) {
+                return redisPortOut.getObject(key, typeRef);
+            }
+
+            @Override
+            public byte[] getBytes(String key) {
+                return redisPortOut.getBytes(key);
+            }
+        });
         lenient().when(userPortOut.getById(USER_ID)).thenReturn(mockUser);
         lenient().when(cipherPortOut.decrypt(ENCRYPTED_TOKEN)).thenReturn(ACCESS_TOKEN);
+
+        ReflectionTestUtils.setField(repositoryService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(repositoryService, "draftSectionWriter", new DraftSectionWriter(projectPortOut, sectionPortOut));
+
+        // 기본적으로 실행 중인 같은 작업이 없어 실행 권한을 얻음
+        lenient().when(jobDeduplicationPortOut.acquireOrAttach(anyString(), any())).thenReturn(true);
+        lenient().when(jobDeduplicationPortOut.release(anyString(), anyString())).thenReturn(Collections.emptyList());
+        lenient().when(githubRateLimitPortOut.reserve(anyString(), anyInt())).thenReturn(GithubRateLimitReservation.none());
     }
 
     @Nested
@@ -173,31 +246,30 @@ class RepositoryServiceTest {
         void getFallbackDraftEvaluation_success() {
             ResponseEvaluation response = new ResponseEvaluation(4.5f, List.of("장점: 전체적으로 잘 작성되었습니다.", "개선: 설치 방법을 추가하면 좋겠습니다."));
 
-            given(redisPortOut.getObject(anyString(), any(TypeReference.class)))
+            given(redisPortOut.getAndDeleteObject(anyString(), any(TypeReference.class)))
                     .willReturn(response);
 
             ResponseEvaluation result = repositoryService.fallbackDraftEvaluation("1");
 
             assertThat(result).isNotNull().isEqualTo(response);
 
-            verify(redisPortOut, times(1)).getObject(anyString(), any());
+            verify(redisPortOut, times(1)).getAndDeleteObject(anyString(), any());
             verify(ssePortOut, times(1)).deleteEmitter(anyString());
-            verify(redisPortOut, times(1)).delete(anyString());
+            verify(redisPortOut, never()).delete(anyString());
         }
 
         @Test
         @DisplayName("실패 - 평가 없음")
         void getFallbackDraftEvaluation_notFound() {
-            given(redisPortOut.getObject(anyString(), any(TypeReference.class)))
+            given(redisPortOut.getAndDeleteObject(anyString(), any(TypeReference.class)))
                     .willReturn(null);
 
             assertThatThrownBy(() -> repositoryService.fallbackDraftEvaluation("1"))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", RepositoryErrorCode.FALLBACK_NOT_FOUND);
 
-            verify(redisPortOut, times(1)).getObject(anyString(), any());
+            verify(redisPortOut, times(1)).getAndDeleteObject(anyString(), any());
             verify(ssePortOut, never()).deleteEmitter(anyString());
-            verify(redisPortOut, never()).delete(anyString());
         }
 
         @Test
@@ -207,31 +279,30 @@ class RepositoryServiceTest {
                     List.of(fixtureMonkey.giveMeOne(ResponseSections.Section.class))
             );
 
-            given(redisPortOut.getObject(anyString(), any(TypeReference.class)))
+            given(redisPortOut.getAndDeleteObject(anyString(), any(TypeReference.class)))
                     .willReturn(response);
 
             ResponseSections result = repositoryService.fallbackGenerateReadme("1");
 
             assertThat(result).isNotNull().isEqualTo(response);
 
-            verify(redisPortOut, times(1)).getObject(anyString(), any());
+            verify(redisPortOut, times(1)).getAndDeleteObject(anyString(), any());
             verify(ssePortOut, times(1)).deleteEmitter(anyString());
-            verify(redisPortOut, times(1)).delete(anyString());
+            verify(redisPortOut, never()).delete(anyString());
         }
 
         @Test
         @DisplayName("실패 - 생성된 README 없음")
         void createReadme_notFound() {
-            given(redisPortOut.getObject(anyString(), any(TypeReference.class)))
+            given(redisPortOut.getAndDeleteObject(anyString(), any(TypeReference.class)))
                     .willReturn(null);
 
             assertThatThrownBy(() -> repositoryService.fallbackGenerateReadme("1"))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("errorCode", RepositoryErrorCode.FALLBACK_NOT_FOUND);
 
-            verify(redisPortOut, times(1)).getObject(anyString(), any());
+            verify(redisPortOut, times(1)).getAndDeleteObject(anyString(), any());
             verify(ssePortOut, never()).deleteEmitter(anyString());
-            verify(redisPortOut, never()).delete(anyString());
         }
     }
 
@@ -294,7 +365,41 @@ class RepositoryServiceTest {
     }
 
     @Nested
-    @DisplayName("evaluateDraftReadme - 초안 평가 (비동기)")
+    @DisplayName("evaluateDraftReadme, generateDraftReadme - 작업 큐 등록")
+    class EnqueueDraftJob {
+        @Test
+        @DisplayName("성공 - 초안 평가")
+        void evaluateDraftReadme_success() {
+            RequestDraftEvaluation request = new RequestDraftEvaluation("main", "my readme content");
+
+            repositoryService.evaluateDraftReadme(request, "eval-task-123", USER_ID, OWNER, NAME);
+
+            verify(jobQueuePortOut).enqueue(
+                    JobType.DRAFT_EVALUATION,
+                    "eval-task-123",
+                    new DraftEvaluationJob(USER_ID, OWNER, NAME, request)
+            );
+            verifyNoInteractions(gptPortOut);
+        }
+
+        @Test
+        @DisplayName("성공 - 초안 생성")
+        void generateDraftReadme_success() {
+            RequestGeneration request = new RequestGeneration("main", false);
+
+            repositoryService.generateDraftReadme(request, "gen-task-456", USER_ID, OWNER, NAME);
+
+            verify(jobQueuePortOut).enqueue(
+                    JobType.DRAFT_GENERATION,
+                    "gen-task-456",
+                    new DraftGenerationJob(USER_ID, OWNER, NAME, request)
+            );
+            verifyNoInteractions(gptPortOut);
+        }
+    }
+
+    @Nested
+    @DisplayName("processDraftEvaluation - 초안 평가 (작업 큐 Worker)")
     class EvaluateDraftReadme {
         private final String taskId = "eval-task-123";
         private final RequestDraftEvaluation request = new RequestDraftEvaluation("main", "my readme content");
@@ -320,13 +425,13 @@ class RepositoryServiceTest {
             GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{"src/Main.java"}, new String[]{});
             when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
 
-            when(redisPortOut.get(contains("entry"))).thenReturn("encrypted-entry");
-            when(objectCipherPortOut.decrypt(eq("encrypted-entry"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(bytes("encrypted-entry"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-entry")), any())).thenReturn(Collections.emptyList());
 
-            when(redisPortOut.get(contains("importance"))).thenReturn("encrypted-importance");
-            when(objectCipherPortOut.decrypt(eq("encrypted-importance"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("encrypted-importance"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-importance")), any())).thenReturn(Collections.emptyList());
 
-            repositoryService.evaluateDraftReadme(request, taskId, USER_ID, OWNER, NAME);
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
 
             // 외부 API 직접 호출이 되지 않았는지 검증 (Cache Hit)
             verify(repositoryPortOut, never()).getReadmeContent(any());
@@ -337,12 +442,428 @@ class RepositoryServiceTest {
             verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
         }
 
+        @Test
+        @DisplayName("성공 - GraphQL 스냅샷으로 SHA/README/언어 조회 (REST 미호출)")
+        void evaluateDraftReadme_success_snapshot() {
+            String sha = "latest-sha-123";
+            List<RepositoryLanguageResult> languages = List.of(new RepositoryLanguageResult("Java", 100L));
+            when(repositoryPortOut.getRepositorySnapshot(any())).thenReturn(
+                    new RepositorySnapshotResult("avatar", "main", sha, languages, "snapshot readme", 100L)
+            );
+
+            // README, 언어는 Cache Miss, 나머지는 Cache Hit
+            when(redisPortOut.get(contains("readme"))).thenReturn(null);
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(null);
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{});
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(bytes("encrypted-entry"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-entry")), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("encrypted-importance"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-importance")), any())).thenReturn(Collections.emptyList());
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            verify(repositoryPortOut, never()).getRecentSHA(any());
+            verify(repositoryPortOut, never()).getReadmeContent(any());
+            verify(repositoryPortOut, never()).getRepositoryLanguages(any());
+            verify(redisPortOut).set(contains("readme"), eq("snapshot readme"), any());
+            verify(redisPortOut).setObject(contains("languages"), eq(languages), any());
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+
+            // 컨텍스트 구성 Stage 별 실행 시간 기록
+            assertThat(meterRegistry.find("pipeline.stage").tag("pipeline", "readme-context").timers())
+                    .extracting(timer -> timer.getId().getTag("stage"))
+                    .containsExactlyInAnyOrder(
+                            "readme", "commits", "languages", "trees",
+                            "analysis", "file-source", "entry-files", "important-files"
+                    );
+        }
+
+        @Test
+        @DisplayName("성공 - 트리/파일 내용 Cache Miss 시 비동기 조회")
+        void evaluateDraftReadme_success_async_fetch() {
+            String sha = "latest-sha-123";
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+
+            // 트리는 Cache Miss
+            List<RepositoryTreeResult> trees = List.of(new RepositoryTreeResult("src/Main.java", "blob"));
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(null);
+            when(repositoryPortOut.getRepositoryTreeAsync(any())).thenReturn(CompletableFuture.completedFuture(trees));
+            when(repositoryTreeFilterPortOut.filter(trees)).thenReturn(trees);
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{"src/Main.java", "src/Empty.java"}, new String[]{});
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+
+            // 엔트리 파일은 Cache Miss
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(null);
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Main.java", "file"))))
+                    .thenReturn(CompletableFuture.completedFuture(new RepositoryFileContentResult("src/Main.java", "class Main {}")));
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Empty.java", "file"))))
+                    .thenReturn(CompletableFuture.completedFuture(new RepositoryFileContentResult("src/Empty.java", "")));
+            when(objectCipherPortOut.encrypt(any())).thenReturn(bytes("encrypted-entry"));
+
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("encrypted-importance"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-importance")), any())).thenReturn(Collections.emptyList());
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            verify(repositoryPortOut, never()).getRepositoryTree(any());
+            verify(repositoryPortOut, never()).getFileContent(any(), any());
+            // 트리는 확정한 커밋 기준으로 조회
+            verify(repositoryPortOut).getRepositoryTreeAsync(argThat(command -> sha.equals(command.branch())));
+            verify(redisPortOut).setObject(contains("tree"), eq(trees), any());
+            verify(objectCipherPortOut).encrypt(List.of(new FileManifestEntry("src/Main.java", null)));
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 파일이 많으면 tarball 한 번으로 엔트리/중요 파일 조회")
+        void evaluateDraftReadme_success_archive_fetch() {
+            String sha = "latest-sha-123";
+            when(repositoryPortOut.getRepositorySnapshot(any())).thenReturn(
+                    new RepositorySnapshotResult("avatar", "main", sha, Collections.emptyList(), "snapshot readme", 2048L)
+            );
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(
+                    new String[]{"Java"}, "small",
+                    new String[]{"src/Main.java", "src/Missing.java"},
+                    new String[]{"build.gradle"}
+            );
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+
+            // 엔트리/중요 파일 모두 Cache Miss
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(null);
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(null);
+            when(repositoryArchivePortOut.isPreferred(3, 2048L)).thenReturn(true);
+            when(repositoryArchivePortOut.getFileContents(any(), eq(sha), eq(List.of("src/Main.java", "src/Missing.java", "build.gradle"))))
+                    .thenReturn(List.of(
+                            new RepositoryFileContentResult("src/Main.java", "class Main {}"),
+                            new RepositoryFileContentResult("build.gradle", "plugins {}")
+                    ));
+
+            // tarball에 없는 파일만 개별 조회
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Missing.java", "file"))))
+                    .thenReturn(CompletableFuture.completedFuture(new RepositoryFileContentResult("src/Missing.java", "class Missing {}")));
+            when(objectCipherPortOut.encrypt(any())).thenReturn(bytes("encrypted"));
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            verify(repositoryArchivePortOut, times(1)).getFileContents(any(), any(), any());
+            verify(repositoryPortOut, times(1)).getFileContentAsync(any(), any());
+            verify(objectCipherPortOut).encrypt(List.of(
+                    new FileManifestEntry("src/Main.java", null),
+                    new FileManifestEntry("src/Missing.java", null)
+            ));
+            verify(objectCipherPortOut).encrypt(List.of(new FileManifestEntry("build.gradle", null)));
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - tarball 조회 실패 시 파일별 조회로 대체")
+        void evaluateDraftReadme_success_archive_fallback() {
+            String sha = "latest-sha-123";
+            when(repositoryPortOut.getRepositorySnapshot(any())).thenReturn(
+                    new RepositorySnapshotResult("avatar", "main", sha, Collections.emptyList(), "snapshot readme", 2048L)
+            );
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{"src/Main.java"}, new String[]{});
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(null);
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("encrypted-importance"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-importance")), any())).thenReturn(Collections.emptyList());
+            when(repositoryArchivePortOut.isPreferred(1, 2048L)).thenReturn(true);
+            when(repositoryArchivePortOut.getFileContents(any(), any(), any()))
+                    .thenThrow(new CustomException(GlobalErrorCode.GITHUB_UNAVAILABLE));
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Main.java", "file"))))
+                    .thenReturn(CompletableFuture.completedFuture(new RepositoryFileContentResult("src/Main.java", "class Main {}")));
+            when(objectCipherPortOut.encrypt(any())).thenReturn(bytes("encrypted-entry"));
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            verify(objectCipherPortOut).encrypt(List.of(new FileManifestEntry("src/Main.java", null)));
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 일부 파일 조회 실패 시 나머지 결과 사용 (캐싱하지 않음)")
+        void evaluateDraftReadme_success_partial_file_failure() {
+            String sha = "latest-sha-123";
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{"src/Main.java", "src/Broken.java"}, new String[]{});
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(null);
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Main.java", "file"))))
+                    .thenReturn(CompletableFuture.completedFuture(new RepositoryFileContentResult("src/Main.java", "class Main {}")));
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Broken.java", "file"))))
+                    .thenReturn(CompletableFuture.failedFuture(new CustomException(GlobalErrorCode.GITHUB_UNAVAILABLE)));
+
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("encrypted-importance"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-importance")), any())).thenReturn(Collections.emptyList());
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            verify(objectCipherPortOut, never()).encrypt(any());
+            verify(gptPortOut).evaluateReadme(any());
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 작업 단위 동시 조회 수 제한")
+        void evaluateDraftReadme_success_bounded_file_fetch() {
+            ReflectionTestUtils.setField(repositoryService, "fileFetchConcurrency", 2);
+
+            String sha = "latest-sha-123";
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(
+                    new String[]{"Java"}, "small",
+                    new String[]{"a.java", "b.java", "c.java"},
+                    new String[]{"d.gradle", "e.gradle"}
+            );
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(null);
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(null);
+            when(objectCipherPortOut.encrypt(any())).thenReturn(bytes("encrypted"));
+
+            // 응답을 직접 완료시키며 동시에 진행 중인 요청 수 기록
+            Map<String, CompletableFuture<RepositoryFileContentResult>> pending = new LinkedHashMap<>();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            when(repositoryPortOut.getFileContentAsync(any(), any())).thenAnswer(invocation -> {
+                RepositoryTreeResult file = invocation.getArgument(1);
+                CompletableFuture<RepositoryFileContentResult> future = new CompletableFuture<>();
+
+                synchronized (pending) {
+                    pending.put(file.path(), future);
+                    maxInFlight.accumulateAndGet((int) pending.values().stream().filter(f -> !f.isDone()).count(), Math::max);
+                }
+
+                return future;
+            });
+
+            CompletableFuture<Void> evaluation = CompletableFuture.runAsync(
+                    () -> repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME)
+            );
+
+            Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> {
+                synchronized (pending) {
+                    pending.entrySet().stream()
+                            .filter(entry -> !entry.getValue().isDone())
+                            .findFirst()
+                            .ifPresent(entry -> entry.getValue().complete(new RepositoryFileContentResult(entry.getKey(), "content")));
+                }
+                return evaluation.isDone();
+            });
+
+            assertThat(pending).hasSize(5);
+            assertThat(maxInFlight.get()).isEqualTo(2);
+            verify(objectCipherPortOut).encrypt(List.of(
+                    new FileManifestEntry("a.java", null),
+                    new FileManifestEntry("b.java", null),
+                    new FileManifestEntry("c.java", null)
+            ));
+        }
+
+        @Test
+        @DisplayName("성공 - 새 커밋에서 변경되지 않은 파일은 blob 캐시 사용")
+        void evaluateDraftReadme_success_blob_cache() {
+            String sha = "new-commit-sha";
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(List.of(
+                    new RepositoryTreeResult("src/Main.java", "blob", "blob-main"),
+                    new RepositoryTreeResult("src/Changed.java", "blob", "blob-changed")
+            ));
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{"src/Main.java", "src/Changed.java"}, new String[]{});
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+
+            // 새 커밋이므로 Manifest는 Cache Miss
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(null);
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(null);
+
+            // 변경되지 않은 파일은 blob 캐시에 있음
+            when(redisPortOut.getBytes("gh:blob:blob-main")).thenReturn(bytes("encrypted-main"));
+            when(objectCipherPortOut.decryptText(bytes("encrypted-main"))).thenReturn("class Main {}");
+            when(redisPortOut.getBytes("gh:blob:blob-changed")).thenReturn(null);
+
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Changed.java", "file"))))
+                    .thenReturn(CompletableFuture.completedFuture(new RepositoryFileContentResult("src/Changed.java", "class Changed {}")));
+            when(objectCipherPortOut.encryptText("class Changed {}")).thenReturn(bytes("encrypted-changed"));
+            when(objectCipherPortOut.encrypt(any())).thenReturn(bytes("encrypted-manifest"));
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            // 변경된 파일만 트리와 같은 커밋 기준으로 조회하고 blob SHA 기준으로 캐싱
+            verify(repositoryPortOut, times(1)).getFileContentAsync(any(), any());
+            verify(repositoryPortOut).getFileContentAsync(
+                    argThat(command -> sha.equals(command.branch())),
+                    eq(new RepositoryTreeResult("src/Changed.java", "file"))
+            );
+            verify(redisPortOut).multiSetBytesWithTtl(argThat(values ->
+                    values.size() == 1 && Arrays.equals(values.get("gh:blob:blob-changed"), bytes("encrypted-changed"))
+            ), any());
+            verify(objectCipherPortOut).encrypt(List.of(
+                    new FileManifestEntry("src/Main.java", "blob-main"),
+                    new FileManifestEntry("src/Changed.java", "blob-changed")
+            ));
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 캐시된 Manifest와 blob으로 파일 조회 (GitHub 미호출)")
+        void evaluateDraftReadme_success_manifest_cache_hit() {
+            String sha = "latest-sha-123";
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{"src/Main.java"}, new String[]{});
+            when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(repoInfo);
+
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(bytes("encrypted-entry"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-entry")), any())).thenReturn(List.of(new FileManifestEntry("src/Main.java", "blob-main")));
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("encrypted-importance"));
+            when(objectCipherPortOut.decrypt(eq(bytes("encrypted-importance")), any())).thenReturn(Collections.emptyList());
+
+            when(redisPortOut.getBytes("gh:blob:blob-main")).thenReturn(bytes("encrypted-main"));
+            when(objectCipherPortOut.decryptText(bytes("encrypted-main"))).thenReturn("class Main {}");
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            verify(repositoryPortOut, never()).getFileContentAsync(any(), any());
+            verify(objectCipherPortOut, never()).encrypt(any());
+            // 커밋 단위 캐시 1회 + blob 캐시 1회
+            verify(redisPortOut, times(2)).multiGet(anyCollection());
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 새 커밋 분석 결과가 없으면 이전 커밋 결과 사용 후 백그라운드 갱신 (Stale-While-Revalidate)")
+        void evaluateDraftReadme_success_stale_while_revalidate() {
+            ReflectionTestUtils.setField(repositoryService, "staleWhileRevalidate", true);
+
+            String sha = "latest-sha-123";
+            String previousSha = "previous-sha-122";
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+            when(incrementalContextRefresher.refresh(any(), eq(sha), any())).thenReturn(previousSha);
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            // 새 커밋 분석 결과는 Cache Miss, 이전 커밋 분석 결과는 Cache Hit
+            GPTRepositoryInfoResult stale = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{});
+            GPTRepositoryInfoResult fresh = new GPTRepositoryInfoResult(new String[]{"Kotlin"}, "small", new String[]{}, new String[]{});
+            String freshKey = RedisKeyFactory.createRepoInfoKey(OWNER, NAME, sha);
+            when(redisPortOut.getObject(eq(freshKey), any())).thenReturn(null);
+            when(redisPortOut.getObject(eq(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, previousSha)), any())).thenReturn(stale);
+            when(gptPortOut.getRepositoryInfo(anyString(), any())).thenReturn(fresh);
+
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(bytes("encrypted-entry"));
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("encrypted-importance"));
+            when(objectCipherPortOut.decrypt(any(byte[].class), any())).thenReturn(Collections.emptyList());
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            // 응답은 이전 커밋 분석 결과로 만들고, 새 분석 결과는 캐시에 저장
+            verify(gptPortOut).evaluateReadme(argThat(command -> Arrays.equals(command.techStack(), stale.techStack())));
+            verify(redisPortOut).setObject(eq(freshKey), eq(fresh), any());
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 이전 커밋 분석 결과를 사용하면 Manifest/평가 결과를 새 커밋 key에 저장하지 않음")
+        void evaluateDraftReadme_success_stale_skips_result_cache() {
+            ReflectionTestUtils.setField(repositoryService, "staleWhileRevalidate", true);
+            ReflectionTestUtils.setField(repositoryService, "evaluationCacheEnabled", true);
+            ReflectionTestUtils.setField(repositoryService, "evaluationCacheTtl", Duration.ofDays(1));
+
+            String sha = "latest-sha-123";
+            String previousSha = "previous-sha-122";
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+            when(incrementalContextRefresher.refresh(any(), eq(sha), any())).thenReturn(previousSha);
+
+            when(redisPortOut.get(contains("readme"))).thenReturn("cached readme");
+            when(redisPortOut.getObject(startsWith(RedisKeyFactory.EVALUATION_KEY.getPrefix()), any())).thenReturn(null);
+            when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("languages"), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult stale = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{"src/Main.java"}, new String[]{});
+            when(redisPortOut.getObject(eq(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, sha)), any())).thenReturn(null);
+            when(redisPortOut.getObject(eq(RedisKeyFactory.createRepoInfoKey(OWNER, NAME, previousSha)), any())).thenReturn(stale);
+            when(gptPortOut.getRepositoryInfo(anyString(), any())).thenReturn(stale);
+
+            // 새 커밋 Manifest는 Cache Miss
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(null);
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(null);
+            when(repositoryPortOut.getFileContentAsync(any(), eq(new RepositoryTreeResult("src/Main.java", "file"))))
+                    .thenReturn(CompletableFuture.completedFuture(new RepositoryFileContentResult("src/Main.java", "class Main {}")));
+            when(gptPortOut.evaluateReadme(any())).thenReturn(new EvaluationContentResult(90, List.of("Great job!")));
+
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
+
+            verify(objectCipherPortOut, never()).encrypt(any());
+            verify(redisPortOut, never()).setBytes(contains("entry"), any(), any());
+            verify(redisPortOut, never()).setObject(startsWith(RedisKeyFactory.EVALUATION_KEY.getPrefix()), any(), any());
+            verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 일시적 오류는 작업 큐에서 재시도하도록 예외 전달")
+        void evaluateDraftReadme_failure_retryable() {
+            when(repositoryPortOut.getRecentSHA(any())).thenThrow(new IllegalStateException("connection reset"));
+
+            assertThatThrownBy(() -> repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(ssePortOut, never()).sendCompletion(anyString(), anyString(), any());
+        }
+
         @Test
         @DisplayName("실패 - 커밋 내역 없음")
         void evaluateDraftReadme_success_cache_miss() {
             when(repositoryPortOut.getRecentSHA(any())).thenReturn(null);
 
-            repositoryService.evaluateDraftReadme(request, taskId, USER_ID, OWNER, NAME);
+            repositoryService.processDraftEvaluation(request, taskId, USER_ID, OWNER, NAME);
 
             Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
                 verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT_ERROR.getTaskName()), any(ResponseEntity.class));
@@ -351,10 +872,10 @@ class RepositoryServiceTest {
     }
 
     @Nested
-    @DisplayName("generateDraftReadme - README 생성 (비동기)")
+    @DisplayName("processDraftGeneration - README 생성 (작업 큐 Worker)")
     class GenerateDraftReadme {
         private final String taskId = "gen-task-456";
-        private final RequestGeneration request = new RequestGeneration("main");
+        private final RequestGeneration request = new RequestGeneration("main", false);
         private final String generatedReadme = "# Draft Readme\nEnjoy your code!";
 
         @BeforeEach
@@ -381,20 +902,19 @@ class RepositoryServiceTest {
             // Languages는 캐시 만료로 null 반환 (Cache Miss)
             when(redisPortOut.getObject(contains("languages"), any())).thenReturn(null);
 
-            when(repositoryPortOut.getRepositoryLanguages(any())).thenReturn(List.of(new RepositoryLanguageResult("Java", 100L)));
 
             when(redisPortOut.getObject(contains("commits"), any())).thenReturn(Collections.emptyList());
             when(redisPortOut.getObject(contains("tree"), any())).thenReturn(Collections.emptyList());
             when(redisPortOut.getObject(contains("tech-stack"), any())).thenReturn(
                     new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{})
             );
-            when(redisPortOut.get(contains("entry"))).thenReturn("enc");
-            when(objectCipherPortOut.decrypt(eq("enc"), any())).thenReturn(Collections.emptyList());
-            when(redisPortOut.get(contains("importance"))).thenReturn("enc");
+            when(redisPortOut.getBytes(contains("entry"))).thenReturn(bytes("enc"));
+            when(objectCipherPortOut.decrypt(eq(bytes("enc")), any())).thenReturn(Collections.emptyList());
+            when(redisPortOut.getBytes(contains("importance"))).thenReturn(bytes("enc"));
 
             when(sectionPortOut.getSectionsByUserIdAndRepoFullName(anyLong(), anyString())).thenReturn(List.of(mock(Section.class)));
 
-            repositoryService.generateDraftReadme(request, taskId, USER_ID, OWNER, NAME);
+            repositoryService.processDraftGeneration(request, taskId, USER_ID, OWNER, NAME);
 
             verify(repositoryPortOut, never()).getReadmeContent(any()); // 캐시 탔으므로 호출 X
             verify(repositoryPortOut, times(1)).getRepositoryLanguages(any()); // 캐시 만료됐으므로 호출 O
@@ -412,7 +932,8 @@ class RepositoryServiceTest {
 
             // 모든 캐시가 존재한다고 가정
             lenient().when(redisPortOut.get(anyString())).thenReturn("cache");
-            lenient().when(objectCipherPortOut.decrypt(anyString(), any())).thenReturn(Collections.emptyList());
+            lenient().when(redisPortOut.getBytes(anyString())).thenReturn(bytes("cache"));
+            lenient().when(objectCipherPortOut.decrypt(any(byte[].class), any())).thenReturn(Collections.emptyList());
 
             GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{});
 
@@ -429,7 +950,7 @@ class RepositoryServiceTest {
             // SSE 전송이 실패하도록 모킹
             when(ssePortOut.sendCompletion(anyString(), anyString(), any())).thenReturn(false);
 
-            repositoryService.generateDraftReadme(request, taskId, USER_ID, OWNER, NAME);
+            repositoryService.processDraftGeneration(request, taskId, USER_ID, OWNER, NAME);
 
             verify(redisPortOut).setObjectIfAbsent(contains(RedisKey.SSE_EMITTER_GENERATION_KEY.getValue()), any(ResponseSections.class), any());
         }
@@ -439,11 +960,454 @@ class RepositoryServiceTest {
         void generateDraftReadme_success_cache_miss() {
             when(repositoryPortOut.getRecentSHA(any())).thenReturn(null);
 
-            repositoryService.generateDraftReadme(request, taskId, USER_ID, OWNER, NAME);
+            repositoryService.processDraftGeneration(request, taskId, USER_ID, OWNER, NAME);
 
             Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
                 verify(ssePortOut).sendCompletion(eq(taskId), eq(SSETaskName.COMPLETION_GENERATE_ERROR.getTaskName()), any(ResponseEntity.class));
             });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("작업 중복 제거 - 같은 저장소, 커밋, 요청 내용")
+    class DeduplicateDraftJob {
+        private final String sha = "latest-sha-123";
+        private final AttachedJob attached = new AttachedJob("attached-task", 2L);
+
+        @BeforeEach
+        void setUpCache() {
+            lenient().when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+            lenient().when(redisPortOut.get(anyString())).thenReturn("cache");
+            lenient().when(redisPortOut.getBytes(anyString())).thenReturn(bytes("cache"));
+            lenient().when(objectCipherPortOut.decrypt(any(byte[].class), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{});
+            lenient().when(redisPortOut.getObject(anyString(), any())).thenAnswer(invocation ->
+                    ((String) invocation.getArgument(0)).contains("tech-stack") ? repoInfo : Collections.emptyList()
+            );
+
+            lenient().when(gptPortOut.evaluateReadme(any())).thenReturn(new EvaluationContentResult(90, List.of("Great job!")));
+            lenient().when(gptPortOut.generateDraftReadme(any())).thenReturn("# Draft");
+
+            Project project = mock(Project.class);
+            lenient().when(project.getId()).thenReturn(1L);
+            lenient().when(projectPortOut.getByUserIdAndRepoFullName(anyLong(), anyString())).thenReturn(Optional.of(project));
+            lenient().when(sectionPortOut.saveAll(anyList())).thenReturn(List.of(mock(Section.class)));
+        }
+
+        @Test
+        @DisplayName("성공 - 실행 중인 작업에 연결 (GPT 미호출)")
+        void evaluateDraftReadme_success_attached() {
+            RequestDraftEvaluation request = new RequestDraftEvaluation("main", "content");
+            when(jobDeduplicationPortOut.acquireOrAttach(contains(sha), eq(new AttachedJob("eval-task", USER_ID)))).thenReturn(false);
+
+            repositoryService.processDraftEvaluation(request, "eval-task", USER_ID, OWNER, NAME);
+
+            verifyNoInteractions(gptPortOut);
+            verify(ssePortOut, never()).sendCompletion(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 연결된 작업에도 평가 결과 전송")
+        void evaluateDraftReadme_success_sendToAttached() {
+            RequestDraftEvaluation request = new RequestDraftEvaluation("main", "content");
+            when(jobDeduplicationPortOut.release(contains(sha), eq("eval-task"))).thenReturn(List.of(attached));
+
+            repositoryService.processDraftEvaluation(request, "eval-task", USER_ID, OWNER, NAME);
+
+            verify(gptPortOut, times(1)).evaluateReadme(any());
+            verify(ssePortOut).sendCompletion(eq("eval-task"), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+            verify(ssePortOut).sendCompletion(eq("attached-task"), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 요청 내용이 다르면 다른 작업으로 구분")
+        void evaluateDraftReadme_success_differentFingerprint() {
+            repositoryService.processDraftEvaluation(new RequestDraftEvaluation("main", "first"), "task-1", USER_ID, OWNER, NAME);
+            repositoryService.processDraftEvaluation(new RequestDraftEvaluation("main", "second"), "task-2", USER_ID, OWNER, NAME);
+
+            ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+            verify(jobDeduplicationPortOut, times(2)).acquireOrAttach(keys.capture(), any());
+
+            assertThat(keys.getAllValues()).allSatisfy(key -> assertThat(key).startsWith(JobType.DRAFT_EVALUATION.getValue() + ":" + OWNER + "/" + NAME + ":" + sha + ":"));
+            assertThat(keys.getAllValues().get(0)).isNotEqualTo(keys.getAllValues().get(1));
+        }
+
+        @Test
+        @DisplayName("성공 - 연결된 사용자 별로 섹션 저장 후 전송")
+        void generateDraftReadme_success_sendToAttached() {
+            when(jobDeduplicationPortOut.release(contains(sha), eq("gen-task"))).thenReturn(List.of(attached));
+
+            repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME);
+
+            verify(gptPortOut, times(1)).generateDraftReadme(any());
+            verify(projectPortOut).getByUserIdAndRepoFullName(USER_ID, OWNER + "/" + NAME);
+            verify(projectPortOut).getByUserIdAndRepoFullName(attached.userId(), OWNER + "/" + NAME);
+            verify(ssePortOut).sendCompletion(eq("gen-task"), eq(SSETaskName.COMPLETION_GENERATE.getTaskName()), any(ResponseSections.class));
+            verify(ssePortOut).sendCompletion(eq("attached-task"), eq(SSETaskName.COMPLETION_GENERATE.getTaskName()), any(ResponseSections.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 연결된 사용자의 섹션 저장 실패는 해당 작업에만 실패 전송")
+        void generateDraftReadme_failure_attachedSaveIsolated() {
+            when(jobDeduplicationPortOut.release(contains(sha), eq("gen-task"))).thenReturn(List.of(attached));
+            when(projectPortOut.getByUserIdAndRepoFullName(attached.userId(), OWNER + "/" + NAME))
+                    .thenThrow(new IllegalStateException("db down"));
+
+            repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME);
+
+            verify(ssePortOut).sendCompletion(eq("attached-task"), eq(SSETaskName.COMPLETION_GENERATE_ERROR.getTaskName()), any());
+            verify(ssePortOut).sendCompletion(eq("gen-task"), eq(SSETaskName.COMPLETION_GENERATE.getTaskName()), any(ResponseSections.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 일시적 오류 시 연결된 작업은 각자 다시 큐에 등록")
+        void generateDraftReadme_failure_requeueAttached() {
+            when(gptPortOut.generateDraftReadme(any())).thenThrow(new IllegalStateException("timeout"));
+            when(jobDeduplicationPortOut.release(contains(sha), eq("gen-task"))).thenReturn(List.of(attached));
+
+            assertThatThrownBy(() -> repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(jobQueuePortOut).enqueue(
+                    JobType.DRAFT_GENERATION,
+                    "attached-task",
+                    new DraftGenerationJob(attached.userId(), OWNER, NAME, new RequestGeneration("main", false))
+            );
+            verify(ssePortOut, never()).sendCompletion(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 재시도할 수 없는 오류는 연결된 작업에도 전송")
+        void generateDraftReadme_failure_failAttached() {
+            when(gptPortOut.generateDraftReadme(any())).thenThrow(new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR));
+            when(jobDeduplicationPortOut.release(contains(sha), eq("gen-task"))).thenReturn(List.of(attached));
+
+            repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME);
+
+            verify(ssePortOut).sendCompletion(eq("gen-task"), eq(SSETaskName.COMPLETION_GENERATE_ERROR.getTaskName()), any(ResponseEntity.class));
+            verify(ssePortOut).sendCompletion(eq("attached-task"), eq(SSETaskName.COMPLETION_GENERATE_ERROR.getTaskName()), any(ResponseEntity.class));
+            verify(jobQueuePortOut, never()).enqueue(any(), anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("processDraftGeneration - 생성된 초안 캐시")
+    class DraftCache {
+        private final String sha = "latest-sha-123";
+        private final String cachedDraft = "# Cached Draft";
+        private final Map<String, Object> drafts = new HashMap<>();
+
+        @BeforeEach
+        void setUpCache() {
+            ReflectionTestUtils.setField(repositoryService, "draftCacheEnabled", true);
+            ReflectionTestUtils.setField(repositoryService, "draftCacheTtl", Duration.ofDays(7));
+
+            lenient().when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+            lenient().when(redisPortOut.get(anyString())).thenReturn("cache");
+            lenient().when(redisPortOut.getBytes(anyString())).thenReturn(bytes("cache"));
+            lenient().when(objectCipherPortOut.decrypt(any(byte[].class), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{});
+            lenient().when(redisPortOut.getObject(anyString(), any())).thenAnswer(invocation -> {
+                String key = invocation.getArgument(0);
+                if (key.startsWith(RedisKeyFactory.DRAFT_README_KEY.getPrefix())) { return drafts.get(key); }
+
+                return key.contains("tech-stack") ? repoInfo : Collections.emptyList();
+            });
+
+            lenient().when(gptPortOut.generateDraftReadme(any())).thenReturn("# Draft");
+
+            Project project = mock(Project.class);
+            lenient().when(project.getId()).thenReturn(1L);
+            lenient().when(projectPortOut.getByUserIdAndRepoFullName(anyLong(), anyString())).thenReturn(Optional.of(project));
+            lenient().when(sectionPortOut.saveAll(anyList())).thenReturn(List.of(mock(Section.class)));
+        }
+
+        private String draftKey() {
+            return RedisKeyFactory.createDraftReadmeKey(
+                    OWNER,
+                    NAME,
+                    sha,
+                    DigestUtils.md5DigestAsHex(bytes("cache")),
+                    GPTSystemPrompt.DRAFT_README_GENERATION_VERSION
+            );
+        }
+
+        @Test
+        @DisplayName("성공 - Cache Hit 시 GPT 미호출, 섹션 저장 후 전송")
+        void generateDraftReadme_success_cache_hit() {
+            drafts.put(draftKey(), cachedDraft);
+
+            repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME);
+
+            verifyNoInteractions(gptPortOut, jobDeduplicationPortOut);
+            verify(sectionPortOut).saveAll(argThat(sections -> !sections.isEmpty()));
+            verify(ssePortOut).sendCompletion(eq("gen-task"), eq(SSETaskName.COMPLETION_GENERATE.getTaskName()), any(ResponseSections.class));
+        }
+
+        @Test
+        @DisplayName("성공 - Cache Miss 시 생성한 초안 저장")
+        void generateDraftReadme_success_cache_miss_stores() {
+            repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME);
+
+            verify(gptPortOut).generateDraftReadme(any());
+            verify(redisPortOut).setObject(eq(draftKey()), eq("# Draft"), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 초안 캐시 저장 실패 시에도 작업 완료 후 전송")
+        void generateDraftReadme_success_cache_write_failure() {
+            doThrow(new CustomException(GlobalErrorCode.REDIS_ERROR)).when(redisPortOut).setObject(eq(draftKey()), any(), any());
+
+            repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME);
+
+            verify(jobDeduplicationPortOut).release(anyString(), eq("gen-task"));
+            verify(ssePortOut).sendCompletion(eq("gen-task"), eq(SSETaskName.COMPLETION_GENERATE.getTaskName()), any(ResponseSections.class));
+            verify(ssePortOut, never()).sendCompletion(eq("gen-task"), eq(SSETaskName.COMPLETION_GENERATE_ERROR.getTaskName()), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 다시 생성 요청 시 캐시 미사용, 새 초안으로 갱신")
+        void generateDraftReadme_success_force_regenerate() {
+            drafts.put(draftKey(), cachedDraft);
+
+            repositoryService.processDraftGeneration(new RequestGeneration("main", true), "gen-task", USER_ID, OWNER, NAME);
+
+            verify(gptPortOut).generateDraftReadme(any());
+            verify(redisPortOut, never()).getObject(eq(draftKey()), any());
+            verify(redisPortOut).setObject(eq(draftKey()), eq("# Draft"), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 기존 README가 바뀌면 다른 캐시 사용")
+        void generateDraftReadme_success_readme_changed() {
+            drafts.put(draftKey(), cachedDraft);
+            when(redisPortOut.get(RedisKeyFactory.createReadmeKey(OWNER, NAME, sha))).thenReturn("changed readme");
+
+            repositoryService.processDraftGeneration(new RequestGeneration("main", false), "gen-task", USER_ID, OWNER, NAME);
+
+            verify(gptPortOut).generateDraftReadme(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("processDraftEvaluation - 평가 결과 캐시")
+    class EvaluationCache {
+        private final String sha = "latest-sha-123";
+        private final EvaluationContentResult cachedEvaluation = new EvaluationContentResult(80, List.of("Cached"));
+        private final Map<String, Object> evaluations = new HashMap<>();
+
+        @BeforeEach
+        void setUpCache() {
+            ReflectionTestUtils.setField(repositoryService, "evaluationCacheEnabled", true);
+            ReflectionTestUtils.setField(repositoryService, "evaluationCacheTtl", Duration.ofDays(1));
+
+            lenient().when(repositoryPortOut.getRecentSHA(any())).thenReturn(sha);
+            lenient().when(redisPortOut.get(anyString())).thenReturn("cache");
+            lenient().when(redisPortOut.getBytes(anyString())).thenReturn(bytes("cache"));
+            lenient().when(objectCipherPortOut.decrypt(any(byte[].class), any())).thenReturn(Collections.emptyList());
+
+            GPTRepositoryInfoResult repoInfo = new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{});
+            lenient().when(redisPortOut.getObject(anyString(), any())).thenAnswer(invocation -> {
+                String key = invocation.getArgument(0);
+                if (key.startsWith(RedisKeyFactory.EVALUATION_KEY.getPrefix())) { return evaluations.get(key); }
+
+                return key.contains("tech-stack") ? repoInfo : Collections.emptyList();
+            });
+
+            lenient().when(gptPortOut.evaluateReadme(any())).thenReturn(new EvaluationContentResult(90, List.of("Great job!")));
+        }
+
+        private String evaluationKey(String content) {
+            return RedisKeyFactory.createEvaluationKey(
+                    OWNER,
+                    NAME,
+                    sha,
+                    DigestUtils.md5DigestAsHex(bytes(content)),
+                    GPTSystemPrompt.EVALUATION_VERSION
+            );
+        }
+
+        private double requests(String result) {
+            return meterRegistry.counter("cache.result.requests", "type", JobType.DRAFT_EVALUATION.getValue(), "result", result).count();
+        }
+
+        @Test
+        @DisplayName("성공 - 평가 결과 캐시 저장 실패 시에도 작업 완료 후 전송")
+        void evaluateDraftReadme_success_cache_write_failure() {
+            doThrow(new CustomException(GlobalErrorCode.REDIS_ERROR)).when(redisPortOut).setObject(eq(evaluationKey("# readme")), any(), any());
+
+            repositoryService.processDraftEvaluation(new RequestDraftEvaluation("main", "# readme"), "eval-task", USER_ID, OWNER, NAME);
+
+            verify(jobDeduplicationPortOut).release(anyString(), eq("eval-task"));
+            verify(jobQueuePortOut, never()).enqueue(any(), anyString(), any());
+            verify(ssePortOut).sendCompletion(eq("eval-task"), eq(SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName()), any(ResponseEvaluation.class));
+        }
+
+        @Test
+        @DisplayName("성공 - Cache Hit 시 GPT 미호출")
+        void evaluateDraftReadme_success_cache_hit() {
+            evaluations.put(evaluationKey("# readme"), cachedEvaluation);
+
+            repositoryService.processDraftEvaluation(new RequestDraftEvaluation("main", "# readme"), "eval-task", USER_ID, OWNER, NAME);
+
+            verifyNoInteractions(gptPortOut, jobDeduplicationPortOut);
+            verify(ssePortOut).sendCompletion(
+                    "eval-task",
+                    SSETaskName.COMPLETION_EVALUATE_DRAFT.getTaskName(),
+                    new ResponseEvaluation(cachedEvaluation.rating(), cachedEvaluation.contents())
+            );
+            assertThat(requests("hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 줄바꿈 형식, 줄 끝/앞뒤 공백만 다른 초안은 같은 캐시 사용")
+        void evaluateDraftReadme_success_cache_hit_normalized() {
+            evaluations.put(evaluationKey("# readme\n\ncontent"), cachedEvaluation);
+
+            repositoryService.processDraftEvaluation(
+                    new RequestDraftEvaluation("main", "\n# readme  \r\n\r\ncontent\t\n\n"),
+                    "eval-task", USER_ID, OWNER, NAME
+            );
+
+            verifyNoInteractions(gptPortOut);
+            assertThat(requests("hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - Cache Miss 시 평가 결과 저장")
+        void evaluateDraftReadme_success_cache_miss_stores() {
+            repositoryService.processDraftEvaluation(new RequestDraftEvaluation("main", "# readme"), "eval-task", USER_ID, OWNER, NAME);
+
+            verify(gptPortOut).evaluateReadme(any());
+            verify(redisPortOut).setObject(eq(evaluationKey("# readme")), eq(new EvaluationContentResult(90, List.of("Great job!"))), any());
+            assertThat(requests("miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 내용이 바뀌면 다시 평가")
+        void evaluateDraftReadme_success_content_changed() {
+            evaluations.put(evaluationKey("# readme"), cachedEvaluation);
+
+            repositoryService.processDraftEvaluation(new RequestDraftEvaluation("main", "# readme v2"), "eval-task", USER_ID, OWNER, NAME);
+
+            verify(gptPortOut).evaluateReadme(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("컨텍스트 미리 생성")
+    class PrewarmContext {
+        private final String prewarmKey = RedisKey.CONTEXT_PREWARM_KEY.getValue() + OWNER + "/" + NAME + ":main";
+
+        @BeforeEach
+        void setUpPrewarm() {
+            ReflectionTestUtils.setField(repositoryService, "prewarmEnabled", true);
+            ReflectionTestUtils.setField(repositoryService, "prewarmMinRemaining", 1000);
+            ReflectionTestUtils.setField(repositoryService, "prewarmInterval", Duration.ofMinutes(10));
+
+            RepositoryDetailResult repoDetail = fixtureMonkey.giveMeBuilder(RepositoryDetailResult.class)
+                    .set("owner", OWNER)
+                    .set("name", NAME)
+                    .set("defaultBranch", "main")
+                    .sample();
+
+            lenient().when(repositoryPortOut.getRepository(any(RepoInfoCommand.class))).thenReturn(repoDetail);
+            lenient().when(githubRateLimitPortOut.getAvailable(ACCESS_TOKEN)).thenReturn(OptionalInt.of(4000));
+            lenient().when(redisPortOut.setIfAbsent(eq(prewarmKey), anyString(), any())).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("성공 - 저장소 조회 시 기본 브랜치 미리 생성 작업 등록")
+        void getRepository_success_requestPrewarm() {
+            repositoryService.getRepository(USER_ID, OWNER, NAME);
+
+            verify(jobQueuePortOut).enqueue(
+                    eq(JobType.CONTEXT_PREWARM),
+                    startsWith("prewarm-"),
+                    eq(new ContextPrewarmJob(USER_ID, OWNER, NAME, "main"))
+            );
+        }
+
+        @Test
+        @DisplayName("성공 - 브랜치 조회 시에도 등록하지만 간격 내 중복 등록은 하지 않음")
+        void getBranches_success_requestPrewarm_throttled() {
+            when(redisPortOut.setIfAbsent(eq(prewarmKey), anyString(), any())).thenReturn(true, false);
+
+            repositoryService.getRepository(USER_ID, OWNER, NAME);
+            repositoryService.getBranches(USER_ID, OWNER, NAME);
+
+            verify(jobQueuePortOut, times(1)).enqueue(eq(JobType.CONTEXT_PREWARM), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("무시 - 남은 Rate Limit 부족")
+        void getRepository_skip_lowBudget() {
+            when(githubRateLimitPortOut.getAvailable(ACCESS_TOKEN)).thenReturn(OptionalInt.of(100));
+
+            repositoryService.getRepository(USER_ID, OWNER, NAME);
+
+            verifyNoInteractions(jobQueuePortOut);
+            verify(redisPortOut, never()).setIfAbsent(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 등록 실패는 저장소 조회 응답에 영향 없음")
+        void getRepository_success_enqueueFailure() {
+            doThrow(new CustomException(GlobalErrorCode.REDIS_ERROR)).when(jobQueuePortOut).enqueue(any(), anyString(), any());
+
+            assertThat(repositoryService.getRepository(USER_ID, OWNER, NAME).name()).isEqualTo(NAME);
+        }
+
+        @Test
+        @DisplayName("무시 - 비활성화")
+        void getRepository_skip_disabled() {
+            ReflectionTestUtils.setField(repositoryService, "prewarmEnabled", false);
+
+            repositoryService.getRepository(USER_ID, OWNER, NAME);
+
+            verifyNoInteractions(jobQueuePortOut, githubRateLimitPortOut);
+        }
+
+        @Test
+        @DisplayName("성공 - 작업 실행 시 컨텍스트 생성 후 캐시 저장")
+        void prewarmContext_success() {
+            when(repositoryPortOut.getRecentSHA(any())).thenReturn("latest-sha-123");
+            when(repositoryPortOut.getReadmeContent(any())).thenReturn("# readme");
+            when(redisPortOut.getObject(anyString(), any())).thenAnswer(invocation ->
+                    ((String) invocation.getArgument(0)).contains("tech-stack")
+                            ? new GPTRepositoryInfoResult(new String[]{"Java"}, "small", new String[]{}, new String[]{})
+                            : Collections.emptyList()
+            );
+            when(redisPortOut.getBytes(anyString())).thenReturn(bytes("cache"));
+            when(objectCipherPortOut.decrypt(any(byte[].class), any())).thenReturn(Collections.emptyList());
+
+            repositoryService.prewarmContext(USER_ID, OWNER, NAME, "main");
+
+            verify(repositoryPortOut).getReadmeContent(argThat(command -> "latest-sha-123".equals(command.branch())));
+            verify(redisPortOut).set(eq(RedisKeyFactory.createReadmeKey(OWNER, NAME, "latest-sha-123")), eq("# readme"), any());
+            verify(incrementalContextRefresher).markBuilt(any(), eq("latest-sha-123"), any());
+            verifyNoInteractions(ssePortOut);
+        }
+
+        @Test
+        @DisplayName("무시 - 실행 시점에 남은 Rate Limit 부족")
+        void prewarmContext_skip_lowBudget() {
+            when(githubRateLimitPortOut.getAvailable(ACCESS_TOKEN)).thenReturn(OptionalInt.of(100));
+
+            repositoryService.prewarmContext(USER_ID, OWNER, NAME, "main");
+
+            verify(repositoryPortOut, never()).getRepositorySnapshot(any());
+            verify(repositoryPortOut, never()).getRecentSHA(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 실패해도 재시도하지 않음")
+        void prewarmContext_success_failureIgnored() {
+            when(repositoryPortOut.getRecentSHA(any())).thenThrow(new IllegalStateException("connection reset"));
+
+            assertThatCode(() -> repositoryService.prewarmContext(USER_ID, OWNER, NAME, "main")).doesNotThrowAnyException();
+        }
+    }
+}
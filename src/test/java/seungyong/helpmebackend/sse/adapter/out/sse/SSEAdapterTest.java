@@ -1,25 +1,35 @@
 package seungyong.helpmebackend.sse.adapter.out.sse;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import seungyong.helpmebackend.global.application.port.out.RedisPortOut;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 class SSEAdapterTest {
     @Mock private SSERepository sseRepository;
+    @Mock private RedisPortOut redisPortOut;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks private SSEAdapter sseAdapter;
 
@@ -58,13 +68,55 @@ class SSEAdapterTest {
         }
 
         @Test
-        @DisplayName("실패 (이미터 존재하지 않음)")
-        void sendCompletion_failure_noEmitter() {
+        @DisplayName("실패 (이미터 존재하지 않음 - 다른 서버로 결과 전달)")
+        void sendCompletion_failure_noEmitter() throws IOException {
             given(sseRepository.getEmitter(anyString())).willReturn(null);
 
-            boolean result = sseAdapter.sendCompletion("invalid-id", "task", "data");
+            boolean result = sseAdapter.sendCompletion("invalid-id", "task", Map.of("status", 500));
 
             assertThat(result).isFalse();
+
+            ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+            verify(redisPortOut).publish(eq("sse:completion:invalid-id"), message.capture());
+
+            JsonNode relayed = objectMapper.readTree(message.getValue());
+            assertThat(relayed.get("taskName").asText()).isEqualTo("task");
+            assertThat(relayed.get("data").get("status").asInt()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("성공 (다른 서버가 전달한 결과를 이 서버의 이미터로 전송)")
+        @SuppressWarnings("unchecked")
+        void sendCompletion_success_relayed() throws IOException {
+            SseEmitter mockEmitter = mock(SseEmitter.class);
+            given(sseRepository.getEmitter("remote-id")).willReturn(mockEmitter);
+
+            sseAdapter.subscribe();
+
+            ArgumentCaptor<BiConsumer<String, String>> listener = ArgumentCaptor.forClass(BiConsumer.class);
+            verify(redisPortOut).subscribe(eq("sse:completion:*"), listener.capture());
+
+            listener.getValue().accept("sse:completion:remote-id", "{\"taskName\":\"task\",\"data\":{\"status\":500}}");
+
+            verify(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
+            verify(mockEmitter).complete();
+            verify(sseRepository).removeEmitter("remote-id");
+        }
+
+        @Test
+        @DisplayName("무시 (전달받은 결과의 이미터가 이 서버에 없음)")
+        @SuppressWarnings("unchecked")
+        void sendCompletion_ignore_relayedNoEmitter() {
+            given(sseRepository.getEmitter("remote-id")).willReturn(null);
+
+            sseAdapter.subscribe();
+
+            ArgumentCaptor<BiConsumer<String, String>> listener = ArgumentCaptor.forClass(BiConsumer.class);
+            verify(redisPortOut).subscribe(eq("sse:completion:*"), listener.capture());
+
+            listener.getValue().accept("sse:completion:remote-id", "{\"taskName\":\"task\",\"data\":{}}");
+
+            verify(sseRepository, never()).removeEmitter(anyString());
         }
 
         @Test